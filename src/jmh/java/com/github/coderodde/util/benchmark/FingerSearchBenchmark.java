@@ -0,0 +1,78 @@
+package com.github.coderodde.util.benchmark;
+
+import com.github.coderodde.util.FingerSearchStrategy;
+import com.github.coderodde.util.IndexedLinkedList;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Compares the finger search strategies on random {@code get(int)} calls. Run
+ * with
+ * <pre>
+ * mvn -P jmh clean package
+ * java -cp "target/libs/*:target/IndexedLinkedList-1.618033988.jar" \
+ *      org.openjdk.jmh.Main FingerSearchBenchmark
+ * </pre>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FingerSearchBenchmark {
+
+    private static final int NUMBER_OF_INDICES = 1 << 12;
+
+    @Param({"10000", "100000", "1000000", "10000000"})
+    private int listSize;
+
+    @Param({"BINARY", "BRANCHLESS", "EYTZINGER"})
+    private FingerSearchStrategy strategy;
+
+    private IndexedLinkedList<Integer> list;
+    private int[] indices;
+    private int cursor;
+
+    @Setup
+    public void setup() {
+        list = new IndexedLinkedList<>();
+
+        for (int i = 0; i < listSize; i++) {
+            list.add(i);
+        }
+
+        list.setFingerSearchStrategy(strategy);
+
+        Random random = new Random(13L);
+        indices = new int[NUMBER_OF_INDICES];
+
+        for (int i = 0; i < indices.length; i++) {
+            indices[i] = random.nextInt(listSize);
+        }
+    }
+
+    @Benchmark
+    public void getRandom(Blackhole blackhole) {
+        int index = indices[cursor++ & (NUMBER_OF_INDICES - 1)];
+        blackhole.consume(list.get(index));
+    }
+
+    @Benchmark
+    public void getRandomAndSet(Blackhole blackhole) {
+        int index = indices[cursor++ & (NUMBER_OF_INDICES - 1)];
+        blackhole.consume(list.set(index, index));
+    }
+}
@@ -0,0 +1,71 @@
+package com.github.coderodde.util.benchmark;
+
+import com.github.coderodde.util.IndexedLinkedList;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Compares the adaptive and the frozen fingers on random {@code get(int)} 
+ * calls issued by several reader threads sharing one list. Since the adaptive
+ * lookups move the fingers, the adaptive readers have to synchronize on the 
+ * list; the frozen readers do not. Run with
+ * <pre>
+ * mvn -P jmh clean package
+ * java -cp "target/libs/*:target/IndexedLinkedList-1.618033988.jar" \
+ *      org.openjdk.jmh.Main FrozenFingersBenchmark -t 4
+ * </pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Threads(4)
+@Fork(1)
+public class FrozenFingersBenchmark {
+
+    @Param({"100000", "1000000"})
+    private int listSize;
+
+    @Param({"false", "true"})
+    private boolean frozen;
+
+    private IndexedLinkedList<Integer> list;
+
+    @Setup
+    public void setup() {
+        list = new IndexedLinkedList<>();
+
+        for (int i = 0; i < listSize; i++) {
+            list.add(i);
+        }
+
+        list.setFrozenFingers(frozen);
+    }
+
+    @Benchmark
+    public void getRandom(Blackhole blackhole) {
+        int index = ThreadLocalRandom.current().nextInt(listSize);
+
+        if (frozen) {
+            blackhole.consume(list.get(index));
+        } else {
+            synchronized (list) {
+                blackhole.consume(list.get(index));
+            }
+        }
+    }
+}
@@ -0,0 +1,250 @@
+package com.github.coderodde.util.benchmark;
+
+import com.github.coderodde.util.IndexedLinkedList;
+import com.github.coderodde.util.UnrolledIndexedLinkedList;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.apache.commons.collections4.list.TreeList;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Runs the operations of {@code LinkedListBenchmark2} under JMH. Each
+ * invocation applies a batch of operations to a freshly loaded list, just like
+ * the hand-rolled benchmark does, and the score is normalized to one
+ * operation. The batch sizes match the ones of {@code LinkedListBenchmark2}.
+ * Run with
+ * <pre>
+ * mvn -o -P jmh clean package
+ * java -cp "target/libs/*:target/IndexedLinkedList-1.618033988.jar" \
+ *      org.openjdk.jmh.Main ListOperationsBenchmark -prof gc
+ * </pre>
+ * where {@code -prof gc} adds the allocation rate to the report. Narrow the
+ * parameter space with, say, {@code -p listSize=100000 -p listType=TreeList}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@Fork(1)
+public class ListOperationsBenchmark {
+
+    private static final Object ELEMENT = new Object();
+
+    private static final int NUMBER_OF_ADDITIONS_AT_BEGINNING = 2_000;
+    private static final int NUMBER_OF_RANDOM_ADDS = 2_000;
+    private static final int NUMBER_OF_ADDITIONS_AT_END = 10_000;
+    private static final int NUMBER_OF_GETS = 500;
+    private static final int NUMBER_OF_REMOVE_FIRST_OPS = 5_000;
+    private static final int NUMBER_OF_REMOVE_LAST_OPS = 20_000;
+    private static final int NUMBER_OF_RANDOM_REMOVES = 10_000;
+    private static final int NUMBER_OF_COLLECTION_APPENDS = 50;
+    private static final int NUMBER_OF_COLLECTION_INSERTS = 50;
+    private static final int NUMBER_OF_RANGE_REMOVES = 80;
+    private static final int APPEND_COLLECTION_SIZE = 10_000;
+    private static final int INSERT_COLLECTION_SIZE = 3_500;
+    private static final int REMOVE_RANGE_SIZE = 500;
+
+    @Param({
+        "100000",
+        "200000",
+        "300000",
+        "400000",
+        "500000",
+        "600000",
+        "700000",
+        "800000",
+        "900000",
+        "1000000",
+    })
+    private int listSize;
+
+    @Param({
+        "ArrayList",
+        "IndexedLinkedList",
+        "LinkedList",
+        "TreeList",
+        "UnrolledIndexedLinkedList",
+    })
+    private String listType;
+
+    private List<Object> list;
+    private List<Object> collectionToAppend;
+    private List<Object> collectionToInsert;
+    private Random random;
+
+    @Setup(Level.Trial)
+    public void setupCollections() {
+        collectionToAppend = new ArrayList<>(APPEND_COLLECTION_SIZE);
+        collectionToInsert = new ArrayList<>(INSERT_COLLECTION_SIZE);
+        loadList(collectionToAppend, APPEND_COLLECTION_SIZE);
+        loadList(collectionToInsert, INSERT_COLLECTION_SIZE);
+    }
+
+    @Setup(Level.Invocation)
+    public void setupList() {
+        list = getEmptyList(listType);
+        loadList(list, listSize);
+        random = new Random(13L);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(NUMBER_OF_ADDITIONS_AT_BEGINNING)
+    public void addAtBeginning() {
+        if (list instanceof Deque) {
+            Deque<Object> deque = (Deque<Object>) list;
+
+            for (int i = 0; i < NUMBER_OF_ADDITIONS_AT_BEGINNING; i++) {
+                deque.addFirst(ELEMENT);
+            }
+        } else {
+            for (int i = 0; i < NUMBER_OF_ADDITIONS_AT_BEGINNING; i++) {
+                list.add(0, ELEMENT);
+            }
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(NUMBER_OF_ADDITIONS_AT_END)
+    public void addAtEnd() {
+        for (int i = 0; i < NUMBER_OF_ADDITIONS_AT_END; i++) {
+            list.add(ELEMENT);
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(NUMBER_OF_RANDOM_ADDS)
+    public void addRandom() {
+        for (int i = 0; i < NUMBER_OF_RANDOM_ADDS; i++) {
+            list.add(random.nextInt(list.size() + 1), ELEMENT);
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(NUMBER_OF_COLLECTION_APPENDS)
+    public void appendCollection() {
+        for (int i = 0; i < NUMBER_OF_COLLECTION_APPENDS; i++) {
+            list.addAll(collectionToAppend);
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(NUMBER_OF_GETS)
+    public void getRandom(Blackhole blackhole) {
+        for (int i = 0; i < NUMBER_OF_GETS; i++) {
+            blackhole.consume(list.get(random.nextInt(list.size())));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(NUMBER_OF_COLLECTION_INSERTS)
+    public void insertCollection() {
+        for (int i = 0; i < NUMBER_OF_COLLECTION_INSERTS; i++) {
+            list.addAll(random.nextInt(list.size() + 1), collectionToInsert);
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(NUMBER_OF_COLLECTION_APPENDS)
+    public void prependCollection() {
+        for (int i = 0; i < NUMBER_OF_COLLECTION_APPENDS; i++) {
+            list.addAll(0, collectionToAppend);
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(NUMBER_OF_REMOVE_FIRST_OPS)
+    public void removeFromBeginning(Blackhole blackhole) {
+        if (list instanceof Deque) {
+            Deque<Object> deque = (Deque<Object>) list;
+
+            for (int i = 0; i < NUMBER_OF_REMOVE_FIRST_OPS; i++) {
+                blackhole.consume(deque.removeFirst());
+            }
+        } else {
+            for (int i = 0; i < NUMBER_OF_REMOVE_FIRST_OPS; i++) {
+                blackhole.consume(list.remove(0));
+            }
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(NUMBER_OF_REMOVE_LAST_OPS)
+    public void removeFromEnd(Blackhole blackhole) {
+        if (list instanceof Deque) {
+            Deque<Object> deque = (Deque<Object>) list;
+
+            for (int i = 0; i < NUMBER_OF_REMOVE_LAST_OPS; i++) {
+                blackhole.consume(deque.removeLast());
+            }
+        } else {
+            for (int i = 0; i < NUMBER_OF_REMOVE_LAST_OPS; i++) {
+                blackhole.consume(list.remove(list.size() - 1));
+            }
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(NUMBER_OF_RANDOM_REMOVES)
+    public void removeRandom(Blackhole blackhole) {
+        for (int i = 0; i < NUMBER_OF_RANDOM_REMOVES; i++) {
+            blackhole.consume(list.remove(random.nextInt(list.size())));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(NUMBER_OF_RANGE_REMOVES)
+    public void removeRange() {
+        for (int i = 0; i < NUMBER_OF_RANGE_REMOVES; i++) {
+            int fromIndex = random.nextInt(list.size()) - REMOVE_RANGE_SIZE;
+            fromIndex = Math.max(fromIndex, 0);
+            list.subList(fromIndex, fromIndex + REMOVE_RANGE_SIZE).clear();
+        }
+    }
+
+    private static List<Object> getEmptyList(String listType) {
+        switch (listType) {
+            case "ArrayList":
+                return new ArrayList<>();
+
+            case "IndexedLinkedList":
+                return new IndexedLinkedList<>();
+
+            case "LinkedList":
+                return new LinkedList<>();
+
+            case "TreeList":
+                return new TreeList<>();
+
+            case "UnrolledIndexedLinkedList":
+                return new UnrolledIndexedLinkedList<>();
+
+            default:
+                throw new IllegalArgumentException(
+                        "Unknown list type: " + listType);
+        }
+    }
+
+    private static void loadList(List<Object> list, int listSize) {
+        for (int i = 0; i < listSize; i++) {
+            list.add(ELEMENT);
+        }
+    }
+}
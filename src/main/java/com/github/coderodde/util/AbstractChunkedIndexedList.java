@@ -0,0 +1,1191 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2024 rodio.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.github.coderodde.util;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.ListIterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+
+/**
+ * <p>
+ * This class implements the chunk and finger machinery shared by 
+ * {@link UnrolledIndexedLinkedList} and the primitive specializations 
+ * {@link IntIndexedLinkedList}, {@link LongIndexedLinkedList} and 
+ * {@link DoubleIndexedLinkedList}. The elements are stored in a doubly-linked
+ * list of {@link Chunk}s, each holding a contiguous array of up to \(C\) 
+ * elements, where \(C\) is the chunk capacity given at construction time 
+ * (between {@value #MINIMUM_CHUNK_CAPACITY} and 
+ * {@value #MAXIMUM_CHUNK_CAPACITY}). The fingers point to chunks instead of 
+ * nodes: each finger stores a chunk and the index of its first element.
+ * 
+ * <p>
+ * 
+ * For \(n\) elements stored in \(m\) chunks, we maintain 
+ * \(\min(m, \lceil \sqrt{n} \rceil)\) fingers, and the leftmost finger 
+ * always points to the head chunk. Accessing the element at a given index 
+ * first finds the closest finger in \(\mathcal{O}(\log n)\) time, and then 
+ * walks the chunks from that finger towards the target. Since the walk makes
+ * one step per chunk, it touches about \(C\) times fewer objects than the 
+ * walk in {@link IndexedLinkedList}, and the memory overhead per element drops
+ * accordingly. Whenever a walk becomes much longer than the current finger 
+ * spacing, the fingers are redistributed evenly over the chunks.
+ * 
+ * <p>
+ * 
+ * A full chunk is split in halves on insertion, and a chunk whose load drops 
+ * to \(C / 4\) is merged with a neighbour whenever the merged chunk is at most
+ * three quarters full. The positional access runs in 
+ * \(\mathcal{O}(\log n + \sqrt{n} / C)\) amortized time, and the positional 
+ * insertion and removal run in \(\mathcal{O}(C + \sqrt{n})\) amortized time,
+ * where the \(\sqrt{n}\) term is a plain pass over the finger index array.
+ * 
+ * <p>
+ * 
+ * The subclasses decide the type of the chunk arrays and how the elements are
+ * read from and written to them. The structural operations only move the 
+ * slots around, so the primitive specializations never box their elements on
+ * their own access paths.
+ * 
+ * @author Rodion "rodde" Efremov
+ * @version 1.7.0 (Nov 23, 2024)
+ * @since 1.7.0 (Nov 23, 2024)
+ * @param <E> the element type.
+ */
+abstract class AbstractChunkedIndexedList<E> extends AbstractList<E>
+                                             implements java.io.Serializable {
+    /**
+     * The serial version UID.
+     */
+    @java.io.Serial
+    private static final long serialVersionUID = 1638473902112750443L;
+    
+    /**
+     * The default chunk capacity.
+     */
+    public static final int DEFAULT_CHUNK_CAPACITY = 32;
+    
+    /**
+     * The minimum allowed chunk capacity.
+     */
+    public static final int MINIMUM_CHUNK_CAPACITY = 16;
+    
+    /**
+     * The maximum allowed chunk capacity.
+     */
+    public static final int MAXIMUM_CHUNK_CAPACITY = 64;
+    
+    /**
+     * The initial capacity of the finger arrays.
+     */
+    private static final int INITIAL_FINGER_CAPACITY = 8;
+    
+    /**
+     * The maximum number of elements in a chunk.
+     */
+    final int chunkCapacity;
+    
+    /**
+     * The cached number of elements in this list.
+     */
+    transient int size;
+    
+    /**
+     * The head chunk of the list.
+     */
+    transient Chunk head;
+    
+    /**
+     * The tail chunk of the list.
+     */
+    transient Chunk tail;
+    
+    /**
+     * The number of chunks in the list.
+     */
+    transient int numberOfChunks;
+    
+    /**
+     * The index of the first element of each finger chunk. Sorted in strictly
+     * ascending order.
+     */
+    transient int[] fingerIndexArray;
+    
+    /**
+     * The finger chunks. {@code fingerChunkArray[i]} is the chunk whose first 
+     * element has the index {@code fingerIndexArray[i]}.
+     */
+    transient Chunk[] fingerChunkArray;
+    
+    /**
+     * The number of fingers in use.
+     */
+    transient int fingerCount;
+    
+    /**
+     * The number of chunk steps after which a walk triggers the 
+     * redistribution of the fingers.
+     */
+    private transient int walkLimit;
+    
+    /**
+     * Caches the index of the first element of the chunk returned by the last
+     * call to {@link #locateChunk(int)} or {@link #openSlot(int)}.
+     */
+    transient int locatedChunkStart;
+    
+    /**
+     * Constructs an empty list with the given chunk capacity.
+     * 
+     * @param chunkCapacity the maximum number of elements in a chunk.
+     * @throws IllegalArgumentException if {@code chunkCapacity} is outside of 
+     *                                  the range 
+     *                                  [{@value #MINIMUM_CHUNK_CAPACITY},
+     *                                  {@value #MAXIMUM_CHUNK_CAPACITY}].
+     */
+    AbstractChunkedIndexedList(int chunkCapacity) {
+        if (chunkCapacity < MINIMUM_CHUNK_CAPACITY 
+                || chunkCapacity > MAXIMUM_CHUNK_CAPACITY) {
+            throw new IllegalArgumentException(
+                    "Chunk capacity " 
+                            + chunkCapacity 
+                            + " is outside of the range [" 
+                            + MINIMUM_CHUNK_CAPACITY 
+                            + ", " 
+                            + MAXIMUM_CHUNK_CAPACITY 
+                            + "].");
+        }
+        
+        this.chunkCapacity = chunkCapacity;
+        initFingers();
+    }
+    
+    /**
+     * Appends the specified element to the end of this list. Runs in amortized
+     * constant time.
+     * 
+     * @param e the element to append.
+     * @return always {@code true}.
+     */
+    @Override
+    public boolean add(E e) {
+        Chunk chunk = openSlot(size);
+        setElement(chunk.items, chunk.size - 1, e);
+        return true;
+    }
+    
+    /**
+     * Inserts the element {@code element} at the index {@code index}. Runs in
+     * \(\mathcal{O}(C + \sqrt{n})\) amortized time.
+     * 
+     * @param index   the insertion index.
+     * @param element the element to insert.
+     * @throws IndexOutOfBoundsException if {@code index} is not within 
+     *                                   {@code [0, size()]}.
+     */
+    @Override
+    public void add(int index, E element) {
+        checkPositionIndex(index);
+        Chunk chunk = openSlot(index);
+        setElement(chunk.items, index - locatedChunkStart, element);
+    }
+    
+    /**
+     * Appends all the elements in {@code c} to the end of this list. Runs in
+     * \(\mathcal{O}(m)\) time, where \(m = |c|\).
+     * 
+     * @param c the collection to append.
+     * @return {@code true} if this list changed.
+     */
+    @Override
+    public boolean addAll(Collection<? extends E> c) {
+        if (c.isEmpty()) {
+            return false;
+        }
+        
+        for (E e : c) {
+            add(e);
+        }
+        
+        return true;
+    }
+    
+    /**
+     * Returns the chunk capacity of this list.
+     * 
+     * @return the maximum number of elements in a chunk.
+     */
+    public int chunkCapacity() {
+        return chunkCapacity;
+    }
+    
+    /**
+     * Removes all the elements from this list. Runs in constant time.
+     */
+    @Override
+    public void clear() {
+        head = null;
+        tail = null;
+        size = 0;
+        numberOfChunks = 0;
+        initFingers();
+        modCount++;
+    }
+    
+    /**
+     * Returns the element at the index {@code index}. Runs in 
+     * \(\mathcal{O}(\log n + \sqrt{n} / C)\) time.
+     * 
+     * @param index the index of the element to get.
+     * @return the element at the index {@code index}.
+     * @throws IndexOutOfBoundsException if {@code index} is not within
+     *                                   {@code [0, size())}.
+     */
+    @Override
+    public E get(int index) {
+        checkElementIndex(index);
+        Chunk chunk = locateChunk(index);
+        return getElement(chunk.items, index - locatedChunkStart);
+    }
+    
+    /**
+     * Returns the index of the first occurrence of {@code o} or {@code -1} if
+     * there is no such element. Runs in worst-case linear time.
+     * 
+     * @param o the object to search.
+     * @return the index of the first occurrence of {@code o}.
+     */
+    @Override
+    public int indexOf(Object o) {
+        int chunkStart = 0;
+        
+        for (Chunk chunk = head; chunk != null; chunk = chunk.next) {
+            for (int i = 0; i < chunk.size; i++) {
+                if (Objects.equals(o, getElement(chunk.items, i))) {
+                    return chunkStart + i;
+                }
+            }
+            
+            chunkStart += chunk.size;
+        }
+        
+        return -1;
+    }
+    
+    /**
+     * Returns the iterator over this list.
+     * 
+     * @return the iterator over this list.
+     */
+    @Override
+    public Iterator<E> iterator() {
+        return new ChunkListIterator(0);
+    }
+    
+    /**
+     * Returns the index of the last occurrence of {@code o} or {@code -1} if
+     * there is no such element. Runs in worst-case linear time.
+     * 
+     * @param o the object to search.
+     * @return the index of the last occurrence of {@code o}.
+     */
+    @Override
+    public int lastIndexOf(Object o) {
+        int chunkStart = size;
+        
+        for (Chunk chunk = tail; chunk != null; chunk = chunk.prev) {
+            chunkStart -= chunk.size;
+            
+            for (int i = chunk.size - 1; i >= 0; i--) {
+                if (Objects.equals(o, getElement(chunk.items, i))) {
+                    return chunkStart + i;
+                }
+            }
+        }
+        
+        return -1;
+    }
+    
+    /**
+     * Returns the list iterator pointing to the beginning of this list.
+     * 
+     * @return the list iterator.
+     */
+    @Override
+    public ListIterator<E> listIterator() {
+        return new ChunkListIterator(0);
+    }
+    
+    /**
+     * Returns the list iterator pointing to the index {@code index}.
+     * 
+     * @param index the starting index of the list iterator.
+     * @return the list iterator.
+     * @throws IndexOutOfBoundsException if {@code index} is not within
+     *                                   {@code [0, size()]}.
+     */
+    @Override
+    public ListIterator<E> listIterator(int index) {
+        checkPositionIndex(index);
+        return new ChunkListIterator(index);
+    }
+    
+    /**
+     * Removes the element at the index {@code index}. Runs in 
+     * \(\mathcal{O}(C + \sqrt{n})\) amortized time.
+     * 
+     * @param index the index of the element to remove.
+     * @return the removed element.
+     * @throws IndexOutOfBoundsException if {@code index} is not within
+     *                                   {@code [0, size())}.
+     */
+    @Override
+    public E remove(int index) {
+        checkElementIndex(index);
+        Chunk chunk = locateChunk(index);
+        int chunkStart = locatedChunkStart;
+        E element = getElement(chunk.items, index - chunkStart);
+        closeSlot(chunk, chunkStart, index - chunkStart);
+        return element;
+    }
+    
+    /**
+     * Sets the element at the index {@code index} to {@code element}. Runs in
+     * \(\mathcal{O}(\log n + \sqrt{n} / C)\) time.
+     * 
+     * @param index   the index of the element to set.
+     * @param element the new element.
+     * @return the old element.
+     * @throws IndexOutOfBoundsException if {@code index} is not within
+     *                                   {@code [0, size())}.
+     */
+    @Override
+    public E set(int index, E element) {
+        checkElementIndex(index);
+        Chunk chunk = locateChunk(index);
+        int offset = index - locatedChunkStart;
+        E oldElement = getElement(chunk.items, offset);
+        setElement(chunk.items, offset, element);
+        return oldElement;
+    }
+    
+    /**
+     * Returns the number of elements in this list.
+     * 
+     * @return the size of this list.
+     */
+    @Override
+    public int size() {
+        return size;
+    }
+    
+    /**
+     * Checks that {@code index} is a valid element index.
+     * 
+     * @param index the index to validate.
+     * @throws IndexOutOfBoundsException if {@code index} is not within
+     *                                   {@code [0, size())}.
+     */
+    void checkElementIndex(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException(getOutOfBoundsMessage(index));
+        }
+    }
+    
+    /**
+     * Checks that {@code index} is a valid position index.
+     * 
+     * @param index the index to validate.
+     * @throws IndexOutOfBoundsException if {@code index} is not within
+     *                                   {@code [0, size()]}.
+     */
+    void checkPositionIndex(int index) {
+        if (index < 0 || index > size) {
+            throw new IndexOutOfBoundsException(getOutOfBoundsMessage(index));
+        }
+    }
+    
+    /**
+     * Clears the slots {@code [fromOffset, toOffset)} of a chunk array that 
+     * are no longer in use. The lists storing references override this in 
+     * order to let the garbage collector reclaim the removed elements.
+     * 
+     * @param items      the chunk array.
+     * @param fromOffset the first offset to clear.
+     * @param toOffset   the offset one past the last offset to clear.
+     */
+    void clearSlots(Object items, int fromOffset, int toOffset) {
+        
+    }
+    
+    /**
+     * Closes the slot at the offset {@code offset} of the chunk {@code chunk}
+     * after its element has been read. Unlinks the chunk if it becomes empty,
+     * or merges it with a neighbour if it becomes underfull.
+     * 
+     * @param chunk      the chunk containing the slot to close.
+     * @param chunkStart the index of the first element of {@code chunk}.
+     * @param offset     the offset of the slot within {@code chunk}.
+     */
+    void closeSlot(Chunk chunk, int chunkStart, int offset) {
+        chunk.closeSlot(offset);
+        clearSlots(chunk.items, chunk.size, chunk.size + 1);
+        size--;
+        modCount++;
+        
+        if (chunk.size == 0) {
+            int fingerIndex = 
+                    Arrays.binarySearch(fingerIndexArray,
+                                        0, 
+                                        fingerCount, 
+                                        chunkStart);
+            
+            if (fingerIndex >= 0) {
+                if (chunk.next == null 
+                        || (fingerIndex + 1 < fingerCount 
+                        && fingerChunkArray[fingerIndex + 1] == chunk.next)) {
+                    removeFinger(fingerIndex);
+                } else {
+                    // chunk.next starts at 'chunkStart' after the removal:
+                    fingerChunkArray[fingerIndex] = chunk.next;
+                }
+            }
+            
+            unlinkChunk(chunk);
+            shiftFingerIndices(chunkStart, -1);
+        } else {
+            shiftFingerIndices(chunkStart, -1);
+            
+            if (chunk.size <= chunkCapacity / 4) {
+                mergeUnderfullChunk(chunk, chunkStart);
+            }
+        }
+    }
+    
+    /**
+     * Returns the element at the offset {@code offset} of the chunk array 
+     * {@code items}.
+     * 
+     * @param items  the chunk array.
+     * @param offset the offset of the element.
+     * @return the element.
+     */
+    abstract E getElement(Object items, int offset);
+    
+    /**
+     * Resets the finger arrays to the empty state.
+     */
+    void initFingers() {
+        fingerIndexArray = new int[INITIAL_FINGER_CAPACITY];
+        fingerChunkArray = new Chunk[INITIAL_FINGER_CAPACITY];
+        fingerCount = 0;
+        walkLimit = INITIAL_FINGER_CAPACITY;
+    }
+    
+    /**
+     * Returns the chunk containing the element at the index {@code index} and
+     * stores the index of its first element in {@link #locatedChunkStart}. 
+     * Starts from the closest finger or from the tail, whichever requires 
+     * fewer steps, and walks the chunks towards the target.
+     * 
+     * @param index the target element index. Must be within 
+     *              {@code [0, size())}.
+     * @return the chunk containing the target element.
+     */
+    Chunk locateChunk(int index) {
+        int fingerIndex = getFloorFingerIndex(index);
+        Chunk chunk = fingerChunkArray[fingerIndex];
+        int chunkStart = fingerIndexArray[fingerIndex];
+        int nextStart = fingerIndex + 1 < fingerCount ?
+                        fingerIndexArray[fingerIndex + 1] :
+                        size;
+        
+        int steps = 0;
+        
+        if (nextStart - index < index - chunkStart) {
+            // Walk leftwards from the next finger or from the end of the list:
+            chunk = fingerIndex + 1 < fingerCount ?
+                    fingerChunkArray[fingerIndex + 1] :
+                    null;
+            
+            chunkStart = nextStart;
+            
+            while (chunkStart > index) {
+                chunk = chunk == null ? tail : chunk.prev;
+                chunkStart -= chunk.size;
+                steps++;
+            }
+        } else {
+            while (index >= chunkStart + chunk.size) {
+                chunkStart += chunk.size;
+                chunk = chunk.next;
+                steps++;
+            }
+        }
+        
+        if (steps > walkLimit) {
+            rebuildFingers();
+        }
+        
+        locatedChunkStart = chunkStart;
+        return chunk;
+    }
+    
+    /**
+     * Allocates a new chunk array.
+     * 
+     * @param capacity the length of the array.
+     * @return a new chunk array.
+     */
+    abstract Object newChunkArray(int capacity);
+    
+    /**
+     * Opens a free slot for the element at the index {@code index}, splitting
+     * the target chunk if it is full, and updates the size and the 
+     * modification count. Returns the chunk holding the new slot and stores 
+     * the index of its first element in {@link #locatedChunkStart}; the slot 
+     * is at the offset {@code index - locatedChunkStart}. Appending runs in 
+     * amortized constant time.
+     * 
+     * @param index the index of the new element. Must be within 
+     *              {@code [0, size()]}.
+     * @return the chunk holding the new slot.
+     */
+    Chunk openSlot(int index) {
+        if (index == size) {
+            return openSlotAtEnd();
+        }
+        
+        Chunk chunk = locateChunk(index);
+        int chunkStart = locatedChunkStart;
+        int offset = index - chunkStart;
+        
+        if (chunk.size == chunkCapacity) {
+            Chunk newChunk = splitChunk(chunk);
+            
+            if (offset > chunk.size) {
+                locatedChunkStart += chunk.size;
+                offset -= chunk.size;
+                chunk = newChunk;
+            }
+        }
+        
+        chunk.openSlot(offset);
+        shiftFingerIndices(chunkStart, 1);
+        size++;
+        modCount++;
+        return chunk;
+    }
+    
+    /**
+     * Reads the next element from the stream {@code s} into the chunk array 
+     * {@code items} at the offset {@code offset}.
+     * 
+     * @param s      the object input stream.
+     * @param items  the chunk array.
+     * @param offset the target offset.
+     * @throws java.io.IOException if I/O fails.
+     * @throws ClassNotFoundException if the class is not found.
+     */
+    abstract void readElement(java.io.ObjectInputStream s, 
+                              Object items, 
+                              int offset) 
+            throws java.io.IOException, ClassNotFoundException;
+    
+    /**
+     * Removes the slot at the index {@code index} discarding its element.
+     * 
+     * @param index the index of the slot to remove. Must be within 
+     *              {@code [0, size())}.
+     */
+    void removeSlot(int index) {
+        Chunk chunk = locateChunk(index);
+        int chunkStart = locatedChunkStart;
+        closeSlot(chunk, chunkStart, index - chunkStart);
+    }
+    
+    /**
+     * Sets the element at the offset {@code offset} of the chunk array 
+     * {@code items} to {@code e}.
+     * 
+     * @param items  the chunk array.
+     * @param offset the offset of the element.
+     * @param e      the new element.
+     */
+    abstract void setElement(Object items, int offset, E e);
+    
+    /**
+     * Writes the element at the offset {@code offset} of the chunk array 
+     * {@code items} to the stream {@code s}.
+     * 
+     * @param s      the object output stream.
+     * @param items  the chunk array.
+     * @param offset the offset of the element.
+     * @throws java.io.IOException if I/O fails.
+     */
+    abstract void writeElement(java.io.ObjectOutputStream s, 
+                               Object items, 
+                               int offset) 
+            throws java.io.IOException;
+    
+    /**
+     * Appends a new finger pointing to {@code chunk}, growing the finger 
+     * arrays if necessary.
+     * 
+     * @param chunk      the finger chunk.
+     * @param chunkStart the index of the first element of {@code chunk}.
+     */
+    private void appendFinger(Chunk chunk, int chunkStart) {
+        if (fingerCount == fingerIndexArray.length) {
+            int capacity = 2 * fingerCount;
+            fingerIndexArray = Arrays.copyOf(fingerIndexArray, capacity);
+            fingerChunkArray = Arrays.copyOf(fingerChunkArray, capacity);
+        }
+        
+        fingerIndexArray[fingerCount] = chunkStart;
+        fingerChunkArray[fingerCount] = chunk;
+        fingerCount++;
+    }
+    
+    /**
+     * Returns the index of the rightmost finger whose index is at most 
+     * {@code index}. The leftmost finger has the index zero, so such a finger
+     * always exists in a non-empty list.
+     * 
+     * @param index the target element index.
+     * @return the index of the closest finger from the left.
+     */
+    private int getFloorFingerIndex(int index) {
+        int low = 0;
+        int high = fingerCount - 1;
+        
+        while (low < high) {
+            int middle = (low + high + 1) >>> 1;
+            
+            if (fingerIndexArray[middle] <= index) {
+                low = middle;
+            } else {
+                high = middle - 1;
+            }
+        }
+        
+        return low;
+    }
+    
+    /**
+     * Constructs an IndexOutOfBoundsException detail message.
+     * 
+     * @param index the target index.
+     * @return the detail message.
+     */
+    private String getOutOfBoundsMessage(int index) {
+        return "Index: " + index + ", Size: " + size;
+    }
+    
+    /**
+     * Merges the chunk {@code right} into its predecessor and unlinks it. The 
+     * merged chunk must fit into a single chunk.
+     * 
+     * @param right      the chunk to merge into its predecessor.
+     * @param rightStart the index of the first element of {@code right}.
+     */
+    private void mergeIntoPrevious(Chunk right, int rightStart) {
+        Chunk left = right.prev;
+        int fingerIndex = 
+                Arrays.binarySearch(fingerIndexArray, 
+                                    0, 
+                                    fingerCount,
+                                    rightStart);
+        
+        if (fingerIndex >= 0) {
+            if (fingerChunkArray[fingerIndex - 1] == left) {
+                removeFinger(fingerIndex);
+            } else {
+                fingerChunkArray[fingerIndex] = left;
+                fingerIndexArray[fingerIndex] = rightStart - left.size;
+            }
+        }
+        
+        System.arraycopy(right.items, 0, left.items, left.size, right.size);
+        left.size += right.size;
+        unlinkChunk(right);
+    }
+    
+    /**
+     * Merges the underfull chunk {@code chunk} with one of its neighbours if
+     * the merged chunk is at most three quarters full.
+     * 
+     * @param chunk      the underfull chunk.
+     * @param chunkStart the index of the first element of {@code chunk}.
+     */
+    private void mergeUnderfullChunk(Chunk chunk, int chunkStart) {
+        int mergeLimit = chunkCapacity - chunkCapacity / 4;
+        
+        if (chunk.next != null && chunk.size + chunk.next.size <= mergeLimit) {
+            mergeIntoPrevious(chunk.next, chunkStart + chunk.size);
+        } else if (chunk.prev != null 
+                && chunk.prev.size + chunk.size <= mergeLimit) {
+            mergeIntoPrevious(chunk, chunkStart);
+        }
+    }
+    
+    /**
+     * Opens a free slot at the end of the tail chunk. Creates a new tail chunk
+     * if the current one is full or missing.
+     * 
+     * @return the tail chunk holding the new slot.
+     */
+    private Chunk openSlotAtEnd() {
+        if (tail == null) {
+            Chunk chunk = new Chunk(newChunkArray(chunkCapacity));
+            head = tail = chunk;
+            numberOfChunks = 1;
+            appendFinger(chunk, 0);
+        } else if (tail.size == chunkCapacity) {
+            Chunk chunk = new Chunk(newChunkArray(chunkCapacity));
+            chunk.prev = tail;
+            tail.next = chunk;
+            tail = chunk;
+            numberOfChunks++;
+        }
+        
+        locatedChunkStart = size - tail.size;
+        tail.size++;
+        size++;
+        modCount++;
+        return tail;
+    }
+    
+    /**
+     * Redistributes \(\min(m, \lceil \sqrt{n} \rceil)\) fingers evenly over
+     * the \(m\) chunks. Runs in \(\mathcal{O}(m)\) time.
+     */
+    private void rebuildFingers() {
+        int count = Math.min(numberOfChunks, 
+                             (int) Math.ceil(Math.sqrt(size)));
+        int spacing = (numberOfChunks + count - 1) / count;
+        int capacity = Math.max(count, INITIAL_FINGER_CAPACITY);
+        
+        if (fingerIndexArray.length < capacity) {
+            fingerIndexArray = new int[capacity];
+            fingerChunkArray = new Chunk[capacity];
+        } else {
+            Arrays.fill(fingerChunkArray, null);
+        }
+        
+        fingerCount = 0;
+        int chunkStart = 0;
+        int chunkIndex = 0;
+        
+        for (Chunk chunk = head; chunk != null; chunk = chunk.next) {
+            // Finger 'f' goes to the chunk 'ceil(f * m / count)':
+            if ((long) fingerCount * numberOfChunks <= 
+                (long) chunkIndex * count) {
+                fingerIndexArray[fingerCount] = chunkStart;
+                fingerChunkArray[fingerCount] = chunk;
+                fingerCount++;
+            }
+            
+            chunkStart += chunk.size;
+            chunkIndex++;
+        }
+        
+        walkLimit = 2 * spacing + INITIAL_FINGER_CAPACITY;
+    }
+    
+    /**
+     * Removes the finger at the index {@code fingerIndex}.
+     * 
+     * @param fingerIndex the index of the finger to remove.
+     */
+    private void removeFinger(int fingerIndex) {
+        int numberOfFingersToMove = fingerCount - fingerIndex - 1;
+        
+        System.arraycopy(fingerIndexArray, 
+                         fingerIndex + 1, 
+                         fingerIndexArray, 
+                         fingerIndex, 
+                         numberOfFingersToMove);
+        
+        System.arraycopy(fingerChunkArray, 
+                         fingerIndex + 1, 
+                         fingerChunkArray, 
+                         fingerIndex, 
+                         numberOfFingersToMove);
+        
+        fingerChunkArray[--fingerCount] = null;
+    }
+    
+    /**
+     * Adds {@code delta} to the indices of all the fingers whose index is 
+     * larger than {@code chunkStart}.
+     * 
+     * @param chunkStart the index of the first element of the modified chunk.
+     * @param delta      the shift length.
+     */
+    private void shiftFingerIndices(int chunkStart, int delta) {
+        // The floor finger may lie past 'chunkStart' if the finger of an
+        // emptied head chunk was just removed:
+        for (int i = getFloorFingerIndex(chunkStart); i < fingerCount; i++) {
+            if (fingerIndexArray[i] > chunkStart) {
+                fingerIndexArray[i] += delta;
+            }
+        }
+    }
+    
+    /**
+     * Splits the full chunk {@code chunk} in halves. The second half is moved
+     * to a new chunk linked right after {@code chunk}.
+     * 
+     * @param chunk the chunk to split.
+     * @return the new chunk holding the second half.
+     */
+    private Chunk splitChunk(Chunk chunk) {
+        Chunk newChunk = new Chunk(newChunkArray(chunkCapacity));
+        int half = chunk.size / 2;
+        int moved = chunk.size - half;
+        
+        System.arraycopy(chunk.items, half, newChunk.items, 0, moved);
+        clearSlots(chunk.items, half, chunk.size);
+        chunk.size = half;
+        newChunk.size = moved;
+        
+        newChunk.prev = chunk;
+        newChunk.next = chunk.next;
+        
+        if (chunk.next == null) {
+            tail = newChunk;
+        } else {
+            chunk.next.prev = newChunk;
+        }
+        
+        chunk.next = newChunk;
+        numberOfChunks++;
+        return newChunk;
+    }
+    
+    /**
+     * Unlinks the chunk {@code chunk} from the chunk list.
+     * 
+     * @param chunk the chunk to unlink.
+     */
+    private void unlinkChunk(Chunk chunk) {
+        if (chunk.prev == null) {
+            head = chunk.next;
+        } else {
+            chunk.prev.next = chunk.next;
+        }
+        
+        if (chunk.next == null) {
+            tail = chunk.prev;
+        } else {
+            chunk.next.prev = chunk.prev;
+        }
+        
+        chunk.prev = null;
+        chunk.next = null;
+        numberOfChunks--;
+    }
+    
+    /**
+     * Reconstitutes this list from a stream.
+     * 
+     * @param s the object input stream.
+     * 
+     * @serialData The size of the list (the number of elements it contains) is
+     *             read (int), followed by all of its elements in the proper 
+     *             order.
+     * 
+     * @throws java.io.IOException if I/O fails.
+     * @throws ClassNotFoundException if the class is not found.
+     */
+    @java.io.Serial
+    private void readObject(java.io.ObjectInputStream s) 
+            throws java.io.IOException, ClassNotFoundException {
+        // Read in any hidden serialization magic
+        s.defaultReadObject();
+        
+        int size = s.readInt();
+        initFingers();
+        
+        for (int i = 0; i < size; i++) {
+            Chunk chunk = openSlotAtEnd();
+            readElement(s, chunk.items, chunk.size - 1);
+        }
+    }
+    
+    /**
+     * Saves the state of this list to a stream.
+     * 
+     * @param s the object output stream.
+     * 
+     * @serialData The size of the list (the number of elements it
+     *             contains) is emitted (int), followed by all of its
+     *             elements in the proper order.
+     * 
+     * @throws java.io.IOException if the I/O fails.
+     */
+    @java.io.Serial
+    private void writeObject(java.io.ObjectOutputStream s)
+        throws java.io.IOException {
+        // Write out any hidden serialization magic
+        s.defaultWriteObject();
+
+        // Write out size
+        s.writeInt(size);
+
+        // Write out all elements in the proper order.
+        for (Chunk chunk = head; chunk != null; chunk = chunk.next) {
+            for (int i = 0; i < chunk.size; i++) {
+                writeElement(s, chunk.items, i);
+            }
+        }
+    }
+    
+    /**
+     * This inner class implements the cursor over the chunks. Moving the 
+     * cursor runs in constant time; the modifications go through the 
+     * enclosing list and re-locate the cursor afterwards. The subclasses read
+     * the elements at the offsets returned by {@link #nextOffset()} and 
+     * {@link #previousOffset()} from {@link #chunk}.
+     */
+    abstract class ChunkCursor {
+        
+        /**
+         * The chunk containing the cursor or {@code null} if the list is empty.
+         */
+        Chunk chunk;
+        
+        /**
+         * The index of the first element of {@link #chunk}.
+         */
+        int chunkStart;
+        
+        /**
+         * The index of the element returned by the next call to 
+         * {@link #nextOffset()}.
+         */
+        int nextIndex;
+        
+        /**
+         * The index of the last returned element or {@code -1} if there is no
+         * such.
+         */
+        int lastReturnedIndex = -1;
+        
+        /**
+         * The expected modification count.
+         */
+        int expectedModCount = modCount;
+        
+        /**
+         * Constructs a cursor pointing to the index {@code index}.
+         * 
+         * @param index the starting index.
+         */
+        ChunkCursor(int index) {
+            this.nextIndex = index;
+            relocate();
+        }
+        
+        public boolean hasNext() {
+            return nextIndex < size;
+        }
+        
+        public boolean hasPrevious() {
+            return nextIndex > 0;
+        }
+        
+        public int nextIndex() {
+            return nextIndex;
+        }
+        
+        public int previousIndex() {
+            return nextIndex - 1;
+        }
+        
+        public void remove() {
+            if (lastReturnedIndex < 0) {
+                throw new IllegalStateException();
+            }
+            
+            checkForComodification();
+            removeSlot(lastReturnedIndex);
+            nextIndex = lastReturnedIndex;
+            lastReturnedIndex = -1;
+            expectedModCount = modCount;
+            relocate();
+        }
+        
+        /**
+         * Checks that the enclosing list was not modified behind this cursor.
+         * 
+         * @throws ConcurrentModificationException if the list was modified.
+         */
+        final void checkForComodification() {
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+        }
+        
+        /**
+         * Returns the offset of the last returned element within 
+         * {@link #chunk}.
+         * 
+         * @return the offset of the last returned element.
+         * @throws IllegalStateException if there is no last returned element.
+         */
+        final int lastReturnedOffset() {
+            if (lastReturnedIndex < 0) {
+                throw new IllegalStateException();
+            }
+            
+            checkForComodification();
+            // The cursor chunk still contains the last returned element:
+            return lastReturnedIndex - chunkStart;
+        }
+        
+        /**
+         * Moves the cursor over the next element and returns its offset within
+         * {@link #chunk}.
+         * 
+         * @return the offset of the next element.
+         * @throws NoSuchElementException if there is no next element.
+         */
+        final int nextOffset() {
+            checkForComodification();
+            
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            
+            while (nextIndex >= chunkStart + chunk.size) {
+                chunkStart += chunk.size;
+                chunk = chunk.next;
+            }
+            
+            lastReturnedIndex = nextIndex++;
+            return lastReturnedIndex - chunkStart;
+        }
+        
+        /**
+         * Opens a slot at the cursor, moves the cursor past it and returns the
+         * offset of the slot within {@link #chunk}.
+         * 
+         * @return the offset of the new slot.
+         */
+        final int openSlotAtCursor() {
+            checkForComodification();
+            chunk = openSlot(nextIndex);
+            chunkStart = locatedChunkStart;
+            int offset = nextIndex++ - chunkStart;
+            lastReturnedIndex = -1;
+            expectedModCount = modCount;
+            return offset;
+        }
+        
+        /**
+         * Moves the cursor over the previous element and returns its offset 
+         * within {@link #chunk}.
+         * 
+         * @return the offset of the previous element.
+         * @throws NoSuchElementException if there is no previous element.
+         */
+        final int previousOffset() {
+            checkForComodification();
+            
+            if (!hasPrevious()) {
+                throw new NoSuchElementException();
+            }
+            
+            lastReturnedIndex = --nextIndex;
+            
+            while (lastReturnedIndex < chunkStart) {
+                chunk = chunk.prev;
+                chunkStart -= chunk.size;
+            }
+            
+            return lastReturnedIndex - chunkStart;
+        }
+        
+        /**
+         * Points the cursor chunk to the chunk containing the element at 
+         * {@link #nextIndex} or to the tail chunk if the cursor is at the end
+         * of the list.
+         */
+        private void relocate() {
+            if (size == 0) {
+                chunk = null;
+                chunkStart = 0;
+            } else {
+                chunk = locateChunk(Math.min(nextIndex, size - 1));
+                chunkStart = locatedChunkStart;
+            }
+        }
+    }
+    
+    /**
+     * This inner class implements the boxing list iterator over the chunks.
+     */
+    private final class ChunkListIterator extends ChunkCursor 
+                                          implements ListIterator<E> {
+        
+        /**
+         * Constructs a list iterator pointing to the index {@code index}.
+         * 
+         * @param index the starting index.
+         */
+        ChunkListIterator(int index) {
+            super(index);
+        }
+        
+        @Override
+        public E next() {
+            int offset = nextOffset();
+            return getElement(chunk.items, offset);
+        }
+        
+        @Override
+        public E previous() {
+            int offset = previousOffset();
+            return getElement(chunk.items, offset);
+        }
+        
+        @Override
+        public void set(E e) {
+            int offset = lastReturnedOffset();
+            setElement(chunk.items, offset, e);
+        }
+        
+        @Override
+        public void add(E e) {
+            int offset = openSlotAtCursor();
+            setElement(chunk.items, offset, e);
+        }
+    }
+}
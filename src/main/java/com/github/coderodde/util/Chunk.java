@@ -0,0 +1,89 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2024 rodio.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.github.coderodde.util;
+
+/**
+ * This class implements the node of the chunked lists such as 
+ * {@link UnrolledIndexedLinkedList} and {@link IntIndexedLinkedList}. Each 
+ * chunk stores a small, contiguous run of list elements in an array so that 
+ * traversing the list touches one object per run instead of one object per 
+ * element. The array is an {@code Object[]} or a primitive array, depending on
+ * the list; the chunk itself only moves the slots around.
+ */
+final class Chunk {
+    
+    /**
+     * The element storage. Only the first {@link #size} slots are in use.
+     */
+    final Object items;
+    
+    /**
+     * The number of elements stored in this chunk.
+     */
+    int size;
+    
+    /**
+     * The previous chunk or {@code null} if this chunk is the head of the 
+     * list.
+     */
+    Chunk prev;
+    
+    /**
+     * The next chunk or {@code null} if this chunk is the tail of the list.
+     */
+    Chunk next;
+    
+    /**
+     * Constructs an empty chunk.
+     * 
+     * @param items the element storage array.
+     */
+    Chunk(Object items) {
+        this.items = items;
+    }
+    
+    /**
+     * Opens a free slot at the offset {@code offset} by shifting the 
+     * subsequent elements one position to the right. The chunk must not be 
+     * full.
+     * 
+     * @param offset the offset of the new slot.
+     */
+    void openSlot(int offset) {
+        System.arraycopy(items, offset, items, offset + 1, size - offset);
+        size++;
+    }
+    
+    /**
+     * Closes the slot at the offset {@code offset} by shifting the subsequent
+     * elements one position to the left. The slot at the offset {@code size} 
+     * is left as is after the call.
+     * 
+     * @param offset the offset of the slot to close.
+     */
+    void closeSlot(int offset) {
+        System.arraycopy(items, offset + 1, items, offset, size - offset - 1);
+        size--;
+    }
+}
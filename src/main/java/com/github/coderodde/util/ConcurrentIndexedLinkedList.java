@@ -0,0 +1,738 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2024 rodio.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.github.coderodde.util;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.ListIterator;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.locks.StampedLock;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+import java.util.function.UnaryOperator;
+
+/**
+ * <p>
+ * This class implements a thread-safe list on top of {@link IndexedLinkedList}.
+ * All the structural modifications and {@link #set(int, java.lang.Object)} run
+ * under the write lock of a {@link StampedLock}. The read operations 
+ * ({@link #get(int)}, {@link #size()}, {@link #contains(java.lang.Object)}, 
+ * the index searches and the array conversions) first run under an 
+ * <i>optimistic read</i>, which writes nothing to the shared memory, and 
+ * retry under the read lock only if a writer intervened. 
+ * 
+ * <p>
+ * 
+ * Since the adaptive finger moves of {@link IndexedLinkedList} turn each read
+ * into a write, the underlying list runs with 
+ * {@linkplain IndexedLinkedList#setFrozenFingers(boolean) frozen fingers}: the
+ * lookups only read the finger list, and many readers may walk the list at the
+ * same time. An optimistic read may observe the list in the middle of a 
+ * modification; in that case its result (or exception) is discarded once the
+ * stamp fails to validate.
+ * 
+ * <p>
+ * 
+ * The iterators and the spliterator traverse a snapshot of the list taken at
+ * the moment of their creation. They never throw 
+ * {@link java.util.ConcurrentModificationException} and do not support the 
+ * modifying operations. The sublists are views operating through the locked 
+ * single-element methods of this list; a compound operation over a sublist is
+ * not atomic.
+ * 
+ * <p>
+ * 
+ * The lock is not reentrant. Callbacks (comparators, predicates, operators) 
+ * passed to this list run under the write lock and must not access this list.
+ * 
+ * @author Rodion "rodde" Efremov
+ * @version 1.7.0 (Nov 23, 2024)
+ * @since 1.7.0 (Nov 23, 2024)
+ * @param <E> the element type.
+ */
+public class ConcurrentIndexedLinkedList<E> extends AbstractList<E> {
+    
+    /**
+     * The actual list.
+     */
+    private final IndexedLinkedList<E> list;
+    
+    /**
+     * The lock guarding {@link #list}.
+     */
+    private final StampedLock lock = new StampedLock();
+    
+    /**
+     * The number of single-element insertions and removals since the fingers
+     * were last distributed evenly.
+     */
+    private int modificationsSinceOptimization;
+    
+    /**
+     * Constructs an empty list.
+     */
+    public ConcurrentIndexedLinkedList() {
+        this.list = new IndexedLinkedList<>();
+        this.list.setFrozenFingers(true);
+    }
+    
+    /**
+     * Constructs a new list and copies the data in {@code c} to it.
+     * 
+     * @param c the collection to copy. 
+     */
+    public ConcurrentIndexedLinkedList(Collection<? extends E> c) {
+        this.list = new IndexedLinkedList<>(c);
+        this.list.setFrozenFingers(true);
+    }
+    
+    /**
+     * Appends {@code e} to the tail of this list. Runs under the write lock.
+     * 
+     * @param e the element to append.
+     * @return always {@code true}.
+     */
+    @Override
+    public boolean add(E e) {
+        long stamp = lock.writeLock();
+        
+        try {
+            list.add(e);
+            modCount++;
+            optimizeIfNeeded();
+            return true;
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+    
+    /**
+     * Inserts {@code element} at the index {@code index}. Runs under the write
+     * lock.
+     * 
+     * @param index   the insertion index.
+     * @param element the element to insert.
+     * @throws IndexOutOfBoundsException if {@code index} is out of range.
+     */
+    @Override
+    public void add(int index, E element) {
+        long stamp = lock.writeLock();
+        
+        try {
+            list.add(index, element);
+            modCount++;
+            optimizeIfNeeded();
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+    
+    /**
+     * Appends all the elements of {@code c} to the tail of this list. The 
+     * collection is copied before acquiring the write lock.
+     * 
+     * @param c the collection of elements to append.
+     * @return {@code true} only if this list changed.
+     */
+    @Override
+    public boolean addAll(Collection<? extends E> c) {
+        List<E> elements = new ArrayList<>(c);
+        long stamp = lock.writeLock();
+        
+        try {
+            boolean changed = list.addAll(elements);
+            modCount++;
+            return changed;
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+    
+    /**
+     * Inserts all the elements of {@code c} starting at the index 
+     * {@code index}. The collection is copied before acquiring the write lock.
+     * 
+     * @param index the insertion index.
+     * @param c     the collection of elements to insert.
+     * @return {@code true} only if this list changed.
+     * @throws IndexOutOfBoundsException if {@code index} is out of range.
+     */
+    @Override
+    public boolean addAll(int index, Collection<? extends E> c) {
+        List<E> elements = new ArrayList<>(c);
+        long stamp = lock.writeLock();
+        
+        try {
+            boolean changed = list.addAll(index, elements);
+            modCount++;
+            return changed;
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+    
+    /**
+     * Prepends {@code e} to the head of this list. Runs under the write lock.
+     * 
+     * @param e the element to prepend.
+     */
+    public void addFirst(E e) {
+        long stamp = lock.writeLock();
+        
+        try {
+            list.addFirst(e);
+            modCount++;
+            optimizeIfNeeded();
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+    
+    /**
+     * Appends {@code e} to the tail of this list. Runs under the write lock.
+     * 
+     * @param e the element to append.
+     */
+    public void addLast(E e) {
+        long stamp = lock.writeLock();
+        
+        try {
+            list.addLast(e);
+            modCount++;
+            optimizeIfNeeded();
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+    
+    /**
+     * Removes all the elements from this list. Runs under the write lock.
+     */
+    @Override
+    public void clear() {
+        long stamp = lock.writeLock();
+        
+        try {
+            list.clear();
+            modCount++;
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+    
+    /**
+     * Returns {@code true} only if {@code o} is present in this list. Runs in
+     * worst-case linear time under an optimistic read.
+     * 
+     * @param o the query object.
+     * @return {@code true} only if {@code o} is in this list.
+     */
+    @Override
+    public boolean contains(Object o) {
+        return indexOf(o) >= 0;
+    }
+    
+    /**
+     * Returns {@code index}th element. Runs under an optimistic read.
+     * 
+     * @param index the index of the element.
+     * @return {@code index}th element.
+     * @throws IndexOutOfBoundsException if {@code index} is out of range.
+     */
+    @Override
+    public E get(int index) {
+        // Inlines read(Supplier) so that the hot path allocates nothing:
+        long stamp = lock.tryOptimisticRead();
+        
+        if (stamp != 0L) {
+            try {
+                E element = list.get(index);
+                
+                if (lock.validate(stamp)) {
+                    return element;
+                }
+            } catch (RuntimeException ex) {
+                if (lock.validate(stamp)) {
+                    throw ex;
+                }
+            }
+        }
+        
+        stamp = lock.readLock();
+        
+        try {
+            return list.get(index);
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+    
+    /**
+     * Returns the first element of this list. Runs under an optimistic read.
+     * 
+     * @return the first element of this list.
+     * @throws java.util.NoSuchElementException if this list is empty.
+     */
+    public E getFirst() {
+        return read(list::getFirst);
+    }
+    
+    /**
+     * Returns the last element of this list. Runs under an optimistic read.
+     * 
+     * @return the last element of this list.
+     * @throws java.util.NoSuchElementException if this list is empty.
+     */
+    public E getLast() {
+        return read(list::getLast);
+    }
+    
+    /**
+     * Returns the index of the leftmost occurrence of {@code o}, or {@code -1}
+     * if there is no such. Runs in worst-case linear time under an optimistic
+     * read.
+     * 
+     * @param o the query object.
+     * @return the index of the leftmost {@code o}, or {@code -1}.
+     */
+    @Override
+    public int indexOf(Object o) {
+        return read(() -> list.indexOf(o));
+    }
+    
+    /**
+     * Returns {@code true} only if this list is empty.
+     * 
+     * @return {@code true} only if this list is empty.
+     */
+    @Override
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+    
+    /**
+     * Returns an iterator over the snapshot of this list.
+     * 
+     * @return an iterator over the snapshot of this list.
+     */
+    @Override
+    public Iterator<E> iterator() {
+        return listIterator(0);
+    }
+    
+    /**
+     * Returns the index of the rightmost occurrence of {@code o}, or 
+     * {@code -1} if there is no such. Runs in worst-case linear time under an
+     * optimistic read.
+     * 
+     * @param o the query object.
+     * @return the index of the rightmost {@code o}, or {@code -1}.
+     */
+    @Override
+    public int lastIndexOf(Object o) {
+        return read(() -> list.lastIndexOf(o));
+    }
+    
+    /**
+     * Returns a list iterator over the snapshot of this list.
+     * 
+     * @return a list iterator over the snapshot of this list.
+     */
+    @Override
+    public ListIterator<E> listIterator() {
+        return listIterator(0);
+    }
+    
+    /**
+     * Returns a list iterator over the snapshot of this list, starting at the
+     * index {@code index}. The iterator does not support the modifying 
+     * operations.
+     * 
+     * @param index the starting index.
+     * @return a list iterator over the snapshot of this list.
+     * @throws IndexOutOfBoundsException if {@code index} is out of range 
+     *         {@code 0, 1, ..., size}.
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public ListIterator<E> listIterator(int index) {
+        Object[] snapshot = toArray();
+        
+        if (index < 0 || index > snapshot.length) {
+            throw new IndexOutOfBoundsException(
+                    "Index: " + index + ", Size: " + snapshot.length);
+        }
+        
+        return Collections.unmodifiableList(
+                (List<E>) Arrays.asList(snapshot)).listIterator(index);
+    }
+    
+    /**
+     * Removes the element at the index {@code index}. Runs under the write 
+     * lock.
+     * 
+     * @param index the index of the element to remove.
+     * @return the removed element.
+     * @throws IndexOutOfBoundsException if {@code index} is out of range.
+     */
+    @Override
+    public E remove(int index) {
+        long stamp = lock.writeLock();
+        
+        try {
+            E element = list.remove(index);
+            modCount++;
+            optimizeIfNeeded();
+            return element;
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+    
+    /**
+     * Removes the leftmost occurrence of {@code o}. Runs under the write lock.
+     * 
+     * @param o the object to remove.
+     * @return {@code true} only if {@code o} was removed.
+     */
+    @Override
+    public boolean remove(Object o) {
+        long stamp = lock.writeLock();
+        
+        try {
+            if (!list.remove(o)) {
+                return false;
+            }
+            
+            modCount++;
+            optimizeIfNeeded();
+            return true;
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+    
+    /**
+     * Removes all the elements that appear in {@code c}. Runs under the write
+     * lock.
+     * 
+     * @param c the collection of elements to remove.
+     * @return {@code true} only if this list changed.
+     */
+    @Override
+    public boolean removeAll(Collection<?> c) {
+        Collection<?> elements = c == this ? new ArrayList<>(this) : c;
+        long stamp = lock.writeLock();
+        
+        try {
+            boolean changed = list.removeAll(elements);
+            modCount++;
+            return changed;
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+    
+    /**
+     * Removes and returns the first element of this list. Runs under the write
+     * lock.
+     * 
+     * @return the removed first element.
+     * @throws java.util.NoSuchElementException if this list is empty.
+     */
+    public E removeFirst() {
+        long stamp = lock.writeLock();
+        
+        try {
+            E element = list.removeFirst();
+            modCount++;
+            optimizeIfNeeded();
+            return element;
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+    
+    /**
+     * Removes all the elements satisfying {@code filter}. Runs under the write
+     * lock.
+     * 
+     * @param filter the filter predicate.
+     * @return {@code true} only if this list changed.
+     */
+    @Override
+    public boolean removeIf(Predicate<? super E> filter) {
+        long stamp = lock.writeLock();
+        
+        try {
+            boolean changed = list.removeIf(filter);
+            modCount++;
+            return changed;
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+    
+    /**
+     * Removes and returns the last element of this list. Runs under the write
+     * lock.
+     * 
+     * @return the removed last element.
+     * @throws java.util.NoSuchElementException if this list is empty.
+     */
+    public E removeLast() {
+        long stamp = lock.writeLock();
+        
+        try {
+            E element = list.removeLast();
+            modCount++;
+            optimizeIfNeeded();
+            return element;
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+    
+    /**
+     * Removes the elements with indices {@code fromIndex, ..., toIndex - 1}. 
+     * Runs under the write lock. Called by {@code subList(...).clear()}.
+     * 
+     * @param fromIndex the index of the first element to remove.
+     * @param toIndex   one past the index of the last element to remove.
+     */
+    @Override
+    protected void removeRange(int fromIndex, int toIndex) {
+        long stamp = lock.writeLock();
+        
+        try {
+            list.subList(fromIndex, toIndex).clear();
+            modCount++;
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+    
+    /**
+     * Replaces each element with the result of {@code operator}. Runs under 
+     * the write lock.
+     * 
+     * @param operator the replacement operator.
+     */
+    @Override
+    public void replaceAll(UnaryOperator<E> operator) {
+        long stamp = lock.writeLock();
+        
+        try {
+            list.replaceAll(operator);
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+    
+    /**
+     * Removes all the elements that do not appear in {@code c}. Runs under the
+     * write lock.
+     * 
+     * @param c the collection of elements to retain.
+     * @return {@code true} only if this list changed.
+     */
+    @Override
+    public boolean retainAll(Collection<?> c) {
+        Collection<?> elements = c == this ? new ArrayList<>(this) : c;
+        long stamp = lock.writeLock();
+        
+        try {
+            boolean changed = list.retainAll(elements);
+            modCount++;
+            return changed;
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+    
+    /**
+     * Sets the element at the index {@code index} to {@code element}. Runs 
+     * under the write lock.
+     * 
+     * @param index   the index of the element to set.
+     * @param element the new element.
+     * @return the old element.
+     * @throws IndexOutOfBoundsException if {@code index} is out of range.
+     */
+    @Override
+    public E set(int index, E element) {
+        long stamp = lock.writeLock();
+        
+        try {
+            return list.set(index, element);
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+    
+    /**
+     * Returns the number of elements in this list. Runs under an optimistic 
+     * read.
+     * 
+     * @return the number of elements in this list.
+     */
+    @Override
+    public int size() {
+        long stamp = lock.tryOptimisticRead();
+        int size = list.size;
+        
+        if (lock.validate(stamp)) {
+            return size;
+        }
+        
+        stamp = lock.readLock();
+        
+        try {
+            return list.size;
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+    
+    /**
+     * Returns a copy of this list taken atomically with respect to the 
+     * writers. The copy is independent of this list.
+     * 
+     * @return a copy of this list.
+     */
+    @SuppressWarnings("unchecked")
+    public IndexedLinkedList<E> snapshot() {
+        return new IndexedLinkedList<>((List<E>) Arrays.asList(toArray()));
+    }
+    
+    /**
+     * Sorts this list stably. Runs under the write lock.
+     * 
+     * @param c the element comparator.
+     */
+    @Override
+    public void sort(Comparator<? super E> c) {
+        long stamp = lock.writeLock();
+        
+        try {
+            list.sort(c);
+            modCount++;
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+    
+    /**
+     * Returns a spliterator over the snapshot of this list.
+     * 
+     * @return a spliterator over the snapshot of this list.
+     */
+    @Override
+    public Spliterator<E> spliterator() {
+        return Spliterators.spliterator(toArray(), 
+                                        Spliterator.ORDERED | 
+                                        Spliterator.IMMUTABLE);
+    }
+    
+    /**
+     * Returns the array holding the elements of this list. Runs in linear time
+     * under an optimistic read.
+     * 
+     * @return the array holding the elements of this list.
+     */
+    @Override
+    public Object[] toArray() {
+        return read(list::toArray);
+    }
+    
+    /**
+     * Returns the array holding the elements of this list, reusing {@code a}
+     * if it is large enough. Runs in linear time under an optimistic read.
+     * 
+     * @param <T> the array component type.
+     * @param a   the input array.
+     * @return the array holding the elements of this list.
+     */
+    @Override
+    public <T> T[] toArray(T[] a) {
+        return read(() -> list.toArray(a));
+    }
+    
+    /**
+     * Distributes the fingers evenly once the number of single-element 
+     * modifications exceeds the size of the list. Since the fingers are frozen,
+     * they do not adapt to the access pattern and would otherwise degrade 
+     * after many insertions and removals. Amortizes to constant time per 
+     * modification. Must be called under the write lock.
+     */
+    private void optimizeIfNeeded() {
+        if (++modificationsSinceOptimization > list.size) {
+            list.optimize();
+            modificationsSinceOptimization = 0;
+        }
+    }
+    
+    /**
+     * Runs {@code reader} under an optimistic read, and if a writer intervened,
+     * runs it again under the read lock. An exception thrown by 
+     * {@code reader} during a failed optimistic read is discarded, since it
+     * may stem from observing the list in an inconsistent state.
+     * 
+     * @param <T>    the result type.
+     * @param reader the read operation.
+     * @return the result of {@code reader}.
+     */
+    private <T> T read(Supplier<T> reader) {
+        long stamp = lock.tryOptimisticRead();
+        
+        if (stamp != 0L) {
+            try {
+                T result = reader.get();
+                
+                if (lock.validate(stamp)) {
+                    return result;
+                }
+            } catch (RuntimeException ex) {
+                if (lock.validate(stamp)) {
+                    throw ex;
+                }
+            }
+        }
+        
+        stamp = lock.readLock();
+        
+        try {
+            return reader.get();
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+}
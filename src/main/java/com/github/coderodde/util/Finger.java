@@ -26,7 +26,9 @@ package com.github.coderodde.util;
 import java.util.Objects;
 
 /**
- * This static inner class implements the actual finger.
+ * This static inner class implements a snapshot of a finger. The finger list
+ * itself stores the finger indices and nodes in parallel arrays; this class is 
+ * used for returning and printing individual fingers.
  *
  * @param <E> the type of the list's satellite data.
  */
@@ -45,9 +45,93 @@ final class FingerList<E> {
     private static final int INITIAL_CAPACITY = 8;
 
     /**
-     * The actual list storage array.
+     * The element indices of the fingers. The {@code i}th finger points to the
+     * {@code fingerIndexArray[i]}th list element. Stored separately from the
+     * finger nodes so that the binary search over the finger indices scans a 
+     * contiguous {@code int} array.
      */
-    Finger<E>[] fingerArray = new Finger[INITIAL_CAPACITY];
+    int[] fingerIndexArray = new int[INITIAL_CAPACITY];
+    
+    /**
+     * The nodes of the fingers. The {@code i}th finger points to the node
+     * {@code fingerNodeArray[i]}.
+     */
+    Node<E>[] fingerNodeArray = new Node[INITIAL_CAPACITY];
+    
+    /**
+     * Indicates whether the finger index shifts are applied lazily.
+     */
+    private boolean lazyIndices;
+    
+    /**
+     * Indicates whether the node lookups leave the fingers where they are.
+     */
+    private boolean frozen;
+    
+    /**
+     * The Fenwick tree over the pending finger index shifts. The pending shift
+     * of the {@code i}th finger is the prefix sum of the tree up to {@code i}.
+     * Is {@code null} when the lazy indices are not enabled.
+     */
+    private int[] pendingShiftTree;
+    
+    /**
+     * The point deltas of the pending finger index shifts. Mirrors 
+     * {@link #pendingShiftTree} and allows flushing in linear time.
+     */
+    private int[] pendingShiftDeltas;
+    
+    /**
+     * Indicates whether there are pending finger index shifts not yet 
+     * materialized into the fingers.
+     */
+    private boolean hasPendingShifts;
+    
+    /**
+     * The algorithm used for searching the fingers.
+     */
+    private FingerSearchStrategy searchStrategy = FingerSearchStrategy.BINARY;
+    
+    /**
+     * The shadow array of the finger indices in the Eytzinger order. The root
+     * of the implicit search tree resides at index 1. Is {@code null} unless
+     * the search strategy is {@link FingerSearchStrategy#EYTZINGER}.
+     */
+    private int[] eytzingerArray;
+    
+    /**
+     * Maps each Eytzinger slot to the index of the finger it mirrors.
+     */
+    private int[] eytzingerToFingerIndex;
+    
+    /**
+     * Maps each finger index to the Eytzinger slot mirroring it.
+     */
+    private int[] fingerIndexToEytzinger;
+    
+    /**
+     * The number of fingers, including the end-of-finger-list sentinel, in 
+     * the Eytzinger shadow array.
+     */
+    private int eytzingerSize;
+    
+    /**
+     * Indicates whether the Eytzinger shadow array is in sync with 
+     * {@link #fingerIndexArray}.
+     */
+    private boolean eytzingerValid;
+    
+    /**
+     * The finger traversal counters indexed by the constants of 
+     * {@link FingerMetrics}, or {@code null} if the metrics are disabled.
+     */
+    private long[] metricCounters;
+    
+    /**
+     * The histogram of the node hops per lookup. Is {@code null} if the 
+     * metrics are disabled.
+     */
+    private long[] hopHistogram;
     
     /**
      * Constructs this finger list setting it to empty.
@@ -56,7 +140,6 @@ final class FingerList<E> {
      */
     FingerList(IndexedLinkedList<E> list) {
         this.list = list;
-        this.fingerArray[0] = new Finger<>(null, 0);
     }
     
     @Override
@@ -75,12 +158,19 @@ final class FingerList<E> {
         
         final FingerList<E> other = (FingerList<E>) o;
         
+        flushPendingShifts();
+        other.flushPendingShifts();
+        
         if (size != other.size) {
             return false;
         }
         
         for (int i = 0; i < size; i++) {
-            if (!Objects.equals(fingerArray[i], other.fingerArray[i])) {
+            if (fingerIndexArray[i] != other.fingerIndexArray[i]) {
+                return false;
+            }
+            
+            if (!Objects.equals(fingerNodeArray[i], other.fingerNodeArray[i])) {
                 return false;
             }
         }
@@ -90,6 +180,7 @@ final class FingerList<E> {
 
     @Override
     public String toString() {
+        flushPendingShifts();
         StringBuilder sb = new StringBuilder().append("[");
         boolean first = true;
 
@@ -100,7 +191,7 @@ final class FingerList<E> {
                 sb.append(", ");
             }
 
-            sb.append(fingerArray[i].toString());
+            sb.append(get(i).toString());
         }
 
         return sb.append("]").toString();
@@ -119,13 +210,11 @@ final class FingerList<E> {
         int lastPrefixIndex = Integer.MAX_VALUE;
 
         for (int i = 0; i < size; ++i) {
-            Finger<E> finger = fingerArray[i];
-
-            if (finger.index != i) {
+            if (getElementIndex(i) != i) {
                 lastPrefixIndex = i;
                 break;
             } else {
-                finger.node = finger.node.next;
+                fingerNodeArray[i] = fingerNodeArray[i].next;
             }
         }
 
@@ -133,16 +222,41 @@ final class FingerList<E> {
     }
     
     /**
-     * Appends the input finger to the tail of the finger list.
+     * Adjusts the finger list after removing the last element. The fingers 
+     * packed against the removed tail node are moved one position to the 
+     * left, so that none of them keeps pointing to the unlinked node. Must be
+     * called after the size of the owner list is decremented, and before the
+     * removed node is recycled.
+     */
+    void adjustOnRemoveLast() {
+        for (int i = size - 1; i >= 0; --i) {
+            int elementIndex = getElementIndex(i);
+            
+            if (elementIndex != list.size - (size - 1 - i)) {
+                break;
+            }
+            
+            fingerNodeArray[i] = fingerNodeArray[i].prev;
+            setElementIndex(i, elementIndex - 1);
+        }
+    }
+    
+    /**
+     * Appends a finger pointing to the node {@code node} at the element index
+     * {@code index} to the tail of the finger list.
      *
-     * @param finger the finger to append.
+     * @param node  the node of the new finger.
+     * @param index the element index of the new finger.
      */
-    void appendFinger(Finger<E> finger) {
+    void appendFinger(Node<E> node, int index) {
+        flushPendingShifts();
+        eytzingerValid = false;
         size++;
         enlargeFingerArrayIfNeeded(size + 1);
-        fingerArray[size] = fingerArray[size - 1];
-        fingerArray[size - 1] = finger;
-        fingerArray[size].index = list.size;
+        fingerNodeArray[size] = null;
+        fingerIndexArray[size] = list.size;
+        fingerNodeArray[size - 1] = node;
+        fingerIndexArray[size - 1] = index;
     }
 
     /**
@@ -151,10 +265,16 @@ final class FingerList<E> {
      * tests.
      */
     void clear() {
-        Arrays.fill(fingerArray, 0, size, null);
-        fingerArray = new Finger[INITIAL_CAPACITY];
-        fingerArray[0] = new Finger<>(null, 0);
+        Arrays.fill(fingerNodeArray, 0, size, null);
+        fingerIndexArray = new int[INITIAL_CAPACITY];
+        fingerNodeArray = new Node[INITIAL_CAPACITY];
         size = 0;
+        eytzingerValid = false;
+        hasPendingShifts = false;
+        
+        if (lazyIndices) {
+            allocatePendingShiftArrays();
+        }
     }
 
     /**
@@ -167,10 +287,10 @@ final class FingerList<E> {
      */
     void contractFingerArrayIfNeeded(int nextSize) {
         // Can we contract at least once?
-        if ((nextSize + 1) * 4 < fingerArray.length
-                && fingerArray.length > INITIAL_CAPACITY) {
+        if ((nextSize + 1) * 4 < fingerIndexArray.length
+                && fingerIndexArray.length > INITIAL_CAPACITY) {
 
-            int nextCapacity = fingerArray.length / 2;
+            int nextCapacity = fingerIndexArray.length / 2;
 
             // Good, we can. But can we keep on splitting in half the 
             // capacity any further?
@@ -180,7 +300,13 @@ final class FingerList<E> {
                 nextCapacity /= 2;
             }
 
-            fingerArray = Arrays.copyOf(fingerArray, nextCapacity);
+            flushPendingShifts();
+            fingerIndexArray = Arrays.copyOf(fingerIndexArray, nextCapacity);
+            fingerNodeArray = Arrays.copyOf(fingerNodeArray, nextCapacity);
+            
+            if (lazyIndices) {
+                allocatePendingShiftArrays();
+            }
         }
     }
 
@@ -192,25 +318,32 @@ final class FingerList<E> {
      * sentinel finger.
      */
     private void enlargeFingerArrayIfNeeded(int requestedSize) {
-        int nextCapacity = fingerArray.length;
+        int nextCapacity = fingerIndexArray.length;
 
         while (requestedSize > nextCapacity) {
             nextCapacity *= 2;
         }
 
-        if (nextCapacity != fingerArray.length) {
-            fingerArray = Arrays.copyOf(fingerArray, nextCapacity);
+        if (nextCapacity != fingerIndexArray.length) {
+            flushPendingShifts();
+            fingerIndexArray = Arrays.copyOf(fingerIndexArray, nextCapacity);
+            fingerNodeArray = Arrays.copyOf(fingerNodeArray, nextCapacity);
+            
+            if (lazyIndices) {
+                allocatePendingShiftArrays();
+            }
         }
     }
     
     /**
-     * Returns {@code index}th finger.
+     * Returns a snapshot of the {@code index}th finger. Modifying the returned
+     * finger does not affect this finger list.
      *
      * @param index the index of the target finger.
      * @return the {@code index}th finger.
      */
     Finger<E> get(int index) {
-        return fingerArray[index];
+        return new Finger<>(fingerNodeArray[index], getElementIndex(index));
     }
 
     /**
@@ -227,8 +360,8 @@ final class FingerList<E> {
 
     /**
      * Returns the finger index {@code i}, such that
-     * {@code fingerArray[i].index} is no less than {@code elementIndex}, and
-     * {@code fingerArray[i].index} is closest to {@code elementIndex}. This
+     * {@code fingerIndexArray[i]} is no less than {@code elementIndex}, and
+     * {@code fingerIndexArray[i]} is closest to {@code elementIndex}. This
      * algorithm is translated from
      * <a href="https://en.cppreference.com/w/cpp/algorithm/lower_bound">C++
      * <code>lower_bound</code> algorithm</a>.
@@ -239,6 +372,182 @@ final class FingerList<E> {
      * finger.
      */
     int getFingerIndexImpl(int elementIndex) {
+        if (metricCounters != null) {
+            recordFingerSearch(elementIndex);
+        }
+        
+        if (hasPendingShifts) {
+            return getFingerIndexImplLazy(elementIndex);
+        }
+        
+        switch (searchStrategy) {
+            case BRANCHLESS:
+                return getFingerIndexImplBranchless(elementIndex);
+                
+            case EYTZINGER:
+                return getFingerIndexImplEytzinger(elementIndex);
+        }
+        
+        int count = size + 1; // + 1 for the end sentinel.
+        int idx = 0;
+
+        while (count > 0) {
+            int it = idx;
+            int step = count / 2;
+            it += step;
+
+            if (fingerIndexArray[it] < elementIndex) {
+                idx = ++it;
+                count -= step + 1;
+            } else {
+                count = step;
+            }
+        }
+
+        return idx;
+    }
+    
+    /**
+     * Works like {@link #getFingerIndexImpl(int)}, but never rebuilds the 
+     * Eytzinger shadow array nor flushes the pending shifts. Thus, may be 
+     * called concurrently by multiple threads as long as no thread modifies 
+     * the owner list.
+     * 
+     * @param elementIndex the target element index.
+     * @return the index of the leftmost finger {@code f}, for which
+     *         {@code elementIndex <= f.index}.
+     */
+    int getFingerIndexReadOnly(int elementIndex) {
+        if (hasPendingShifts) {
+            return getFingerIndexImplLazy(elementIndex);
+        }
+        
+        return getFingerIndexImplBranchless(elementIndex);
+    }
+    
+    /**
+     * Does the same as {@link #getFingerIndexImpl(int)}, but without branching
+     * on the comparison results. The conditional in the loop body compiles to
+     * a conditional move.
+     * 
+     * @param elementIndex the target element index.
+     * @return the index of the leftmost finger {@code f}, for which
+     * {@code elementIndex <= f.index}.
+     */
+    private int getFingerIndexImplBranchless(int elementIndex) {
+        int[] indices = fingerIndexArray;
+        int count = size + 1; // + 1 for the end sentinel.
+        int base = 0;
+        
+        while (count > 1) {
+            int half = count >>> 1;
+            base = indices[base + half] < elementIndex ? base + half : base;
+            count -= half;
+        }
+        
+        return base + (indices[base] < elementIndex ? 1 : 0);
+    }
+    
+    /**
+     * Does the same as {@link #getFingerIndexImpl(int)}, but searches the 
+     * Eytzinger shadow array, rebuilding it first if needed.
+     * 
+     * @param elementIndex the target element index.
+     * @return the index of the leftmost finger {@code f}, for which
+     * {@code elementIndex <= f.index}.
+     */
+    private int getFingerIndexImplEytzinger(int elementIndex) {
+        if (!eytzingerValid || eytzingerSize != size + 1) {
+            buildEytzingerArray();
+        }
+        
+        int[] eytzinger = eytzingerArray;
+        int n = eytzingerSize;
+        int k = 1;
+        
+        while (k <= n) {
+            k = 2 * k + (eytzinger[k] < elementIndex ? 1 : 0);
+        }
+        
+        // Cancel the trailing right turns and the last left turn:
+        k >>>= Integer.numberOfTrailingZeros(~k) + 1;
+        return k == 0 ? n : eytzingerToFingerIndex[k];
+    }
+    
+    /**
+     * Rebuilds the Eytzinger shadow array from {@link #fingerIndexArray}. Runs
+     * in \(\mathcal{O}(f)\) time, where \(f\) is the number of fingers.
+     */
+    private void buildEytzingerArray() {
+        int n = size + 1;
+        
+        if (eytzingerArray == null || eytzingerArray.length < n + 1) {
+            int capacity = fingerIndexArray.length + 1;
+            eytzingerArray = new int[capacity];
+            eytzingerToFingerIndex = new int[capacity];
+            fingerIndexToEytzinger = new int[capacity];
+        }
+        
+        eytzingerSize = n;
+        buildEytzingerArray(0, 1);
+        eytzingerValid = true;
+    }
+    
+    /**
+     * Fills the subtree rooted at the Eytzinger slot {@code k} with the 
+     * fingers starting from {@code fingerIndex} in an in-order fashion.
+     * 
+     * @param fingerIndex the index of the next finger to place.
+     * @param k           the root slot of the subtree.
+     * @return the index of the next finger to place after the subtree.
+     */
+    private int buildEytzingerArray(int fingerIndex, int k) {
+        if (k <= eytzingerSize) {
+            fingerIndex = buildEytzingerArray(fingerIndex, 2 * k);
+            eytzingerArray[k] = fingerIndexArray[fingerIndex];
+            eytzingerToFingerIndex[k] = fingerIndex;
+            fingerIndexToEytzinger[fingerIndex] = k;
+            fingerIndex = buildEytzingerArray(fingerIndex + 1, 2 * k + 1);
+        }
+        
+        return fingerIndex;
+    }
+    
+    /**
+     * Returns the current finger search strategy.
+     * 
+     * @return the finger search strategy.
+     */
+    FingerSearchStrategy getSearchStrategy() {
+        return searchStrategy;
+    }
+    
+    /**
+     * Sets the finger search strategy.
+     * 
+     * @param searchStrategy the new finger search strategy.
+     */
+    void setSearchStrategy(FingerSearchStrategy searchStrategy) {
+        this.searchStrategy = Objects.requireNonNull(searchStrategy);
+        
+        if (searchStrategy != FingerSearchStrategy.EYTZINGER) {
+            eytzingerArray = null;
+            eytzingerToFingerIndex = null;
+            fingerIndexToEytzinger = null;
+        }
+        
+        eytzingerValid = false;
+    }
+    
+    /**
+     * Does the same as {@link #getFingerIndexImpl(int)}, but materializes the
+     * pending finger index shifts of each probed finger on the fly.
+     * 
+     * @param elementIndex the target element index.
+     * @return the index of the leftmost finger {@code f}, for which
+     * {@code elementIndex <= f.index}.
+     */
+    private int getFingerIndexImplLazy(int elementIndex) {
         int count = size + 1; // + 1 for the end sentinel.
         int idx = 0;
 
@@ -247,7 +556,7 @@ final class FingerList<E> {
             int step = count / 2;
             it += step;
 
-            if (fingerArray[it].index < elementIndex) {
+            if (fingerIndexArray[it] + getPendingShift(it) < elementIndex) {
                 idx = ++it;
                 count -= step + 1;
             } else {
@@ -267,9 +576,9 @@ final class FingerList<E> {
      * @return the {@code index}th node.
      */
     Node<E> getNodeNoFingersFix(int index) {
-        Finger finger = fingerArray[getClosestFingerIndex(index)];
-        int steps = finger.index - index;
-        Node<E> node = finger.node;
+        int fingerIndex = getClosestFingerIndex(index);
+        int steps = getElementIndex(fingerIndex) - index;
+        Node<E> node = fingerNodeArray[fingerIndex];
         
         if (steps > 0) {
             for (int i = 0; i < steps; i++) {
@@ -285,14 +594,67 @@ final class FingerList<E> {
     }
     
     /**
-     * Returns the {@code i}th node of this linked list. The closest finger is
-     * updated to point to the returned node.
+     * Returns the {@code i}th node of this linked list. Unlike 
+     * {@link #getNodeNoFingersFix(int)}, writes nothing at all, and so may be
+     * called concurrently by multiple threads as long as no thread modifies
+     * the owner list. Walks from the closest finger, the head or the tail, 
+     * whichever is closest to the target node.
+     * 
+     * @param elementIndex the element index.
+     * @return the {@code index}th node in the linked list.
+     */
+    Node<E> getNodeReadOnly(int elementIndex) {
+        if (size == 0) {
+            return list.getNodeSequentially(elementIndex);
+        }
+        
+        int fingerIndex = normalize(getFingerIndexReadOnly(elementIndex), 
+                                    elementIndex);
+        
+        int steps = getElementIndex(fingerIndex) - elementIndex;
+        int tailDistance = list.size - 1 - elementIndex;
+        Node<E> node;
+        
+        if (elementIndex < Math.abs(steps)) {
+            node = list.head;
+            steps = -elementIndex;
+        } else if (tailDistance < Math.abs(steps)) {
+            node = list.tail;
+            steps = tailDistance;
+        } else {
+            node = fingerNodeArray[fingerIndex];
+        }
+        
+        if (steps > 0) {
+            for (int i = 0; i < steps; i++) {
+                node = node.prev;
+            }
+        } else {
+            for (int i = 0; i < -steps; i++) {
+                node = node.next;
+            }
+        }
+
+        return node;
+    }
+    
+    /**
+     * Returns the {@code i}th node of this linked list. Unless the fingers are
+     * frozen, the closest finger is updated to point to the returned node.
      *
      * @param elementIndex the element index.
      * @return the {@code index}th node in the linked list.
      */
     Node<E> getNode(int elementIndex) {
+        if (frozen) {
+            return getNodeReadOnly(elementIndex);
+        }
+        
         if (size < 3) {
+            if (metricCounters != null) {
+                recordNodeLookup(0, elementIndex);
+            }
+            
             // We need at least 3 fingers to do the actual trick:
             return list.getNodeSequentially(elementIndex);
         }
@@ -308,37 +670,51 @@ final class FingerList<E> {
             return getSuffixNode(elementIndex);
         }
 
-        Finger a = fingerArray[fingerIndex - 1];
-        Finger b = fingerArray[fingerIndex];
-        Finger c = fingerArray[fingerIndex + 1];
+        int aIndex = getElementIndex(fingerIndex - 1);
+        int cIndex = getElementIndex(fingerIndex + 1);
 
-        int diff = c.index - a.index;
+        int diff = cIndex - aIndex;
         int step = diff / 2;
-        int saveBIndex = b.index;
-        int nextBIndex = a.index + step;
+        int saveBIndex = getElementIndex(fingerIndex);
+        int nextBIndex = aIndex + step;
 
-        b.index = nextBIndex;
+        setElementIndex(fingerIndex, nextBIndex);
+        
+        Node<E> bNode = fingerNodeArray[fingerIndex];
 
         // Rewind the finger b node:
         if (saveBIndex < nextBIndex) {
             for (int i = 0; i != nextBIndex - saveBIndex; i++) {
-                b.node = b.node.next;
+                bNode = bNode.next;
             }
         } else {
             // Here, 'saveBIndex >= nextBIndex':
             for (int i = 0; i != saveBIndex - nextBIndex; i++) {
-                b.node = b.node.prev;
+                bNode = bNode.prev;
             }
         }
+        
+        fingerNodeArray[fingerIndex] = bNode;
+        
+        if (metricCounters != null) {
+            recordNodeLookup(Math.abs(nextBIndex - saveBIndex),
+                             elementIndex < nextBIndex ?
+                                     getWalkLength(aIndex, 
+                                                   nextBIndex, 
+                                                   elementIndex) :
+                                     getWalkLength(nextBIndex,
+                                                   cIndex,
+                                                   elementIndex));
+        }
 
         // Go fetch the correct node:
         if (elementIndex < nextBIndex) {
             // Here, the desired element is between a and b:
-            int leftDistance = elementIndex - a.index;
-            int rightDistance = b.index - elementIndex;
+            int leftDistance = elementIndex - aIndex;
+            int rightDistance = nextBIndex - elementIndex;
 
             if (leftDistance < rightDistance) {
-                Node<E> node = a.node;
+                Node<E> node = fingerNodeArray[fingerIndex - 1];
 
                 for (int i = 0; i != leftDistance; i++) {
                     node = node.next;
@@ -346,7 +722,7 @@ final class FingerList<E> {
 
                 return node;
             } else {
-                Node<E> node = b.node;
+                Node<E> node = bNode;
                 // TODO: Replace saveBIndex - elementIndex with rightDistance?
                 for (int i = 0; i != rightDistance; i++) {
                     node = node.prev;
@@ -356,11 +732,11 @@ final class FingerList<E> {
             }
         } else {
             // Here, the desired element is between c and b:
-            int leftDistance = elementIndex - b.index;
-            int rightDistance = c.index - elementIndex;
+            int leftDistance = elementIndex - nextBIndex;
+            int rightDistance = cIndex - elementIndex;
 
             if (leftDistance < rightDistance) {
-                Node<E> node = b.node;
+                Node<E> node = bNode;
 
                 for (int i = 0; i != leftDistance; i++) {
                     node = node.next;
@@ -368,7 +744,7 @@ final class FingerList<E> {
 
                 return node;
             } else {
-                Node<E> node = c.node;
+                Node<E> node = fingerNodeArray[fingerIndex + 1];
 
                 for (int i = 0; i != rightDistance; i++) {
                     node = node.prev;
@@ -387,15 +763,15 @@ final class FingerList<E> {
      * @return the node corresponding to the {@code elementIndex}th position.
      */
     private Node<E> getPrefixNode(int elementIndex) {
-        Finger<E> a = fingerArray[0];
-        Finger<E> b = fingerArray[1];
-        Node<E> aNode = a.node;
+        Node<E> aNode = fingerNodeArray[0];
+
+        int bIndex = getElementIndex(1);
 
         // Put a between b and the beginning of the list:
-        int nextAIndex = b.index / 2;
-        int saveAIndex = a.index;
+        int nextAIndex = bIndex / 2;
+        int saveAIndex = getElementIndex(0);
 
-        a.index = nextAIndex;
+        setElementIndex(0, nextAIndex);
 
         if (saveAIndex < nextAIndex) {
             // Here, we need to rewind to the right:
@@ -410,7 +786,18 @@ final class FingerList<E> {
             }
         }
 
-        a.node = aNode;
+        fingerNodeArray[0] = aNode;
+        
+        if (metricCounters != null) {
+            recordNodeLookup(Math.abs(nextAIndex - saveAIndex),
+                             elementIndex < nextAIndex ?
+                                     getWalkLength(0, 
+                                                   nextAIndex, 
+                                                   elementIndex) :
+                                     getWalkLength(nextAIndex,
+                                                   bIndex,
+                                                   elementIndex));
+        }
 
         // Go get the proper node:
         if (elementIndex < nextAIndex) {
@@ -439,7 +826,7 @@ final class FingerList<E> {
         } else {
             // Here, 'elementIndex >= nextAIndex':
             int leftDistance = elementIndex - nextAIndex;
-            int rightDistance = b.index - elementIndex;
+            int rightDistance = bIndex - elementIndex;
 
             if (leftDistance < rightDistance) {
                 // Once here, rewind the node reference from aNode to the 
@@ -453,7 +840,7 @@ final class FingerList<E> {
                 return node;
             } else {
                 // Once here, rewind the node refrence from b to the left:
-                Node<E> node = b.node;
+                Node<E> node = fingerNodeArray[1];
 
                 for (int i = 0; i != rightDistance; i++) {
                     node = node.prev;
@@ -472,14 +859,13 @@ final class FingerList<E> {
      * @return the {@code elementIndex}th node.
      */
     private Node<E> getSuffixNode(int elementIndex) {
-        Finger<E> a = fingerArray[size - 2];
-        Finger<E> b = fingerArray[size - 1];
-        Node<E> bNode = b.node;
+        Node<E> bNode = fingerNodeArray[size - 1];
 
-        int saveBIndex = b.index;
-        int nextBIndex = (a.index + list.size) / 2;
+        int aIndex = getElementIndex(size - 2);
+        int saveBIndex = getElementIndex(size - 1);
+        int nextBIndex = (aIndex + list.size) / 2;
 
-        b.index = nextBIndex;
+        setElementIndex(size - 1, nextBIndex);
 
         // Rewind the finger 'b' to between 'a' and tail:
         if (saveBIndex < nextBIndex) {
@@ -497,16 +883,27 @@ final class FingerList<E> {
             }
         }
 
-        b.node = bNode;
+        fingerNodeArray[size - 1] = bNode;
+        
+        if (metricCounters != null) {
+            recordNodeLookup(Math.abs(nextBIndex - saveBIndex),
+                             elementIndex < nextBIndex ?
+                                     getWalkLength(aIndex, 
+                                                   nextBIndex, 
+                                                   elementIndex) :
+                                     getWalkLength(nextBIndex,
+                                                   list.size - 1,
+                                                   elementIndex));
+        }
 
         // Go get the proper node:
         if (elementIndex < nextBIndex) {
             // Here, the desired element node is between 'a' and 'b':
-            int leftDistance = elementIndex - a.index;
+            int leftDistance = elementIndex - aIndex;
             int rightDistance = nextBIndex - elementIndex;
 
             if (leftDistance < rightDistance) {
-                Node<E> node = a.node;
+                Node<E> node = fingerNodeArray[size - 2];
 
                 for (int i = 0; i != leftDistance; i++) {
                     node = node.next;
@@ -514,7 +911,7 @@ final class FingerList<E> {
 
                 return node;
             } else {
-                Node<E> node = b.node;
+                Node<E> node = bNode;
 
                 for (int i = 0; i != rightDistance; i++) {
                     node = node.prev;
@@ -553,27 +950,33 @@ final class FingerList<E> {
     }
 
     /**
-     * Inserts the input finger into the finger list such that the entire finger
-     * list is sorted by indices.
+     * Inserts a finger pointing to the node {@code node} at the element index
+     * {@code index} into the finger list such that the entire finger list is 
+     * sorted by indices.
      *
-     * @param finger the finger to insert.
+     * @param node  the node of the new finger.
+     * @param index the element index of the new finger.
      */
-    void insertFingerAndShiftOnceToRight(Finger<E> finger) {
+    void insertFingerAndShiftOnceToRight(Node<E> node, int index) {
+        flushPendingShifts();
         enlargeFingerArrayIfNeeded(size + 2);
-        int beforeFingerIndex = getFingerIndexImpl(finger.index);
-        System.arraycopy(
-                fingerArray,
-                beforeFingerIndex,
-                fingerArray,
-                beforeFingerIndex + 1,
-                size + 1 - beforeFingerIndex);
+        int beforeFingerIndex = getFingerIndexImpl(index);
+        
+        if (metricCounters != null) {
+            recordShift(FingerMetrics.INSERTION_SHIFTS, beforeFingerIndex);
+        }
+        
+        moveFingers(beforeFingerIndex, 
+                    beforeFingerIndex + 1, 
+                    size + 1 - beforeFingerIndex);
 
         ++size;
 
-        // Shift fingerArray[beforeFingerIndex + 1 ... size] one position to 
+        // Shift fingers [beforeFingerIndex + 1 ... size] one position to 
         // the right (towards larger index values):
-        shiftFingerIndicesToRightOnce(beforeFingerIndex + 1);
-        fingerArray[beforeFingerIndex] = finger;
+        shiftFingerIndicesEagerly(beforeFingerIndex + 1, 1);
+        fingerNodeArray[beforeFingerIndex] = node;
+        fingerIndexArray[beforeFingerIndex] = index;
     }
     
     /**
@@ -590,15 +993,58 @@ final class FingerList<E> {
                              int roomSize,
                              int numberOfNodes) {
 
-        shiftFingerIndicesToRight(fingerIndex, numberOfNodes);
+        flushPendingShifts();
+        
+        if (metricCounters != null && numberOfNodes != 0) {
+            recordShift(FingerMetrics.INSERTION_SHIFTS, fingerIndex);
+        }
+        
+        shiftFingerIndicesEagerly(fingerIndex, numberOfNodes);
         size += roomSize;
         enlargeFingerArrayIfNeeded(size + 1); // +1 for the end of list
         // sentinel.
-        System.arraycopy(fingerArray,
-                         fingerIndex,
-                         fingerArray,
-                         fingerIndex + roomSize,
-                         size - roomSize - fingerIndex + 1);
+        moveFingers(fingerIndex, 
+                    fingerIndex + roomSize, 
+                    size - roomSize - fingerIndex + 1);
+    }
+    
+    /**
+     * Clears the fingers in the finger index range 
+     * {@code [fromFingerIndex, toFingerIndex)}.
+     * 
+     * @param fromFingerIndex the index of the first finger to clear.
+     * @param toFingerIndex   one past the index of the last finger to clear.
+     */
+    void clearFingers(int fromFingerIndex, int toFingerIndex) {
+        eytzingerValid = false;
+        Arrays.fill(fingerIndexArray, fromFingerIndex, toFingerIndex, 0);
+        Arrays.fill(fingerNodeArray, fromFingerIndex, toFingerIndex, null);
+    }
+    
+    /**
+     * Moves {@code length} fingers starting from the finger index 
+     * {@code sourceFingerIndex} to the finger index 
+     * {@code targetFingerIndex}. The source and target ranges may overlap.
+     * 
+     * @param sourceFingerIndex the index of the first finger to move.
+     * @param targetFingerIndex the index at which to move the first finger.
+     * @param length            the number of fingers to move.
+     */
+    void moveFingers(int sourceFingerIndex, 
+                     int targetFingerIndex, 
+                     int length) {
+        eytzingerValid = false;
+        System.arraycopy(fingerIndexArray,
+                         sourceFingerIndex, 
+                         fingerIndexArray, 
+                         targetFingerIndex, 
+                         length);
+        
+        System.arraycopy(fingerNodeArray,
+                         sourceFingerIndex, 
+                         fingerNodeArray, 
+                         targetFingerIndex, 
+                         length);
     }
     
     /**
@@ -622,11 +1068,8 @@ final class FingerList<E> {
             return size - 1;
         }
 
-        Finger finger1 = fingerArray[fingerIndex - 1];
-        Finger finger2 = fingerArray[fingerIndex];
-
-        int distance1 = elementIndex - finger1.index;
-        int distance2 = finger2.index - elementIndex;
+        int distance1 = elementIndex - getElementIndex(fingerIndex - 1);
+        int distance2 = getElementIndex(fingerIndex) - elementIndex;
 
         // Return the closest finger index:
         return distance1 < distance2 ? fingerIndex - 1 : fingerIndex;
@@ -639,11 +1082,17 @@ final class FingerList<E> {
      * @param node the target node.
      */
     void prependFingerForNode(Node<E> node) {
-        Finger<E> finger = new Finger<>(node, 0);
+        flushPendingShifts();
         enlargeFingerArrayIfNeeded(size + 2);
-        shiftFingerIndicesToRightOnce(0);
-        System.arraycopy(fingerArray, 0, fingerArray, 1, size + 1);
-        fingerArray[0] = finger;
+        
+        if (metricCounters != null) {
+            recordShift(FingerMetrics.INSERTION_SHIFTS, 0);
+        }
+        
+        shiftFingerIndicesEagerly(0, 1);
+        moveFingers(0, 1, size + 1);
+        fingerNodeArray[0] = node;
+        fingerIndexArray[0] = 0;
         size++;
     }
 
@@ -652,21 +1101,28 @@ final class FingerList<E> {
      * sentinel finger.
      */
     void removeFinger() {
+        flushPendingShifts();
+        eytzingerValid = false;
         contractFingerArrayIfNeeded(--size);
-        fingerArray[size] = fingerArray[size + 1];
-        fingerArray[size + 1] = null;
-        fingerArray[size].index = list.size;
+        fingerNodeArray[size] = null;
+        fingerIndexArray[size] = list.size;
+        fingerNodeArray[size + 1] = null;
+        fingerIndexArray[size + 1] = 0;
     }
 
     /**
-     * Sets the finger {@code finger} to the finger array at index
-     * {@code index}.
+     * Sets the {@code index}th finger to point to the node {@code node} at the
+     * element index {@code elementIndex}.
      *
-     * @param index the index of the finger list component.
-     * @param finger the target finger to set.
+     * @param index        the index of the finger list component.
+     * @param node         the node of the finger.
+     * @param elementIndex the element index of the finger.
      */
-    void setFinger(int index, Finger<E> finger) {
-        fingerArray[index] = finger;
+    void setFinger(int index, Node<E> node, int elementIndex) {
+        flushPendingShifts();
+        eytzingerValid = false;
+        fingerNodeArray[index] = node;
+        fingerIndexArray[index] = elementIndex;
     }
     
     /**
@@ -676,13 +1132,14 @@ final class FingerList<E> {
      * @param indices the target indices.
      */
     void setFingerIndices(int... indices) {
+        flushPendingShifts();
         Arrays.sort(indices);
+        eytzingerValid = false;
         int fingerIndex = 0;
         
         for (final int index : indices) {
-            final Finger<E> finger = fingerArray[fingerIndex++];
-            finger.index = index;
-            finger.node = getNodeSequentially(index);
+            fingerNodeArray[fingerIndex] = getNodeSequentially(index);
+            fingerIndexArray[fingerIndex++] = index;
         }
     }
     
@@ -706,8 +1163,14 @@ final class FingerList<E> {
      * @param shiftLength the length of the shift operation.
      */
     void shiftFingerIndicesToLeft(int startFingerIndex, int shiftLength) {
-        for (int i = startFingerIndex; i <= size; ++i) {
-            fingerArray[i].index -= shiftLength;
+        if (metricCounters != null) {
+            recordShift(FingerMetrics.REMOVAL_SHIFTS, startFingerIndex);
+        }
+        
+        if (lazyIndices) {
+            addPendingShift(startFingerIndex, -shiftLength);
+        } else {
+            shiftFingerIndicesEagerly(startFingerIndex, -shiftLength);
         }
     }
 
@@ -718,8 +1181,14 @@ final class FingerList<E> {
      * @param startFingerIndex the index of the leftmost finger to shift.
      */
     void shiftFingerIndicesToLeftOnceAll(int startFingerIndex) {
-        for (int i = startFingerIndex; i <= size; ++i) {
-            fingerArray[i].index--;
+        if (metricCounters != null) {
+            recordShift(FingerMetrics.REMOVAL_SHIFTS, startFingerIndex);
+        }
+        
+        if (lazyIndices) {
+            addPendingShift(startFingerIndex, -1);
+        } else {
+            shiftFingerIndicesEagerly(startFingerIndex, -1);
         }
     }
 
@@ -731,8 +1200,32 @@ final class FingerList<E> {
      * @param shiftLength the length of the shift operation.
      */
     void shiftFingerIndicesToRight(int startIndex, int shiftLength) {
+        if (metricCounters != null) {
+            recordShift(FingerMetrics.INSERTION_SHIFTS, startIndex);
+        }
+        
+        if (lazyIndices) {
+            addPendingShift(startIndex, shiftLength);
+        } else {
+            shiftFingerIndicesEagerly(startIndex, shiftLength);
+        }
+    }
+    
+    /**
+     * Adds {@code shiftLength} to the indices of all the fingers in range
+     * {@code [startIndex, size]} right away, bypassing the pending shifts.
+     * Used by the operations that rearrange the finger array and thus cannot
+     * tolerate pending shifts.
+     * 
+     * @param startIndex  the index of the leftmost finger to shift.
+     * @param shiftLength the length of the shift. Negative values shift to the
+     *                    left.
+     */
+    private void shiftFingerIndicesEagerly(int startIndex, int shiftLength) {
+        eytzingerValid = false;
+        
         for (int i = startIndex; i <= size; ++i) {
-            fingerArray[i].index += shiftLength;
+            fingerIndexArray[i] += shiftLength;
         }
     }
 
@@ -755,4 +1248,330 @@ final class FingerList<E> {
     int size() {
         return size;
     }
+    
+    /**
+     * Returns the element index of the {@code fingerIndex}th finger, taking
+     * into account the pending shifts. Runs in \(\mathcal{O}(\log f)\) time
+     * when there are pending shifts, where \(f\) is the number of fingers, and
+     * in constant time otherwise.
+     * 
+     * @param fingerIndex the index of the target finger.
+     * @return the element index of the target finger.
+     */
+    int getElementIndex(int fingerIndex) {
+        int index = fingerIndexArray[fingerIndex];
+        return hasPendingShifts ? index + getPendingShift(fingerIndex) : index;
+    }
+    
+    /**
+     * Sets the element index of the {@code fingerIndex}th finger, taking into
+     * account the pending shifts.
+     * 
+     * @param fingerIndex  the index of the target finger.
+     * @param elementIndex the new element index of the target finger.
+     */
+    void setElementIndex(int fingerIndex, int elementIndex) {
+        if (hasPendingShifts) {
+            elementIndex -= getPendingShift(fingerIndex);
+        }
+        
+        fingerIndexArray[fingerIndex] = elementIndex;
+        
+        if (eytzingerValid) {
+            // The finger keeps its rank, so patch only its own slot:
+            eytzingerArray[fingerIndexToEytzinger[fingerIndex]] = elementIndex;
+        }
+    }
+    
+    /**
+     * Returns the node of the {@code fingerIndex}th finger.
+     * 
+     * @param fingerIndex the index of the target finger.
+     * @return the node of the target finger.
+     */
+    Node<E> getFingerNode(int fingerIndex) {
+        return fingerNodeArray[fingerIndex];
+    }
+    
+    /**
+     * Sets the node of the {@code fingerIndex}th finger.
+     * 
+     * @param fingerIndex the index of the target finger.
+     * @param node        the new node of the target finger.
+     */
+    void setFingerNode(int fingerIndex, Node<E> node) {
+        fingerNodeArray[fingerIndex] = node;
+    }
+    
+    /**
+     * Returns {@code true} if and only if the node lookups leave the fingers 
+     * where they are.
+     * 
+     * @return {@code true} if the fingers are frozen.
+     */
+    boolean isFrozen() {
+        return frozen;
+    }
+    
+    /**
+     * Sets whether the node lookups leave the fingers where they are.
+     * 
+     * @param frozen the flag telling whether to freeze the fingers.
+     */
+    void setFrozen(boolean frozen) {
+        this.frozen = frozen;
+    }
+    
+    /**
+     * Returns {@code true} if and only if the finger traversal metrics are 
+     * recorded.
+     * 
+     * @return {@code true} if the metrics are enabled.
+     */
+    boolean hasMetrics() {
+        return metricCounters != null;
+    }
+    
+    /**
+     * Enables or disables recording the finger traversal metrics. Enabling 
+     * starts from zero counters; disabling discards the counters.
+     * 
+     * @param metrics the flag telling whether to record the metrics.
+     */
+    void setMetrics(boolean metrics) {
+        if (!metrics) {
+            metricCounters = null;
+            hopHistogram = null;
+        } else if (metricCounters == null) {
+            metricCounters = new long[FingerMetrics.NUMBER_OF_COUNTERS];
+            hopHistogram = new long[FingerMetrics.NUMBER_OF_HOP_BUCKETS];
+        }
+    }
+    
+    /**
+     * Returns a snapshot of the finger traversal metrics.
+     * 
+     * @return the metrics snapshot. All zeros if the metrics are disabled.
+     */
+    FingerMetrics getMetrics() {
+        return new FingerMetrics(metricCounters, hopHistogram, size, list.size);
+    }
+    
+    /**
+     * Sets all the finger traversal counters to zero, if enabled.
+     */
+    void resetMetrics() {
+        if (metricCounters != null) {
+            Arrays.fill(metricCounters, 0L);
+            Arrays.fill(hopHistogram, 0L);
+        }
+    }
+    
+    /**
+     * Records a node lookup. May be called only if the metrics are enabled.
+     * 
+     * @param rewindHops the number of hops made moving a finger.
+     * @param nodeHops   the number of hops made reaching the target node.
+     */
+    void recordNodeLookup(int rewindHops, int nodeHops) {
+        long[] counters = metricCounters;
+        counters[FingerMetrics.NODE_LOOKUPS]++;
+        counters[FingerMetrics.FINGER_REWIND_HOPS] += rewindHops;
+        counters[FingerMetrics.NODE_HOPS] += nodeHops;
+        hopHistogram[FingerMetrics.getHopBucket(rewindHops + nodeHops)]++;
+    }
+    
+    /**
+     * Records a finger search for {@code elementIndex} by replaying the 
+     * comparisons the current search strategy is about to make. Runs in 
+     * \(\mathcal{O}(\log f)\) time, where \(f\) is the number of fingers.
+     * 
+     * @param elementIndex the target element index.
+     */
+    private void recordFingerSearch(int elementIndex) {
+        int n = size + 1; // + 1 for the end sentinel.
+        int probes = 0;
+        
+        if (hasPendingShifts || searchStrategy == FingerSearchStrategy.BINARY) {
+            int count = n;
+            int idx = 0;
+            
+            while (count > 0) {
+                int step = count / 2;
+                int it = idx + step;
+                probes++;
+                
+                if (getElementIndex(it) < elementIndex) {
+                    idx = it + 1;
+                    count -= step + 1;
+                } else {
+                    count = step;
+                }
+            }
+        } else if (searchStrategy == FingerSearchStrategy.BRANCHLESS) {
+            // The loop halves the count down to one, and one more comparison 
+            // follows:
+            probes = Integer.SIZE - Integer.numberOfLeadingZeros(n - 1) + 1;
+        } else {
+            if (!eytzingerValid || eytzingerSize != n) {
+                buildEytzingerArray();
+            }
+            
+            for (int k = 1; 
+                    k <= n; 
+                    k = 2 * k + (eytzingerArray[k] < elementIndex ? 1 : 0)) {
+                probes++;
+            }
+        }
+        
+        metricCounters[FingerMetrics.FINGER_SEARCHES]++;
+        metricCounters[FingerMetrics.FINGER_SEARCH_PROBES] += probes;
+    }
+    
+    /**
+     * Records a shift of the finger indices starting from the finger 
+     * {@code startFingerIndex}.
+     * 
+     * @param counter          the index of the shift counter to increment.
+     * @param startFingerIndex the index of the leftmost shifted finger.
+     */
+    private void recordShift(int counter, int startFingerIndex) {
+        metricCounters[counter]++;
+        metricCounters[FingerMetrics.SHIFTED_FINGERS] += 
+                Math.max(0, size - startFingerIndex);
+    }
+    
+    /**
+     * Returns the number of hops needed to reach the element at 
+     * {@code elementIndex} from the closer of the two elements at 
+     * {@code leftIndex} and {@code rightIndex}.
+     * 
+     * @param leftIndex    the index of the left starting element.
+     * @param rightIndex   the index of the right starting element.
+     * @param elementIndex the index of the target element.
+     * @return the walk length.
+     */
+    private static int getWalkLength(int leftIndex, 
+                                     int rightIndex, 
+                                     int elementIndex) {
+        return Math.min(elementIndex - leftIndex, rightIndex - elementIndex);
+    }
+    
+    /**
+     * Returns {@code true} if and only if the finger index shifts are applied
+     * lazily.
+     * 
+     * @return {@code true} if the lazy finger indices are enabled.
+     */
+    boolean isLazyIndices() {
+        return lazyIndices;
+    }
+    
+    /**
+     * Enables or disables the lazy finger indices. When enabled, shifting the
+     * finger indices runs in \(\mathcal{O}(\log f)\) time instead of
+     * \(\mathcal{O}(f)\), where \(f\) is the number of fingers. The shifts 
+     * are materialized into the fingers before any operation that relies on
+     * the actual finger indices.
+     * 
+     * @param lazyIndices the lazy indices flag.
+     */
+    void setLazyIndices(boolean lazyIndices) {
+        if (this.lazyIndices == lazyIndices) {
+            return;
+        }
+        
+        if (lazyIndices) {
+            this.lazyIndices = true;
+            allocatePendingShiftArrays();
+        } else {
+            flushPendingShifts();
+            this.lazyIndices = false;
+            this.pendingShiftTree = null;
+            this.pendingShiftDeltas = null;
+        }
+    }
+    
+    /**
+     * Materializes all the pending finger index shifts into the actual fingers.
+     * Runs in \(\mathcal{O}(f)\) time, where \(f\) is the number of 
+     * fingers.
+     */
+    void flushPendingShifts() {
+        if (!hasPendingShifts) {
+            return;
+        }
+        
+        int shift = 0;
+        
+        for (int i = 0; i <= size; ++i) {
+            shift += pendingShiftDeltas[i];
+            fingerIndexArray[i] += shift;
+        }
+        
+        eytzingerValid = false;
+        
+        Arrays.fill(pendingShiftTree, 0);
+        Arrays.fill(pendingShiftDeltas, 0);
+        hasPendingShifts = false;
+    }
+    
+    /**
+     * Returns {@code true} only if there are pending finger index shifts not
+     * yet materialized into the fingers. Used in unit tests.
+     * 
+     * @return {@code true} only if there are pending shifts.
+     */
+    boolean hasPendingShifts() {
+        return hasPendingShifts;
+    }
+    
+    /**
+     * Allocates the pending shift arrays such that they match the capacity of
+     * the finger array.
+     */
+    private void allocatePendingShiftArrays() {
+        pendingShiftTree = new int[fingerIndexArray.length + 1];
+        pendingShiftDeltas = new int[fingerIndexArray.length];
+    }
+    
+    /**
+     * Records a pending shift of {@code shiftLength} positions for all the 
+     * fingers in range {@code [startFingerIndex, size]}.
+     * 
+     * @param startFingerIndex the index of the leftmost finger to shift.
+     * @param shiftLength      the length of the shift. Negative values shift
+     *                         to the left.
+     */
+    private void addPendingShift(int startFingerIndex, int shiftLength) {
+        if (startFingerIndex > size || shiftLength == 0) {
+            return;
+        }
+        
+        pendingShiftDeltas[startFingerIndex] += shiftLength;
+        
+        for (int i = startFingerIndex + 1; 
+                 i < pendingShiftTree.length; 
+                 i += i & -i) {
+            pendingShiftTree[i] += shiftLength;
+        }
+        
+        hasPendingShifts = true;
+    }
+    
+    /**
+     * Returns the pending shift of the {@code fingerIndex}th finger.
+     * 
+     * @param fingerIndex the index of the target finger.
+     * @return the pending shift.
+     */
+    private int getPendingShift(int fingerIndex) {
+        int shift = 0;
+        
+        for (int i = fingerIndex + 1; i > 0; i -= i & -i) {
+            shift += pendingShiftTree[i];
+        }
+        
+        return shift;
+    }
 }
@@ -0,0 +1,257 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2024 rodio.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.github.coderodde.util;
+
+import java.util.Arrays;
+
+/**
+ * This class holds an immutable snapshot of the finger traversal metrics of an
+ * {@link IndexedLinkedList}. The metrics count the work the finger list does:
+ * the probes of the finger searches, the node hops of the node lookups, and 
+ * the finger index shifts of the insertions and the removals. Together with 
+ * the number of fingers at the time of the snapshot, they tell how healthy the
+ * finger distribution is for the actual workload.
+ * 
+ * @see IndexedLinkedList#setFingerMetrics(boolean) 
+ */
+public final class FingerMetrics {
+    
+    static final int NODE_LOOKUPS = 0;
+    static final int NODE_HOPS = 1;
+    static final int FINGER_REWIND_HOPS = 2;
+    static final int FINGER_SEARCHES = 3;
+    static final int FINGER_SEARCH_PROBES = 4;
+    static final int INSERTION_SHIFTS = 5;
+    static final int REMOVAL_SHIFTS = 6;
+    static final int SHIFTED_FINGERS = 7;
+    static final int NUMBER_OF_COUNTERS = 8;
+    
+    /**
+     * The number of buckets in the histogram of the node hops per lookup.
+     */
+    static final int NUMBER_OF_HOP_BUCKETS = Integer.SIZE;
+    
+    /**
+     * The counters indexed by the constants above.
+     */
+    private final long[] counters;
+    
+    /**
+     * The histogram of the node hops per lookup.
+     */
+    private final long[] hopHistogram;
+    
+    /**
+     * The number of fingers at the time of the snapshot.
+     */
+    private final int numberOfFingers;
+    
+    /**
+     * The size of the list at the time of the snapshot.
+     */
+    private final int listSize;
+    
+    /**
+     * Constructs a snapshot by copying the input counters.
+     * 
+     * @param counters        the counters to copy, or {@code null} for all 
+     *                        zeros.
+     * @param hopHistogram    the hop histogram to copy, or {@code null} for 
+     *                        all zeros.
+     * @param numberOfFingers the current number of fingers.
+     * @param listSize        the current size of the list.
+     */
+    FingerMetrics(long[] counters, 
+                  long[] hopHistogram, 
+                  int numberOfFingers,
+                  int listSize) {
+        this.counters = counters == null ? 
+                        new long[NUMBER_OF_COUNTERS] : 
+                        counters.clone();
+        
+        this.hopHistogram = hopHistogram == null ? 
+                            new long[NUMBER_OF_HOP_BUCKETS] :
+                            hopHistogram.clone();
+        
+        this.numberOfFingers = numberOfFingers;
+        this.listSize = listSize;
+    }
+    
+    /**
+     * Returns the average number of node hops per node lookup, counting both
+     * the hops rewinding the fingers and the hops reaching the target node.
+     * 
+     * @return the average number of hops per lookup, or zero if there were no
+     *         lookups.
+     */
+    public double getAverageHopsPerLookup() {
+        long lookups = counters[NODE_LOOKUPS];
+        
+        if (lookups == 0L) {
+            return 0.0;
+        }
+        
+        return (double)(counters[NODE_HOPS] + counters[FINGER_REWIND_HOPS]) 
+                / lookups;
+    }
+    
+    /**
+     * Returns the number of {@code prev}/{@code next} hops made while moving
+     * the fingers towards their even positions during the node lookups.
+     * 
+     * @return the number of finger rewind hops.
+     */
+    public long getFingerRewindHops() {
+        return counters[FINGER_REWIND_HOPS];
+    }
+    
+    /**
+     * Returns the total number of the finger indices compared during the 
+     * finger searches.
+     * 
+     * @return the number of finger search probes.
+     */
+    public long getFingerSearchProbes() {
+        return counters[FINGER_SEARCH_PROBES];
+    }
+    
+    /**
+     * Returns the number of searches for the finger closest to an element 
+     * index.
+     * 
+     * @return the number of finger searches.
+     */
+    public long getFingerSearches() {
+        return counters[FINGER_SEARCHES];
+    }
+    
+    /**
+     * Returns the histogram of the node hops per lookup. The {@code 0}th 
+     * bucket counts the lookups that made no hops; the {@code i}th bucket, 
+     * {@code i > 0}, counts the lookups that made at least \(2^{i - 1}\) and 
+     * less than \(2^i\) hops.
+     * 
+     * @return a copy of the hop histogram.
+     */
+    public long[] getHopHistogram() {
+        return hopHistogram.clone();
+    }
+    
+    /**
+     * Returns the number of the finger index shifts caused by insertions.
+     * 
+     * @return the number of insertion shifts.
+     */
+    public long getInsertionShifts() {
+        return counters[INSERTION_SHIFTS];
+    }
+    
+    /**
+     * Returns the size of the list at the time of this snapshot.
+     * 
+     * @return the list size.
+     */
+    public int getListSize() {
+        return listSize;
+    }
+    
+    /**
+     * Returns the number of {@code prev}/{@code next} hops made while walking
+     * from a finger, the head or the tail to the target node.
+     * 
+     * @return the number of node hops.
+     */
+    public long getNodeHops() {
+        return counters[NODE_HOPS];
+    }
+    
+    /**
+     * Returns the number of node lookups by index.
+     * 
+     * @return the number of node lookups.
+     */
+    public long getNodeLookups() {
+        return counters[NODE_LOOKUPS];
+    }
+    
+    /**
+     * Returns the number of fingers at the time of this snapshot.
+     * 
+     * @return the number of fingers.
+     */
+    public int getNumberOfFingers() {
+        return numberOfFingers;
+    }
+    
+    /**
+     * Returns the number of the finger index shifts caused by removals.
+     * 
+     * @return the number of removal shifts.
+     */
+    public long getRemovalShifts() {
+        return counters[REMOVAL_SHIFTS];
+    }
+    
+    /**
+     * Returns the total number of fingers whose index was shifted by the 
+     * insertions and the removals. With the lazy finger indices, a shift 
+     * defers this work to the later finger searches.
+     * 
+     * @return the number of shifted fingers.
+     */
+    public long getShiftedFingers() {
+        return counters[SHIFTED_FINGERS];
+    }
+    
+    /**
+     * Returns the textual representation of this snapshot.
+     * 
+     * @return the textual representation.
+     */
+    @Override
+    public String toString() {
+        return "[FingerMetrics; size = " + listSize
+                + ", fingers = " + numberOfFingers
+                + ", lookups = " + counters[NODE_LOOKUPS]
+                + ", node hops = " + counters[NODE_HOPS]
+                + ", rewind hops = " + counters[FINGER_REWIND_HOPS]
+                + ", searches = " + counters[FINGER_SEARCHES]
+                + ", probes = " + counters[FINGER_SEARCH_PROBES]
+                + ", insertion shifts = " + counters[INSERTION_SHIFTS]
+                + ", removal shifts = " + counters[REMOVAL_SHIFTS]
+                + ", shifted fingers = " + counters[SHIFTED_FINGERS]
+                + ", hop histogram = " + Arrays.toString(hopHistogram)
+                + "]";
+    }
+    
+    /**
+     * Returns the index of the hop histogram bucket counting {@code hops}.
+     * 
+     * @param hops the number of hops of a lookup.
+     * @return the bucket index.
+     */
+    static int getHopBucket(int hops) {
+        return Integer.SIZE - Integer.numberOfLeadingZeros(hops);
+    }
+}
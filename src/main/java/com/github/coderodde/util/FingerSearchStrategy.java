@@ -0,0 +1,54 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2024 rodio.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.github.coderodde.util;
+
+/**
+ * This enumeration lists the algorithms for searching the finger closest to a
+ * given element index. All the strategies run in
+ * \(\mathcal{O}(\log \sqrt{n})\) time; they differ in how they access the
+ * memory.
+ */
+public enum FingerSearchStrategy {
+
+    /**
+     * The classic lower bound binary search over the sorted finger indices.
+     */
+    BINARY,
+
+    /**
+     * The lower bound binary search in which the loop body does not branch on
+     * the comparison result. Since the number of loop iterations depends only
+     * on the number of fingers, there are no mispredicted branches.
+     */
+    BRANCHLESS,
+
+    /**
+     * The lower bound search over a shadow array of the finger indices stored
+     * in the Eytzinger (BFS) order. The first levels of the implicit search
+     * tree share a few cache lines, and the children of a node are adjacent in
+     * memory, which makes the hardware prefetcher effective. The shadow array
+     * is rebuilt in linear time after the fingers are shifted.
+     */
+    EYTZINGER;
+}
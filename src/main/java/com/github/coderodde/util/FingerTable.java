@@ -0,0 +1,163 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2024 rodio.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.github.coderodde.util;
+
+import java.util.Arrays;
+
+/**
+ * This class implements an open addressing table of the finger nodes of an 
+ * {@link IndexedLinkedList}. It is used for turning a node back into its 
+ * element index by walking from the node to the closest finger. The loaded 
+ * node indices stay valid until the next structural modification of the 
+ * list, even if the fingers move in between, so a loaded table may serve the
+ * queries until the modification count of the list changes. The arrays are
+ * reused between the loads.
+ *
+ * @param <E> the list node item type.
+ */
+final class FingerTable<E> {
+    
+    /**
+     * The finger nodes. The {@code null} slots are free.
+     */
+    private Node<?>[] nodeTable = new Node<?>[0];
+    
+    /**
+     * The element indices of the nodes in {@link #nodeTable}.
+     */
+    private int[] indexTable = new int[0];
+    
+    /**
+     * Returns the element index of {@code node}. Walks from {@code node} in 
+     * both directions until reaching a finger or a list end, which takes 
+     * \(\mathcal{O}(\sqrt{n})\) steps when the fingers are evenly distributed.
+     * Expects the table to be loaded.
+     * 
+     * @param node     the node whose index to compute.
+     * @param listSize the size of the list holding {@code node}.
+     * @return the element index of {@code node}.
+     */
+    int getNodeIndex(Node<E> node, int listSize) {
+        int index = lookUp(node);
+        
+        if (index >= 0) {
+            return index;
+        }
+        
+        Node<E> forward = node;
+        Node<E> backward = node;
+        
+        for (int steps = 1; ; steps++) {
+            forward = forward.next;
+            
+            if (forward == null) {
+                return listSize - steps;
+            }
+            
+            index = lookUp(forward);
+            
+            if (index >= 0) {
+                return index - steps;
+            }
+            
+            backward = backward.prev;
+            
+            if (backward == null) {
+                return steps - 1;
+            }
+            
+            index = lookUp(backward);
+            
+            if (index >= 0) {
+                return index + steps;
+            }
+        }
+    }
+    
+    /**
+     * Loads the finger nodes and their element indices into this table. Runs
+     * in \(\mathcal{O}(\sqrt{n})\) time.
+     * 
+     * @param fingerList the finger list to load.
+     */
+    void load(FingerList<E> fingerList) {
+        int numberOfFingers = fingerList.size();
+        int capacity = Integer.highestOneBit(2 * numberOfFingers + 1) << 1;
+        
+        if (nodeTable.length < capacity) {
+            nodeTable = new Node<?>[capacity];
+            indexTable = new int[capacity];
+        } else {
+            Arrays.fill(nodeTable, null);
+        }
+        
+        int mask = nodeTable.length - 1;
+        
+        for (int i = 0; i < numberOfFingers; i++) {
+            Node<E> node = fingerList.getFingerNode(i);
+            int slot = getSlot(node, mask);
+            
+            while (nodeTable[slot] != null) {
+                slot = (slot + 1) & mask;
+            }
+            
+            nodeTable[slot] = node;
+            indexTable[slot] = fingerList.getElementIndex(i);
+        }
+    }
+    
+    /**
+     * Returns the slot of {@code node} in a table with {@code mask + 1} slots.
+     * 
+     * @param node the node to hash.
+     * @param mask the table capacity minus one.
+     * @return the home slot of {@code node}.
+     */
+    private static int getSlot(Object node, int mask) {
+        int hash = System.identityHashCode(node);
+        return (hash ^ (hash >>> 16)) & mask;
+    }
+    
+    /**
+     * Returns the element index of {@code node} if it is a finger node, or 
+     * {@code -1} otherwise.
+     * 
+     * @param node the node to look up.
+     * @return the element index of the finger node, or {@code -1}.
+     */
+    private int lookUp(Node<E> node) {
+        int mask = nodeTable.length - 1;
+        
+        for (int slot = getSlot(node, mask); 
+                nodeTable[slot] != null; 
+                slot = (slot + 1) & mask) {
+            
+            if (nodeTable[slot] == node) {
+                return indexTable[slot];
+            }
+        }
+        
+        return -1;
+    }
+}
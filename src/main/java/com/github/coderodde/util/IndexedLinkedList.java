@@ -1,24 +1,36 @@
 package com.github.coderodde.util;
 
+import java.lang.management.ManagementFactory;
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
 import java.lang.reflect.Array;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Comparator;
 import java.util.ConcurrentModificationException;
 import java.util.Deque;
 import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.Iterator;
 import java.util.List;
 import java.util.ListIterator;
+import java.util.Map;
 import java.util.NoSuchElementException;
 import java.util.Objects;
 import java.util.Random;
 import java.util.Set;
 import java.util.Spliterator;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Consumer;
 import java.util.function.IntFunction;
 import java.util.function.Predicate;
 import java.util.function.UnaryOperator;
+import javax.management.JMException;
+import javax.management.ObjectName;
 
 /**
  * <p>
@@ -46,8 +58,10 @@ import java.util.function.UnaryOperator;
  * \(\sqrt{n}\), and assuming that the fingers are evenly distributed, each 
  * finger "covers" \(n / \sqrt{n} = \sqrt{n}\) elements. In order to access an 
  * element in the actual list, we first consult the finger list for the index 
- * {@code i} of the finger {@code fingerArray[i]} that is closest to the index 
- * of the target element. This runs in 
+ * {@code i} of the finger that is closest to the index of the target element.
+ * The finger indices are kept in a contiguous {@code int} array apart from the
+ * finger nodes so that this search does not dereference any objects. This runs
+ * in 
  * 
  * \[ 
  * \mathcal{O}(\log \sqrt{n}) = \mathcal{O}(\log n^{1/2}) = \mathcal{O}(\frac{1}{2} \log n) = \mathcal{O}(\log n).
@@ -72,6 +86,20 @@ public class IndexedLinkedList<E> implements Deque<E>,
     @java.io.Serial
     private static final long serialVersionUID = 54170828611556733L;
     
+    /**
+     * The minimum number of elements a single task sorts in 
+     * {@link #parallelSort(java.util.Comparator)}.
+     */
+    private static final int PARALLEL_SORT_MINIMUM_SEGMENT_LENGTH = 1 << 13;
+    
+    /**
+     * The number of segments per fork-join worker thread 
+     * {@link #parallelSort(java.util.Comparator)} aims at. A few segments per
+     * thread balance the load while keeping the number of the merge passes 
+     * over the nodes low.
+     */
+    private static final int PARALLEL_SORT_SEGMENTS_PER_THREAD = 4;
+    
     /**
      * The cached number of elements in this list.
      */
@@ -100,24 +128,108 @@ public class IndexedLinkedList<E> implements Deque<E>,
     transient FingerList<E> fingerList;
     
     /**
-     * Caches the start node of the range to remove.
+     * The maximum number of unlinked nodes kept for reuse. Zero disables the
+     * node pool.
+     */
+    private transient int nodePoolCapacity;
+    
+    /**
+     * The top of the node pool. The pooled nodes are chained via their 
+     * {@code next} fields.
+     */
+    private transient Node<E> nodePool;
+    
+    /**
+     * The number of nodes currently in the node pool.
+     */
+    private transient int nodePoolSize;
+    
+    /**
+     * The number of node requests served from the node pool.
+     */
+    private transient long nodePoolHits;
+    
+    /**
+     * The number of node requests that had to allocate while the node pool was
+     * enabled.
+     */
+    private transient long nodePoolMisses;
+    
+    /**
+     * The algorithm used by {@link #sort(java.util.Comparator)}.
+     */
+    private transient SortStrategy sortStrategy = SortStrategy.ARRAY;
+    
+    /**
+     * The minimum number of elements in each part of a split spliterator.
+     */
+    private transient int spliteratorBatchSize = 
+            (int) LinkedListSpliterator.MINIMUM_BATCH_SIZE;
+    
+    /**
+     * The current snapshot epoch. Incremented whenever a snapshot starts.
+     */
+    private transient int snapshotEpoch;
+    
+    /**
+     * The epoch of the most recently started snapshot.
+     */
+    private transient int latestSnapshotEpoch;
+    
+    /**
+     * The number of snapshot iterators neither exhausted, closed nor garbage 
+     * collected.
+     */
+    private transient int numberOfLiveSnapshots;
+    
+    /**
+     * The weak references to the live snapshot iterators. Keeps the references
+     * reachable until their iterators are released. Created lazily by the 
+     * first snapshot.
+     */
+    private transient Set<Reference<?>> liveSnapshotReferences;
+    
+    /**
+     * The queue receiving the references to the snapshot iterators that were 
+     * garbage collected without being exhausted or closed. Created lazily by 
+     * the first snapshot.
+     */
+    private transient ReferenceQueue<Object> abandonedSnapshotQueue;
+    
+    /**
+     * Maps each node written while a snapshot was live to the history of its
+     * {@code item} and {@code next} fields. A node missing from this map was 
+     * not written since the oldest live snapshot started. Created lazily by 
+     * the first such write and dropped once no snapshot is live, so that the
+     * nodes themselves carry no snapshot state.
+     */
+    transient Map<Node<E>, Node.History<E>> nodeHistories;
+    
+    /**
+     * The optional index mapping the elements to their nodes, or 
+     * {@code null} if disabled.
      */
-    private transient Node<E> removeRangeStartNode;
+    private transient PositionalIndex<E> positionalIndex;
     
     /**
-     * Caches the end node of the range to remove.
+     * The table of the finger nodes used for locating the handles, or 
+     * {@code null} if no handle was located yet.
      */
-    private transient Node<E> removeRangeEndNode;
+    private transient FingerTable<E> handleFingerTable;
     
     /**
-     * Caches the number of fingers covering in the prefix.
+     * Maps each node holding an element with a valid handle to that handle, 
+     * or is {@code null} if there are no valid handles. Keeping this state 
+     * here instead of in the nodes leaves the nodes of the lists not using 
+     * handles at their plain size.
      */
-    private transient int numberOfCoveringFingersToPrefix;
+    private transient Map<Node<E>, Handle<E>> handles;
     
     /**
-     * Caches the number of fingers covering in the suffix.
+     * The name under which the management bean of this list is registered, or
+     * {@code null} if not registered.
      */
-    private transient int numberOfCoveringFingersToSuffix;
+    private transient ObjectName mxBeanName;
     
     /**
      * Constructs an empty list.
@@ -229,6 +341,34 @@ public class IndexedLinkedList<E> implements Deque<E>,
         return true;
     }
     
+    /**
+     * Inserts {@code element} at the index {@code index} and returns the 
+     * handle of the new element. Runs in \(\mathcal{O}(\sqrt{n})\) time.
+     * 
+     * @param index   the index at which to insert {@code element}.
+     * @param element the element to insert.
+     * @return the handle of the inserted element.
+     * @throws IndexOutOfBoundsException if index is outside of the valid range.
+     * @see Handle
+     */
+    public Handle<E> addAndGetHandle(int index, E element) {
+        checkPositionIndex(index);
+        
+        if (index == size) {
+            linkLast(element);
+            return newHandle(tail);
+        }
+        
+        if (index == 0) {
+            linkFirst(element);
+            return newHandle(head);
+        }
+        
+        Node<E> successor = node(index);
+        linkBefore(element, index, successor);
+        return newHandle(successor.prev);
+    }
+    
     /**
      * Adds the element {@code e} before the head of this list. Runs in 
      * \(\mathcal{O}(\sqrt{n})\) time.
@@ -240,6 +380,19 @@ public class IndexedLinkedList<E> implements Deque<E>,
         linkFirst(e);
     }
     
+    /**
+     * Prepends {@code e} to this list and returns the handle of the new 
+     * element. Runs in \(\mathcal{O}(\sqrt{n})\) time.
+     * 
+     * @param e the element to prepend.
+     * @return the handle of the prepended element.
+     * @see Handle
+     */
+    public Handle<E> addFirstAndGetHandle(E e) {
+        linkFirst(e);
+        return newHandle(head);
+    }
+    
     /**
      * Adds the element {@code e} after the tail of this list. Runs in constant
      * time.
@@ -251,6 +404,39 @@ public class IndexedLinkedList<E> implements Deque<E>,
         linkLast(e);
     }
     
+    /**
+     * Appends {@code e} to this list and returns the handle of the new 
+     * element. Runs in amortized constant time.
+     * 
+     * @param e the element to append.
+     * @return the handle of the appended element.
+     * @see Handle
+     */
+    public Handle<E> addLastAndGetHandle(E e) {
+        linkLast(e);
+        return newHandle(tail);
+    }
+    
+    /**
+     * Moves all the elements of {@code other} to the end of this list, leaving
+     * {@code other} empty. The nodes of {@code other} are linked after the 
+     * tail of this list, and its fingers are merged into the finger list of 
+     * this list with their indices rebased. Runs in 
+     * \(\mathcal{O}(\sqrt{n + m})\) time, where \(n\) is the size of this 
+     * list and \(m\) is the size of {@code other}, unless {@code other} has
+     * live snapshot iterators, in which case the elements are copied as 
+     * described in {@link #transferTo(int, int, IndexedLinkedList, int)}.
+     * 
+     * @param other the list whose elements to append.
+     * @throws IllegalArgumentException if {@code other} is this list.
+     * @throws NullPointerException if {@code other} is {@code null}.
+     * @see #transferTo(int, int, IndexedLinkedList, int)
+     */
+    public void append(IndexedLinkedList<E> other) {
+        Objects.requireNonNull(other, "The input list is null.");
+        other.transferTo(0, other.size, this, size);
+    }
+    
     /**
      * Checks the data structure invariant. Throws 
      * {@link java.lang.IllegalStateException} on invalid invariant. The 
@@ -269,10 +455,10 @@ public class IndexedLinkedList<E> implements Deque<E>,
      * Runs always in linear time.
      */
     public void checkInvarant() {
-        if (fingerList.get(0).index < 0) {
+        if (fingerList.getElementIndex(0) < 0) {
             throw new IllegalStateException(
                     "First finger index is negative: "
-                            +  fingerList.get(0).index);
+                            +  fingerList.getElementIndex(0));
         }
         
         for (int i = 0; i < fingerList.size() - 1; ++i) {
@@ -355,6 +541,7 @@ public class IndexedLinkedList<E> implements Deque<E>,
         
         // Help GC:
         for (Node<E> node = head; node != null;) {
+            preserveNode(node);
             node.prev = null;
             node.item = null;
             Node<E> next = node.next;
@@ -363,6 +550,7 @@ public class IndexedLinkedList<E> implements Deque<E>,
         }
 
         head = tail = null;
+        handles = null;
         modCount++;
     }
     
@@ -378,12 +566,18 @@ public class IndexedLinkedList<E> implements Deque<E>,
     
     /**
      * Returns {@code true} only if {@code o} is present in this list. Runs in
-     * worst-case linear time.
+     * worst-case linear time, or in expected constant time if the positional 
+     * index is enabled.
      * 
      * @param o the query object.
+     * @see #setPositionalIndex(boolean)
      */
     @Override
     public boolean contains(Object o) {
+        if (positionalIndex != null) {
+            return positionalIndex.contains(o);
+        }
+        
         return indexOf(o) >= 0;
     }
     
@@ -417,11 +611,13 @@ public class IndexedLinkedList<E> implements Deque<E>,
     public IndexedLinkedList<E> deepCopy() {
         IndexedLinkedList<E> other = new IndexedLinkedList<>(this);
         int fingerIndex = 0;
+        fingerList.flushPendingShifts();
         
         for (int i = 0; i <= this.fingerList.size; i++) {
-            Finger<E> fingerCopy = new Finger<>(fingerList.fingerArray[i]);
-            fingerCopy.node = getNodeSequentially(fingerCopy.index);
-            other.fingerList.fingerArray[fingerIndex++] = fingerCopy;
+            int index = fingerList.getElementIndex(i);
+            other.fingerList.fingerIndexArray[fingerIndex] = index;
+            other.fingerList.fingerNodeArray[fingerIndex++] = 
+                    getNodeSequentially(index);
         }
         
         return other;
@@ -434,8 +630,7 @@ public class IndexedLinkedList<E> implements Deque<E>,
         Node<E> node = head;
         
         for (int i = 0; i < fingerList.size(); i++) {
-            fingerList.get(i).index = i;
-            fingerList.get(i).node = node;
+            fingerList.setFinger(i, node, i);
             node = node.next;
         }
     }
@@ -503,6 +698,31 @@ public class IndexedLinkedList<E> implements Deque<E>,
         return node(index).item;
     }
     
+    /**
+     * Returns the elements at the given indices in the order of 
+     * {@code indices}. The indices are sorted and served in one left-to-right
+     * sweep, in which each node is reached from the previously served node, 
+     * from the closest finger or from the tail, whichever is closest. Does not
+     * move the fingers. Runs in \(\mathcal{O}(k \log k + n)\) time in the 
+     * worst case, where \(k\) is the number of indices, but visits only 
+     * \(\mathcal{O}(\min(n, k\sqrt{n}))\) nodes on evenly distributed fingers.
+     * 
+     * @param indices the indices of the requested elements. May contain 
+     *                duplicates.
+     * @return the list of the requested elements.
+     * @throws IndexOutOfBoundsException if any of the indices is out of range.
+     */
+    public List<E> getAll(int[] indices) {
+        Node<E>[] nodes = getNodes(indices);
+        List<E> elements = new ArrayList<>(nodes.length);
+        
+        for (Node<E> node : nodes) {
+            elements.add(node.item);
+        }
+        
+        return elements;
+    }
+    
     /**
      * Computes and returns the entropy of this list, which is defined as
      * \[
@@ -517,8 +737,8 @@ public class IndexedLinkedList<E> implements Deque<E>,
         double sum = 0.0;
         
         for (int i = 0; i < fingerList.size(); i++) {
-            double value = fingerList.get(i + 1).index 
-                         - fingerList.get(i).index 
+            double value = fingerList.getElementIndex(i + 1)
+                         - fingerList.getElementIndex(i)
                          - fingerList.size();
             
             value = Math.abs(value);
@@ -529,6 +749,28 @@ public class IndexedLinkedList<E> implements Deque<E>,
         return Math.max(0.0, 1.0 - sum);
     }
     
+    /**
+     * Returns a snapshot of the finger traversal metrics of this list. Runs in
+     * constant time.
+     * 
+     * @return the metrics snapshot. All the counters are zero if the metrics 
+     *         are disabled.
+     * 
+     * @see #setFingerMetrics(boolean) 
+     */
+    public FingerMetrics getFingerMetrics() {
+        return fingerList.getMetrics();
+    }
+    
+    /**
+     * Returns the algorithm used for searching the fingers.
+     * 
+     * @return the finger search strategy.
+     */
+    public FingerSearchStrategy getFingerSearchStrategy() {
+        return fingerList.getSearchStrategy();
+    }
+    
     /**
      * Returns the first element of this list. Runs in constant time.
      * 
@@ -561,6 +803,66 @@ public class IndexedLinkedList<E> implements Deque<E>,
         return tail.item;
     }
     
+    /**
+     * Returns the maximum number of unlinked nodes this list keeps for reuse.
+     * 
+     * @return the node pool capacity.
+     * 
+     * @see #setNodePoolCapacity(int) 
+     */
+    public int getNodePoolCapacity() {
+        return nodePoolCapacity;
+    }
+    
+    /**
+     * Returns the number of node requests served from the node pool.
+     * 
+     * @return the number of node pool hits.
+     */
+    public long getNodePoolHits() {
+        return nodePoolHits;
+    }
+    
+    /**
+     * Returns the number of node requests that had to allocate a new node 
+     * while the node pool was enabled.
+     * 
+     * @return the number of node pool misses.
+     */
+    public long getNodePoolMisses() {
+        return nodePoolMisses;
+    }
+    
+    /**
+     * Returns the number of nodes currently waiting in the node pool.
+     * 
+     * @return the node pool size.
+     */
+    public int getNodePoolSize() {
+        return nodePoolSize;
+    }
+    
+    /**
+     * Returns the algorithm used for sorting this list.
+     * 
+     * @return the sort strategy.
+     */
+    public SortStrategy getSortStrategy() {
+        return sortStrategy;
+    }
+    
+    /**
+     * Returns the minimum number of elements in each part of a split 
+     * spliterator over this list.
+     * 
+     * @return the spliterator batch size.
+     * 
+     * @see #setSpliteratorBatchSize(int) 
+     */
+    public int getSpliteratorBatchSize() {
+        return spliteratorBatchSize;
+    }
+    
     /**
      * Returns the hash code of this list. Runs in linear time.
      * 
@@ -577,6 +879,9 @@ public class IndexedLinkedList<E> implements Deque<E>,
     /**
      * Returns the index of the leftmost {@code obj}, or {@code -1} if 
      * {@code obj} does not appear in this list. Runs in worst-case linear time.
+     * If the positional index is enabled, runs in 
+     * \(\mathcal{O}(\min(k, \sqrt{n})\sqrt{n})\) time, where \(k\) is the 
+     * number of occurrences of {@code obj}.
      * 
      * @param obj the object to search.
      * 
@@ -587,9 +892,31 @@ public class IndexedLinkedList<E> implements Deque<E>,
      */
     @Override
     public int indexOf(Object obj) {
+        if (positionalIndex != null) {
+            return positionalIndex.indexOf(obj, true);
+        }
+        
         return indexOfRange(obj, 0, size);
     }
     
+    /**
+     * Returns the current index of the element referred to by 
+     * {@code handle}. Walks from the element to the closest finger, which runs
+     * in \(\mathcal{O}(\sqrt{n})\) time when the fingers are evenly 
+     * distributed.
+     * 
+     * @param handle the handle of the element.
+     * @return the index of the element.
+     * @throws IllegalArgumentException if {@code handle} belongs to another 
+     *                                  list.
+     * @throws IllegalStateException if {@code handle} is no longer valid.
+     * @throws NullPointerException if {@code handle} is {@code null}.
+     * @see Handle
+     */
+    public int indexOfHandle(Handle<E> handle) {
+        return getHandleIndex(getHandleNode(handle));
+    }
+    
     /**
      * Returns {@code true} only if this list is empty.
      * 
@@ -599,6 +926,52 @@ public class IndexedLinkedList<E> implements Deque<E>,
     public boolean isEmpty() {
         return size == 0;
     }
+    
+    /**
+     * Returns {@code true} only if this list records the finger traversal 
+     * metrics.
+     * 
+     * @return {@code true} only if the finger metrics are enabled.
+     * 
+     * @see #setFingerMetrics(boolean) 
+     */
+    public boolean isFingerMetrics() {
+        return fingerList.hasMetrics();
+    }
+    
+    /**
+     * Returns {@code true} only if the lookups in this list leave the fingers
+     * where they are.
+     * 
+     * @return {@code true} only if the fingers are frozen.
+     * 
+     * @see #setFrozenFingers(boolean) 
+     */
+    public boolean isFrozenFingers() {
+        return fingerList.isFrozen();
+    }
+    
+    /**
+     * Returns {@code true} only if this list shifts the finger indices lazily.
+     * 
+     * @return {@code true} only if the lazy finger indices are enabled.
+     * 
+     * @see #setLazyFingerIndices(boolean) 
+     */
+    public boolean isLazyFingerIndices() {
+        return fingerList.isLazyIndices();
+    }
+    
+    /**
+     * Returns {@code true} only if this list maintains the positional index.
+     * 
+     * @return {@code true} only if the positional index is enabled.
+     * 
+     * @see #setPositionalIndex(boolean) 
+     */
+    public boolean isPositionalIndex() {
+        return positionalIndex != null;
+    }
 
     /**
      * Returns the iterator over this list.
@@ -613,6 +986,9 @@ public class IndexedLinkedList<E> implements Deque<E>,
     /**
      * Returns the index of the rightmost {@code obj}, or {@code -1} if 
      * {@code obj} does not appear in this list. Runs in worst-case linear time.
+     * If the positional index is enabled, runs in 
+     * \(\mathcal{O}(\min(k, \sqrt{n})\sqrt{n})\) time, where \(k\) is the 
+     * number of occurrences of {@code obj}.
      * 
      * @param obj the object to search.
      * 
@@ -623,6 +999,10 @@ public class IndexedLinkedList<E> implements Deque<E>,
      */
     @Override
     public int lastIndexOf(Object obj) {
+        if (positionalIndex != null) {
+            return positionalIndex.indexOf(obj, false);
+        }
+        
         return lastIndexOfRange(obj, 0, size);
     }
     
@@ -651,6 +1031,48 @@ public class IndexedLinkedList<E> implements Deque<E>,
         return new EnhancedIterator(index);
     }
     
+    /**
+     * Moves the element referred to by {@code handle} to the end of this list.
+     * The handle stays valid and keeps referring to the moved element. Runs 
+     * in \(\mathcal{O}(\sqrt{n})\) time.
+     * 
+     * @param handle the handle of the element to move.
+     * @throws IllegalArgumentException if {@code handle} belongs to another 
+     *                                  list.
+     * @throws IllegalStateException if {@code handle} is no longer valid.
+     * @throws NullPointerException if {@code handle} is {@code null}.
+     * @see Handle
+     */
+    public void moveToBack(Handle<E> handle) {
+        Node<E> node = getHandleNode(handle);
+        
+        if (node != tail) {
+            linkLast(remove(getHandleIndex(node)));
+            bindHandle(handle, tail);
+        }
+    }
+    
+    /**
+     * Moves the element referred to by {@code handle} to the front of this 
+     * list. The handle stays valid and keeps referring to the moved element.
+     * Runs in \(\mathcal{O}(\sqrt{n})\) time.
+     * 
+     * @param handle the handle of the element to move.
+     * @throws IllegalArgumentException if {@code handle} belongs to another 
+     *                                  list.
+     * @throws IllegalStateException if {@code handle} is no longer valid.
+     * @throws NullPointerException if {@code handle} is {@code null}.
+     * @see Handle
+     */
+    public void moveToFront(Handle<E> handle) {
+        Node<E> node = getHandleNode(handle);
+        
+        if (node != head) {
+            linkFirst(remove(getHandleIndex(node)));
+            bindHandle(handle, head);
+        }
+    }
+    
     /**
      * Adds {@code e} after the tail element of this list. Runs in constant 
      * time.
@@ -694,7 +1116,33 @@ public class IndexedLinkedList<E> implements Deque<E>,
      * linear time.
      */
     public void optimize() {
+        ListOperationEvent event = new ListOperationEvent();
+        event.begin();
         distributeAllFingers();
+        event.commitOperation("optimize", this, size);
+    }
+    
+    /**
+     * Sorts stably this list into non-descending order using the common 
+     * fork-join pool. The list is cut at the fingers into contiguous node 
+     * segments, the segments are sorted concurrently by relinking their 
+     * nodes, and the sorted segments are merged pairwise. No element is 
+     * copied into an array or moved to another node. Runs in 
+     * \(\mathcal{O}(n \log n)\) work. Ignores the sort strategy.
+     * 
+     * @param c the element comparator. If {@code null}, the natural ordering
+     *          is used.
+     */
+    public void parallelSort(Comparator<? super E> c) {
+        if (size == 0) {
+            return;
+        }
+        
+        ListOperationEvent event = new ListOperationEvent();
+        event.begin();
+        parallelSortRange(0, size, c);
+        modCount++;
+        event.commitOperation("parallelSort", this, size);
     }
     
     /**
@@ -801,6 +1249,7 @@ public class IndexedLinkedList<E> implements Deque<E>,
      * @param random the random number generator object.
      */
     public void randomizeFingers(Random random) {
+        fingerList.flushPendingShifts();
         final Set<Integer> indexFilter = new HashSet<>();
         
         while (indexFilter.size() < fingerList.size) {
@@ -812,9 +1261,8 @@ public class IndexedLinkedList<E> implements Deque<E>,
         Arrays.sort(newFingerIndexArray);
         
         for (int i = 0; i < fingerList.size; i++) {
-            Finger finger = fingerList.fingerArray[i];
-            finger.index = newFingerIndexArray[i];
-            finger.node = getNodeSequentially(finger.index);
+            int index = newFingerIndexArray[i];
+            fingerList.setFinger(i, getNodeSequentially(index), index);
         }
     }
 
@@ -828,6 +1276,47 @@ public class IndexedLinkedList<E> implements Deque<E>,
         
     }
     
+    /**
+     * Publishes the health of this list as an {@link IndexedLinkedListMXBean}
+     * in the platform MBean server under the object name
+     * {@code com.github.coderodde.util:type=IndexedLinkedList,name=<name>}.
+     * The bean exposes the size, the number of fingers, the finger array 
+     * capacity, the entropy and the modification rate of this list. The 
+     * server keeps this list reachable until 
+     * {@link #unregisterMXBean()} is called.
+     * 
+     * @param name the value of the {@code name} key of the object name.
+     * @return the object name of the registered bean.
+     * @throws IllegalStateException    if this list is already registered.
+     * @throws IllegalArgumentException if {@code name} does not make a valid
+     *                                  object name or the object name is 
+     *                                  already taken.
+     */
+    public ObjectName registerMXBean(String name) {
+        if (mxBeanName != null) {
+            throw new IllegalStateException(
+                    "The list is already registered as " + mxBeanName);
+        }
+        
+        String objectName = 
+                "com.github.coderodde.util:type=IndexedLinkedList,name=" 
+                + name;
+        
+        try {
+            ObjectName beanName = new ObjectName(objectName);
+            
+            ManagementFactory.getPlatformMBeanServer()
+                             .registerMBean(new IndexedLinkedListMonitor(this),
+                                            beanName);
+            
+            mxBeanName = beanName;
+            return beanName;
+        } catch (JMException ex) {
+            throw new IllegalArgumentException(
+                    "Could not register the list as " + objectName, ex);
+        }
+    }
+    
     /**
      * Removes and returns the first element. Runs in 
      * \(\mathcal{O}(\sqrt{n})\) time.
@@ -843,7 +1332,9 @@ public class IndexedLinkedList<E> implements Deque<E>,
     /**
      * Removes the leftmost occurrence of {@code o} in this list. Runs in worst-
      * case \(\mathcal{O}(n + \sqrt{n})\) time. \(\mathcal{O}(n)\) for iterating 
-     * the list and \(\mathcal{O}(\sqrt{n})\) time for fixing the fingers.
+     * the list and \(\mathcal{O}(\sqrt{n})\) time for fixing the fingers. If 
+     * the positional index is enabled, the iteration is replaced by 
+     * {@link #indexOf(java.lang.Object)}.
      * 
      * @param o the object to remove.
      * 
@@ -852,6 +1343,10 @@ public class IndexedLinkedList<E> implements Deque<E>,
      */
     @Override
     public boolean remove(Object o) {
+        if (positionalIndex != null) {
+            return removeIndexedOccurrence(o, true);
+        }
+        
         int index = 0;
 
         for (Node<E> x = head; x != null; x = x.next, index++) {
@@ -877,47 +1372,58 @@ public class IndexedLinkedList<E> implements Deque<E>,
         checkElementIndex(index);
         
         int closestFingerIndex = fingerList.getClosestFingerIndex(index);
-        Finger<E> closestFinger = fingerList.get(closestFingerIndex);
+        int closestFingerElementIndex = 
+                fingerList.getElementIndex(closestFingerIndex);
         
         E returnValue;
         Node<E> nodeToRemove;
         
-        if (closestFinger.index == index) {
-            nodeToRemove = closestFinger.node;
-            moveFingerOutOfRemovalLocation(closestFinger, 
-                                           closestFingerIndex);    
+        if (closestFingerElementIndex == index) {
+            nodeToRemove = fingerList.getFingerNode(closestFingerIndex);
+            moveFingerOutOfRemovalLocation(closestFingerIndex);    
         } else {
             // Keep the fingers at their original position.
             // Find the target node:
-            int steps = closestFinger.index - index;
+            int steps = closestFingerElementIndex - index;
             
             nodeToRemove =
                     traverseLinkedListBackwards(
-                            closestFinger,
+                            fingerList.getFingerNode(closestFingerIndex),
                             steps);
             
+            if (fingerList.hasMetrics()) {
+                fingerList.recordNodeLookup(0, Math.abs(steps));
+            }
+            
             fingerList.shiftFingerIndicesToLeftOnceAll(closestFingerIndex + 1);
             
             if (steps > 0) {
-                fingerList.get(closestFingerIndex).index--;
+                fingerList.setElementIndex(closestFingerIndex, 
+                                           closestFingerElementIndex - 1);
             }
         }
         
         returnValue = nodeToRemove.item;
         unlink(nodeToRemove);
         decreaseSize();
+        
+        if (positionalIndex != null) {
+            positionalIndex.onUnlink(nodeToRemove, returnValue);
+        }
 
         if (mustRemoveFinger()) {
             removeFinger();
         }
 
+        recycleNode(nodeToRemove);
         return returnValue;
     }
     
     /**
      * Removes from this list all the elements mentioned in {@code c}. Runs in
-     * \(\mathcal{O}(n\sqrt{n} + fn)\) time, where \(\mathcal{O}(f)\) is the 
-     * time of checking for element inclusion in {@code c}.
+     * \(\mathcal{O}(n + fn)\) time, where \(\mathcal{O}(f)\) is the time of 
+     * checking for element inclusion in {@code c}: the list is swept once 
+     * and the fingers are repaired once at the end.
      * 
      * @param c the collection holding all the elements to remove.
      * @return {@code true} only if at least one element in {@code c} was 
@@ -946,13 +1452,18 @@ public class IndexedLinkedList<E> implements Deque<E>,
     
     /**
      * Removes the leftmost occurrence of {@code o}. Runs in worst-case 
-     * \(\mathcal{O}(n)\) time.
+     * \(\mathcal{O}(n)\) time, or as {@link #indexOf(java.lang.Object)} if 
+     * the positional index is enabled.
      * 
      * @return {@code true} only if {@code o} was present in the list and was 
      *         successfully removed.
      */
     @Override
     public boolean removeFirstOccurrence(Object o) {
+        if (positionalIndex != null) {
+            return removeIndexedOccurrence(o, true);
+        }
+        
         int index = 0;
         
         for (Node<E> x = head; x != null; x = x.next, index++) {
@@ -965,9 +1476,31 @@ public class IndexedLinkedList<E> implements Deque<E>,
         return false;
     }
     
+    /**
+     * Removes the element referred to by {@code handle} and invalidates the 
+     * handle. Locating the element runs in \(\mathcal{O}(\sqrt{n})\) time as
+     * in {@link #indexOfHandle(Handle)}, and so does fixing the fingers.
+     * 
+     * @param handle the handle of the element to remove.
+     * @return the removed element.
+     * @throws IllegalArgumentException if {@code handle} belongs to another 
+     *                                  list.
+     * @throws IllegalStateException if {@code handle} is no longer valid.
+     * @throws NullPointerException if {@code handle} is {@code null}.
+     * @see Handle
+     */
+    public E removeHandle(Handle<E> handle) {
+        Node<E> node = getHandleNode(handle);
+        E element = remove(getHandleIndex(node));
+        handle.node = null;
+        return element;
+    }
+    
     /**
      * Removes from this list all the elements that satisfy the given input
-     * predicate. Runs in \(\mathcal{O}(n\sqrt{n})\) time.
+     * predicate. Runs in \(\mathcal{O}(n)\) time plus the time of \(n\) 
+     * predicate calls: the list is swept once and the fingers are repaired 
+     * once at the end.
      * 
      * @param filter the filtering predicate.
      * @return {@code true} only if at least one element was removed.
@@ -995,13 +1528,18 @@ public class IndexedLinkedList<E> implements Deque<E>,
 
     /**
      * Removes the rightmost occurrence of {@code o}. Runs in 
-     * \(\mathcal{O}(n)\) time.
+     * \(\mathcal{O}(n)\) time, or as {@link #lastIndexOf(java.lang.Object)}
+     * if the positional index is enabled.
      * 
      * @param o the object to remove.
      * @return {@code true} only if an element was actually removed.
      */
     @Override
     public boolean removeLastOccurrence(Object o) {
+        if (positionalIndex != null) {
+            return removeIndexedOccurrence(o, false);
+        }
+        
         int index = size - 1;
 
         for (Node<E> x = tail; x != null; x = x.prev, index--) {
@@ -1031,10 +1569,20 @@ public class IndexedLinkedList<E> implements Deque<E>,
         modCount++;
     }
     
+    /**
+     * Sets all the finger traversal counters of this list to zero. Does 
+     * nothing if the finger metrics are disabled. Runs in constant time.
+     * 
+     * @see #setFingerMetrics(boolean) 
+     */
+    public void resetFingerMetrics() {
+        fingerList.resetMetrics();
+    }
+    
     /**
      * Remove all the elements that <strong>do not</strong> appear in 
-     * {@code c}. Runs in worst-case \(\mathcal{O}(nf + n\sqrt{n})\) time, where
-     * the inclusion check in {@code c} is run in \(\mathcal{O}(f)\) time.
+     * {@code c}. Runs in worst-case \(\mathcal{O}(n + nf)\) time, where the 
+     * inclusion check in {@code c} is run in \(\mathcal{O}(f)\) time.
      * 
      * @param c the collection of elements to retain.
      * @return {@code true} only if at least one element was removed.
@@ -1057,45 +1605,306 @@ public class IndexedLinkedList<E> implements Deque<E>,
         checkElementIndex(index);
         Node<E> node = node(index);
         E oldElement = node.item;
+        preserveNode(node);
         node.item = element;
+        
+        if (positionalIndex != null) {
+            positionalIndex.onSet(node, oldElement);
+        }
+        
         return oldElement;
     }
     
     /**
-     * Returns the number of elements in this list.
+     * Sets {@code values[i]} at the index {@code indices[i]} for each 
+     * {@code i}. If an index appears more than once, the value appearing last
+     * wins, just as with the repeated calls to 
+     * {@link #set(int, java.lang.Object)}. The indices are served in one 
+     * left-to-right sweep as in {@link #getAll(int[])}. If any of the indices
+     * is out of range, this list is left intact.
      * 
-     * @return the size of this list.
+     * @param indices the indices of the elements to set.
+     * @param values  the new values.
+     * @throws IllegalArgumentException  if the arrays differ in length.
+     * @throws IndexOutOfBoundsException if any of the indices is out of range.
      */
-    @Override
-    public int size() {
-        return size;
+    public void setAll(int[] indices, E[] values) {
+        if (indices.length != values.length) {
+            throw new IllegalArgumentException(
+                    "Number of indices (" 
+                            + indices.length 
+                            + ") does not match the number of values (" 
+                            + values.length 
+                            + ").");
+        }
+        
+        Node<E>[] nodes = getNodes(indices);
+        
+        // Request order makes the last duplicate win:
+        for (int i = 0; i < nodes.length; i++) {
+            E oldItem = nodes[i].item;
+            preserveNode(nodes[i]);
+            nodes[i].item = values[i];
+            
+            if (positionalIndex != null) {
+                positionalIndex.onSet(nodes[i], oldItem);
+            }
+        }
     }
     
     /**
-     * Sorts stably this list into non-descending order. Runs in 
-     * \(\mathcal{O}(n \log n)\).
+     * Sets the algorithm used for searching the fingers. The default is
+     * {@link FingerSearchStrategy#BINARY}. The alternative strategies pay off
+     * on large lists dominated by random access; see 
+     * {@link FingerSearchStrategy}. Runs in constant time.
      * 
-     * @param c the element comparator.
+     * @param fingerSearchStrategy the finger search strategy.
+     * @throws NullPointerException if {@code fingerSearchStrategy} is 
+     *                              {@code null}.
      */
-    @Override
-    public void sort(Comparator<? super E> c) {
-        if (size == 0) {
-            return;
-        }
-        
-        Object[] array = toArray();
-        Arrays.sort((E[]) array, c);
-        
-        Node<E> node = head;
-        
-        // Rearrange the items over the linked list nodes:
-        for (int i = 0; i < array.length; ++i, node = node.next) {
-            E item = (E) array[i];
-            node.item = item;
+    public void setFingerSearchStrategy(
+            FingerSearchStrategy fingerSearchStrategy) {
+        fingerList.setSearchStrategy(fingerSearchStrategy);
+    }
+    
+    /**
+     * Enables or disables recording the finger traversal metrics. When 
+     * enabled, this list counts the node lookups and the 
+     * {@code prev}/{@code next} hops they make, both for moving the fingers
+     * and for reaching the target nodes, the finger searches and the finger
+     * indices they probe, and the finger index shifts caused by the 
+     * insertions and the removals. The hops per lookup are also collected in 
+     * a power-of-two histogram. Read the counters with 
+     * {@link #getFingerMetrics()}. When disabled (the default), the cost is a
+     * single well-predicted branch per operation. The lookups with the frozen
+     * fingers do not write anything and thus are not counted. Enabling starts
+     * from zero counters. Runs in constant time.
+     * 
+     * @param fingerMetrics the flag telling whether to record the metrics.
+     */
+    public void setFingerMetrics(boolean fingerMetrics) {
+        fingerList.setMetrics(fingerMetrics);
+    }
+    
+    /**
+     * Freezes or unfreezes the fingers. By default, a lookup such as 
+     * {@link #get(int)} moves the fingers towards the accessed element, which
+     * adapts the fingers to the access pattern, but makes even the reads 
+     * write to the finger list. With the frozen fingers, the lookups walk from
+     * the closest finger (or the list end) without moving it and do not write
+     * anything, so that multiple threads may call {@code get} concurrently as
+     * long as nobody modifies this list. The structural modifications keep on
+     * maintaining the fingers. Runs in constant time.
+     * 
+     * @param frozenFingers the flag telling whether to freeze the fingers.
+     */
+    public void setFrozenFingers(boolean frozenFingers) {
+        fingerList.setFrozen(frozenFingers);
+    }
+    
+    /**
+     * Enables or disables the lazy finger indices. By default, each 
+     * single-element insertion or removal shifts the indices of all the fingers
+     * to the right of the operation location, which runs in 
+     * \(\mathcal{O}(\sqrt{n})\) time. With lazy finger indices, the shifts are 
+     * recorded in a Fenwick tree over the finger list and materialized on 
+     * demand in the finger search, so that each shift runs in 
+     * \(\mathcal{O}(\log n)\) time. Pays off on write-heavy workloads over 
+     * large lists. Runs in \(\mathcal{O}(\sqrt{n})\) time.
+     * 
+     * @param lazyFingerIndices the flag telling whether to shift lazily.
+     */
+    public void setLazyFingerIndices(boolean lazyFingerIndices) {
+        fingerList.setLazyIndices(lazyFingerIndices);
+    }
+    
+    /**
+     * Sets the maximum number of unlinked nodes this list keeps for reuse. When
+     * positive, the nodes removed from this list are put in a bounded free 
+     * list and handed out to the subsequent insertions, so that churn-heavy 
+     * workloads (such as {@code addLast}/{@code removeFirst} queues) do not 
+     * allocate in the steady state. Zero (the default) disables the pool. If 
+     * the pool holds more nodes than {@code nodePoolCapacity}, the excess nodes
+     * are released.
+     * 
+     * @param nodePoolCapacity the new node pool capacity.
+     * @throws IllegalArgumentException if {@code nodePoolCapacity} is negative.
+     */
+    public void setNodePoolCapacity(int nodePoolCapacity) {
+        if (nodePoolCapacity < 0) {
+            throw new IllegalArgumentException(
+                    "Negative node pool capacity: " + nodePoolCapacity);
+        }
+        
+        this.nodePoolCapacity = nodePoolCapacity;
+        
+        while (nodePoolSize > nodePoolCapacity) {
+            Node<E> node = nodePool;
+            nodePool = node.next;
+            node.next = null;
+            nodePoolSize--;
+        }
+    }
+    
+    /**
+     * Enables or disables the positional index. The positional index maps 
+     * each element to the nodes holding it, which makes 
+     * {@link #contains(java.lang.Object)} run in expected constant time, and
+     * {@link #indexOf(java.lang.Object)}, 
+     * {@link #lastIndexOf(java.lang.Object)} and 
+     * {@link #remove(java.lang.Object)} run in 
+     * \(\mathcal{O}(\min(k, \sqrt{n})\sqrt{n})\) time, where \(k\) is the 
+     * number of occurrences of the query object. A node is turned back into 
+     * its index by walking to the closest finger, unless there are so many 
+     * occurrences that scanning the list is cheaper. The single-element 
+     * insertions, removals and updates maintain the index in 
+     * expected constant time; after any other structural modification, such 
+     * as a bulk removal or a sort, the index is rebuilt in linear time on the 
+     * next query. The elements must obey the {@code hashCode} contract. 
+     * Enabling runs in linear time.
+     * 
+     * @param positionalIndex the flag telling whether to maintain the index.
+     */
+    public void setPositionalIndex(boolean positionalIndex) {
+        if (!positionalIndex) {
+            this.positionalIndex = null;
+        } else if (this.positionalIndex == null) {
+            this.positionalIndex = new PositionalIndex<>(this);
+        }
+    }
+    
+    /**
+     * Sets the algorithm used for sorting this list and its sublists. Runs in
+     * constant time.
+     * 
+     * @param sortStrategy the sort strategy to use.
+     */
+    public void setSortStrategy(SortStrategy sortStrategy) {
+        this.sortStrategy = Objects.requireNonNull(sortStrategy);
+    }
+    
+    /**
+     * Sets the minimum number of elements in each part of a split spliterator
+     * over this list or its sublists. A spliterator holding less than 
+     * {@code 2 * spliteratorBatchSize} elements does not split. Affects only 
+     * the spliterators created after this call. Runs in constant time.
+     * 
+     * @param spliteratorBatchSize the new spliterator batch size.
+     * @throws IllegalArgumentException if {@code spliteratorBatchSize} is not
+     *                                  positive.
+     */
+    public void setSpliteratorBatchSize(int spliteratorBatchSize) {
+        if (spliteratorBatchSize < 1) {
+            throw new IllegalArgumentException(
+                    "Non-positive spliterator batch size: " 
+                            + spliteratorBatchSize);
+        }
+        
+        this.spliteratorBatchSize = spliteratorBatchSize;
+    }
+    
+    /**
+     * Returns the number of elements in this list.
+     * 
+     * @return the size of this list.
+     */
+    @Override
+    public int size() {
+        return size;
+    }
+    
+    /**
+     * Returns an iterator over the snapshot of this list taken at the moment of
+     * the call. Unlike {@link #iterator()}, the returned iterator never throws
+     * {@link ConcurrentModificationException}: it keeps on returning the 
+     * elements as they were when the snapshot started, while this list is 
+     * being modified. Starting a snapshot runs in constant time.
+     * 
+     * <p>
+     * 
+     * While a snapshot is live, each write to a node that existed at the start
+     * of a live snapshot saves a copy of the old item and the old successor of
+     * that node, which costs constant time and memory per touched node. The 
+     * snapshot is live until it is exhausted or 
+     * {@linkplain SnapshotIterator#close() closed}. An abandoned snapshot 
+     * that is never closed keeps on charging the writers until it is garbage
+     * collected.
+     * 
+     * <p>
+     * 
+     * The snapshot iterators are not thread-safe. If the writers run in other
+     * threads, each call on the iterator must be guarded by the same lock as
+     * the writers.
+     * 
+     * @return a snapshot iterator over this list.
+     */
+    public SnapshotIterator snapshotIterator() {
+        return new SnapshotIterator();
+    }
+    
+    /**
+     * Sorts stably this list into non-descending order. Runs in 
+     * \(\mathcal{O}(n \log n)\).
+     * 
+     * @param c the element comparator.
+     * 
+     * @see #setSortStrategy(com.github.coderodde.util.SortStrategy) 
+     */
+    @Override
+    public void sort(Comparator<? super E> c) {
+        if (size == 0) {
+            return;
+        }
+        
+        ListOperationEvent event = new ListOperationEvent();
+        event.begin();
+        
+        if (sortStrategy == SortStrategy.NATURAL_MERGE) {
+            mergeSortRange(0, size, c);
+            modCount++;
+            event.commitOperation("sort", this, size);
+            return;
+        }
+        
+        Object[] array = toArray();
+        Arrays.sort((E[]) array, c);
+        
+        Node<E> node = head;
+        
+        // The elements move between the nodes:
+        handles = null;
+        
+        // Rearrange the items over the linked list nodes:
+        for (int i = 0; i < array.length; ++i, node = node.next) {
+            E item = (E) array[i];
+            preserveNode(node);
+            node.item = item;
         }
         
         distributeAllFingers();
         modCount++;
+        event.commitOperation("sort", this, size);
+    }
+    
+    /**
+     * Splits this list at the index {@code index}. This list keeps the 
+     * elements in the range {@code [0, index)}, and the elements in the range
+     * {@code [index, size)} are moved to a new list that is returned. The node
+     * chain is cut in two and the finger list is partitioned without visiting
+     * the moved nodes. Runs in \(\mathcal{O}(\sqrt{n})\) time, unless this 
+     * list has live snapshot iterators, in which case the suffix is copied 
+     * as described in {@link #transferTo(int, int, IndexedLinkedList, int)}.
+     * 
+     * @param index the index of the first element to move to the new list.
+     * @return the list containing the suffix of this list.
+     * @throws IndexOutOfBoundsException if {@code index} is out of bounds.
+     * @see #transferTo(int, int, IndexedLinkedList, int)
+     */
+    public IndexedLinkedList<E> splitAt(int index) {
+        checkPositionIndex(index);
+        IndexedLinkedList<E> suffix = new IndexedLinkedList<>();
+        transferTo(index, size, suffix, 0);
+        return suffix;
     }
     
     /**
@@ -1103,7 +1912,12 @@ public class IndexedLinkedList<E> implements Deque<E>,
      */
     @Override
     public Spliterator<E> spliterator() {
-        return new LinkedListSpliterator<>(this, head, size, 0, modCount);
+        return new LinkedListSpliterator<>(this, 
+                                           head, 
+                                           size, 
+                                           0, 
+                                           modCount,
+                                           spliteratorBatchSize);
     }
     
     /**
@@ -1207,6 +2021,204 @@ public class IndexedLinkedList<E> implements Deque<E>,
         return stringBuilder.append("]").toString();
     }
 
+    /**
+     * Moves the elements in the range {@code [fromIndex, toIndex)} of this 
+     * list to the list {@code target} such that the first moved element ends
+     * up at the index {@code targetIndex} of {@code target}. The node chain of
+     * the range is relinked into {@code target} as is: no node is allocated 
+     * or copied, and as many of the fingers residing in the range as 
+     * {@code target} needs move together with their nodes. Apart from 
+     * reaching the range ends, the splice runs in 
+     * \(\mathcal{O}(\sqrt{n})\) time, where \(n\) is the size of the larger
+     * list. The {@linkplain Handle handles} of the moved elements become 
+     * invalid, while the handles of the other elements stay valid; if this 
+     * list has valid handles, invalidating them walks the range once.
+     * 
+     * <p>
+     * 
+     * If this list has live {@linkplain #snapshotIterator() snapshot 
+     * iterators}, the nodes are not moved, since the snapshots must keep 
+     * seeing them. Instead, the elements are copied into {@code target} via
+     * {@link #addAll(int, java.util.Collection)} and then removed from this 
+     * list in a single sweep, which runs in \(\mathcal{O}(n + m)\) time, 
+     * where \(m\) is the size of {@code target}. Closing or exhausting the 
+     * snapshots beforehand restores the splice.
+     * 
+     * @param fromIndex   the starting, inclusive index of the range to move.
+     * @param toIndex     the ending, exclusive index of the range to move.
+     * @param target      the list receiving the elements.
+     * @param targetIndex the index of the first moved element in 
+     *                    {@code target}.
+     * @throws IndexOutOfBoundsException if the range is out of the bounds of
+     *                                   this list, or {@code targetIndex} is
+     *                                   out of the bounds of {@code target}.
+     * @throws IllegalArgumentException if {@code fromIndex > toIndex}, or 
+     *                                  {@code target} is this list.
+     * @throws NullPointerException if {@code target} is {@code null}.
+     */
+    public void transferTo(int fromIndex, 
+                           int toIndex, 
+                           IndexedLinkedList<E> target,
+                           int targetIndex) {
+        Objects.requireNonNull(target, "The target list is null.");
+        
+        if (target == this) {
+            throw new IllegalArgumentException(
+                    "Cannot transfer a range to the same list.");
+        }
+        
+        subListRangeCheck(fromIndex, toIndex, size);
+        target.checkPositionIndex(targetIndex);
+        
+        int rangeLength = toIndex - fromIndex;
+        
+        if (rangeLength == 0) {
+            return;
+        }
+        
+        if (hasLiveSnapshots()) {
+            target.addAll(targetIndex, subList(fromIndex, toIndex));
+            removeMatching((item) -> true, fromIndex, toIndex);
+            return;
+        }
+        
+        Node<E> first = node(fromIndex);
+        Node<E> last = node(toIndex - 1);
+        Node<E> successor = targetIndex == target.size ? 
+                            null : 
+                            target.node(targetIndex);
+        
+        // The handles of the moved elements must not resolve in this list,
+        // while the handles of the rest stay valid:
+        invalidateHandles(first, last.next);
+        
+        Node<E> predecessor = successor == null ? target.tail : successor.prev;
+        
+        // Hand the fingers of the range over to the target:
+        fingerList.flushPendingShifts();
+        target.fingerList.flushPendingShifts();
+        
+        int fromFingerIndex = fingerList.getFingerIndexImpl(fromIndex);
+        int toFingerIndex = fingerList.getFingerIndexImpl(toIndex);
+        int numberOfRangeFingers = toFingerIndex - fromFingerIndex;
+        int targetFingerIndex = 
+                target.fingerList.getFingerIndexImpl(targetIndex);
+        
+        int numberOfAdoptedFingers = 
+                getRecommendedNumberOfFingers(target.size + rangeLength) 
+                - target.fingerList.size();
+        
+        numberOfAdoptedFingers = Math.max(0, 
+                                          Math.min(numberOfAdoptedFingers, 
+                                                   numberOfRangeFingers));
+        
+        target.fingerList.makeRoomAtIndex(targetFingerIndex, 
+                                          numberOfAdoptedFingers, 
+                                          rangeLength);
+        
+        // Pick the adopted fingers evenly over the elements of the range:
+        int fingerIndex = fromFingerIndex;
+        
+        for (int i = 0; i < numberOfAdoptedFingers; i++) {
+            long offset = (2L * i + 1) * rangeLength 
+                        / (2 * numberOfAdoptedFingers);
+            
+            fingerIndex = 
+                    getClosestFingerIndex(
+                            fingerList, 
+                            fingerIndex, 
+                            toFingerIndex - numberOfAdoptedFingers + i, 
+                            fromIndex + (int) offset);
+            
+            target.fingerList.setFinger(
+                    targetFingerIndex + i, 
+                    fingerList.getFingerNode(fingerIndex), 
+                    fingerList.getElementIndex(fingerIndex) 
+                            - fromIndex 
+                            + targetIndex);
+            
+            fingerIndex++;
+        }
+        
+        // Cut the range out of this list:
+        Node<E> sourcePredecessor = first.prev;
+        Node<E> sourceSuccessor = last.next;
+        
+        if (sourcePredecessor == null) {
+            head = sourceSuccessor;
+        } else {
+            preserveNode(sourcePredecessor);
+            sourcePredecessor.next = sourceSuccessor;
+        }
+        
+        if (sourceSuccessor == null) {
+            tail = sourcePredecessor;
+        } else {
+            sourceSuccessor.prev = sourcePredecessor;
+        }
+        
+        int numberOfFingers = fingerList.size();
+        
+        // Move also the end-of-finger-list sentinel:
+        fingerList.moveFingers(toFingerIndex, 
+                               fromFingerIndex, 
+                               numberOfFingers - toFingerIndex + 1);
+        
+        fingerList.clearFingers(numberOfFingers + 1 - numberOfRangeFingers, 
+                                numberOfFingers + 1);
+        
+        fingerList.size -= numberOfRangeFingers;
+        fingerList.shiftFingerIndicesToLeft(fromFingerIndex, rangeLength);
+        size -= rangeLength;
+        ++modCount;
+        fingerList.contractFingerArrayIfNeeded(fingerList.size());
+        adjustNumberOfFingersAtSeam(fromFingerIndex);
+        
+        // Splice the range into the target:
+        first.prev = predecessor;
+        preserveNode(last);
+        last.next = successor;
+        
+        if (predecessor == null) {
+            target.head = first;
+        } else {
+            target.preserveNode(predecessor);
+            predecessor.next = first;
+        }
+        
+        if (successor == null) {
+            target.tail = last;
+        } else {
+            successor.prev = last;
+        }
+        
+        target.increaseSize(rangeLength);
+        target.adjustNumberOfFingersAtSeam(
+                targetFingerIndex + numberOfAdoptedFingers);
+    }
+
+    /**
+     * Removes the management bean of this list from the platform MBean 
+     * server. Does nothing if this list is not registered.
+     * 
+     * @see #registerMXBean(java.lang.String) 
+     */
+    public void unregisterMXBean() {
+        if (mxBeanName == null) {
+            return;
+        }
+        
+        try {
+            ManagementFactory.getPlatformMBeanServer()
+                             .unregisterMBean(mxBeanName);
+        } catch (JMException ex) {
+            throw new IllegalStateException(
+                    "Could not unregister " + mxBeanName, ex);
+        } finally {
+            mxBeanName = null;
+        }
+    }
+
     /**
      * Returns the number of fingers in the finger list. Does not count the 
      * end-of-finger-list sentinel finger. Used in unit tests.
@@ -1217,6 +2229,44 @@ public class IndexedLinkedList<E> implements Deque<E>,
         return fingerList.size();
     }
     
+    /**
+     * Returns the index of the finger in the finger index range 
+     * {@code [fromFingerIndex, toFingerIndex]} whose element index is closest
+     * to {@code elementIndex}. Runs in time proportional to the distance 
+     * between {@code fromFingerIndex} and the returned finger index, which 
+     * makes picking fingers for ascending element indices linear in total.
+     * 
+     * @param <E>             the list element type.
+     * @param fingerList      the finger list to search.
+     * @param fromFingerIndex the smallest finger index to return.
+     * @param toFingerIndex   the largest finger index to return.
+     * @param elementIndex    the target element index.
+     * @return the index of the closest finger.
+     */
+    private static <E> int getClosestFingerIndex(FingerList<E> fingerList,
+                                                 int fromFingerIndex,
+                                                 int toFingerIndex,
+                                                 int elementIndex) {
+        int fingerIndex = fromFingerIndex;
+        int distance = Math.abs(fingerList.getElementIndex(fingerIndex) 
+                              - elementIndex);
+        
+        while (fingerIndex < toFingerIndex) {
+            int nextDistance = 
+                    Math.abs(fingerList.getElementIndex(fingerIndex + 1) 
+                           - elementIndex);
+            
+            if (nextDistance > distance) {
+                break;
+            }
+            
+            distance = nextDistance;
+            fingerIndex++;
+        }
+        
+        return fingerIndex;
+    }
+    
     /**
      * Computes the recommended number of fingers for {@code size} elements. 
      * Equals \(\Bigg\lceil \sqrt{N} \Bigg\rceil\), where \(N = \) {@code size}.
@@ -1271,7 +2321,8 @@ public class IndexedLinkedList<E> implements Deque<E>,
                 getRecommendedNumberOfFingers() - fingerList.size();
 
         if (numberOfNewFingers == 0) {
-            fingerList.get(fingerList.size()).index += collectionSize;
+            fingerList.shiftFingerIndicesToRight(fingerList.size(), 
+                                                 collectionSize);
             return;
         }
         
@@ -1380,6 +2431,127 @@ public class IndexedLinkedList<E> implements Deque<E>,
                       0);
     }
     
+    /**
+     * Brings the number of fingers to the recommended value after a range of
+     * nodes was spliced in or out of this list next to the finger with the 
+     * index {@code seamFingerIndex}. The surplus fingers are removed evenly
+     * from a window of fingers around the seam twice as long as the surplus,
+     * so that no long finger-free stretch appears. The missing fingers are 
+     * spread evenly together with the fingers of the narrowest window around
+     * the seam that has room for all of them. Runs in time proportional to 
+     * the number of fingers plus the number of elements in the window, which
+     * exceeds the number of missing fingers by at most one gap between two 
+     * fingers.
+     * 
+     * @param seamFingerIndex the index of the finger right after the seam.
+     */
+    private void adjustNumberOfFingersAtSeam(int seamFingerIndex) {
+        fingerList.flushPendingShifts();
+        
+        int numberOfFingers = fingerList.size();
+        int recommendedNumberOfFingers = getRecommendedNumberOfFingers();
+        
+        if (numberOfFingers > recommendedNumberOfFingers) {
+            int fingersToRemove = numberOfFingers - recommendedNumberOfFingers;
+            int windowLength = Math.min(numberOfFingers, 2 * fingersToRemove);
+            int windowStart = Math.min(seamFingerIndex - fingersToRemove, 
+                                       numberOfFingers - windowLength);
+            
+            windowStart = Math.max(windowStart, 0);
+            int fingersToKeep = windowLength - fingersToRemove;
+            int windowFromIndex = windowStart == 0 ? 
+                                  0 : 
+                                  fingerList.getElementIndex(windowStart - 1) 
+                                          + 1;
+            
+            int windowToIndex = 
+                    fingerList.getElementIndex(windowStart + windowLength);
+            
+            int fingerIndex = windowStart;
+            
+            // Compact the kept fingers to the left. The source finger index
+            // is never less than the target finger index:
+            for (int i = 0; i < fingersToKeep; i++) {
+                long offset = (2L * i + 1) * (windowToIndex - windowFromIndex)
+                            / (2 * fingersToKeep);
+                
+                fingerIndex = 
+                        getClosestFingerIndex(
+                                fingerList,
+                                fingerIndex,
+                                windowStart + windowLength - fingersToKeep + i,
+                                windowFromIndex + (int) offset);
+                
+                fingerList.setFinger(windowStart + i,
+                                     fingerList.getFingerNode(fingerIndex),
+                                     fingerList.getElementIndex(fingerIndex));
+                fingerIndex++;
+            }
+            
+            // Move also the end-of-finger-list sentinel:
+            fingerList.moveFingers(windowStart + windowLength, 
+                                   windowStart + fingersToKeep, 
+                                   numberOfFingers 
+                                           - windowStart 
+                                           - windowLength 
+                                           + 1);
+            
+            fingerList.clearFingers(numberOfFingers + 1 - fingersToRemove, 
+                                    numberOfFingers + 1);
+            
+            fingerList.size -= fingersToRemove;
+            fingerList.contractFingerArrayIfNeeded(fingerList.size());
+            return;
+        }
+        
+        int fingersToAdd = recommendedNumberOfFingers - numberOfFingers;
+        
+        if (fingersToAdd == 0) {
+            return;
+        }
+        
+        // Widen the window of fingers around the seam until the elements 
+        // between its boundary fingers can host the window fingers together
+        // with the new ones. The whole list can always host them:
+        int leftFingerIndex = seamFingerIndex - 1;
+        int rightFingerIndex = seamFingerIndex;
+        int leftIndex = leftFingerIndex < 0 ? 
+                        -1 : 
+                        fingerList.getElementIndex(leftFingerIndex);
+        
+        int rightIndex = fingerList.getElementIndex(rightFingerIndex);
+        
+        while (rightIndex - leftIndex - 1 
+                < rightFingerIndex - leftFingerIndex - 1 + fingersToAdd) {
+            
+            if (leftFingerIndex >= 0 && 
+                    (rightFingerIndex == numberOfFingers
+                    || seamFingerIndex - leftFingerIndex 
+                    <= rightFingerIndex - seamFingerIndex)) {
+                
+                leftFingerIndex--;
+                leftIndex = leftFingerIndex < 0 ? 
+                            -1 : 
+                            fingerList.getElementIndex(leftFingerIndex);
+            } else {
+                rightIndex = fingerList.getElementIndex(++rightFingerIndex);
+            }
+        }
+        
+        Node<E> node = leftFingerIndex < 0 ? 
+                       head : 
+                       fingerList.getFingerNode(leftFingerIndex).next;
+        
+        fingerList.makeRoomAtIndex(rightFingerIndex, fingersToAdd, 0);
+        
+        distributeFingers(node, 
+                          leftIndex + 1, 
+                          rightIndex, 
+                          rightFingerIndex - leftFingerIndex - 1 
+                                           + fingersToAdd, 
+                          leftFingerIndex + 1);
+    }
+    
     /**
      * Appends the input collection to the tail of this list.
      * 
@@ -1388,6 +2560,7 @@ public class IndexedLinkedList<E> implements Deque<E>,
     private void appendAll(Collection<? extends E> c) {
         Node<E> prev = tail;
         Node<E> oldLast = tail;
+        preserveNode(oldLast);
 
         for (E item : c) {
             Node<E> newNode = new Node<>(item);
@@ -1411,8 +2584,7 @@ public class IndexedLinkedList<E> implements Deque<E>,
      * @param index the index of {@code node}.
      */
     private void appendFinger(Node<E> node, int index) {
-        Finger<E> finger = new Finger<>(node, index);
-        fingerList.appendFinger(finger);
+        fingerList.appendFinger(node, index);
     }
     
     /**
@@ -1554,30 +2726,13 @@ public class IndexedLinkedList<E> implements Deque<E>,
                         int end) {
         Objects.requireNonNull(c);
         
-        if (c.isEmpty()) {
+        if (complement && c.isEmpty()) {
             return false;
         }
         
-        boolean modified = false;
-        
-        int numberOfNodesToIterate = end - from;
-        int i = 0;
-        int nodeIndex = from;
-        
-        for (Node<E> node = node(from); i < numberOfNodesToIterate; ++i) {
-            Node<E> nextNode = node.next;
-            
-            if (c.contains(node.item) == complement) {
-                modified = true;
-                removeObjectImpl(node, nodeIndex);
-            } else {
-                nodeIndex++;
-            }
-            
-            node = nextNode;
-        }
-        
-        return modified;
+        return removeMatching((item) -> c.contains(item) == complement, 
+                              from, 
+                              end);
     }
     
     /**
@@ -1646,6 +2801,9 @@ public class IndexedLinkedList<E> implements Deque<E>,
             return;
         }
         
+        ListOperationEvent event = new ListOperationEvent();
+        event.begin();
+        
         int fingerPrefixLength = fingerList.getFingerIndexImpl(fromIndex);
         int fingerSuffixLength = fingerList.size() 
                                - fingerList.getFingerIndexImpl(toIndex);
@@ -1658,15 +2816,40 @@ public class IndexedLinkedList<E> implements Deque<E>,
             return;
         }
         
+        distributeFingers(node(fromIndex), 
+                          fromIndex, 
+                          toIndex,
+                          numberOfRangeFingers, 
+                          fingerPrefixLength);
+        
+        event.commitOperation("distributeFingers", this, rangeLength);
+    }
+    
+    /**
+     * Distributes evenly the fingers 
+     * {@code [fingerPrefixLength, fingerPrefixLength + numberOfRangeFingers)}
+     * over the element list {@code [fromIndex, toIndex)} starting from the 
+     * node {@code node}. Does not rely on the fingers being distributed, and
+     * so may be used after the nodes of the range were relinked.
+     * 
+     * @param node                 the node at index {@code fromIndex}.
+     * @param fromIndex            the leftmost element index in the range.
+     * @param toIndex              the one past the rightmost element index in
+     *                             the range.
+     * @param numberOfRangeFingers the number of fingers to distribute.
+     * @param fingerPrefixLength   the index of the first finger to distribute.
+     */
+    private void distributeFingers(Node<E> node,
+                                   int fromIndex,
+                                   int toIndex,
+                                   int numberOfRangeFingers,
+                                   int fingerPrefixLength) {
+        int rangeLength = toIndex - fromIndex;
         int numberOfElementsPerFinger = rangeLength / numberOfRangeFingers;
         int index = fromIndex;
         
-        Node<E> node = node(fromIndex);
-        
         for (int i = 0; i < numberOfRangeFingers - 1; ++i) {
-            Finger<E> finger = fingerList.get(i + fingerPrefixLength);
-            finger.node = node;
-            finger.index = index;
+            fingerList.setFinger(i + fingerPrefixLength, node, index);
             
             for (int j = 0; j < numberOfElementsPerFinger; ++j) {
                 node = node.next;
@@ -1677,12 +2860,9 @@ public class IndexedLinkedList<E> implements Deque<E>,
         
         // Since we cannot advance node to the right, we need to deal with the
         // last (non-sentinel) finger manually:
-        Finger<E> lastFinger =
-                fingerList.get(
-                        numberOfRangeFingers - 1 + fingerPrefixLength);
-        
-        lastFinger.node  = node;
-        lastFinger.index = index;
+        fingerList.setFinger(numberOfRangeFingers - 1 + fingerPrefixLength,
+                             node, 
+                             index);
     }
     
     /**
@@ -1996,7 +3176,13 @@ public class IndexedLinkedList<E> implements Deque<E>,
             }
             
             checkForComodification();
+            E oldItem = lastReturned.item;
+            preserveNode(lastReturned);
             lastReturned.item = e;
+            
+            if (positionalIndex != null) {
+                positionalIndex.onSet(lastReturned, oldItem);
+            }
         }
 
         /**
@@ -2053,34 +3239,282 @@ public class IndexedLinkedList<E> implements Deque<E>,
     }
     
     /**
-     * Checks that the list {@code other} matches {@code this[from ... to - 1]}.
-     * 
-     * @param other the target list to compare to.
-     * @param from  the starting, inclusive index of the range in this list.
-     * @param to    the ending, exclusive index of the range in this list.
+     * This class implements an opaque handle of a list element. A handle is
+     * returned by the {@code add*AndGetHandle} methods and keeps referring to
+     * its element while the element moves within the list, so that the 
+     * element may be located, moved or removed without searching for it. The
+     * handle becomes invalid when its element is removed, when its element 
+     * is transferred to another list, or when a sort moves the elements 
+     * between the nodes, that is, any sort other than the 
+     * {@link SortStrategy#NATURAL_MERGE} one; using such a handle throws 
+     * {@link IllegalStateException}.
      * 
-     * @return {@code true} if and only if {@code other} equals 
-     *         {@code this[from ... to - 1]}.
+     * @param <E> the element type.
      */
-    private boolean equalsRange(List<?> other, int from, int to) {
-        int rangeLength = to - from;
+    public static final class Handle<E> {
         
-        if (rangeLength != other.size()) {
-            return false;
-        }
+        /**
+         * The list owning the element.
+         */
+        private final IndexedLinkedList<E> list;
         
-        Iterator<?> otherIterator = other.iterator();
+        /**
+         * The node holding the element, or {@code null} after the element 
+         * was removed via this handle.
+         */
+        private Node<E> node;
         
-        for (Node<E> node = node(from); from < to; from++, node = node.next) {
-            if (!otherIterator.hasNext() || 
-                    !Objects.equals(node.item, otherIterator.next())) {
-                return false;
-            }
+        /**
+         * Constructs a handle not referring to any element yet.
+         * 
+         * @param list the owner list.
+         */
+        private Handle(IndexedLinkedList<E> list) {
+            this.list = list;
+        }
+        
+        /**
+         * Returns the element referred to by this handle.
+         * 
+         * @return the element of this handle.
+         * @throws IllegalStateException if this handle is no longer valid.
+         */
+        public E get() {
+            return list.getHandleNode(this).item;
+        }
+    }
+    
+    /**
+     * This class implements an iterator over the snapshot of this list. It 
+     * follows the {@code next} links as they were at the start of the 
+     * snapshot: whenever a node was written after that, the iterator reads the
+     * newest saved version that is not newer than the snapshot.
+     */
+    public final class SnapshotIterator implements Iterator<E>, AutoCloseable {
+        
+        /**
+         * The epoch of this snapshot.
+         */
+        private final int epoch;
+        
+        /**
+         * The next node to iterate over.
+         */
+        private Node<E> next;
+        
+        /**
+         * The number of elements left to iterate.
+         */
+        private int remaining;
+        
+        /**
+         * Indicates whether this snapshot is released.
+         */
+        private boolean closed;
+        
+        /**
+         * The weak reference to this iterator. Lets the owner list release 
+         * this snapshot once this iterator is garbage collected.
+         */
+        private final Reference<SnapshotIterator> reference;
+        
+        /**
+         * Constructs the snapshot iterator pointing to the first element.
+         */
+        SnapshotIterator() {
+            if (abandonedSnapshotQueue == null) {
+                abandonedSnapshotQueue = new ReferenceQueue<>();
+                liveSnapshotReferences = new HashSet<>();
+            }
+            
+            epoch = snapshotEpoch++;
+            latestSnapshotEpoch = epoch;
+            reference = new WeakReference<>(this, abandonedSnapshotQueue);
+            liveSnapshotReferences.add(reference);
+            numberOfLiveSnapshots++;
+            next = head;
+            remaining = size;
+            
+            if (remaining == 0) {
+                close();
+            }
+        }
+        
+        /**
+         * Releases this snapshot. The subsequent writes to this list no longer
+         * save the node versions for this snapshot. Calling this method more 
+         * than once has no effect.
+         */
+        @Override
+        public void close() {
+            if (!closed) {
+                closed = true;
+                next = null;
+                remaining = 0;
+                reference.clear();
+                releaseSnapshot(reference);
+            }
+        }
+        
+        /**
+         * Returns {@code true} if and only if this iterator has more elements 
+         * to offer.
+         * 
+         * @return {@code true} if and only if iteration may continue.
+         */
+        @Override
+        public boolean hasNext() {
+            return remaining > 0;
+        }
+        
+        /**
+         * Returns the next element of the snapshot. Closes this snapshot 
+         * after returning the last element.
+         * 
+         * @return the next element.
+         * @throws NoSuchElementException if there are no elements left.
+         */
+        @Override
+        public E next() {
+            if (remaining == 0) {
+                throw new NoSuchElementException();
+            }
+            
+            Node<E> node = next;
+            Node.History<E> history = 
+                    nodeHistories == null ? null : nodeHistories.get(node);
+            
+            E item;
+            
+            if (history == null || history.stamp <= epoch) {
+                item = node.item;
+                next = node.next;
+            } else {
+                Node.Version<E> version = history.versions;
+                
+                while (version.stamp > epoch) {
+                    version = version.older;
+                }
+                
+                item = version.item;
+                next = version.next;
+            }
+            
+            if (--remaining == 0) {
+                close();
+            }
+            
+            return item;
+        }
+    }
+    
+    /**
+     * Makes {@code handle} refer to the element in {@code node}.
+     * 
+     * @param handle the handle to bind.
+     * @param node   the node holding the element.
+     */
+    private void bindHandle(Handle<E> handle, Node<E> node) {
+        if (handles == null) {
+            handles = new IdentityHashMap<>();
+        }
+        
+        handle.node = node;
+        handles.put(node, handle);
+    }
+    
+    /**
+     * Checks that the list {@code other} matches {@code this[from ... to - 1]}.
+     * 
+     * @param other the target list to compare to.
+     * @param from  the starting, inclusive index of the range in this list.
+     * @param to    the ending, exclusive index of the range in this list.
+     * 
+     * @return {@code true} if and only if {@code other} equals 
+     *         {@code this[from ... to - 1]}.
+     */
+    private boolean equalsRange(List<?> other, int from, int to) {
+        int rangeLength = to - from;
+        
+        if (rangeLength != other.size()) {
+            return false;
+        }
+        
+        Iterator<?> otherIterator = other.iterator();
+        
+        for (Node<E> node = node(from); from < to; from++, node = node.next) {
+            if (!otherIterator.hasNext() || 
+                    !Objects.equals(node.item, otherIterator.next())) {
+                return false;
+            }
         }
         
         return true;
     }
     
+    /**
+     * Returns the element index of the node referred to by a handle.
+     * 
+     * @param node the linked node of this list.
+     * @return the element index of {@code node}.
+     */
+    private int getHandleIndex(Node<E> node) {
+        if (handleFingerTable == null) {
+            handleFingerTable = new FingerTable<>();
+        }
+        
+        handleFingerTable.load(fingerList);
+        return handleFingerTable.getNodeIndex(node, size);
+    }
+    
+    /**
+     * Returns the node referred to by {@code handle} after checking that the 
+     * handle is valid for this list.
+     * 
+     * @param handle the handle to check.
+     * @return the node of {@code handle}.
+     * @throws IllegalArgumentException if {@code handle} belongs to another 
+     *                                  list.
+     * @throws IllegalStateException if {@code handle} is no longer valid.
+     * @throws NullPointerException if {@code handle} is {@code null}.
+     */
+    private Node<E> getHandleNode(Handle<E> handle) {
+        Objects.requireNonNull(handle, "The input handle is null.");
+        
+        if (handle.list != this) {
+            throw new IllegalArgumentException(
+                    "The input handle belongs to another list.");
+        }
+        
+        Node<E> node = handle.node;
+        
+        // The node was unlinked since, has left this list, or now holds 
+        // another element:
+        if (node == null || handles == null || handles.get(node) != handle) {
+            throw new IllegalStateException(
+                    "The input handle is no longer valid.");
+        }
+        
+        return node;
+    }
+    
+    /**
+     * Returns the last node of the maximal non-descending run starting from 
+     * {@code node}.
+     * 
+     * @param node the first node of the run.
+     * @param c    the element comparator.
+     * @return the last node of the run.
+     */
+    private static <E> Node<E> getLastNodeOfRun(Node<E> node, 
+                                                Comparator<? super E> c) {
+        while (node.next != null && c.compare(node.next.item, node.item) >= 0) {
+            node = node.next;
+        }
+        
+        return node;
+    }
+    
     /**
      * Constructs an IndexOutOfBoundsException detail message.
      * 
@@ -2119,6 +3553,120 @@ public class IndexedLinkedList<E> implements Deque<E>,
         return node;
     }
     
+    /**
+     * Returns the nodes at the given indices in the order of {@code indices}.
+     * Sorts the indices and reaches each node from the closest of the 
+     * previously reached node, the two fingers surrounding the index and the
+     * tail. Since the indices are sorted, the surrounding fingers are found by
+     * advancing a finger cursor, so the finger list is scanned once in total.
+     * Does not modify the finger list.
+     * 
+     * @param indices the requested indices.
+     * @return the nodes at the requested indices.
+     * @throws IndexOutOfBoundsException if any of the indices is out of range.
+     */
+    @SuppressWarnings("unchecked")
+    private Node<E>[] getNodes(int[] indices) {
+        int numberOfIndices = indices.length;
+        long[] keys = new long[numberOfIndices];
+        
+        for (int i = 0; i < numberOfIndices; i++) {
+            checkElementIndex(indices[i]);
+            // Tie on the index keeps the request order:
+            keys[i] = ((long) indices[i] << 32) | i;
+        }
+        
+        Arrays.sort(keys);
+        
+        Node<E>[] nodes = (Node<E>[]) new Node<?>[numberOfIndices];
+        Node<E> cursor = null;
+        int cursorIndex = 0;
+        int fingerIndex = 0;
+        int numberOfFingers = fingerList.size();
+        
+        for (long key : keys) {
+            int elementIndex = (int) (key >>> 32);
+            
+            // Find the leftmost finger at or after 'elementIndex':
+            while (fingerIndex < numberOfFingers 
+                    && fingerList.getElementIndex(fingerIndex) < elementIndex) {
+                fingerIndex++;
+            }
+            
+            // Start from the tail:
+            Node<E> node = tail;
+            int steps = elementIndex - (size - 1);
+            
+            if (cursor == null) {
+                if (elementIndex < -steps) {
+                    node = head;
+                    steps = elementIndex;
+                }
+            } else if (elementIndex - cursorIndex < -steps) {
+                node = cursor;
+                steps = elementIndex - cursorIndex;
+            }
+            
+            if (fingerIndex > 0) {
+                int distance = elementIndex 
+                             - fingerList.getElementIndex(fingerIndex - 1);
+                
+                if (distance < Math.abs(steps)) {
+                    node = fingerList.getFingerNode(fingerIndex - 1);
+                    steps = distance;
+                }
+            }
+            
+            if (fingerIndex < numberOfFingers) {
+                int distance = elementIndex 
+                             - fingerList.getElementIndex(fingerIndex);
+                
+                if (-distance < Math.abs(steps)) {
+                    node = fingerList.getFingerNode(fingerIndex);
+                    steps = distance;
+                }
+            }
+            
+            if (steps > 0) {
+                for (int i = 0; i < steps; i++) {
+                    node = node.next;
+                }
+            } else {
+                for (int i = 0; i < -steps; i++) {
+                    node = node.prev;
+                }
+            }
+            
+            nodes[(int) key] = node;
+            cursor = node;
+            cursorIndex = elementIndex;
+        }
+        
+        return nodes;
+    }
+    
+    /**
+     * Returns {@code true} only if a snapshot iterator of this list is still
+     * live. Releases first the snapshots whose iterators were garbage 
+     * collected without being exhausted or closed. Runs in constant amortized
+     * time.
+     * 
+     * @return {@code true} only if there is a live snapshot.
+     */
+    private boolean hasLiveSnapshots() {
+        if (numberOfLiveSnapshots == 0) {
+            return false;
+        }
+        
+        Reference<?> reference;
+        
+        while ((reference = abandonedSnapshotQueue.poll()) != null) {
+            releaseSnapshot(reference);
+        }
+        
+        return numberOfLiveSnapshots != 0;
+    }
+    
     /**
      * Computes the hash code for the range {@code this[from, to - 1]} and 
      * returns it.
@@ -2210,6 +3758,7 @@ public class IndexedLinkedList<E> implements Deque<E>,
         
         Node<E> pred = succ.prev;
         Node<E> prev = pred;
+        preserveNode(pred);
 
         for (E item : c) {
             Node<E> newNode = new Node<>(item);
@@ -2230,6 +3779,35 @@ public class IndexedLinkedList<E> implements Deque<E>,
                                  succIndex,
                                  sz);
     }
+    
+    /**
+     * Invalidates the handle of the element in {@code node}, if any.
+     * 
+     * @param node the node whose handle to invalidate.
+     */
+    private void invalidateHandle(Node<E> node) {
+        if (handles != null 
+                && handles.remove(node) != null 
+                && handles.isEmpty()) {
+            handles = null;
+        }
+    }
+    
+    /**
+     * Invalidates the handles of the elements in the nodes starting from 
+     * {@code first} and preceding {@code successor}. Stops as soon as no 
+     * valid handles are left, and so visits no nodes if there are none.
+     * 
+     * @param first     the first node of the range.
+     * @param successor the node following the range, or {@code null}.
+     */
+    private void invalidateHandles(Node<E> first, Node<E> successor) {
+        for (Node<E> node = first; 
+                handles != null && node != successor; 
+                node = node.next) {
+            invalidateHandle(node);
+        }
+    }
 
     /**
      * Tells if the argument is the index of an existing element. The index is
@@ -2297,18 +3875,22 @@ public class IndexedLinkedList<E> implements Deque<E>,
      */
     private void linkBefore(E e, int index, Node<E> succ) {
         Node<E> pred = succ.prev;
-        Node<E> newNode = new Node<>(e);
+        Node<E> newNode = newNode(e);
         
         newNode.next = succ;
         newNode.prev = pred;
         succ.prev = newNode;
+        preserveNode(pred);
         pred.next = newNode;
 
         increaseSize();
+        
+        if (positionalIndex != null) {
+            positionalIndex.onLink(newNode);
+        }
 
         if (mustAddFinger()) {
-            fingerList.insertFingerAndShiftOnceToRight(
-                    new Finger<>(newNode, index));
+            fingerList.insertFingerAndShiftOnceToRight(newNode, index);
         } else {
             int fingerIndex = fingerList.getFingerIndexImpl(index);
             fingerList.shiftFingerIndicesToRightOnce(fingerIndex);
@@ -2322,7 +3904,7 @@ public class IndexedLinkedList<E> implements Deque<E>,
      */
     private void linkFirst(E e) {
         Node<E> oldFirst = head;
-        Node<E> newNode = new Node<>(e);
+        Node<E> newNode = newNode(e);
         newNode.item = e;
         newNode.next = oldFirst;
         head = newNode;
@@ -2334,6 +3916,10 @@ public class IndexedLinkedList<E> implements Deque<E>,
         }
 
         increaseSize();
+        
+        if (positionalIndex != null) {
+            positionalIndex.onLink(newNode);
+        }
 
         if (mustAddFinger()) {
             fingerList.prependFingerForNode(newNode);
@@ -2349,81 +3935,36 @@ public class IndexedLinkedList<E> implements Deque<E>,
      */
     private void linkLast(E e) {
         Node<E> oldTail = tail;
-        Node<E> newNode = new Node<>(e);
+        Node<E> newNode = newNode(e);
         newNode.prev = oldTail;
         tail = newNode;
         
         if (oldTail == null) {
             head = newNode;
         } else {
+            preserveNode(oldTail);
             oldTail.next = newNode;
         }
         
         increaseSize();
         
-        if (mustAddFinger()) {
-            appendFinger(newNode, size - 1);
-        } else {
-            fingerList.get(fingerList.size()).index++;
+        if (positionalIndex != null) {
+            positionalIndex.onLink(newNode);
         }
-    }
-    
-    private void loadFingerCoverageCounters(int fromFingerIndex,
-                                            int toFingerIndex,
-                                            int fromIndex,
-                                            int toIndex,
-                                            int fingersToRemove) {
-        
-        int fingerPrefixLength = fromFingerIndex;
-        int fingerSuffixLength = fingerList.size() - toFingerIndex;
-
-        int listPrefixFreeSpots = fromIndex;
-        int listSuffixFreeSpots = size - toIndex;
-
-        int freeFingerPrefixSpots = listPrefixFreeSpots
-                                  - fingerPrefixLength;
-
-        int freeFingerSuffixSpots = listSuffixFreeSpots 
-                                  - fingerSuffixLength;
-
-        int freeSpots = freeFingerPrefixSpots
-                      + freeFingerSuffixSpots;
-
-        float leftRatio = (float)(freeFingerPrefixSpots) / 
-                          (float)(freeSpots);
-
-        int remainingFingers = fingerList.size() - fingersToRemove;
         
-        int leftCoveredFingers  = (int)(leftRatio * remainingFingers);
-        int rightCoveredFingers = remainingFingers - leftCoveredFingers;
-
-        this.numberOfCoveringFingersToPrefix = leftCoveredFingers;
-        this.numberOfCoveringFingersToSuffix = rightCoveredFingers;
-    }
-    
-    // TODO: Deploy.
-    private void loadRemoveRangeEndNodes(int fromIndex, int toIndex) {
-        Node<E> startNode = fingerList.getNodeNoFingersFix(fromIndex);
-        Node<E> endNode   = fingerList.getNodeNoFingersFix(toIndex);
-        
-        if (endNode == null) {
-            endNode = tail;
+        if (mustAddFinger()) {
+            appendFinger(newNode, size - 1);
         } else {
-            endNode = endNode.prev;
+            fingerList.shiftFingerIndicesToRightOnce(fingerList.size());
         }
-        
-        this.removeRangeStartNode = startNode;
-        this.removeRangeEndNode   = endNode;
     }
     
     /**
-     * Moves the {@code finger} out of the element with index 
-     * {@code finger.index}.
+     * Moves the {@code fingerIndex}th finger out of the element it points to.
      * 
-     * @param finger      the finger to move. 
-     * @param fingerIndex the index of {@code finger}.
+     * @param fingerIndex the index of the finger to move.
      */
-    void moveFingerOutOfRemovalLocation(Finger<E> finger, int fingerIndex) {
+    void moveFingerOutOfRemovalLocation(int fingerIndex) {
         if (fingerList.size() == size()) {
             // Here, fingerList.size() is 1 or 2 and the size of the list is the
             // same:
@@ -2437,18 +3978,16 @@ public class IndexedLinkedList<E> implements Deque<E>,
                 case 0:
                     // Shift 2nd and the sentinal fingers one position to the
                     // left:
-                    fingerList.setFinger(0, fingerList.get(1));
-                    fingerList.get(0).index = 0;
-                    fingerList.setFinger(1, fingerList.get(2));
-                    fingerList.get(1).index = 1;
-                    fingerList.setFinger(2, null);
+                    fingerList.setFinger(0, fingerList.getFingerNode(1), 0);
+                    fingerList.setFinger(1, fingerList.getFingerNode(2), 1);
+                    fingerList.setFinger(2, null, 0);
                     fingerList.size = 1;
                     break;
                     
                 case 1:
                     // Just remove the (last) finger:
                     fingerList.removeFinger();
-                    fingerList.get(1).index = 1;
+                    fingerList.setElementIndex(1, 1);
                     break;
             }
             
@@ -2468,39 +4007,342 @@ public class IndexedLinkedList<E> implements Deque<E>,
         // Once here, the only free spots are at the very beginning of the
         // finger list:
         for (int i = 0; i <= fingerIndex; ++i) {
-            Finger<E> fngr = fingerList.get(i);
-            fngr.index--;
-            fngr.node = fngr.node.prev;
+            fingerList.setFinger(i, 
+                                 fingerList.getFingerNode(i).prev, 
+                                 fingerList.getElementIndex(i) - 1);
         }
         
         fingerList.shiftFingerIndicesToLeft(fingerIndex + 1, 1);
     }
     
     /**
-     * Returns {@code true} if and only if this list requires more fingers.
+     * Sorts stably the {@code null}-terminated chain of nodes hanging from 
+     * {@code sentinel.next} via their {@code next} links. Each pass merges the 
+     * adjacent pairs of the natural runs until a pass sees at most two runs.
+     * Does not update the {@code prev} links. If {@code c} throws, the chain
+     * is restored to a permutation of its nodes before rethrowing.
      * 
-     * @return {@code true} if and only if this list requires more fingers.
+     * @param sentinel the node pointing to the first node of the chain.
+     * @param c        the element comparator.
      */
-    private boolean mustAddFinger() {
-        // Here, fingerStack.size() == getRecommendedFingerCount(), or,
-        // fingerStack.size() == getRecommendedFingerCount() - 1
-        return fingerList.size() != getRecommendedNumberOfFingers();
+    private static <E> void mergeSortChain(Node<E> sentinel, 
+                                           Comparator<? super E> c) {
+        int numberOfRuns;
+        
+        do {
+            Node<E> tail = sentinel;
+            Node<E> rest = sentinel.next;
+            numberOfRuns = 0;
+            
+            while (rest != null) {
+                Node<E> leftLast;
+                Node<E> rightLast;
+                
+                try {
+                    leftLast = getLastNodeOfRun(rest, c);
+                    rightLast = leftLast.next == null ? 
+                                null : 
+                                getLastNodeOfRun(leftLast.next, c);
+                } catch (RuntimeException | Error ex) {
+                    tail.next = rest;
+                    throw ex;
+                }
+                
+                if (rightLast == null) {
+                    // An odd run out:
+                    tail.next = rest;
+                    numberOfRuns++;
+                    break;
+                }
+                
+                Node<E> left = rest;
+                Node<E> right = leftLast.next;
+                rest = rightLast.next;
+                leftLast.next = null;
+                rightLast.next = null;
+                numberOfRuns += 2;
+                
+                try {
+                    while (left != null && right != null) {
+                        if (c.compare(right.item, left.item) < 0) {
+                            tail.next = right;
+                            tail = right;
+                            right = right.next;
+                        } else {
+                            tail.next = left;
+                            tail = left;
+                            left = left.next;
+                        }
+                    }
+                } catch (RuntimeException | Error ex) {
+                    // Both the runs are non-empty here:
+                    tail.next = left;
+                    leftLast.next = right;
+                    rightLast.next = rest;
+                    throw ex;
+                }
+                
+                if (left != null) {
+                    tail.next = left;
+                    tail = leftLast;
+                } else {
+                    tail.next = right;
+                    tail = rightLast;
+                }
+            }
+        } while (numberOfRuns > 2);
     }
     
     /**
-     * Returns {@code true} if and only if this list requires less fingers.
+     * Sorts stably the range {@code [fromIndex, toIndex)} by relinking its 
+     * nodes via the bottom-up natural merge sort, and then distributes the 
+     * fingers of the range over the sorted range once. Runs in 
+     * \(\mathcal{O}(n \log n)\) time and in \(\mathcal{O}(1)\) extra 
+     * space.
      * 
-     * @return {@code true} if and only if this list requires less fingers.
+     * @param fromIndex the starting, inclusive index of the range to sort.
+     * @param toIndex   the ending, exclusive index of the range to sort.
+     * @param c         the element comparator. If {@code null}, the natural
+     *                  ordering is used.
      */
-    private boolean mustRemoveFinger() {
-        // Here, fingerStack.size() == getRecommendedFingerCount(), or,
-        // fingerStack.size() == getRecommendedFingerCount() + 1
-        return fingerList.size() != getRecommendedNumberOfFingers();
-    }
-    
-    /**
-     * Returns the node at index {@code elementIndex}.
-     * 
+    @SuppressWarnings("unchecked")
+    private void mergeSortRange(int fromIndex, 
+                                int toIndex, 
+                                Comparator<? super E> c) {
+        if (toIndex - fromIndex < 2) {
+            return;
+        }
+        
+        if (c == null) {
+            c = (Comparator<? super E>) Comparator.naturalOrder();
+        }
+        
+        Node<E> first = node(fromIndex);
+        Node<E> last = node(toIndex - 1);
+        Node<E> predecessor = first.prev;
+        Node<E> successor = last.next;
+        Node<E> sentinel = new Node<>(null);
+        
+        if (hasLiveSnapshots()) {
+            // The sort relinks the whole range and the predecessor:
+            if (predecessor != null) {
+                preserveNode(predecessor);
+            }
+            
+            for (Node<E> node = first; node != successor; node = node.next) {
+                preserveNode(node);
+            }
+        }
+        
+        sentinel.next = first;
+        last.next = null;
+        
+        try {
+            mergeSortChain(sentinel, c);
+        } finally {
+            spliceSortedChain(sentinel.next, 
+                              predecessor, 
+                              successor, 
+                              fromIndex, 
+                              toIndex);
+        }
+    }
+    
+    /**
+     * Sorts stably the range {@code [fromIndex, toIndex)} in parallel. The 
+     * range is cut at the fingers into {@code null}-terminated node chains,
+     * about {@link #PARALLEL_SORT_SEGMENTS_PER_THREAD} per thread of the 
+     * common fork-join pool, which are sorted and then merged pairwise by 
+     * relinking by a {@link SegmentSortTask}. Each task sorts its segment in 
+     * an array of the segment length, so that the whole range is never 
+     * copied at once. If {@code c} throws, the range is left holding a 
+     * permutation of its elements.
+     * 
+     * @param fromIndex the starting, inclusive index of the range to sort.
+     * @param toIndex   the ending, exclusive index of the range to sort.
+     * @param c         the element comparator. If {@code null}, the natural
+     *                  ordering is used.
+     * 
+     * @see #parallelSort(java.util.Comparator) 
+     */
+    @SuppressWarnings("unchecked")
+    private void parallelSortRange(int fromIndex, 
+                                   int toIndex, 
+                                   Comparator<? super E> c) {
+        int rangeLength = toIndex - fromIndex;
+        
+        if (rangeLength < 2) {
+            return;
+        }
+        
+        if (c == null) {
+            c = (Comparator<? super E>) Comparator.naturalOrder();
+        }
+        
+        // Plan for at least two threads so that the segments get merged 
+        // even on a single processor:
+        int parallelism = Math.max(2, ForkJoinPool.getCommonPoolParallelism());
+        int minimumSegmentLength = 
+                Math.max(PARALLEL_SORT_MINIMUM_SEGMENT_LENGTH,
+                         rangeLength / (PARALLEL_SORT_SEGMENTS_PER_THREAD 
+                                        * parallelism));
+        
+        Node<E> first = node(fromIndex);
+        Node<E> last = node(toIndex - 1);
+        Node<E> predecessor = first.prev;
+        Node<E> successor = last.next;
+        int fromFingerIndex = fingerList.getFingerIndexImpl(fromIndex);
+        int toFingerIndex = fingerList.getFingerIndexImpl(toIndex);
+        int maximumNumberOfSegments = toFingerIndex - fromFingerIndex + 1;
+        
+        Node<E>[] segmentChains = 
+                (Node<E>[]) new Node<?>[maximumNumberOfSegments];
+        
+        int numberOfSegments = 1;
+        int segmentStartIndex = fromIndex;
+        segmentChains[0] = first;
+        
+        // Cut the range at the fingers, but not into too short segments:
+        for (int i = fromFingerIndex; i < toFingerIndex; ++i) {
+            int index = fingerList.getElementIndex(i);
+            
+            if (index - segmentStartIndex >= minimumSegmentLength
+                    && toIndex - index >= minimumSegmentLength) {
+                
+                segmentChains[numberOfSegments++] = 
+                        fingerList.getFingerNode(i);
+                
+                segmentStartIndex = index;
+            }
+        }
+        
+        if (hasLiveSnapshots()) {
+            // The sort relinks the whole range and the predecessor:
+            if (predecessor != null) {
+                preserveNode(predecessor);
+            }
+            
+            for (Node<E> node = first; node != successor; node = node.next) {
+                preserveNode(node);
+            }
+        }
+        
+        // The elements move between the nodes within the segments:
+        invalidateHandles(first, successor);
+        
+        for (int i = 1; i < numberOfSegments; ++i) {
+            segmentChains[i].prev.next = null;
+        }
+        
+        last.next = null;
+        
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+        
+        new SegmentSortTask<>(segmentChains, 
+                              c, 
+                              failure, 
+                              0, 
+                              numberOfSegments).invoke();
+        
+        Node<E> sentinel = new Node<>(null);
+        sentinel.next = segmentChains[0];
+        
+        if (failure.get() != null) {
+            // Some segments were left unmerged, concatenate them:
+            Node<E> node = sentinel;
+            
+            for (int i = 0; i < numberOfSegments; ++i) {
+                if (segmentChains[i] != null) {
+                    node.next = segmentChains[i];
+                    
+                    while (node.next != null) {
+                        node = node.next;
+                    }
+                }
+            }
+        }
+        
+        spliceSortedChain(sentinel.next, 
+                          predecessor, 
+                          successor, 
+                          fromIndex,
+                          toIndex);
+        
+        Throwable throwable = failure.get();
+        
+        if (throwable instanceof Error) {
+            throw (Error) throwable;
+        }
+        
+        if (throwable != null) {
+            throw (RuntimeException) throwable;
+        }
+    }
+    
+    /**
+     * Returns {@code true} if and only if this list requires more fingers.
+     * 
+     * @return {@code true} if and only if this list requires more fingers.
+     */
+    private boolean mustAddFinger() {
+        // Here, fingerStack.size() == getRecommendedFingerCount(), or,
+        // fingerStack.size() == getRecommendedFingerCount() - 1
+        return fingerList.size() != getRecommendedNumberOfFingers();
+    }
+    
+    /**
+     * Returns {@code true} if and only if this list requires less fingers.
+     * 
+     * @return {@code true} if and only if this list requires less fingers.
+     */
+    private boolean mustRemoveFinger() {
+        // Here, fingerStack.size() == getRecommendedFingerCount(), or,
+        // fingerStack.size() == getRecommendedFingerCount() + 1
+        return fingerList.size() != getRecommendedNumberOfFingers();
+    }
+    
+    /**
+     * Returns a new handle of the element in {@code node}.
+     * 
+     * @param node the node holding the element.
+     * @return the handle of the element.
+     */
+    private Handle<E> newHandle(Node<E> node) {
+        Handle<E> handle = new Handle<>(this);
+        bindHandle(handle, node);
+        return handle;
+    }
+    
+    /**
+     * Returns a node holding {@code item}, taking it from the node pool when
+     * possible.
+     * 
+     * @param item the item of the node.
+     * @return a node with no links holding {@code item}.
+     */
+    private Node<E> newNode(E item) {
+        Node<E> node = nodePool;
+        
+        if (node == null) {
+            if (nodePoolCapacity > 0) {
+                nodePoolMisses++;
+            }
+            
+            return new Node<>(item);
+        }
+        
+        nodePool = node.next;
+        nodePoolSize--;
+        nodePoolHits++;
+        preserveNode(node);
+        node.next = null;
+        node.item = item;
+        return node;
+    }
+    
+    /**
+     * Returns the node at index {@code elementIndex}.
+     * 
      * @param elementIndex the index of the target element.
      * @return the node containing the target element.
      */
@@ -2538,6 +4380,40 @@ public class IndexedLinkedList<E> implements Deque<E>,
         addFingersAfterPrependAll(sz);
     }
     
+    /**
+     * Prepares {@code node} for a write to its {@code item} or {@code next} 
+     * field. If a live snapshot may still see the current values, they are 
+     * saved in the history of the node as a version stamped with the epoch 
+     * they were written in. Runs in expected constant time.
+     * 
+     * @param node the node about to be written.
+     */
+    private void preserveNode(Node<E> node) {
+        if (!hasLiveSnapshots()) {
+            return;
+        }
+        
+        if (nodeHistories == null) {
+            nodeHistories = new IdentityHashMap<>();
+        }
+        
+        Node.History<E> history = nodeHistories.get(node);
+        
+        if (history == null) {
+            // Written before all the live snapshots started, if ever:
+            history = new Node.History<>(Integer.MIN_VALUE);
+            nodeHistories.put(node, history);
+        }
+        
+        if (history.stamp <= latestSnapshotEpoch) {
+            history.versions = new Node.Version<>(history.stamp, 
+                                                  node.item, 
+                                                  node.next,
+                                                  history.versions);
+            history.stamp = snapshotEpoch;
+        }
+    }
+    
     /**
      * Reconstitutes this {@code LinkedList} instance from a stream (that is, 
      * deserializes it).
@@ -2560,6 +4436,9 @@ public class IndexedLinkedList<E> implements Deque<E>,
         int size = s.readInt();
         this.size = size;
         this.fingerList = new FingerList<>(this);
+        this.sortStrategy = SortStrategy.ARRAY;
+        this.spliteratorBatchSize = 
+                (int) LinkedListSpliterator.MINIMUM_BATCH_SIZE;
 
         switch (size) {
             case 0:
@@ -2568,7 +4447,7 @@ public class IndexedLinkedList<E> implements Deque<E>,
             case 1:
                 Node<E> newNode = new Node<>((E) s.readObject());
                 head = tail = newNode;
-                fingerList.appendFinger(new Finger<>(newNode, 0));
+                fingerList.appendFinger(newNode, 0);
                 return;
         }
         
@@ -2584,7 +4463,7 @@ public class IndexedLinkedList<E> implements Deque<E>,
             Node<E> node = new Node<>((E) s.readObject());
             
             if ((i - startOffset) % distance == 0) {
-                fingerList.appendFinger(new Finger<>(node, i));
+                fingerList.appendFinger(node, i);
             }
             
             rightmostNode.next = node;
@@ -2595,6 +4474,120 @@ public class IndexedLinkedList<E> implements Deque<E>,
         tail = rightmostNode;
     }
     
+    /**
+     * Puts the just unlinked {@code node} in the node pool unless the pool is 
+     * full or disabled. The item and the links of {@code node} are cleared so 
+     * that the pool does not retain garbage.
+     * 
+     * @param node the unlinked node.
+     */
+    private void recycleNode(Node<E> node) {
+        preserveNode(node);
+        invalidateHandle(node);
+        node.item = null;
+        node.prev = null;
+        
+        if (nodePoolSize < nodePoolCapacity) {
+            node.next = nodePool;
+            nodePool = node;
+            nodePoolSize++;
+        } else {
+            node.next = null;
+        }
+    }
+    
+    /**
+     * Stops tracking the snapshot referred to by {@code reference}. Does 
+     * nothing if the snapshot is already released, which happens when a 
+     * snapshot iterator is closed after the garbage collector has enqueued 
+     * its reference.
+     * 
+     * @param reference the reference to the snapshot iterator.
+     */
+    private void releaseSnapshot(Reference<?> reference) {
+        if (liveSnapshotReferences.remove(reference) 
+                && --numberOfLiveSnapshots == 0) {
+            // Nobody can see the old versions anymore:
+            nodeHistories = null;
+        }
+    }
+    
+    /**
+     * Repairs the fingers after {@code numberOfRemovedNodes} nodes were 
+     * unlinked from the range {@code [fromIndex, toIndex)} (in terms of the 
+     * indices prior to the removal) without touching the fingers. The fingers
+     * before the range are kept, the fingers after the range are shifted to 
+     * the left, and the fingers within the range are dropped down to the 
+     * recommended finger count and spread evenly over what is left of the 
+     * range. If the remaining range is too short to host its share of 
+     * fingers, all the fingers are spread over the entire list.
+     * 
+     * @param predecessor          the node right before the range, or 
+     *                             {@code null} if the range starts at the 
+     *                             head.
+     * @param fromIndex            the starting, inclusive index of the range.
+     * @param toIndex              the ending, exclusive index of the range.
+     * @param numberOfRemovedNodes the number of nodes removed from the range.
+     */
+    private void repairFingersAfterSweep(Node<E> predecessor,
+                                         int fromIndex,
+                                         int toIndex,
+                                         int numberOfRemovedNodes) {
+        fingerList.flushPendingShifts();
+        
+        int fromFingerIndex = fingerList.getFingerIndexImpl(fromIndex);
+        int toFingerIndex = fingerList.getFingerIndexImpl(toIndex);
+        int rangeLength = toIndex - fromIndex - numberOfRemovedNodes;
+        int numberOfRangeFingers = getRecommendedNumberOfFingers() 
+                                 - fromFingerIndex 
+                                 - (fingerList.size() - toFingerIndex);
+        
+        Node<E> node = predecessor == null ? head : predecessor.next;
+        
+        if (numberOfRangeFingers < 0 || numberOfRangeFingers > rangeLength) {
+            // The range cannot host its fingers. Respread all the fingers:
+            fromIndex = 0;
+            fromFingerIndex = 0;
+            toFingerIndex = fingerList.size();
+            rangeLength = size;
+            numberOfRangeFingers = getRecommendedNumberOfFingers();
+            node = head;
+        }
+        
+        int fingersToRemove = toFingerIndex 
+                            - fromFingerIndex 
+                            - numberOfRangeFingers;
+        
+        if (fingersToRemove > 0) {
+            int numberOfFingers = fingerList.size();
+            
+            // Move also the end-of-finger-list sentinel:
+            fingerList.moveFingers(toFingerIndex, 
+                                   toFingerIndex - fingersToRemove, 
+                                   numberOfFingers - toFingerIndex + 1);
+            
+            fingerList.clearFingers(numberOfFingers + 1 - fingersToRemove, 
+                                    numberOfFingers + 1);
+            
+            fingerList.size -= fingersToRemove;
+            fingerList.contractFingerArrayIfNeeded(fingerList.size());
+        }
+        
+        fingerList.shiftFingerIndicesToLeft(
+                fromFingerIndex + numberOfRangeFingers, 
+                numberOfRemovedNodes);
+        
+        if (numberOfRangeFingers > 0) {
+            int distance = rangeLength / numberOfRangeFingers;
+            
+            spreadFingers(node,
+                          numberOfRangeFingers,
+                          fromIndex + distance / 2,
+                          distance,
+                          fromFingerIndex);
+        }
+    }
+    
     /**
      * Removes the last non-sentinel finger from the finger list. 
      */
@@ -2608,9 +4601,14 @@ public class IndexedLinkedList<E> implements Deque<E>,
      * @return the removed element.
      */
     private E removeFirstImpl() {
-        E returnValue = head.item;
+        Node<E> oldHead = head;
+        E returnValue = oldHead.item;
         decreaseSize();
         
+        if (positionalIndex != null) {
+            positionalIndex.onUnlink(oldHead, returnValue);
+        }
+        
         head = head.next;
         
         if (head == null) {
@@ -2625,7 +4623,8 @@ public class IndexedLinkedList<E> implements Deque<E>,
             removeFinger();
         }
 
-        fingerList.get(fingerList.size()).index = size;
+        fingerList.setElementIndex(fingerList.size(), size);
+        recycleNode(oldHead);
         return returnValue;
     }
     
@@ -2642,26 +4641,29 @@ public class IndexedLinkedList<E> implements Deque<E>,
                              int fromIndex, 
                              int toIndex) {
         subListRangeCheck(fromIndex, toIndex, size);
+        return removeMatching(filter, fromIndex, toIndex);
+    }
+    
+    /**
+     * Removes the leftmost or the rightmost occurrence of {@code o} located
+     * via the positional index. Runs in 
+     * \(\mathcal{O}(\min(k, \sqrt{n})\sqrt{n})\) time, where \(k\) is the 
+     * number of occurrences of {@code o}.
+     * 
+     * @param o        the object to remove.
+     * @param leftmost the flag telling whether to remove the leftmost 
+     *                 occurrence.
+     * @return {@code true} only if {@code o} was present in this list.
+     */
+    private boolean removeIndexedOccurrence(Object o, boolean leftmost) {
+        int index = positionalIndex.indexOf(o, leftmost);
         
-        boolean modified = false;
-        int numberOfNodesToIterate = toIndex - fromIndex;
-        int i = 0;
-        int nodeIndex = fromIndex;
-        
-        for (Node<E> node = node(fromIndex); i < numberOfNodesToIterate; ++i) {
-            Node<E> nextNode = node.next;
-            
-            if (filter.test(node.item)) {
-                modified = true;
-                removeObjectImpl(node, nodeIndex);
-            } else {
-                nodeIndex++;
-            }
-            
-            node = nextNode;
+        if (index < 0) {
+            return false;
         }
         
-        return modified;
+        remove(index);
+        return true;
     }
     
     /**
@@ -2670,1469 +4672,226 @@ public class IndexedLinkedList<E> implements Deque<E>,
      * @return the removed element.
      */
     private E removeLastImpl() {
-        E returnValue = tail.item;
+        Node<E> oldTail = tail;
+        E returnValue = oldTail.item;
         decreaseSize();
         
+        if (positionalIndex != null) {
+            positionalIndex.onUnlink(oldTail, returnValue);
+        }
+        
         tail = tail.prev;
         
         if (tail == null) {
             head = null;
         } else {
+            preserveNode(tail);
             tail.next = null;
         }
         
         if (mustRemoveFinger()) {
+            // The rightmost finger goes, so no finger is left on the old 
+            // tail:
             removeFinger();
+        } else {
+            fingerList.adjustOnRemoveLast();
         }
         
-        fingerList.get(fingerList.size()).index = size;
+        fingerList.setElementIndex(fingerList.size(), size);
+        recycleNode(oldTail);
         return returnValue;
     }
     
     /**
-     * Implements the node removal. 
+     * Removes in a single sweep all the elements in the range 
+     * {@code [fromIndex, toIndex)} that satisfy {@code filter}, and then 
+     * repairs the fingers once. Runs in \(\mathcal{O}(n)\) time plus the 
+     * time of {@code toIndex - fromIndex} predicate calls, instead of paying
+     * for a finger search and an \(\mathcal{O}(\sqrt{n})\) finger shift per 
+     * removed element. If {@code filter} throws, the elements removed so far 
+     * stay removed and this list remains consistent.
      * 
-     * @param node  the node to remove.
-     * @param index the index of {@code node}.
-     */
-    private void removeObjectImpl(Node<E> node, int index) {
-        int closestFingerIndex = fingerList.getClosestFingerIndex(index);
-        Finger<E> closestFinger = fingerList.get(closestFingerIndex);
-        
-        if (closestFinger.index == index) {
-            // Make sure no finger is pointing to 'node':
-            moveFingerOutOfRemovalLocation(closestFinger, closestFingerIndex);
-        } else {
-            for (int i = closestFingerIndex + 1;
-                    i <= fingerList.size();
-                    i++) {
-                fingerList.get(i).index--;
-            }
-            
-            int steps = closestFinger.index - index;
-            
-            if (steps > 0) {
-                fingerList.get(closestFingerIndex).index--;
-            }
-        }
-        
-        unlink(node);
-        decreaseSize();
-        
-        if (mustRemoveFinger()) {
-            removeFinger();
-        }
-    }
-    
-    /**
-     * Removes the list range {@code [fromIndex, ..., toIndex - 1]}.
+     * @param filter    the filter object.
+     * @param fromIndex the starting, inclusive index of the range to crawl.
+     * @param toIndex   the ending, exclusive index of the range to crawl.
      * 
-     * @param fromIndex the staring, inclusive range index.
-     * @param toIndex   the ending, exclusive range index.
-     */
-    void removeRange(int fromIndex, int toIndex) {
-        int removalLength = toIndex - fromIndex;
-        
-        if (removalLength == 0) {
-            return;
-        }
-        
-        if (removalLength == 1) {
-            remove(fromIndex);
-            return;
-        }
-        
-        if (removalLength == size) {
-            clear();
-            return;
-        }
-        
-        int fromFingerIndex = fingerList.getFingerIndexImpl(fromIndex);
-        int toFingerIndex   = fingerList.getFingerIndexImpl(toIndex);
-        
-        int coveredFingers = toFingerIndex - fromFingerIndex;
-        int fingersToRemove = getRecommendedNumberOfFingers() 
-                            - getRecommendedNumberOfFingers(
-                                    size - removalLength);
-        
-        loadRemoveRangeEndNodes(fromIndex, 
-                                toIndex);
-        
-        if (fingersToRemove == 0) {
-            
-            if (coveredFingers > 0) {
-                // Handle the 2nd case:
-                removeRangeImplCase2(fromFingerIndex,
-                                     toFingerIndex,
-                                     fromIndex,
-                                     toIndex,
-                                     removalLength,
-                                     fingersToRemove);
-//                
-//                this.loadFingerCoverageCounters(
-//                        fromFingerIndex,
-//                        toFingerIndex, 
-//                        fromIndex, 
-//                        toIndex, 
-//                        fingersToRemove);
-//
-//                // Shift the fingers to prefix and/or suffix:
-//                shiftCoveredFingersToPrefix(
-//                        this.numberOfCoveringFingersInPrefix,
-//                        fromFingerIndex);
-//                
-//                shiftCoveredFingersToSuffix(
-//                        this.numberOfCoveringFingersInSuffix,
-//                        toFingerIndex,
-//                        toIndex);
-//                
-//                fingerList.shiftFingerIndicesToLeft(
-//                        toFingerIndex - this.numberOfCoveringFingersInSuffix,
-//                        removalLength);
-                
-                // Unlink the actual nodes:
-                unlinkNodeRange(this.removeRangeStartNode,
-                                this.removeRangeEndNode);
-                
-                size -= removalLength;
-                
-                modCount++;
-                return;
-            }
-            
-            fingerList.shiftFingerIndicesToLeft(toFingerIndex,
-                                                removalLength);
-            
-            unlinkNodeRange(this.removeRangeStartNode, 
-                            this.removeRangeEndNode);
-            
-            modCount++;
-            size -= removalLength;
-            return;
-        }
-        
-        if (fingersToRemove > coveredFingers) {
-            removeRangeImplCase4(fromIndex, 
-                                 toIndex,
-                                 fingersToRemove,
-                                 removalLength,
-                                 fromFingerIndex,
-                                 toFingerIndex);
-            
-        } else if (fingersToRemove < coveredFingers) {
-            removeRangeImplCase5(fromIndex, 
-                                 toIndex,
-                                 fromFingerIndex, 
-                                 toFingerIndex, 
-                                 fingersToRemove);
-        } else {
-            // Here, fingersToRemove == coveredFingers:
-            removeRangeImplCase6(removalLength,
-                                 fromFingerIndex,
-                                 coveredFingers,
-                                 fingersToRemove);
-        }
-        
-        unlinkNodeRange(this.removeRangeStartNode,
-                        this.removeRangeEndNode);
-        
-        size -= removalLength;
-        modCount++;
-    }
-    
-    /**
-     * Unlinks the node range {@code [startNode, ..., endNode]}, both inclusive 
-     * from this indexed list.
-     * '
-     * @param startNode the start node of the range.
-     * @param endNode   the end node of the range.
-     */
-    private void unlinkNodeRange(Node<E> startNode, Node<E> endNode) {
-        Node<E> currentNode = startNode;
-        Node<E> nextNode;
-        
-        Node<E> prevStartNode = startNode.prev;
-        Node<E> nextEndNode   = endNode.next;
-        
-        // Get rid of all the nodes in the removed range:
-        do {
-            nextNode = currentNode.next;
-            currentNode.item = null;
-            currentNode.prev = null;
-            currentNode.next = null;
-            currentNode = nextNode;
-        } while (currentNode != nextEndNode);
-        
-        // Stitch the list:
-        if (prevStartNode == null) {
-            head = nextEndNode;
-            nextEndNode.prev = null;
-        } else if (nextEndNode == null) {
-            prevStartNode.next = null;
-            tail = prevStartNode;
-        } else {
-            prevStartNode.next = nextEndNode;
-            nextEndNode.prev = prevStartNode;
-        }
-    }
-    
-    /**
-     * The case 4 of the range removal procedure. In this case, the number of 
-     * fingers to remove is higher than the number of covered fingers.
+     * @return {@code true} if and only if this list was modified.
      */
-    private void removeRangeImplCase4(int fromIndex,
-                                      int toIndex,
-                                      int numberOfFingersToRemove,
-                                      int removalLength,
-                                      int fromFingerIndex,
-                                      int toFingerIndex) {
-        
-        loadFingerCoverageCounters(
-                fromFingerIndex, 
-                toFingerIndex, 
-                fromIndex, 
-                toIndex, 
-                numberOfFingersToRemove);
-        
-        int index = fromIndex - 1;
-        Node<E> node = fingerList.getNodeNoFingersFix(index);
+    private boolean removeMatching(Predicate<? super E> filter, 
+                                   int fromIndex, 
+                                   int toIndex) {
+        int numberOfNodesToIterate = toIndex - fromIndex;
         
-        for (int i = 0; i < numberOfCoveringFingersToPrefix; i++) {
-            Finger<E> finger =
-                    fingerList.get(numberOfCoveringFingersToPrefix - 1 - i);
-            
-            finger.index = index--;
-            finger.node = node;
-            node = node.prev;
+        if (numberOfNodesToIterate == 0) {
+            return false;
         }
         
-        index = toIndex;
-        node = fingerList.getNodeNoFingersFix(index);
+        Node<E> node = node(fromIndex);
+        Node<E> predecessor = node.prev;
+        int numberOfRemovedNodes = 0;
         
-        for (int i = 0; i < numberOfCoveringFingersToSuffix; i++) {
+        try {
+            for (int i = 0; i < numberOfNodesToIterate; ++i) {
+                Node<E> nextNode = node.next;
 
-            Finger<E> finger = 
-                    fingerList.get(numberOfCoveringFingersToPrefix + i);
-            
-            finger.index = index++;
-            finger.node = node;
-            node = node.next;
-        }
-        
-        Finger<E> endOfListSentinelFinger = fingerList.get(fingerList.size());
-        
-        fingerList.setFinger(
-                numberOfCoveringFingersToPrefix 
-                        + numberOfCoveringFingersToSuffix,
-                endOfListSentinelFinger);
-        
-        Arrays.fill(
-                fingerList.fingerArray,
-                numberOfCoveringFingersToPrefix 
-                        + numberOfCoveringFingersToSuffix 
-                        + 1, 
-                fingerList.size() + 1, 
-                null);
-        
-        fingerList.size -= numberOfFingersToRemove;
-        fingerList.shiftFingerIndicesToLeft(numberOfCoveringFingersToPrefix, 
-                                            removalLength);
-        
-//        System.arraycopy(fingerList.fingerArray, 
-//                         numberOfCoveringFingersToPrefix 
-//                                 + numberOfCoveringFingersToSuffix ,
-////                                 - numberOfFingersToRemove,
-//                         fingerList.fingerArray,
-//                         numberOfCoveringFingersToPrefix 
-//                                 + numberOfCoveringFingersToSuffix
-//                                 - numberOfFingersToRemove,
-//                         numberOfFingersToRemove + 1);
-//        
-//        Arrays.fill(fingerList.fingerArray,
-//                    fingerList.size() + 1 - numberOfFingersToRemove, 
-//                    fingerList.size() + 1,
-//                    null);
-//        
-//        fingerList.size -= numberOfFingersToRemove;
-//        fingerList.shiftFingerIndicesToLeft(numberOfCoveringFingersToPrefix, 
-//                                            removalLength);
-        
-//        int idx1 = toIndex;
-//        Node<E> node11 = fingerList.getNodeNoFingersFix(idx1);
-//        
-//        System.arraycopy(
-//                fingerList.fingerArray,
-//                fingerList.size() - numberOfFingersToRemove,
-//                fingerList.fingerArray,
-//                fingerList.size() - 2 * numberOfFingersToRemove,
-//                numberOfFingersToRemove + 1);
-//        
-//        Arrays.fill(
-//                fingerList.fingerArray,
-//                fingerList.size() + 1 - numberOfFingersToRemove,
-//                fingerList.size() + 1,
-//                null);
-//        
-//        if (toFingerIndex == fingerList.size()) {
-//            for (int i = fingerList.size() - 2 * numberOfFingersToRemove, k = 0;
-//                     k < numberOfFingersToRemove; 
-//                     k++, i++) {
-//                
-//                Finger<E> finger = fingerList.get(i);
-//                finger.index = idx1++;
-//                finger.node = node11;
-//                node11 = node11.next;
-//            }
-//            
-//            fingerList.size -= numberOfFingersToRemove;
-//            fingerList.shiftFingerIndicesToLeft(
-//                    fingerList.size() - numberOfFingersToRemove, 
-//                    removalLength);
-//            return;
-//        }
-//        
-//        int targetFingerIndex = fromFingerIndex;
-//        int fingerSpotsSoFar = fingerList.get(fromFingerIndex).index 
-//                             - fromFingerIndex
-//                             - fromIndex;
-//        
-//        for (; targetFingerIndex < fingerList.size(); 
-//               targetFingerIndex++) {
-//            
-//            Finger<E> f1 = fingerList.get(targetFingerIndex);
-//            Finger<E> f2 = fingerList.get(targetFingerIndex + 1);
-//            
-//            int difference = f2.index
-//                           - f1.index
-//                           - 1;
-//            
-//            fingerSpotsSoFar += difference;
-//            
-//            if (fingerSpotsSoFar >= removalLength) {
-//                break;
-//            }
-//        }
-//        
-//        if (targetFingerIndex == fingerList.size()) {
-//            throw new UnsupportedOperationException("hellowka");
-//        }
-//        
-//        idx1 = toIndex;
-//        node11 = fingerList.getNodeNoFingersFix(idx1);
-//        
-//        for (int i = targetFingerIndex; i >= 0; i--) {
-//            Finger<E> finger = fingerList.get(targetFingerIndex - i);
-//            finger.index = idx1++;
-//            finger.node = node11;
-//            node11 = node11.next;
-//        }
-//        
-//        fingerList.size -= numberOfFingersToRemove;
-//        fingerList.shiftFingerIndicesToLeft(0, removalLength);
-    }
-    
-    private void removeRangeImplCase2(final int fromFingerIndex,
-                                      final int toFingerIndex,
-                                      final int fromIndex,
-                                      final int toIndex,
-                                      final int removalLength,
-                                      final int fingersToRemove) {
-        
-        this.loadFingerCoverageCounters(fromFingerIndex, 
-                                        toFingerIndex, 
-                                        fromIndex, 
-                                        toIndex, 
-                                        0);
-        
-        if (this.numberOfCoveringFingersToPrefix > 0 &&
-            this.numberOfCoveringFingersToSuffix > 0) {
-            
-            int index = fromIndex - 1;
-            Node<E> node = fingerList.getNodeNoFingersFix(index);
-            
-            for (int i = 0; i < numberOfCoveringFingersToPrefix; i++) {
-                Finger<E> finger = 
-                        fingerList.get(numberOfCoveringFingersToPrefix - 1 - i);
-                
-                finger.index = index--;
-                finger.node = node;
-                node = node.prev;
-            }
-            
-            int targetFingerIndex = toFingerIndex;
-            int fingerSpotsSoFar = fingerList.get(toFingerIndex).index
-                                 - toIndex;
-            
-            for (; targetFingerIndex < fingerList.size(); 
-                   targetFingerIndex++) {
-                
-                Finger<E> finger1 = fingerList.get(targetFingerIndex);
-                Finger<E> finger2 = fingerList.get(targetFingerIndex + 1);
-                
-                int difference = finger2.index
-                               - finger1.index
-                               - 1;
-                
-                fingerSpotsSoFar += difference;
-                
-                if (fingerSpotsSoFar >= removalLength) {
-                    targetFingerIndex++;
-                    break;
-                }
-            }
-            
-            if (targetFingerIndex == fingerList.size()) {
-                index = toIndex;
-                node = fingerList.getNode(index);
-                
-                for (int i = 0; i < numberOfCoveringFingersToSuffix; i++) {
-                    Finger<E> finger = 
-                            fingerList.get(
-                                    fingerList.size()
-                                            - numberOfCoveringFingersToSuffix
-                                            + i);
-                    
-                    finger.index = index++;
-                    finger.node = node;
-                    node = node.next;
-                }
-                
-                fingerList.shiftFingerIndicesToLeft(
-                        numberOfCoveringFingersToPrefix, 
-                        removalLength);
-                
-                fingerList.contractFingerArrayIfNeeded(fingerList.size());
-                return;
-            }
-            
-            Finger<E> targetFinger = fingerList.get(targetFingerIndex);
-            index = targetFinger.index - 1;
-            node = targetFinger.node.prev;
-            
-            for (int i = targetFingerIndex - 1; 
-                     i >= numberOfCoveringFingersToPrefix; 
-                     i--) {
-                
-                Finger<E> finger = fingerList.get(i);
-                finger.index = index--;
-                finger.node = node;
-                node = node.prev;
-            }
-            
-            fingerList.shiftFingerIndicesToLeft(
-                    numberOfCoveringFingersToPrefix, 
-                    removalLength);
-            
-        } else if (this.numberOfCoveringFingersToPrefix > 0) {
-            int fingerSpotsSoFar = fingerList.get(fromFingerIndex).index 
-                                 - fromIndex;
-            
-            int targetFingerIndex = fromFingerIndex;
-            
-            for (; targetFingerIndex < fingerList.size(); 
-                   targetFingerIndex++) {
-                
-                Finger<E> f1 = fingerList.get(targetFingerIndex);
-                Finger<E> f2 = fingerList.get(targetFingerIndex + 1);
-                
-                int difference = f2.index
-                               - f1.index
-                               - 1;
-                
-                fingerSpotsSoFar += difference;
-                
-                if (fingerSpotsSoFar >= removalLength) {
-                    break;
-                }
-            }
-            
-            if (targetFingerIndex == fingerList.size()) {
-                int index = fromIndex - 1;
-                Node<E> node = fingerList.getNode(index);
-                
-                for (int i = fromFingerIndex, k = 1; 
-                         i <= fingerList.size(); 
-                         i++, k++) {
-                    
-                    Finger<E> finger = 
-                            fingerList.get(fingerList.size() - k);
-                    
-                    finger.index = index--;
-                    finger.node = node;
-                    node = node.prev;
-                }
-                
-                Finger<E> endOfListSentinelFinger = 
-                    fingerList.get(fingerList.size());
-                    
-                endOfListSentinelFinger.index -= removalLength;
-                return;
-            }
-            
-            throw new IllegalStateException("numberOfCoveringFingersInPrefix > 0 YEAH");
-        } else {
-            // Here, this.numberOfCoveringFingersInSuffix > 0:
-            int targetFingerIndex = toFingerIndex;
-            int freeSpotsSoFar = fingerList.get(toFingerIndex).index - toIndex - toFingerIndex;
-            
-            for (; targetFingerIndex < fingerList.size();
-                   targetFingerIndex++) {
-                
-                Finger<E> f1 = fingerList.get(targetFingerIndex);
-                Finger<E> f2 = fingerList.get(targetFingerIndex + 1);
-                
-                int difference = f2.index 
-                               - f1.index 
-                               - 1;
-                
-                freeSpotsSoFar += difference;
-                
-                if (freeSpotsSoFar >= removalLength) {
-                    break;
+                if (filter.test(node.item)) {
+                    unlink(node);
+                    recycleNode(node);
+                    numberOfRemovedNodes++;
                 }
+
+                node = nextNode;
             }
-            
-            Finger<E> finger = fingerList.get(targetFingerIndex + 1);
-            
-            for (int i = 0; 
-                     i < targetFingerIndex - fromFingerIndex + 1;
-                     i++) {
-                
-                Finger<E> f = fingerList.get(targetFingerIndex - i);
-                f.index = finger.index - 1;
-                f.node = finger.node.prev;
-                finger = f;
+        } finally {
+            if (numberOfRemovedNodes > 0) {
+                size -= numberOfRemovedNodes;
+                modCount++;
+                repairFingersAfterSweep(predecessor, 
+                                        fromIndex,
+                                        toIndex, 
+                                        numberOfRemovedNodes);
             }
-            
-            fingerList.shiftFingerIndicesToLeft(fromFingerIndex, 
-                                                removalLength);
         }
-    }
-    
-    private void removeRangeImplCase5(int fromIndex,
-                                      int toIndex,
-                                      int fromFingerIndex,
-                                      int toFingerIndex,
-                                      int fingersToRemove) {
         
-        this.loadFingerCoverageCounters(
-                fromFingerIndex, 
-                toFingerIndex, 
-                fromIndex, 
-                toIndex, 
-                fingersToRemove);
-        
-        if (this.numberOfCoveringFingersToPrefix > 0) {
-            if (this.numberOfCoveringFingersToSuffix > 0) {
-                removeRangeImplCase5A(fromFingerIndex,
-                                      toFingerIndex,
-                                      fromIndex,
-                                      toIndex,
-                                      fingersToRemove);
-                
-            } else {
-                // Here, this.numberOfCoveringFingersInPrefix > 0 and
-                //       this.numberOfCoveringFingersInSuffix == 0  
-                removeRangeImplCase5B(fromFingerIndex,
-                                      toFingerIndex,
-                                      fromIndex,
-                                      toIndex,
-                                      fingersToRemove);
-            }
-        } else {
-            if (this.numberOfCoveringFingersToSuffix > 0) {
-                // Here, this.numberOfCoveringFingersInPrefix == 0 and
-                //       this.numberOfCoveringFingersInSuffix > 0
-                removeRangeImplCase5C(fromFingerIndex,
-                                      toFingerIndex,
-                                      fromIndex,
-                                      toIndex,
-                                      fingersToRemove);
-            }
-        }
+        return numberOfRemovedNodes > 0;
     }
     
     /**
-     * Implements the range removal for the case where there are fingers going
-     * to both prefix and suffix.
+     * Implements the node removal. 
+     * 
+     * @param node  the node to remove.
+     * @param index the index of {@code node}.
      */
-    private void removeRangeImplCase5A(int fromFingerIndex,
-                                       int toFingerIndex,
-                                       int fromIndex,
-                                       int toIndex,
-                                       int fingersToRemove) {
-        
-        int removalLength = toIndex - fromIndex;
-        int index = fromIndex - 1;
-        Node<E> node = fingerList.getNode(index);
-        
-        if (fromFingerIndex > 0) {
-            for (int i = 0; 
-                     i < numberOfCoveringFingersToPrefix; 
-                     i++) {
-                
-                // Move fingers to the right part of the finger index:
-                Finger<E> finger = 
-                        fingerList.get(numberOfCoveringFingersToPrefix - 1 - i);
-//                                fromFingerIndex 
-//                                        - 1
-//                                        - i 
-//                                        + numberOfCoveringFingersToPrefix);
-                
-                finger.index = index--;
-                finger.node = node;
-                node = node.prev;
-            }
-            
-//            for (int i = 0; 
-//                     i < numberOfCoveringFingersToPrefix;
-//                     i++) {
-//                // Move fingers to the left part of the finger index:
-//                Finger<E> finger =
-//                        fingerList.get(
-//                                numberOfCoveringFingersToPrefix 
-//                                        - 1 
-//                                        - i);
-//
-//                finger.index = index--;
-//                finger.node = node;
-//                node = node.prev;
-//            }
-        } else {
-            index = fromIndex - 1;
-            node = fingerList.getNode(index);
-            
-            for (int i = 0;
-                     i < numberOfCoveringFingersToPrefix; 
-                     i++) {
-                
-                Finger<E> f = 
-                        fingerList.get(numberOfCoveringFingersToPrefix - 1 - i);
-                
-                f.index = index--;
-                f.node = node;
-                node = node.prev;
-            }
-            
-            index = toIndex; // TODO if null = tail?
-            node = fingerList.getNode(index);
-            
-            for (int i = 0;
-                     i < numberOfCoveringFingersToSuffix; 
-                     i++) {
-                
-                Finger<E> f = 
-                        fingerList.get(numberOfCoveringFingersToPrefix + i);
-                
-                f.index = index++;
-                f.node = node;
-                node = node.next;
-            }
-            
-            Finger<E> endOfListSentinelFinger = 
-                    new Finger<>(null, IndexedLinkedList.this.size);
-            
-            fingerList.setFinger(numberOfCoveringFingersToPrefix + 
-                                 numberOfCoveringFingersToSuffix, 
-                                 endOfListSentinelFinger);
-            
-            Arrays.fill(
-                    fingerList.fingerArray, 
-                    numberOfCoveringFingersToPrefix
-                            + numberOfCoveringFingersToSuffix 
-                            + 1, 
-                    fingerList.size() + 1,
-                    null);
-            
-            fingerList.size -= fingersToRemove;
-            fingerList.shiftFingerIndicesToLeft(
-                    numberOfCoveringFingersToPrefix, 
-                    removalLength);
-            
-            fingerList.contractFingerArrayIfNeeded(fingerList.size());
-            return;
-        }
-        
-        int targetFingerIndex = toFingerIndex;
-        int fingerSpotsSoFar = fingerList.get(toFingerIndex).index - toIndex;
-        
-        for (; targetFingerIndex < fingerList.size(); 
-               targetFingerIndex++) {
-            
-            Finger<E> f1 = fingerList.get(targetFingerIndex);
-            Finger<E> f2 = fingerList.get(targetFingerIndex + 1);
-            
-            int difference = f2.index
-                           - f1.index
-                           - 1;
-            
-            fingerSpotsSoFar += difference;
-            
-            if (fingerSpotsSoFar >= numberOfCoveringFingersToSuffix) {
-                break;
-            }
-        }
-        
-        if (targetFingerIndex == fingerList.size()) {
-            index = toIndex;
-            node = fingerList.getNode(index);
-            
-            for (int i = 0; 
-                     i < numberOfCoveringFingersToSuffix; 
-                     i++) {
-                
-                Finger<E> finger = 
-                        fingerList.get(numberOfCoveringFingersToPrefix + i);
-                
-                finger.index = index++;
-                finger.node = node;
-                node = node.next;
-            }
-            
-            Finger<E> finger = fingerList.get(numberOfCoveringFingersToPrefix +
-                                              numberOfCoveringFingersToSuffix);
-            
-            finger.index = IndexedLinkedList.this.size;
-            finger.node = null;
-            
-            Arrays.fill(
-                    fingerList.fingerArray,
-                    numberOfCoveringFingersToPrefix 
-                            + numberOfCoveringFingersToSuffix
-                            + 1,
-                    fingerList.size() + 1,
-                    null);
-            
-            fingerList.size -= fingersToRemove;
-            fingerList.shiftFingerIndicesToLeft(
-                    numberOfCoveringFingersToPrefix, 
-                    removalLength);
-            
-            fingerList.contractFingerArrayIfNeeded(fingerList.size());
-            return;
-        }
-        
-        int remainingFingers = fingerList.size() - toFingerIndex;
-        index = toIndex;
-        node = fingerList.getNode(index);
-        
-        for (int i = 0; 
-                 i < numberOfCoveringFingersToSuffix;
-                 i++) {
-            
-            Finger<E> finger = fingerList.get(numberOfCoveringFingersToPrefix + i);
-            finger.index = index++;
-            finger.node = node;
-            node = node.next;
-        }
-        
-        int endSentinelIndex = numberOfCoveringFingersToPrefix
-                             + numberOfCoveringFingersToSuffix;
-        
-        fingerList.get(endSentinelIndex).index = IndexedLinkedList.this.size;
-        fingerList.get(endSentinelIndex).node = null;
-        
-        Arrays.fill(
-                fingerList.fingerArray, 
-                endSentinelIndex + 1, 
-                fingerList.size() + 1, 
-                null);
-        
-        fingerList.size -= fingersToRemove;
-        fingerList.shiftFingerIndicesToLeft(
-                numberOfCoveringFingersToPrefix, 
-                removalLength);
-        
-        fingerList.contractFingerArrayIfNeeded(fingerList.size());
-        
-//        index = toIndex;
-//        node = fingerList.getNode(index);
-//        
-//        for (int i = 0; 
-//                 i < numberOfCoveringFingersToSuffix + remainingFingers;
-//                 i++) {
-//            
-//            Finger<E> finger =
-//                    fingerList.get(
-//                            numberOfCoveringFingersToPrefix
-//                                    + fromFingerIndex 
-//                                    + i);
-//            
-//            finger.index = index++;
-//            finger.node = node;
-//            node = node.next;
-//        }
-        
-//        Arrays.fill(
-//                fingerList.fingerArray,
-//                fromFingerIndex + numberOfCoveringFingersToPrefix + 1, 
-//                fingerList.size() + 1,
-//                null);
-//
-//        Finger<E> newEndSentinelFinger = 
-//                new Finger<>(
-//                        null,
-//                        IndexedLinkedList.this.size);
-//        
-//        fingerList.size -= fingersToRemove;
-//        
-//        fingerList.setFinger(fingerList.size(),
-//                             newEndSentinelFinger);
-//        
-//        fingerList.contractFingerArrayIfNeeded(fingerList.size());
-//        fingerList.shiftFingerIndicesToLeft(
-//                fromFingerIndex + numberOfCoveringFingersToPrefix, 
-//                removalLength);
-        
-//        int removalLength = toIndex - fromIndex;
-//        int targetFingerIndex = 1;
-//        int fingerSpotsSoFar = fingerList.get(0).index;
-//        
-//        for (; targetFingerIndex < fingerList.size(); 
-//               targetFingerIndex++) {
-//            
-//            Finger<E> finger1 = fingerList.get(targetFingerIndex - 1);
-//            Finger<E> finger2 = fingerList.get(targetFingerIndex);
-//            
-//            int difference = finger2.index
-//                           - finger1.index
-//                           - 1;
-//            
-//            fingerSpotsSoFar += difference;
-//            
-//            if (fingerSpotsSoFar >= this.numberOfCoveringFingersToPrefix) {
-//                break;
-//            }
-//        }
-//        
-//        if (targetFingerIndex == fingerList.size()) {
-////            int index = IndexedLinkedList.this.size - 1;
-////            int remainingFingers = fingerList.size() - fingersToRemove;
-////            Node<E> node = tail;
-////            
-////            for (int i = 0; i < remainingFingers; i++) {
-////                Finger<E> finger = fingerList.get(fingerList.size() - 1 - i);
-////                finger.index = index--;
-////                finger.node = node;
-////                node = node.prev;
-////            }
-////            
-////            System.arraycopy(
-////                    fingerList.fingerArray,
-////                    fingerList.size() - remainingFingers,
-////                    fingerList.fingerArray,
-////                    0,
-////                    remainingFingers + 1);
-////            
-////            Arrays.fill(
-////                    fingerList.fingerArray, 
-////                    remainingFingers + 1,
-////                    fingerList.size() + 1, 
-////                    null);
-////            
-////            fingerList.size -= fingersToRemove;
-////            fingerList.shiftFingerIndicesToLeft(fromFingerIndex, 
-////                                                removalLength);
-////
-////            fingerList.contractFingerArrayIfNeeded(fingerList.size());
-//            return;
-//        } else {
-//            Finger<E> targetFinger = fingerList.get(targetFingerIndex);
-//            int index = fromIndex - 1;
-//            Node<E> node = fingerList.getNode(index);
-//            
-//            for (int i = 0; i < numberOfCoveringFingersToPrefix; i++) {
-//                Finger<E> finger = 
-//                        fingerList.get(numberOfCoveringFingersToPrefix - 1 - i);
-//                
-//                finger.index = index--;
-//                finger.node = node;
-//                node = node.prev;
-//            }
-//            
-//        }
-        /*
-        int removalLength = toIndex - fromIndex;
-        int targetFingerIndex = Math.max(0, fromFingerIndex - 1);
-        int fingersSpotsCountedSoFar = 0;
-        
-        for (; targetFingerIndex < toFingerIndex; 
-               targetFingerIndex++) {
-            
-            Finger<E> f1 = fingerList.get(targetFingerIndex);
-            Finger<E> f2 = fingerList.get(targetFingerIndex + 1);
-            
-            int difference = f2.index
-                           - f1.index
-                           - 1;
-            
-            fingersSpotsCountedSoFar += difference;
-            
-            if (fingersSpotsCountedSoFar >= numberOfCoveringFingersToPrefix) {
-                break;
-            }
-        }
-        
-        Finger<E> finger = fingerList.get(fromFingerIndex);
-        int index = fromIndex - 1;
-        Node<E> node = fingerList.getNode(index);
-        
-        for (int i = 0; i < numberOfCoveringFingersToPrefix; i++) {
-            Finger<E> f =
-                    fingerList.get(numberOfCoveringFingersToPrefix - 1 - i);
-            
-            f.index = index--;
-            f.node = node;
-            
-            node = node.prev;
-        }
-        
-        targetFingerIndex = toFingerIndex;
-        fingersSpotsCountedSoFar = 0;
-        
-        for (; targetFingerIndex < fingerList.size();
-               targetFingerIndex++) {
-            
-            Finger<E> f1 = fingerList.get(targetFingerIndex);
-            Finger<E> f2 = fingerList.get(targetFingerIndex + 1);
-            
-            int difference = f2.index
-                           - f1.index
-                           - 1;
+    private void removeObjectImpl(Node<E> node, int index) {
+        int closestFingerIndex = fingerList.getClosestFingerIndex(index);
+        int closestFingerElementIndex = 
+                fingerList.getElementIndex(closestFingerIndex);
+        
+        if (closestFingerElementIndex == index) {
+            // Make sure no finger is pointing to 'node':
+            moveFingerOutOfRemovalLocation(closestFingerIndex);
+        } else {
+            fingerList.shiftFingerIndicesToLeftOnceAll(closestFingerIndex + 1);
             
-            fingersSpotsCountedSoFar += difference;
+            int steps = closestFingerElementIndex - index;
             
-            if (fingersSpotsCountedSoFar >= numberOfCoveringFingersToSuffix) {
-                break;
+            if (steps > 0) {
+                fingerList.setElementIndex(closestFingerIndex, 
+                                           closestFingerElementIndex - 1);
             }
         }
         
-        if (targetFingerIndex == fingerList.size()) {
-            throw new IllegalStateException(
-                    "targetFingerIndex == fingerList.size()");
+        unlink(node);
+        decreaseSize();
+        
+        if (positionalIndex != null) {
+            positionalIndex.onUnlink(node, node.item);
         }
         
-        finger = fingerList.get(targetFingerIndex - 1);
-        index = finger.index - 1;
-        node = finger.node.prev;
+        if (mustRemoveFinger()) {
+            removeFinger();
+        }
         
-        for (int i = 0; i < numberOfCoveringFingersToSuffix; i++) {
-            Finger<E> f = fingerList.get(toFingerIndex - i - 1);
-            f.index = index--;
-            f.node = node;
-            node = node.prev;
-        }*/
+        recycleNode(node);
     }
     
     /**
-     * Implements the range removal for the case where there are fingers going
-     * to prefix only.
+     * Removes the list range {@code [fromIndex, ..., toIndex - 1]}. The 
+     * fingers in the range are dropped, after which the finger count is 
+     * adjusted around the seam. Runs in \(\mathcal{O}(k + \sqrt{n})\) 
+     * time, where \(k\) is the length of the range.
      * 
-     * @param fromFingerIndex
-     * @param toFingerIndex
-     * @param fromIndex
-     * @param toIndex
-     * @param fingersToRemove 
+     * @param fromIndex the staring, inclusive range index.
+     * @param toIndex   the ending, exclusive range index.
      */
-    private void removeRangeImplCase5B(int fromFingerIndex,
-                                       int toFingerIndex,
-                                       int fromIndex,
-                                       int toIndex,
-                                       int fingersToRemove) {
-        
+    void removeRange(int fromIndex, int toIndex) {
         int removalLength = toIndex - fromIndex;
         
-        if (toFingerIndex == fingerList.size()) {
-//            System.out.println("bye");
-            int index = fromIndex - 1;
-            Node<E> node = fingerList.getNodeNoFingersFix(index);
-            
-            for (int i = 0; i < fingerList.size() - fingersToRemove; i++) {
-                Finger<E> finger = 
-                        fingerList.get(
-                                fingerList.size()
-                                        - fingersToRemove
-                                        - i
-                                        - 1);
-                
-                finger.index = index--;
-                finger.node = node;
-                node = node.prev;
-            }
-            
-            Finger<E> endOfFingerListSentinel = 
-                    fingerList.get(fingerList.size());
-            
-            fingerList.setFinger(fingerList.size() - fingersToRemove, 
-                                 endOfFingerListSentinel);
-            
-            Arrays.fill(fingerList.fingerArray, 
-                        fingerList.size() + 1 - fingersToRemove, 
-                        fingerList.size() + 1,
-                        null);
-            
-            fingerList.size -= fingersToRemove;
-            fingerList.shiftFingerIndicesToLeft(numberOfCoveringFingersToPrefix,
-                                                removalLength);
+        if (removalLength == 0) {
             return;
         }
-//        } else if (fromFingerIndex == 0) {
-//            System.out.println("yo man");
-//            int index = fromIndex - 1;
-//            Node<E> node = fingerList.getNodeNoFingersFix(index);
-//            
-//            for (int i = 0; i < numberOfCoveringFingersToPrefix; i++) {
-//                Finger<E> finger = fingerList.get(fromFingerIndex - i);
-//                finger.index = index--;
-//                finger.node = node;
-//                node = node.prev;
-//            }
-//            
-//            index = toIndex;
-//            node = fingerList.getNodeNoFingersFix(index);
-//            
-//            for (int i = toFingerIndex; i < fingerList.size(); i++) {
-//                Finger<E> finger = fingerList.get(fingerList.size() - i);
-//                finger.index = index++;
-//                finger.node = node;
-//                node = node.next;
-//            }
-//            
-//            fingerList.setFinger(fingerList.size() - fingersToRemove, 
-//                                 fingerList.get(fingerList.size()));
-//            
-//            Arrays.fill(fingerList.fingerArray,
-//                        fingerList.size() + 1 - fingersToRemove, 
-//                        fingerList.size() + 1,
-//                        null);
-//            
-//            fingerList.size -= fingersToRemove;
-//            fingerList.shiftFingerIndicesToLeft(fromFingerIndex + 1, 
-//                                                removalLength);
-//            return;
-//        }
-        
-        int index = fromIndex - 1;
-        Node<E> node = fingerList.getNodeNoFingersFix(index);
-        int numberOfFingersToMove = Math.min(numberOfCoveringFingersToPrefix,
-                                             fromFingerIndex + 1);
-        
-        for (int i = 0; i < numberOfFingersToMove; i++) {
-            Finger<E> finger = 
-                    fingerList.get(numberOfFingersToMove - i - 1);
-            
-            finger.index = index--;
-            finger.node = node;
-            node = node.prev;
-        }
-        
-        numberOfFingersToMove = numberOfCoveringFingersToPrefix 
-                              - numberOfFingersToMove;
-        
-        index = toIndex;
-        node = fingerList.getNodeNoFingersFix(index);
-        
-        for (int i = 0; i < numberOfFingersToMove; i++) {
-            Finger<E> finger = fingerList.get(numberOfFingersToMove + i);
-            finger.index = index++;
-            finger.node = node;
-            node = node.next;
-        }
         
-        Finger<E> endOfFingerListSentinel = fingerList.get(fingerList.size());
-        
-        fingerList.setFinger(fingerList.size() - fingersToRemove,
-                             endOfFingerListSentinel);
-        
-        Arrays.fill(fingerList.fingerArray,
-                    fingerList.size() - fingersToRemove + 1, 
-                    fingerList.size() + 1, 
-                    null);
-        
-        fingerList.size -= fingersToRemove;
-        fingerList.shiftFingerIndicesToLeft(numberOfCoveringFingersToPrefix,
-                                            removalLength);
-        
-//        for (int i = 0; 
-//                 i < numberOfCoveringFingersToPrefix; 
-//                 i++) {
-//            
-//            Finger<E> finger = 
-//                    fingerList.get(
-//                            numberOfCoveringFingersToPrefix 
-////                                    + fromFingerIndex
-//                                    - 1 
-//                                    - i);
-//            
-//            finger.index = index--;
-//            finger.node = node;
-//            node = node.prev;
-//        }
-//        
-//        Arrays.fill(
-//                fingerList.fingerArray, 
-//                numberOfCoveringFingersToPrefix + 1, 
-//                fingerList.size() + 1, 
-//                null);
-//        
-//        Finger<E> endSentinelFinger = 
-//                fingerList.get(numberOfCoveringFingersToPrefix);
-//        
-//        endSentinelFinger.node = null;
-//        endSentinelFinger.index = IndexedLinkedList.this.size;
-//        
-//        fingerList.size -= fingersToRemove;
-//        fingerList.contractFingerArrayIfNeeded(fingerList.size());
-//        fingerList.shiftFingerIndicesToLeft(
-//                numberOfCoveringFingersToPrefix, 
-//                removalLength);
-    }
-    
-    /**
-     * Implements the range removal for the case where there is no fingers 
-     * going to the prefix but there are at least one finger going to the
-     * suffix.
-     */
-    private void removeRangeImplCase5C(int fromFingerIndex,
-                                       int toFingerIndex,
-                                       int fromIndex,
-                                       int toIndex,
-                                       int fingersToRemove) {
-        
-        int removalLength = toIndex - fromIndex;
-        int targetFingerIndex = 1;
-        int fingerSpotsSoFar = fingerList.get(0).index;
-        
-        for (; targetFingerIndex < fingerList.size();
-               targetFingerIndex++) {
-            
-            Finger<E> finger1 = fingerList.get(targetFingerIndex - 1);
-            Finger<E> finger2 = fingerList.get(targetFingerIndex);
-            
-            int difference = finger2.index 
-                           - finger1.index
-                           - 1;
-            
-            fingerSpotsSoFar += difference;
-            
-            if (fingerSpotsSoFar >= toIndex) {
-                break;
-            }
+        if (removalLength == 1) {
+            remove(fromIndex);
+            return;
         }
         
-        if (targetFingerIndex == fingerList.size()) {
-            int index = IndexedLinkedList.this.size - 1;
-            int remainingFingers = fingerList.size() - fingersToRemove;
-            Node<E> node = tail;
-            
-            for (int i = 0; i < remainingFingers; i++) {
-                Finger<E> finger = fingerList.get(fingerList.size() - 1 - i);
-                finger.index = index--;
-                finger.node = node;
-                node = node.prev;
-            }
-            
-            System.arraycopy(
-                    fingerList.fingerArray,
-                    fingerList.size() - remainingFingers,
-                    fingerList.fingerArray,
-                    0,
-                    remainingFingers + 1);
-            
-            Arrays.fill(
-                    fingerList.fingerArray, 
-                    remainingFingers + 1,
-                    fingerList.size() + 1, 
-                    null);
-            
-            fingerList.size -= fingersToRemove;
-            fingerList.shiftFingerIndicesToLeft(0, removalLength);
-            fingerList.contractFingerArrayIfNeeded(fingerList.size());
-            
+        if (removalLength == size) {
+            clear();
             return;
         }
         
-        Finger<E> finger = fingerList.get(targetFingerIndex);
-        int index = finger.index - 1;
-        Node<E> node = finger.node == null ? tail : finger.node.prev;
+        ListOperationEvent event = new ListOperationEvent();
+        event.begin();
         
-        for (int i = 0; i < targetFingerIndex; i++) {
-            Finger<E> f = fingerList.get(targetFingerIndex - 1 - i);
-            f.index = index--;
-            f.node = node;
-            node = node.prev;
-        }
+        Node<E> startNode = node(fromIndex);
+        Node<E> endNode = node(toIndex - 1);
         
-        System.arraycopy(
-                fingerList.fingerArray,
-                fingerList.size(),
-                fingerList.fingerArray,
-                fingerList.size() - fingersToRemove,
-                fingersToRemove);
+        fingerList.flushPendingShifts();
         
-        Arrays.fill(
-                fingerList.fingerArray, 
-                fingerList.size() + 1 - fingersToRemove,
-                fingerList.size() + 1, 
-                null);
+        int fromFingerIndex = fingerList.getFingerIndexImpl(fromIndex);
+        int toFingerIndex = fingerList.getFingerIndexImpl(toIndex);
+        int numberOfRangeFingers = toFingerIndex - fromFingerIndex;
+        int numberOfFingers = fingerList.size();
         
-        fingerList.size -= fingersToRemove;
-        fingerList.shiftFingerIndicesToLeft(0, removalLength);
-        fingerList.contractFingerArrayIfNeeded(fingerList.size());
-//        
-//        int targetFingerIndex = toFingerIndex;
-//        int fingerSpotsCountedSoFar = fingerList.get(fromFingerIndex).index
-//                                    - fromFingerIndex;
-//                
-//        for (; targetFingerIndex < fingerList.size(); 
-//               targetFingerIndex++) {
-//            
-//            Finger<E> f1 = fingerList.get(targetFingerIndex);
-//            Finger<E> f2 = fingerList.get(targetFingerIndex + 1);
-//            
-//            int difference = f2.index 
-//                           - f1.index 
-//                           - 1;
-//            
-//            fingerSpotsCountedSoFar += difference;
-//            
-//            if (fingerSpotsCountedSoFar >= numberOfCoveringFingersToSuffix) {
-//                break;
-//            }
-//        }
-//        
-//        // Move targetFingerIndex + 1 first fingers to safety:
-//        Finger<E> sentinelFinger = fingerList.get(targetFingerIndex);
-//        int index = sentinelFinger.index - 1;
-//        Node<E> node = sentinelFinger.node == null ? 
-//                       tail : 
-//                       sentinelFinger.node.prev;
-//        
-//        for (int i = 0; i < targetFingerIndex; i++) {
-//            Finger<E> finger = fingerList.get(targetFingerIndex - i);
-//            finger.index = index--;
-//            finger.node = node;
-//            node = node.prev;
-//        }
-//        
-//        // Remove unneccessary fingers from the tail of this indexed list:
-//        System.arraycopy(
-//                fingerList.fingerArray,
-//                fingerList.size(),
-//                fingerList.fingerArray,
-//                fingerList.size() - fingersToRemove,
-//                fingersToRemove);
-//        
-//        Arrays.fill(
-//                fingerList.fingerArray, 
-//                fingerList.size() + 1 - fingersToRemove,
-//                fingerList.size() + 1, 
-//                null);
-//        
-//        fingerList.size -= fingersToRemove;
-//        fingerList.shiftFingerIndicesToLeft(fromFingerIndex, 
-//                                            removalLength);
-//        
-//        fingerList.contractFingerArrayIfNeeded(fingerList.size());
-    }
-    
-    /**
-     * The case 5 of the range removal procedure. Here, the number of fingers to
-     * remove is less than the number of covered fingers.
-     */
-    private void removeRangeImplCase5Old(int fromIndex,
-                                      int toIndex,
-                                      int fromFingerIndex,
-                                      int toFingerIndex,
-                                      int fingersToRemove) {
-        int removalLength = toIndex - fromIndex;
+        unlinkNodeRange(startNode, endNode);
         
-        this.loadFingerCoverageCounters(
-                fromFingerIndex, 
-                toFingerIndex,
-                fromIndex, 
-                toIndex,
-                fingersToRemove);
+        // Drop the fingers of the range, and move also the end-of-finger-list
+        // sentinel:
+        fingerList.moveFingers(toFingerIndex, 
+                               fromFingerIndex, 
+                               numberOfFingers - toFingerIndex + 1);
         
-        int fingerSpotsSoFar = 0;
-        int targetFingerIndex = toFingerIndex;
+        fingerList.clearFingers(numberOfFingers + 1 - numberOfRangeFingers, 
+                                numberOfFingers + 1);
         
-        for (; targetFingerIndex < fingerList.size(); 
-               targetFingerIndex++) {
-            
-            Finger<E> finger1 = fingerList.get(targetFingerIndex);
-            Finger<E> finger2 = fingerList.get(targetFingerIndex + 1);
-            
-            int diff = finger2.index - finger1.index - 1;
-            
-            fingerSpotsSoFar += diff;
-            
-            // Two iterations:
-            if (fingerSpotsSoFar >= fingersToRemove) {
-                break;
-            }
-        }
+        fingerList.size -= numberOfRangeFingers;
+        fingerList.shiftFingerIndicesToLeft(fromFingerIndex, removalLength);
+        size -= removalLength;
+        modCount++;
+        fingerList.contractFingerArrayIfNeeded(fingerList.size());
+        adjustNumberOfFingersAtSeam(fromFingerIndex);
+        event.commitOperation("removeRange", this, removalLength);
+    }
+    
+    /**
+     * Unlinks the node range {@code [startNode, ..., endNode]}, both inclusive 
+     * from this indexed list.
+     * '
+     * @param startNode the start node of the range.
+     * @param endNode   the end node of the range.
+     */
+    private void unlinkNodeRange(Node<E> startNode, Node<E> endNode) {
+        Node<E> currentNode = startNode;
+        Node<E> nextNode;
         
-        if (targetFingerIndex == fingerList.size()) { // TODO: this.numberOfCoveringFingersINSuffix?
-            int numberOfFingersToMove = fingerList.size()
-                                      - fingersToRemove
-                                      - this.numberOfCoveringFingersToPrefix;
-            
-            Node<E> node = tail; // TODO: Optimize?
-            int index = IndexedLinkedList.this.size - 1;
-            
-            for (int i = 0; i < numberOfFingersToMove; i++) {
-                Finger<E> finger = fingerList.get(fingerList.size() - 1 - i);
-                
-                finger.index = index;
-                finger.node = node;
-                
-                node = node.prev;
-                index--;
-            }
-            
-            System.arraycopy(
-                    fingerList.fingerArray, 
-                    fingerList.size() - numberOfFingersToMove,
-                    fingerList.fingerArray, 
-                    numberOfCoveringFingersToPrefix, 
-                    numberOfFingersToMove + 1);
-            
-            Arrays.fill(
-                    fingerList.fingerArray, 
-                    numberOfFingersToMove + numberOfCoveringFingersToPrefix + 1,
-                    fingerList.size() + 1,
-                    null);
-            
-            fingerList.size -= fingersToRemove;
-            
-            if (numberOfCoveringFingersToPrefix > 0) {
-                index = fromIndex - 1;
-                node  = fingerList.getNode(index);
-                
-                for (int i = 0; i < numberOfCoveringFingersToPrefix; i++) {
-                    Finger<E> finger = 
-                            fingerList.get(
-                                    numberOfCoveringFingersToPrefix - 1 - i);
-                    
-                    finger.index = index--;
-                    finger.node = node;
-                    node = node.prev;
-                }
-                
-//                fingerList.shiftFingerIndicesToLeft(fromIndex, 
-//                                                    removalLength);
-                fingerList.shiftFingerIndicesToLeft(
-                        numberOfCoveringFingersToPrefix,
-                        removalLength);
-            } else {
-                fingerList.shiftFingerIndicesToLeft(0, removalLength);
-            }
-            
-            return;
-        }
+        Node<E> prevStartNode = startNode.prev;
+        Node<E> nextEndNode   = endNode.next;
         
-        // Save the finger to move to the head:
-        Finger<E> finger = fingerList.get(targetFingerIndex);
-        int index = finger.index - 1;
-        Node<E> node = finger.node.prev;
+        // Get rid of all the nodes in the removed range:
+        do {
+            nextNode = currentNode.next;
+            preserveNode(currentNode);
+            invalidateHandle(currentNode);
+            currentNode.item = null;
+            currentNode.prev = null;
+            currentNode.next = null;
+            currentNode = nextNode;
+        } while (currentNode != nextEndNode);
         
-        for (int i = 0; 
-                 i < targetFingerIndex; // - fromFingerIndex??
-                 i++) {
-            
-            Finger<E> f = fingerList.get(targetFingerIndex - 1 - i);
-            f.index = index--;
-            f.node = node;
-            node = node.prev;
+        // Stitch the list:
+        if (prevStartNode == null) {
+            head = nextEndNode;
+            nextEndNode.prev = null;
+        } else if (nextEndNode == null) {
+            preserveNode(prevStartNode);
+            prevStartNode.next = null;
+            tail = prevStartNode;
+        } else {
+            preserveNode(prevStartNode);
+            prevStartNode.next = nextEndNode;
+            nextEndNode.prev = prevStartNode;
         }
-        
-        System.arraycopy(
-                fingerList.fingerArray,
-                toFingerIndex + fingersToRemove + 1,
-                fingerList.fingerArray,
-                toFingerIndex + 1,
-                fingerList.size() - toFingerIndex - 1);
-        
-        Arrays.fill(
-                fingerList.fingerArray,
-                fingerList.size() - fingersToRemove + 1,
-                fingerList.size() + 1,
-                null);
-        
-        fingerList.size -= fingersToRemove;
-        fingerList.contractFingerArrayIfNeeded(fingerList.size());
-        fingerList.shiftFingerIndicesToLeft(toFingerIndex, 
-                                            removalLength);
-        
-//        if (true)
-//            throw new IllegalStateException("HELLO WHITE");
-//        
-//        for (int i = targetFingerIndex - 1; i >= 0; i--) {
-//            Finger<E> ff = fingerList.get(i);
-//            fingerList.setFinger(i + 1, ff);
-//        }
-//        
-//        fingerList.setFinger(0, finger);
-//        
-//        for (int i = 0; i < targetFingerIndex; i++) {
-//            fingerList.get(i + 1).index = fingerList.get(i).index + 1;
-//            fingerList.get(i + 1).node  = fingerList.get(i).node.next;
-//        }
-//        
-//        System.arraycopy(
-//                fingerList.fingerArray, 
-//                fingerList.size(), 
-//                fingerList.fingerArray, 
-//                fingerList.size() - fingersToRemove,
-//                fingersToRemove);
-//        
-//        Arrays.fill(
-//                fingerList.fingerArray, 
-//                fingerList.size() - fingersToRemove + 1, 
-//                fingerList.size() + 1,
-//                null);
-//        
-//        fingerList.size -= fingersToRemove;
-//        fingerList.shiftFingerIndicesToLeft(numberOfCoveringFingersInPrefix,
-//                                            removalLength);
-    }
-    
-    /**
-     * Case 6 of the range removal procedure in which both the number of covered
-     * and removed fingers are the same.
-     * 
-     * @param removalLength   the number of elements to remove.
-     * @param fromFingerIndex the from index of the finger in the removed range.
-     * @param coveredFingers  the number of covering fingers.
-     */
-    private void removeRangeImplCase6(int removalLength,
-                                      int fromFingerIndex,
-                                      int coveredFingers,
-                                      int fingersToRemove) {
-        int numberOfFingersToMove = 
-                Math.min(
-                        fingerList.size() - fingersToRemove + 1, 
-                        fingerList.size() - fromFingerIndex);
-        
-        System.arraycopy(fingerList.fingerArray,
-                         fromFingerIndex + coveredFingers,
-                         fingerList.fingerArray,
-                         fromFingerIndex,
-                         numberOfFingersToMove);
-//                         fingerList.size() 
-//                                 - fingersToRemove 
-//                                 + 1);
-        
-        Arrays.fill(fingerList.fingerArray,
-                    fingerList.size() + 1 - fingersToRemove, 
-                    fingerList.size() + 1,
-                    null);
-        
-        fingerList.size -= coveredFingers;
-        fingerList.contractFingerArrayIfNeeded(fingerList.size);
-        fingerList.shiftFingerIndicesToLeft(fromFingerIndex,
-                                            removalLength);
     }
     
     /**
@@ -4154,12 +4913,14 @@ public class IndexedLinkedList<E> implements Deque<E>,
                       size / fingerList.size(),
                       0);
         
-        fingerList.fingerArray[fingerList.size()].index = 
-                saveListSize - numberOfElementsToRemove;
+        fingerList.setElementIndex(fingerList.size(), 
+                                   saveListSize - numberOfElementsToRemove);
     }
     
     /**
-     * Replaces all the elements from range {@code [i, end - 1]}.
+     * Replaces all the elements from range {@code [i, end - 1]}. Keeps the 
+     * positional index, if enabled, up to date. Does not count as a 
+     * structural modification.
      * 
      * @param operator the replacement operator.
      * @param i the starting, inclusive index of the range to replace.
@@ -4171,7 +4932,15 @@ public class IndexedLinkedList<E> implements Deque<E>,
         Node<E> node = node(i);
         
         while (modCount == expectedModCount && i < end) {
-            node.item = operator.apply(node.item);
+            E oldItem = node.item;
+            E item = operator.apply(oldItem);
+            preserveNode(node);
+            node.item = item;
+            
+            if (positionalIndex != null) {
+                positionalIndex.onSet(node, oldItem);
+            }
+            
             node = node.next;
             i++;
         }
@@ -4222,6 +4991,60 @@ public class IndexedLinkedList<E> implements Deque<E>,
         addFingersAfterSetAll(c.size());
     }
     
+    /**
+     * Splices the relinked chain starting from {@code first} back between 
+     * {@code predecessor} and {@code successor}, restores the {@code prev} 
+     * links of the chain, and distributes the fingers of the range 
+     * {@code [fromIndex, toIndex)} over it once.
+     * 
+     * @param first       the first node of the {@code null}-terminated 
+     *                    chain.
+     * @param predecessor the node preceding the range, or {@code null}.
+     * @param successor   the node following the range, or {@code null}.
+     * @param fromIndex   the starting, inclusive index of the range.
+     * @param toIndex     the ending, exclusive index of the range.
+     */
+    private void spliceSortedChain(Node<E> first,
+                                   Node<E> predecessor,
+                                   Node<E> successor,
+                                   int fromIndex,
+                                   int toIndex) {
+        first.prev = predecessor;
+        
+        if (predecessor == null) {
+            head = first;
+        } else {
+            predecessor.next = first;
+        }
+        
+        Node<E> node = first;
+        
+        while (node.next != null) {
+            node.next.prev = node;
+            node = node.next;
+        }
+        
+        node.next = successor;
+        
+        if (successor == null) {
+            tail = node;
+        } else {
+            successor.prev = node;
+        }
+        
+        int fingerPrefixLength = fingerList.getFingerIndexImpl(fromIndex);
+        int numberOfRangeFingers = 
+                fingerList.getFingerIndexImpl(toIndex) - fingerPrefixLength;
+        
+        if (numberOfRangeFingers > 0) {
+            distributeFingers(first, 
+                              fromIndex,
+                              toIndex,
+                              numberOfRangeFingers, 
+                              fingerPrefixLength);
+        }
+    }
+    
     /**
      * Spreads the fingers over the range starting from {@code node}.
      * 
@@ -4238,25 +5061,23 @@ public class IndexedLinkedList<E> implements Deque<E>,
                                int fingerIndex) {
         
         node = scrollNodeToRight(node, distance / 2);
-        fingerList.setFinger(fingerIndex++, new Finger<>(node, index));
+        fingerList.setFinger(fingerIndex++, node, index);
         
         for (int i = 1; i < numberOfNewFingers; i++) {
             index += distance;
             node = scrollNodeToRight(node, distance);
-            fingerList.setFinger(fingerIndex++, new Finger<>(node, index));
+            fingerList.setFinger(fingerIndex++, node, index);
         }
     }
     
     /**
      * If steps > 0, rewind to the left. Otherwise, rewinds to the right.
      * 
-     * @param finger the finger to traverse.
-     * @param steps  the number of steps to traverse the {@code finger}.
+     * @param node  the node to start the traversal from.
+     * @param steps the number of steps to traverse from {@code node}.
      * @return the reached node.
      */
-    private Node<E> traverseLinkedListBackwards(Finger<E> finger, int steps) {
-        Node<E> node = finger.node;
-        
+    private Node<E> traverseLinkedListBackwards(Node<E> node, int steps) {
         if (steps > 0) {
             for (int i = 0; i < steps; i++) {
                 node = node.prev;
@@ -4281,28 +5102,30 @@ public class IndexedLinkedList<E> implements Deque<E>,
      */
     private boolean tryPushFingersToLeft(int fingerIndex) {
         if (fingerIndex == 0) {
-            Finger<E> finger = fingerList.get(0);
+            int index = fingerList.getElementIndex(0);
             
-            if (finger.index == 0) {
+            if (index == 0) {
                 // Nowhere to push to left:
                 return false;
             }
             
-            finger.index--;
-            finger.node = finger.node.prev;
+            fingerList.setElementIndex(0, index - 1);
+            fingerList.setFingerNode(0, fingerList.getFingerNode(0).prev);
             fingerList.shiftFingerIndicesToLeftOnceAll(fingerIndex + 1);
             return true;
         }
         
         for (int j = fingerIndex; j > 0; --j) {
-            Finger<E> fingerLeft  = fingerList.get(j - 1);
-            Finger<E> fingerRight = fingerList.get(j);
+            int leftIndex  = fingerList.getElementIndex(j - 1);
+            int rightIndex = fingerList.getElementIndex(j);
             
-            if (fingerLeft.index + 1 < fingerRight.index) {
+            if (leftIndex + 1 < rightIndex) {
                 for (int k = j; k <= fingerIndex; k++) {
-                    Finger<E> fngr = fingerList.get(k);
-                    fngr.node = fngr.node.prev;
-                    fngr.index--;
+                    fingerList.setFingerNode(k, 
+                                             fingerList.getFingerNode(k).prev);
+                    fingerList.setElementIndex(
+                            k, 
+                            fingerList.getElementIndex(k) - 1);
                 }
                    
                 fingerList.shiftFingerIndicesToLeftOnceAll(fingerIndex + 1);
@@ -4322,13 +5145,13 @@ public class IndexedLinkedList<E> implements Deque<E>,
      */
     private boolean tryPushFingersToRight(int fingerIndex) {
         for (int j = fingerIndex; j < fingerList.size(); ++j) {
-            Finger<E> fingerLeft  = fingerList.get(j);
-            Finger<E> fingerRight = fingerList.get(j + 1);
+            int leftIndex  = fingerList.getElementIndex(j);
+            int rightIndex = fingerList.getElementIndex(j + 1);
 
-            if (fingerLeft.index + 1 < fingerRight.index) {
+            if (leftIndex + 1 < rightIndex) {
                 for (int i = j; i >= fingerIndex; --i) {
-                    Finger<E> fngr = fingerList.get(i);
-                    fngr.node = fngr.node.next;
+                    fingerList.setFingerNode(i, 
+                                             fingerList.getFingerNode(i).next);
                 }
 
                 fingerList.shiftFingerIndicesToLeftOnceAll(j + 1);
@@ -4351,6 +5174,7 @@ public class IndexedLinkedList<E> implements Deque<E>,
         if (prev == null) {
             head = next;
         } else {
+            preserveNode(prev);
             prev.next = next;
             x.prev = null;
         }
@@ -4359,6 +5183,7 @@ public class IndexedLinkedList<E> implements Deque<E>,
             tail = prev;
         } else {
             next.prev = prev;
+            preserveNode(x);
             x.next = null;
         }
     }
@@ -4390,6 +5215,171 @@ public class IndexedLinkedList<E> implements Deque<E>,
         }
     }
     
+    /**
+     * This static inner class implements the fork-join task that sorts a run
+     * of contiguous node segments by relinking their nodes. Once the task
+     * completes, the slot of its first segment holds the sorted chain of all
+     * its segments and its other slots are {@code null}. If the comparator 
+     * throws, the exception is recorded and every slot keeps holding a chain
+     * of its nodes, so that no node is lost.
+     * 
+     * @param <E> the node datum type.
+     */
+    static final class SegmentSortTask<E> extends RecursiveAction {
+        
+        /**
+         * The serial version UID.
+         */
+        @java.io.Serial
+        private static final long serialVersionUID = 1L;
+        
+        /**
+         * The {@code null}-terminated node chain of each segment.
+         */
+        private final transient Node<E>[] segmentChains;
+        
+        /**
+         * The element comparator.
+         */
+        private final transient Comparator<? super E> comparator;
+        
+        /**
+         * The first exception thrown by the comparator in any of the tasks.
+         */
+        private final AtomicReference<Throwable> failure;
+        
+        /**
+         * The index of the first segment of this task.
+         */
+        private final int fromSegment;
+        
+        /**
+         * One past the index of the last segment of this task.
+         */
+        private final int toSegment;
+        
+        SegmentSortTask(Node<E>[] segmentChains,
+                        Comparator<? super E> comparator,
+                        AtomicReference<Throwable> failure,
+                        int fromSegment,
+                        int toSegment) {
+            this.segmentChains = segmentChains;
+            this.comparator = comparator;
+            this.failure = failure;
+            this.fromSegment = fromSegment;
+            this.toSegment = toSegment;
+        }
+
+        @Override
+        protected void compute() {
+            if (toSegment - fromSegment == 1) {
+                sortSegment();
+                return;
+            }
+            
+            int middleSegment = (fromSegment + toSegment) >>> 1;
+
+            invokeAll(new SegmentSortTask<>(segmentChains,
+                                            comparator,
+                                            failure,
+                                            fromSegment,
+                                            middleSegment),
+                      new SegmentSortTask<>(segmentChains,
+                                            comparator,
+                                            failure,
+                                            middleSegment,
+                                            toSegment));
+            
+            if (failure.get() == null) {
+                mergeSegments(middleSegment);
+            }
+        }
+        
+        /**
+         * Merges stably the sorted chains of the first segment and of the 
+         * segment {@code middleSegment} into the slot of the first segment.
+         * 
+         * @param middleSegment the index of the segment of the right chain.
+         */
+        private void mergeSegments(int middleSegment) {
+            Node<E> left = segmentChains[fromSegment];
+            Node<E> right = segmentChains[middleSegment];
+            Node<E> sentinel = new Node<>(null);
+            Node<E> tail = sentinel;
+            
+            try {
+                while (left != null && right != null) {
+                    if (comparator.compare(right.item, left.item) < 0) {
+                        tail.next = right;
+                        tail = right;
+                        right = right.next;
+                    } else {
+                        tail.next = left;
+                        tail = left;
+                        left = left.next;
+                    }
+                }
+                
+                tail.next = left != null ? left : right;
+            } catch (RuntimeException | Error ex) {
+                // Both the chains are non-empty here:
+                tail.next = left;
+                
+                while (left.next != null) {
+                    left = left.next;
+                }
+                
+                left.next = right;
+                failure.compareAndSet(null, ex);
+            } finally {
+                segmentChains[fromSegment] = sentinel.next;
+                segmentChains[middleSegment] = null;
+            }
+        }
+        
+        /**
+         * Sorts the chain of the only segment of this task. The elements of 
+         * the segment are sorted in an array of the segment length and are 
+         * written back into the nodes of the segment, which keeps the chain 
+         * in its allocation order for the cache-friendly merging. If the 
+         * comparator throws, the nodes are left intact.
+         */
+        @SuppressWarnings("unchecked")
+        private void sortSegment() {
+            if (failure.get() != null) {
+                return;
+            }
+            
+            int segmentLength = 0;
+            
+            for (Node<E> node = segmentChains[fromSegment]; 
+                    node != null; 
+                    node = node.next) {
+                ++segmentLength;
+            }
+            
+            Object[] array = new Object[segmentLength];
+            Node<E> node = segmentChains[fromSegment];
+            
+            for (int i = 0; i < segmentLength; ++i, node = node.next) {
+                array[i] = node.item;
+            }
+            
+            try {
+                Arrays.sort((E[]) array, comparator);
+            } catch (RuntimeException | Error ex) {
+                failure.compareAndSet(null, ex);
+                return;
+            }
+            
+            node = segmentChains[fromSegment];
+            
+            for (int i = 0; i < segmentLength; ++i, node = node.next) {
+                node.item = (E) array[i];
+            }
+        }
+    }
+    
     /**
      * This static inner class implements the spliterator over this list.
      * 
@@ -4398,7 +5388,7 @@ public class IndexedLinkedList<E> implements Deque<E>,
     static final class LinkedListSpliterator<E> implements Spliterator<E> {
         
         /**
-         * The minimum batch size.
+         * The default minimum batch size.
          */
         static final long MINIMUM_BATCH_SIZE = 1024L;
         
@@ -4433,6 +5423,11 @@ public class IndexedLinkedList<E> implements Deque<E>,
          */
         private final int expectedModCount;
         
+        /**
+         * The minimum number of elements in each part of a split.
+         */
+        private final int batchSize;
+        
         /**
          * Constructs a new spliterator.
          * 
@@ -4441,17 +5436,20 @@ public class IndexedLinkedList<E> implements Deque<E>,
          * @param lengthOfSpliterator the length of this spliterator.
          * @param offsetOfSpliterator the offset of this spliterator.
          * @param expectedModCount    the expected modification count.
+         * @param batchSize           the minimum batch size.
          */
         private LinkedListSpliterator(IndexedLinkedList<E> list,
                                       Node<E> node,
                                       long lengthOfSpliterator,
                                       long offsetOfSpliterator,
-                                      int expectedModCount) {
+                                      int expectedModCount,
+                                      int batchSize) {
             this.list = list;
             this.node = node;
             this.lengthOfSpliterator = lengthOfSpliterator;
             this.offsetOfSpliterator = offsetOfSpliterator;
             this.expectedModCount = expectedModCount;
+            this.batchSize = batchSize;
         }
 
         /**
@@ -4507,9 +5505,14 @@ public class IndexedLinkedList<E> implements Deque<E>,
         }
         
         /**
-         * Attempts to split this spliterator. Upon success, it returns the rest
-         * of this spliterator, and a child spliterator working on the another
-         * half of the range.
+         * Attempts to split this spliterator. Upon success, it returns a child
+         * spliterator working on the first part of the remaining range, and 
+         * this spliterator keeps the second part. The split point is aligned 
+         * to the finger closest to the middle of the remaining range as long 
+         * as both the parts hold at least the batch size elements. Otherwise,
+         * the middle node is reached by walking from the closest finger. 
+         * Never modifies the fingers, so that concurrent splits of the 
+         * spliterators over the same list are safe.
          * 
          * @return another spliterator, or {@code null} if splitting was not 
          *         possible.
@@ -4518,31 +5521,78 @@ public class IndexedLinkedList<E> implements Deque<E>,
         public Spliterator<E> trySplit() {
             long sizeLeft = estimateSize();
             
-            if (sizeLeft == 0) {
+            if (sizeLeft / 2L < batchSize) {
                 return null;
             }
-                
-            long thisSpliteratorNewLength = sizeLeft / 2L;
             
-            if (thisSpliteratorNewLength < MINIMUM_BATCH_SIZE) {
-                return null;
+            if (list.modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+            
+            int fromIndex = 
+                    (int)(offsetOfSpliterator + numberOfProcessedElements);
+            
+            int toIndex = (int)(offsetOfSpliterator + lengthOfSpliterator);
+            int splitIndex = (int)(fromIndex + sizeLeft / 2L);
+            
+            FingerList<E> fingerList = list.fingerList;
+            int ceilingFingerIndex = 
+                    fingerList.getFingerIndexReadOnly(splitIndex);
+            
+            Node<E> alignedNode = null;
+            int alignedIndex = 0;
+            Node<E> closestNode = node;
+            int closestIndex = fromIndex;
+            
+            for (int fingerIndex = Math.max(0, ceilingFingerIndex - 1);
+                    fingerIndex <= ceilingFingerIndex 
+                    && fingerIndex < fingerList.size();
+                    ++fingerIndex) {
+                
+                int index = fingerList.getElementIndex(fingerIndex);
+                Node<E> fingerNode = fingerList.getFingerNode(fingerIndex);
+                int distance = Math.abs(index - splitIndex);
+                
+                if (index >= fromIndex + batchSize 
+                        && index <= toIndex - batchSize
+                        && (alignedNode == null 
+                        || distance < Math.abs(alignedIndex - splitIndex))) {
+                    alignedNode = fingerNode;
+                    alignedIndex = index;
+                }
+                
+                if (distance < Math.abs(closestIndex - splitIndex)) {
+                    closestNode = fingerNode;
+                    closestIndex = index;
+                }
             }
             
-            long newSpliteratorLength = sizeLeft - thisSpliteratorNewLength;
-            long newSpliteratorOffset = this.offsetOfSpliterator;
+            Node<E> splitNode;
             
-            this.offsetOfSpliterator += newSpliteratorLength;
-            this.lengthOfSpliterator -= newSpliteratorLength;
+            if (alignedNode != null) {
+                splitNode = alignedNode;
+                splitIndex = alignedIndex;
+            } else {
+                splitNode = 
+                        list.traverseLinkedListBackwards(
+                                closestNode, 
+                                closestIndex - splitIndex);
+            }
             
-            Node<E> newSpliteratorNode = this.node;
+            Spliterator<E> prefixSpliterator = 
+                    new LinkedListSpliterator<>(list,
+                                                node,
+                                                splitIndex - fromIndex,
+                                                fromIndex,
+                                                expectedModCount,
+                                                batchSize);
             
-            this.node = list.node((int) this.offsetOfSpliterator);
+            this.node = splitNode;
+            this.offsetOfSpliterator = splitIndex;
+            this.lengthOfSpliterator = toIndex - splitIndex;
+            this.numberOfProcessedElements = 0;
             
-            return new LinkedListSpliterator<>(list,
-                                               newSpliteratorNode,
-                                               newSpliteratorLength, // length
-                                               newSpliteratorOffset, // offset
-                                               expectedModCount);
+            return prefixSpliterator;
         }
 
         /**
@@ -4990,6 +6040,25 @@ public class IndexedLinkedList<E> implements Deque<E>,
             };
         }
         
+        /**
+         * Sorts stably this view in parallel.
+         * 
+         * @param c the comparator object.
+         * 
+         * @see IndexedLinkedList#parallelSort(java.util.Comparator) 
+         */
+        public void parallelSort(Comparator<? super E> c) {
+            checkForComodification();
+            
+            if (size == 0) {
+                return;
+            }
+            
+            root.parallelSortRange(offset, offset + size, c);
+            root.modCount++;
+            updateSizeAndModCount(0);
+        }
+        
         /**
          * Removes the leftmost occurrence of {@code o} from this view.
          * 
@@ -5126,24 +6195,33 @@ public class IndexedLinkedList<E> implements Deque<E>,
                 return;
             }
             
-            int expectedModCount = modCount;
-            Object[] array = toArray();
-            Node<E> node = node(offset);
+            if (root.sortStrategy == SortStrategy.NATURAL_MERGE) {
+                checkForComodification();
+                root.mergeSortRange(offset, offset + size, c);
+            } else {
+                int expectedModCount = modCount;
+                Object[] array = toArray();
+                Node<E> node = node(offset);
 
-            Arrays.sort((E[]) array, c);
+                Arrays.sort((E[]) array, c);
 
-            // Rearrange the items over the linked list nodes:
-            for (int i = 0; i < array.length; ++i, node = node.next) {
-                E item = (E) array[i];
-                node.item = item;
-            }
-            
-            if (expectedModCount != modCount) {
-                throw new ConcurrentModificationException();
+                // Rearrange the items over the linked list nodes:
+                for (int i = 0; i < array.length; ++i, node = node.next) {
+                    E item = (E) array[i];
+                    root.preserveNode(node);
+                    root.invalidateHandle(node);
+                    node.item = item;
+                }
+
+                if (expectedModCount != modCount) {
+                    throw new ConcurrentModificationException();
+                }
+
+                distributeFingers(offset, offset + size);
             }
             
-            distributeFingers(offset, offset + size);
-            modCount++;
+            root.modCount++;
+            updateSizeAndModCount(0);
         }
         
         /**
@@ -5157,7 +6235,8 @@ public class IndexedLinkedList<E> implements Deque<E>,
                                              node(offset),
                                              size,
                                              offset,
-                                             modCount);
+                                             modCount,
+                                             root.spliteratorBatchSize);
         }
         
         /**
@@ -0,0 +1,92 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2024 rodio.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.github.coderodde.util;
+
+/**
+ * This interface defines the management view of an {@link IndexedLinkedList}
+ * published via JMX. The attributes are sampled without synchronizing with the
+ * threads modifying the list, and so they may be momentarily inconsistent.
+ * 
+ * @see IndexedLinkedList#registerMXBean(java.lang.String) 
+ */
+public interface IndexedLinkedListMXBean {
+    
+    /**
+     * Returns the number of elements in the list.
+     * 
+     * @return the size of the list.
+     */
+    int getSize();
+    
+    /**
+     * Returns the number of fingers in the list.
+     * 
+     * @return the number of fingers.
+     */
+    int getNumberOfFingers();
+    
+    /**
+     * Returns the length of the finger arrays, including the slot of the 
+     * end-of-finger-list sentinel.
+     * 
+     * @return the finger array capacity.
+     */
+    int getFingerArrayCapacity();
+    
+    /**
+     * Returns the entropy of the finger distribution.
+     * 
+     * @return the entropy, or {@link Double#NaN} if the finger list changed 
+     *         while being read.
+     * 
+     * @see IndexedLinkedList#getEntropy() 
+     */
+    double getEntropy();
+    
+    /**
+     * Returns the modification count of the list.
+     * 
+     * @return the modification count.
+     */
+    int getModificationCount();
+    
+    /**
+     * Returns the number of modifications per second since the previous call
+     * to this method, or since the registration on the first call.
+     * 
+     * @return the modification rate.
+     */
+    double getModificationRate();
+    
+    /**
+     * Returns the average number of node hops per lookup, if the finger 
+     * metrics of the list are enabled.
+     * 
+     * @return the average number of hops per lookup, or zero if the finger 
+     *         metrics are disabled.
+     * 
+     * @see IndexedLinkedList#setFingerMetrics(boolean) 
+     */
+    double getAverageHopsPerLookup();
+}
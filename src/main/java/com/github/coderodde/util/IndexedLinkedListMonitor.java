@@ -0,0 +1,103 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2024 rodio.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.github.coderodde.util;
+
+/**
+ * This class implements the {@link IndexedLinkedListMXBean} of a single 
+ * {@link IndexedLinkedList}.
+ */
+final class IndexedLinkedListMonitor implements IndexedLinkedListMXBean {
+    
+    /**
+     * The monitored list.
+     */
+    private final IndexedLinkedList<?> list;
+    
+    /**
+     * The modification count at the previous modification rate sample.
+     */
+    private int previousModCount;
+    
+    /**
+     * The time of the previous modification rate sample in nanoseconds.
+     */
+    private long previousSampleNanos;
+    
+    /**
+     * Constructs the monitor of the input list.
+     * 
+     * @param list the list to monitor.
+     */
+    IndexedLinkedListMonitor(IndexedLinkedList<?> list) {
+        this.list = list;
+        this.previousModCount = list.modCount;
+        this.previousSampleNanos = System.nanoTime();
+    }
+
+    @Override
+    public int getSize() {
+        return list.size;
+    }
+
+    @Override
+    public int getNumberOfFingers() {
+        return list.fingerList.size();
+    }
+
+    @Override
+    public int getFingerArrayCapacity() {
+        return list.fingerList.fingerIndexArray.length;
+    }
+
+    @Override
+    public double getEntropy() {
+        try {
+            return list.getEntropy();
+        } catch (IndexOutOfBoundsException | NullPointerException ex) {
+            // The finger list was resized under us:
+            return Double.NaN;
+        }
+    }
+
+    @Override
+    public int getModificationCount() {
+        return list.modCount;
+    }
+
+    @Override
+    public synchronized double getModificationRate() {
+        int modCount = list.modCount;
+        long now = System.nanoTime();
+        long elapsedNanos = Math.max(1L, now - previousSampleNanos);
+        double rate = (modCount - previousModCount) * 1e9 / elapsedNanos;
+        previousModCount = modCount;
+        previousSampleNanos = now;
+        return rate;
+    }
+
+    @Override
+    public double getAverageHopsPerLookup() {
+        return list.getFingerMetrics().getAverageHopsPerLookup();
+    }
+}
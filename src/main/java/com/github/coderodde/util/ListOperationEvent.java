@@ -0,0 +1,82 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2024 rodio.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.github.coderodde.util;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * This class implements the JDK Flight Recorder event fired by the expensive 
+ * operations of {@link IndexedLinkedList}, such as sorting, removing a range
+ * and redistributing the fingers. The event duration is the duration of the
+ * operation. While no recording has the event enabled, creating and 
+ * committing the event does not do any work.
+ */
+@Name("com.github.coderodde.util.ListOperation")
+@Label("Indexed Linked List Operation")
+@Category("Indexed Linked List")
+@Description("An expensive operation on an indexed linked list.")
+final class ListOperationEvent extends Event {
+    
+    @Label("Operation")
+    @Description("The name of the list operation.")
+    String operation;
+    
+    @Label("List Size")
+    @Description("The size of the list after the operation.")
+    int listSize;
+    
+    @Label("Range Length")
+    @Description("The number of elements the operation processed.")
+    int rangeLength;
+    
+    @Label("Number of Fingers")
+    @Description("The number of fingers after the operation.")
+    int numberOfFingers;
+    
+    /**
+     * Ends this event and commits it, if enabled, along with the state of 
+     * {@code list}.
+     * 
+     * @param operation   the name of the operation.
+     * @param list        the list after the operation.
+     * @param rangeLength the number of elements processed.
+     */
+    void commitOperation(String operation, 
+                         IndexedLinkedList<?> list, 
+                         int rangeLength) {
+        end();
+        
+        if (shouldCommit()) {
+            this.operation = operation;
+            this.listSize = list.size;
+            this.rangeLength = rangeLength;
+            this.numberOfFingers = list.fingerList.size();
+            commit();
+        }
+    }
+}
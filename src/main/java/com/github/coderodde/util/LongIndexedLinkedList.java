@@ -0,0 +1,327 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2024 rodio.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.github.coderodde.util;
+
+import java.util.PrimitiveIterator;
+
+/**
+ * <p>
+ * This class implements the {@code long} specialization of 
+ * {@link UnrolledIndexedLinkedList}. The elements are stored unboxed in 
+ * {@code long[]} chunks, so a list of \(n\) elements holds about 
+ * \(n / C\) objects instead of \(2n\) ({@link Node} and {@link Long}) as 
+ * in {@code IndexedLinkedList<Long>}. The finger machinery is the same as
+ * in {@link UnrolledIndexedLinkedList}.
+ * 
+ * <p>
+ * 
+ * The primitive accessors such as {@link #getLong(int)}, 
+ * {@link #addLong(long)}, {@link #removeLongAt(int)} and 
+ * {@link #longIterator()} do not allocate, apart from a new chunk now and then.
+ * The {@link java.util.List} methods are supported as well; they box and 
+ * unbox the elements, and reject {@code null}s with a 
+ * {@link NullPointerException}.
+ * 
+ * @author Rodion "rodde" Efremov
+ * @version 1.7.0 (Nov 23, 2024)
+ * @since 1.7.0 (Nov 23, 2024)
+ */
+public class LongIndexedLinkedList 
+        extends AbstractChunkedIndexedList<Long>
+        implements Cloneable {
+    
+    /**
+     * The serial version UID.
+     */
+    @java.io.Serial
+    private static final long serialVersionUID = -4305713526912843512L;
+    
+    /**
+     * Constructs an empty list with the default chunk capacity.
+     */
+    public LongIndexedLinkedList() {
+        this(DEFAULT_CHUNK_CAPACITY);
+    }
+    
+    /**
+     * Constructs an empty list with the given chunk capacity.
+     * 
+     * @param chunkCapacity the maximum number of elements in a chunk.
+     * @throws IllegalArgumentException if {@code chunkCapacity} is outside of 
+     *                                  the range 
+     *                                  [{@value #MINIMUM_CHUNK_CAPACITY},
+     *                                  {@value #MAXIMUM_CHUNK_CAPACITY}].
+     */
+    public LongIndexedLinkedList(int chunkCapacity) {
+        super(chunkCapacity);
+    }
+    
+    /**
+     * Appends the value {@code value} to the end of this list. Runs in 
+     * amortized constant time.
+     * 
+     * @param value the value to append.
+     * @return always {@code true}.
+     */
+    public boolean addLong(long value) {
+        Chunk chunk = openSlot(size);
+        ((long[]) chunk.items)[chunk.size - 1] = value;
+        return true;
+    }
+    
+    /**
+     * Inserts the value {@code value} at the index {@code index}. Runs in
+     * \(\mathcal{O}(C + \sqrt{n})\) amortized time.
+     * 
+     * @param index the insertion index.
+     * @param value the value to insert.
+     * @throws IndexOutOfBoundsException if {@code index} is not within 
+     *                                   {@code [0, size()]}.
+     */
+    public void addLong(int index, long value) {
+        checkPositionIndex(index);
+        Chunk chunk = openSlot(index);
+        ((long[]) chunk.items)[index - locatedChunkStart] = value;
+    }
+    
+    /**
+     * Returns a clone list with the same content and the same chunk capacity
+     * as this list.
+     * 
+     * @return the clone list.
+     */
+    @Override
+    public Object clone() {
+        LongIndexedLinkedList clone = 
+                new LongIndexedLinkedList(chunkCapacity);
+        
+        for (Chunk chunk = head; chunk != null; chunk = chunk.next) {
+            long[] items = (long[]) chunk.items;
+            
+            for (int i = 0; i < chunk.size; i++) {
+                clone.addLong(items[i]);
+            }
+        }
+        
+        return clone;
+    }
+    
+    /**
+     * Returns {@code true} only if {@code value} is present in this list. Runs
+     * in worst-case linear time.
+     * 
+     * @param value the query value.
+     * @return {@code true} if {@code value} is in this list.
+     */
+    public boolean containsLong(long value) {
+        return indexOfLong(value) >= 0;
+    }
+    
+    /**
+     * Returns the value at the index {@code index}. Runs in 
+     * \(\mathcal{O}(\log n + \sqrt{n} / C)\) time.
+     * 
+     * @param index the index of the value to get.
+     * @return the value at the index {@code index}.
+     * @throws IndexOutOfBoundsException if {@code index} is not within
+     *                                   {@code [0, size())}.
+     */
+    public long getLong(int index) {
+        checkElementIndex(index);
+        Chunk chunk = locateChunk(index);
+        return ((long[]) chunk.items)[index - locatedChunkStart];
+    }
+    
+    @Override
+    public int indexOf(Object o) {
+        return o instanceof Long ? indexOfLong((Long) o) : -1;
+    }
+    
+    /**
+     * Returns the index of the first occurrence of {@code value} or 
+     * {@code -1} if there is no such value. Runs in worst-case linear time.
+     * 
+     * @param value the value to search.
+     * @return the index of the first occurrence of {@code value}.
+     */
+    public int indexOfLong(long value) {
+        int chunkStart = 0;
+        
+        for (Chunk chunk = head; chunk != null; chunk = chunk.next) {
+            long[] items = (long[]) chunk.items;
+            
+            for (int i = 0; i < chunk.size; i++) {
+                if (items[i] == value) {
+                    return chunkStart + i;
+                }
+            }
+            
+            chunkStart += chunk.size;
+        }
+        
+        return -1;
+    }
+    
+    /**
+     * Returns the iterator over the values of this list. The iterator does 
+     * not box the values unless iterated via {@link java.util.Iterator#next()}.
+     * 
+     * @return the primitive iterator.
+     */
+    public PrimitiveIterator.OfLong longIterator() {
+        return new LongChunkIterator();
+    }
+    
+    @Override
+    public int lastIndexOf(Object o) {
+        return o instanceof Long ? lastIndexOfLong((Long) o) : -1;
+    }
+    
+    /**
+     * Returns the index of the last occurrence of {@code value} or {@code -1}
+     * if there is no such value. Runs in worst-case linear time.
+     * 
+     * @param value the value to search.
+     * @return the index of the last occurrence of {@code value}.
+     */
+    public int lastIndexOfLong(long value) {
+        int chunkStart = size;
+        
+        for (Chunk chunk = tail; chunk != null; chunk = chunk.prev) {
+            long[] items = (long[]) chunk.items;
+            chunkStart -= chunk.size;
+            
+            for (int i = chunk.size - 1; i >= 0; i--) {
+                if (items[i] == value) {
+                    return chunkStart + i;
+                }
+            }
+        }
+        
+        return -1;
+    }
+    
+    /**
+     * Removes the value at the index {@code index}. Runs in 
+     * \(\mathcal{O}(C + \sqrt{n})\) amortized time.
+     * 
+     * @param index the index of the value to remove.
+     * @return the removed value.
+     * @throws IndexOutOfBoundsException if {@code index} is not within
+     *                                   {@code [0, size())}.
+     */
+    public long removeLongAt(int index) {
+        checkElementIndex(index);
+        Chunk chunk = locateChunk(index);
+        int chunkStart = locatedChunkStart;
+        long value = ((long[]) chunk.items)[index - chunkStart];
+        closeSlot(chunk, chunkStart, index - chunkStart);
+        return value;
+    }
+    
+    /**
+     * Sets the value at the index {@code index} to {@code value}. Runs in
+     * \(\mathcal{O}(\log n + \sqrt{n} / C)\) time.
+     * 
+     * @param index the index of the value to set.
+     * @param value the new value.
+     * @return the old value.
+     * @throws IndexOutOfBoundsException if {@code index} is not within
+     *                                   {@code [0, size())}.
+     */
+    public long setLong(int index, long value) {
+        checkElementIndex(index);
+        Chunk chunk = locateChunk(index);
+        long[] items = (long[]) chunk.items;
+        int offset = index - locatedChunkStart;
+        long oldValue = items[offset];
+        items[offset] = value;
+        return oldValue;
+    }
+    
+    /**
+     * Returns the values of this list in a new array. Runs in linear time.
+     * 
+     * @return the array of values.
+     */
+    public long[] toLongArray() {
+        long[] array = new long[size];
+        int arrayIndex = 0;
+        
+        for (Chunk chunk = head; chunk != null; chunk = chunk.next) {
+            System.arraycopy(chunk.items, 0, array, arrayIndex, chunk.size);
+            arrayIndex += chunk.size;
+        }
+        
+        return array;
+    }
+    
+    @Override
+    Long getElement(Object items, int offset) {
+        return ((long[]) items)[offset];
+    }
+    
+    @Override
+    Object newChunkArray(int capacity) {
+        return new long[capacity];
+    }
+    
+    @Override
+    void readElement(java.io.ObjectInputStream s, Object items, int offset) 
+            throws java.io.IOException {
+        ((long[]) items)[offset] = s.readLong();
+    }
+    
+    @Override
+    void setElement(Object items, int offset, Long e) {
+        ((long[]) items)[offset] = e;
+    }
+    
+    @Override
+    void writeElement(java.io.ObjectOutputStream s, Object items, int offset) 
+            throws java.io.IOException {
+        s.writeLong(((long[]) items)[offset]);
+    }
+    
+    /**
+     * This inner class implements the primitive iterator over this list.
+     */
+    private final class LongChunkIterator 
+            extends ChunkCursor
+            implements PrimitiveIterator.OfLong {
+        
+        /**
+         * Constructs an iterator pointing to the beginning of this list.
+         */
+        LongChunkIterator() {
+            super(0);
+        }
+        
+        @Override
+        public long nextLong() {
+            int offset = nextOffset();
+            return ((long[]) chunk.items)[offset];
+        }
+    }
+}
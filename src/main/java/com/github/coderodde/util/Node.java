@@ -93,4 +93,66 @@ final class Node<E> {
     public String toString() {
         return "[Node; item = " + item + "]";
     }
+    
+    /**
+     * The snapshot history of a node written while a snapshot was live. Kept
+     * by the owner list outside of the node.
+     * 
+     * @param <E> the element type.
+     */
+    static final class History<E> {
+        
+        /**
+         * The snapshot epoch in which the current {@code item} and 
+         * {@code next} fields of the node were written.
+         */
+        int stamp;
+        
+        /**
+         * The older values of the {@code item} and {@code next} fields still
+         * visible to the live snapshots, the newest first, or {@code null} if
+         * there are none.
+         */
+        Version<E> versions;
+        
+        History(int stamp) {
+            this.stamp = stamp;
+        }
+    }
+    
+    /**
+     * An immutable copy of the {@code item} and {@code next} fields of a node
+     * as of the given snapshot epoch.
+     * 
+     * @param <E> the element type.
+     */
+    static final class Version<E> {
+        
+        /**
+         * The epoch in which the values were written.
+         */
+        final int stamp;
+        
+        /**
+         * The saved item.
+         */
+        final E item;
+        
+        /**
+         * The saved next node.
+         */
+        final Node<E> next;
+        
+        /**
+         * The version older than this one, or {@code null}.
+         */
+        final Version<E> older;
+        
+        Version(int stamp, E item, Node<E> next, Version<E> older) {
+            this.stamp = stamp;
+            this.item = item;
+            this.next = next;
+            this.older = older;
+        }
+    }
 }
@@ -0,0 +1,677 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2024 rodio.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.github.coderodde.util;
+
+import static com.github.coderodde.util.OffHeapNodeArena.NULL_SLOT;
+import java.util.ConcurrentModificationException;
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+
+/**
+ * <p>
+ * This class implements the indexed, heuristic doubly-linked list of 
+ * {@code long} values whose nodes live off the Java heap. The nodes are 
+ * stored in an {@link OffHeapNodeArena} and addressed by {@code int} slot 
+ * ids: each node holds the slot ids of its neighbours and the value. The 
+ * removed nodes go to the free list of the arena and are reused by the 
+ * subsequent insertions. A list of \(n\) elements therefore keeps only 
+ * \(\mathcal{O}(n / 2^{16} + \sqrt{n})\) objects on the heap, which takes the
+ * list out of the way of the garbage collector.
+ * 
+ * <p>
+ * 
+ * The fingers follow the same scheme as in {@link IndexedLinkedList}: we 
+ * maintain \(\lceil \sqrt{n} \rceil\) fingers sorted by their indices, each 
+ * finger storing a slot id and its index. Accessing an element looks up the 
+ * closest finger in \(\mathcal{O}(\log n)\) time and rewinds it, or the head
+ * or the tail if they are closer, towards the target. Whenever a rewind 
+ * becomes much longer than the current finger spacing, the fingers are 
+ * redistributed evenly, so all the single-element operations run in 
+ * \(\mathcal{O}(\sqrt{n})\) amortized time.
+ * 
+ * <p>
+ * 
+ * The list must be closed with {@link #close()} when no longer needed. After
+ * closing, all the methods except {@link #size()}, {@link #isEmpty()} and 
+ * {@link #close()} throw {@link IllegalStateException}.
+ * 
+ * @author Rodion "rodde" Efremov
+ * @version 1.7.0 (Nov 23, 2024)
+ * @since 1.7.0 (Nov 23, 2024)
+ */
+public class OffHeapLongIndexedLinkedList implements AutoCloseable {
+    
+    /**
+     * The initial capacity of the finger arrays.
+     */
+    private static final int INITIAL_FINGER_CAPACITY = 8;
+    
+    /**
+     * The node storage.
+     */
+    final OffHeapNodeArena arena = new OffHeapNodeArena();
+    
+    /**
+     * The cached number of elements in this list.
+     */
+    private int size;
+    
+    /**
+     * The modification counter.
+     */
+    private int modCount;
+    
+    /**
+     * The slot id of the head node.
+     */
+    private int head = NULL_SLOT;
+    
+    /**
+     * The slot id of the tail node.
+     */
+    private int tail = NULL_SLOT;
+    
+    /**
+     * The finger indices. Sorted in strictly ascending order.
+     */
+    int[] fingerIndexArray;
+    
+    /**
+     * The finger slot ids. {@code fingerSlotArray[i]} is the slot id of the 
+     * node at the index {@code fingerIndexArray[i]}.
+     */
+    int[] fingerSlotArray;
+    
+    /**
+     * The number of fingers in use.
+     */
+    int fingerCount;
+    
+    /**
+     * The number of rewind steps after which a rewind triggers the 
+     * redistribution of the fingers.
+     */
+    private int walkLimit;
+    
+    /**
+     * Constructs an empty list.
+     */
+    public OffHeapLongIndexedLinkedList() {
+        initFingers();
+    }
+    
+    /**
+     * Appends the value {@code value} to the end of this list. Runs in 
+     * constant time.
+     * 
+     * @param value the value to append.
+     * @return always {@code true}.
+     * @throws IllegalStateException if this list is closed.
+     */
+    public boolean addLong(long value) {
+        checkOpen();
+        int slot = arena.allocate();
+        arena.setValue(slot, value);
+        arena.setNext(slot, NULL_SLOT);
+        arena.setPrev(slot, tail);
+        
+        if (tail == NULL_SLOT) {
+            head = slot;
+        } else {
+            arena.setNext(tail, slot);
+        }
+        
+        tail = slot;
+        size++;
+        modCount++;
+        return true;
+    }
+    
+    /**
+     * Inserts the value {@code value} at the index {@code index}. Runs in
+     * \(\mathcal{O}(\sqrt{n})\) amortized time.
+     * 
+     * @param index the insertion index.
+     * @param value the value to insert.
+     * @throws IndexOutOfBoundsException if {@code index} is not within 
+     *                                   {@code [0, size()]}.
+     * @throws IllegalStateException if this list is closed.
+     */
+    public void addLong(int index, long value) {
+        checkOpen();
+        checkPositionIndex(index);
+        
+        if (index == size) {
+            addLong(value);
+            return;
+        }
+        
+        int successor = locateSlot(index);
+        int predecessor = arena.getPrev(successor);
+        int slot = arena.allocate();
+        
+        arena.setValue(slot, value);
+        arena.setPrev(slot, predecessor);
+        arena.setNext(slot, successor);
+        arena.setPrev(successor, slot);
+        
+        if (predecessor == NULL_SLOT) {
+            head = slot;
+        } else {
+            arena.setNext(predecessor, slot);
+        }
+        
+        shiftFingerIndices(index, 1);
+        size++;
+        modCount++;
+    }
+    
+    /**
+     * Removes all the values from this list. The off-heap memory is kept for 
+     * reuse. Runs in constant time.
+     * 
+     * @throws IllegalStateException if this list is closed.
+     */
+    public void clear() {
+        checkOpen();
+        arena.reset();
+        head = NULL_SLOT;
+        tail = NULL_SLOT;
+        size = 0;
+        initFingers();
+        modCount++;
+    }
+    
+    /**
+     * Releases the off-heap memory of this list. Closing an already closed 
+     * list has no effect.
+     */
+    @Override
+    public void close() {
+        arena.close();
+        head = NULL_SLOT;
+        tail = NULL_SLOT;
+        size = 0;
+        initFingers();
+        modCount++;
+    }
+    
+    /**
+     * Returns {@code true} only if {@code value} is present in this list. Runs
+     * in worst-case linear time.
+     * 
+     * @param value the query value.
+     * @return {@code true} if {@code value} is in this list.
+     * @throws IllegalStateException if this list is closed.
+     */
+    public boolean containsLong(long value) {
+        return indexOfLong(value) >= 0;
+    }
+    
+    /**
+     * Returns the value at the index {@code index}. Runs in 
+     * \(\mathcal{O}(\sqrt{n})\) amortized time.
+     * 
+     * @param index the index of the value to get.
+     * @return the value at the index {@code index}.
+     * @throws IndexOutOfBoundsException if {@code index} is not within
+     *                                   {@code [0, size())}.
+     * @throws IllegalStateException if this list is closed.
+     */
+    public long getLong(int index) {
+        checkOpen();
+        checkElementIndex(index);
+        return arena.getValue(locateSlot(index));
+    }
+    
+    /**
+     * Returns the index of the first occurrence of {@code value} or 
+     * {@code -1} if there is no such value. Runs in worst-case linear time.
+     * 
+     * @param value the value to search.
+     * @return the index of the first occurrence of {@code value}.
+     * @throws IllegalStateException if this list is closed.
+     */
+    public int indexOfLong(long value) {
+        checkOpen();
+        int index = 0;
+        
+        for (int slot = head; slot != NULL_SLOT; slot = arena.getNext(slot)) {
+            if (arena.getValue(slot) == value) {
+                return index;
+            }
+            
+            index++;
+        }
+        
+        return -1;
+    }
+    
+    /**
+     * Returns {@code true} only if this list is empty.
+     * 
+     * @return {@code true} if this list is empty.
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+    
+    /**
+     * Returns the iterator over the values of this list.
+     * 
+     * @return the primitive iterator.
+     * @throws IllegalStateException if this list is closed.
+     */
+    public PrimitiveIterator.OfLong longIterator() {
+        checkOpen();
+        return new OffHeapIterator();
+    }
+    
+    /**
+     * Returns the number of bytes this list has reserved off the heap.
+     * 
+     * @return the off-heap capacity in bytes.
+     */
+    public long offHeapCapacity() {
+        return arena.isClosed() ? 0L : arena.capacityInBytes();
+    }
+    
+    /**
+     * Removes the value at the index {@code index}. Runs in 
+     * \(\mathcal{O}(\sqrt{n})\) amortized time.
+     * 
+     * @param index the index of the value to remove.
+     * @return the removed value.
+     * @throws IndexOutOfBoundsException if {@code index} is not within
+     *                                   {@code [0, size())}.
+     * @throws IllegalStateException if this list is closed.
+     */
+    public long removeLongAt(int index) {
+        checkOpen();
+        checkElementIndex(index);
+        
+        int slot = locateSlot(index);
+        int predecessor = arena.getPrev(slot);
+        int successor = arena.getNext(slot);
+        long value = arena.getValue(slot);
+        
+        int fingerIndex = getFloorFingerIndex(index);
+        
+        if (fingerIndex >= 0 && fingerIndexArray[fingerIndex] == index) {
+            if (successor == NULL_SLOT 
+                    || (fingerIndex + 1 < fingerCount 
+                    && fingerIndexArray[fingerIndex + 1] == index + 1)) {
+                removeFinger(fingerIndex);
+            } else {
+                // The successor takes over the index of the removed node:
+                fingerSlotArray[fingerIndex] = successor;
+            }
+        }
+        
+        shiftFingerIndices(index + 1, -1);
+        
+        if (predecessor == NULL_SLOT) {
+            head = successor;
+        } else {
+            arena.setNext(predecessor, successor);
+        }
+        
+        if (successor == NULL_SLOT) {
+            tail = predecessor;
+        } else {
+            arena.setPrev(successor, predecessor);
+        }
+        
+        arena.free(slot);
+        size--;
+        modCount++;
+        return value;
+    }
+    
+    /**
+     * Sets the value at the index {@code index} to {@code value}. Runs in
+     * \(\mathcal{O}(\sqrt{n})\) amortized time.
+     * 
+     * @param index the index of the value to set.
+     * @param value the new value.
+     * @return the old value.
+     * @throws IndexOutOfBoundsException if {@code index} is not within
+     *                                   {@code [0, size())}.
+     * @throws IllegalStateException if this list is closed.
+     */
+    public long setLong(int index, long value) {
+        checkOpen();
+        checkElementIndex(index);
+        int slot = locateSlot(index);
+        long oldValue = arena.getValue(slot);
+        arena.setValue(slot, value);
+        return oldValue;
+    }
+    
+    /**
+     * Returns the number of values in this list.
+     * 
+     * @return the size of this list.
+     */
+    public int size() {
+        return size;
+    }
+    
+    /**
+     * Copies the values of this list to a new on-heap array. Runs in linear 
+     * time.
+     * 
+     * @return the array of values.
+     * @throws IllegalStateException if this list is closed.
+     */
+    public long[] toLongArray() {
+        checkOpen();
+        long[] array = new long[size];
+        int index = 0;
+        
+        for (int slot = head; slot != NULL_SLOT; slot = arena.getNext(slot)) {
+            array[index++] = arena.getValue(slot);
+        }
+        
+        return array;
+    }
+    
+    /**
+     * Checks that {@code index} is a valid element index.
+     * 
+     * @param index the index to validate.
+     * @throws IndexOutOfBoundsException if {@code index} is not within
+     *                                   {@code [0, size())}.
+     */
+    private void checkElementIndex(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException(getOutOfBoundsMessage(index));
+        }
+    }
+    
+    /**
+     * Checks that this list is not closed.
+     * 
+     * @throws IllegalStateException if this list is closed.
+     */
+    private void checkOpen() {
+        if (arena.isClosed()) {
+            throw new IllegalStateException("The list is closed.");
+        }
+    }
+    
+    /**
+     * Checks that {@code index} is a valid position index.
+     * 
+     * @param index the index to validate.
+     * @throws IndexOutOfBoundsException if {@code index} is not within
+     *                                   {@code [0, size()]}.
+     */
+    private void checkPositionIndex(int index) {
+        if (index < 0 || index > size) {
+            throw new IndexOutOfBoundsException(getOutOfBoundsMessage(index));
+        }
+    }
+    
+    /**
+     * Returns the index of the rightmost finger whose index is at most 
+     * {@code index}, or {@code -1} if there is no such finger.
+     * 
+     * @param index the target element index.
+     * @return the index of the closest finger from the left.
+     */
+    private int getFloorFingerIndex(int index) {
+        int low = 0;
+        int high = fingerCount;
+        
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            
+            if (fingerIndexArray[middle] <= index) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        
+        return low - 1;
+    }
+    
+    /**
+     * Constructs an IndexOutOfBoundsException detail message.
+     * 
+     * @param index the target index.
+     * @return the detail message.
+     */
+    private String getOutOfBoundsMessage(int index) {
+        return "Index: " + index + ", Size: " + size;
+    }
+    
+    /**
+     * Resets the finger arrays to the empty state.
+     */
+    private void initFingers() {
+        fingerIndexArray = new int[INITIAL_FINGER_CAPACITY];
+        fingerSlotArray = new int[INITIAL_FINGER_CAPACITY];
+        fingerCount = 0;
+        walkLimit = INITIAL_FINGER_CAPACITY;
+    }
+    
+    /**
+     * Returns the slot id of the node at the index {@code index}. Rewinds the
+     * closest of the two neighbouring fingers, the head and the tail towards 
+     * the target.
+     * 
+     * @param index the target element index. Must be within 
+     *              {@code [0, size())}.
+     * @return the slot id of the target node.
+     */
+    private int locateSlot(int index) {
+        int fingerIndex = getFloorFingerIndex(index);
+        int leftIndex;
+        int leftSlot;
+        int rightIndex;
+        int rightSlot;
+        
+        if (fingerIndex < 0) {
+            leftIndex = 0;
+            leftSlot = head;
+        } else {
+            leftIndex = fingerIndexArray[fingerIndex];
+            leftSlot = fingerSlotArray[fingerIndex];
+        }
+        
+        if (fingerIndex + 1 < fingerCount) {
+            rightIndex = fingerIndexArray[fingerIndex + 1];
+            rightSlot = fingerSlotArray[fingerIndex + 1];
+        } else {
+            rightIndex = size - 1;
+            rightSlot = tail;
+        }
+        
+        int steps;
+        int slot;
+        
+        if (index - leftIndex <= rightIndex - index) {
+            steps = index - leftIndex;
+            slot = leftSlot;
+            
+            for (int i = 0; i < steps; i++) {
+                slot = arena.getNext(slot);
+            }
+        } else {
+            steps = rightIndex - index;
+            slot = rightSlot;
+            
+            for (int i = 0; i < steps; i++) {
+                slot = arena.getPrev(slot);
+            }
+        }
+        
+        if (steps > walkLimit) {
+            rebuildFingers();
+        }
+        
+        return slot;
+    }
+    
+    /**
+     * Redistributes \(\lceil \sqrt{n} \rceil\) fingers evenly over the list.
+     * Runs in \(\mathcal{O}(n)\) time.
+     */
+    private void rebuildFingers() {
+        int count = (int) Math.ceil(Math.sqrt(size));
+        int spacing = (size + count - 1) / count;
+        
+        if (fingerIndexArray.length < count) {
+            fingerIndexArray = new int[count];
+            fingerSlotArray = new int[count];
+        }
+        
+        fingerCount = 0;
+        int index = 0;
+        
+        for (int slot = head; slot != NULL_SLOT; slot = arena.getNext(slot)) {
+            // Finger 'f' goes to the index 'ceil(f * n / count)':
+            if ((long) fingerCount * size <= (long) index * count) {
+                fingerIndexArray[fingerCount] = index;
+                fingerSlotArray[fingerCount] = slot;
+                fingerCount++;
+            }
+            
+            index++;
+        }
+        
+        walkLimit = 2 * spacing + INITIAL_FINGER_CAPACITY;
+    }
+    
+    /**
+     * Removes the finger at the index {@code fingerIndex}.
+     * 
+     * @param fingerIndex the index of the finger to remove.
+     */
+    private void removeFinger(int fingerIndex) {
+        int numberOfFingersToMove = fingerCount - fingerIndex - 1;
+        
+        System.arraycopy(fingerIndexArray, 
+                         fingerIndex + 1, 
+                         fingerIndexArray, 
+                         fingerIndex, 
+                         numberOfFingersToMove);
+        
+        System.arraycopy(fingerSlotArray, 
+                         fingerIndex + 1, 
+                         fingerSlotArray, 
+                         fingerIndex, 
+                         numberOfFingersToMove);
+        
+        fingerCount--;
+    }
+    
+    /**
+     * Adds {@code delta} to the indices of all the fingers whose index is at
+     * least {@code fromIndex}.
+     * 
+     * @param fromIndex the smallest index to shift.
+     * @param delta     the shift length.
+     */
+    private void shiftFingerIndices(int fromIndex, int delta) {
+        for (int i = getFloorFingerIndex(fromIndex - 1) + 1; 
+                i < fingerCount; 
+                i++) {
+            fingerIndexArray[i] += delta;
+        }
+    }
+    
+    /**
+     * This inner class implements the primitive iterator over this list.
+     */
+    private final class OffHeapIterator implements PrimitiveIterator.OfLong {
+        
+        /**
+         * The slot id of the node to return next.
+         */
+        private int nextSlot = head;
+        
+        /**
+         * The index of the node to return next.
+         */
+        private int nextIndex;
+        
+        /**
+         * The index of the last returned value or {@code -1} if there is no 
+         * such.
+         */
+        private int lastReturnedIndex = -1;
+        
+        /**
+         * The expected modification count.
+         */
+        private int expectedModCount = modCount;
+        
+        @Override
+        public boolean hasNext() {
+            return nextIndex < size;
+        }
+        
+        @Override
+        public long nextLong() {
+            checkForComodification();
+            
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            
+            long value = arena.getValue(nextSlot);
+            nextSlot = arena.getNext(nextSlot);
+            lastReturnedIndex = nextIndex++;
+            return value;
+        }
+        
+        @Override
+        public void remove() {
+            if (lastReturnedIndex < 0) {
+                throw new IllegalStateException();
+            }
+            
+            checkForComodification();
+            removeLongAt(lastReturnedIndex);
+            nextIndex = lastReturnedIndex;
+            lastReturnedIndex = -1;
+            expectedModCount = modCount;
+        }
+        
+        /**
+         * Checks that the enclosing list was not modified behind this 
+         * iterator.
+         * 
+         * @throws ConcurrentModificationException if the list was modified.
+         */
+        private void checkForComodification() {
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+        }
+    }
+}
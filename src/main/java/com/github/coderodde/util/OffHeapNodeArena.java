@@ -0,0 +1,284 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2024 rodio.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.github.coderodde.util;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Arrays;
+
+/**
+ * This class implements the off-heap storage of the nodes of 
+ * {@link OffHeapLongIndexedLinkedList}. The nodes live in direct 
+ * {@link ByteBuffer} segments of {@value #SLOTS_PER_SEGMENT} slots each and 
+ * are addressed by {@code int} slot ids. A slot holds the previous slot id, 
+ * the next slot id and a {@code long} payload. The released slots are chained
+ * through their next fields into a free list and reused before a new slot is
+ * carved out of a segment.
+ * 
+ * <p>
+ * 
+ * This is the only class touching the buffers; moving the storage to 
+ * {@code java.lang.foreign.MemorySegment} once the build targets a Java 
+ * release with the final foreign memory API is local to this class.
+ */
+final class OffHeapNodeArena implements AutoCloseable {
+    
+    /**
+     * The slot id standing for {@code null}.
+     */
+    static final int NULL_SLOT = -1;
+    
+    /**
+     * The binary logarithm of the number of slots per segment.
+     */
+    private static final int SEGMENT_SHIFT = 16;
+    
+    /**
+     * The number of slots per segment.
+     */
+    static final int SLOTS_PER_SEGMENT = 1 << SEGMENT_SHIFT;
+    
+    /**
+     * Masks the slot offset within a segment.
+     */
+    private static final int SEGMENT_MASK = SLOTS_PER_SEGMENT - 1;
+    
+    /**
+     * The binary logarithm of the slot size in bytes.
+     */
+    private static final int SLOT_SIZE_SHIFT = 4;
+    
+    /**
+     * The offset of the previous slot id within a slot.
+     */
+    private static final int PREV_OFFSET = 0;
+    
+    /**
+     * The offset of the next slot id within a slot.
+     */
+    private static final int NEXT_OFFSET = 4;
+    
+    /**
+     * The offset of the payload within a slot.
+     */
+    private static final int VALUE_OFFSET = 8;
+    
+    /**
+     * The segments. {@code null} after {@link #close()}.
+     */
+    private ByteBuffer[] segments = new ByteBuffer[1];
+    
+    /**
+     * The number of allocated segments.
+     */
+    private int numberOfSegments;
+    
+    /**
+     * The number of slots ever carved out of the segments.
+     */
+    private int numberOfUsedSlots;
+    
+    /**
+     * The head of the free slot list.
+     */
+    private int freeListHead = NULL_SLOT;
+    
+    /**
+     * Returns a free slot. Reuses a released slot if there is one, and 
+     * allocates a new segment only if all the segments are exhausted.
+     * 
+     * @return the id of the allocated slot.
+     * @throws IllegalStateException if this arena is closed.
+     */
+    int allocate() {
+        ensureOpen();
+        
+        if (freeListHead != NULL_SLOT) {
+            int slot = freeListHead;
+            freeListHead = getNext(slot);
+            return slot;
+        }
+        
+        if (numberOfUsedSlots == numberOfSegments * SLOTS_PER_SEGMENT) {
+            addSegment();
+        }
+        
+        return numberOfUsedSlots++;
+    }
+    
+    /**
+     * Returns the number of bytes reserved off the heap.
+     * 
+     * @return the reserved capacity in bytes.
+     */
+    long capacityInBytes() {
+        return (long) numberOfSegments * SLOTS_PER_SEGMENT << SLOT_SIZE_SHIFT;
+    }
+    
+    /**
+     * Drops all the segments. Any further access throws 
+     * {@link IllegalStateException}. The direct buffers do not support 
+     * deterministic release; their memory is returned to the operating system
+     * as soon as the garbage collector reclaims them.
+     */
+    @Override
+    public void close() {
+        segments = null;
+        numberOfSegments = 0;
+        numberOfUsedSlots = 0;
+        freeListHead = NULL_SLOT;
+    }
+    
+    /**
+     * Releases the slot {@code slot} to the free list.
+     * 
+     * @param slot the slot to release.
+     */
+    void free(int slot) {
+        setNext(slot, freeListHead);
+        freeListHead = slot;
+    }
+    
+    /**
+     * Returns the next slot id of the slot {@code slot}.
+     * 
+     * @param slot the slot id.
+     * @return the next slot id.
+     */
+    int getNext(int slot) {
+        return segment(slot).getInt(offset(slot) + NEXT_OFFSET);
+    }
+    
+    /**
+     * Returns the previous slot id of the slot {@code slot}.
+     * 
+     * @param slot the slot id.
+     * @return the previous slot id.
+     */
+    int getPrev(int slot) {
+        return segment(slot).getInt(offset(slot) + PREV_OFFSET);
+    }
+    
+    /**
+     * Returns the payload of the slot {@code slot}.
+     * 
+     * @param slot the slot id.
+     * @return the payload.
+     */
+    long getValue(int slot) {
+        return segment(slot).getLong(offset(slot) + VALUE_OFFSET);
+    }
+    
+    /**
+     * Returns {@code true} if and only if this arena is closed.
+     * 
+     * @return {@code true} if closed.
+     */
+    boolean isClosed() {
+        return segments == null;
+    }
+    
+    /**
+     * Releases all the slots at once keeping the segments for reuse.
+     */
+    void reset() {
+        ensureOpen();
+        numberOfUsedSlots = 0;
+        freeListHead = NULL_SLOT;
+    }
+    
+    /**
+     * Sets the next slot id of the slot {@code slot}.
+     * 
+     * @param slot the slot id.
+     * @param next the new next slot id.
+     */
+    void setNext(int slot, int next) {
+        segment(slot).putInt(offset(slot) + NEXT_OFFSET, next);
+    }
+    
+    /**
+     * Sets the previous slot id of the slot {@code slot}.
+     * 
+     * @param slot the slot id.
+     * @param prev the new previous slot id.
+     */
+    void setPrev(int slot, int prev) {
+        segment(slot).putInt(offset(slot) + PREV_OFFSET, prev);
+    }
+    
+    /**
+     * Sets the payload of the slot {@code slot}.
+     * 
+     * @param slot  the slot id.
+     * @param value the new payload.
+     */
+    void setValue(int slot, long value) {
+        segment(slot).putLong(offset(slot) + VALUE_OFFSET, value);
+    }
+    
+    /**
+     * Allocates a new direct segment.
+     */
+    private void addSegment() {
+        if (numberOfSegments == segments.length) {
+            segments = Arrays.copyOf(segments, 2 * numberOfSegments);
+        }
+        
+        segments[numberOfSegments++] = 
+                ByteBuffer.allocateDirect(SLOTS_PER_SEGMENT << SLOT_SIZE_SHIFT)
+                          .order(ByteOrder.nativeOrder());
+    }
+    
+    /**
+     * Checks that this arena is not closed.
+     * 
+     * @throws IllegalStateException if this arena is closed.
+     */
+    private void ensureOpen() {
+        if (segments == null) {
+            throw new IllegalStateException("The arena is closed.");
+        }
+    }
+    
+    /**
+     * Returns the byte offset of the slot {@code slot} within its segment.
+     * 
+     * @param slot the slot id.
+     * @return the byte offset.
+     */
+    private static int offset(int slot) {
+        return (slot & SEGMENT_MASK) << SLOT_SIZE_SHIFT;
+    }
+    
+    /**
+     * Returns the segment holding the slot {@code slot}.
+     * 
+     * @param slot the slot id.
+     * @return the segment.
+     */
+    private ByteBuffer segment(int slot) {
+        return segments[slot >>> SEGMENT_SHIFT];
+    }
+}
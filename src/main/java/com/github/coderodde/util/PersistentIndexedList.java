@@ -0,0 +1,603 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2024 rodio.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.github.coderodde.util;
+
+import java.util.AbstractList;
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.function.Consumer;
+
+/**
+ * <p>
+ * This class implements an immutable, persistent list. Each "modification" 
+ * ({@link #with(int, java.lang.Object)}, {@link #plus(java.lang.Object)}, 
+ * {@link #plus(int, java.lang.Object)}, {@link #minus(int)}, 
+ * {@link #subList(int, int)} and {@link #concat(PersistentIndexedList)}) 
+ * returns a new version of the list and leaves this version intact. 
+ * 
+ * <p>
+ * 
+ * Under the hood, the elements are stored in an AVL tree ordered by the 
+ * element indices, in which each node caches the size of its subtree. A new
+ * version copies only the \(\mathcal{O}(\log n)\) nodes on the paths it 
+ * touches and shares all the other nodes with the previous version. The 
+ * positional access and all the operations above run in 
+ * \(\mathcal{O}(\log n)\) time. The sublists and concatenations are computed
+ * via the <i>join</i> of two AVL trees whose heights may differ arbitrarily, 
+ * which runs in time proportional to the height difference.
+ * 
+ * <p>
+ * 
+ * The conversions from a collection (such as {@link IndexedLinkedList}) and to
+ * {@link IndexedLinkedList} run in linear time; the former builds a perfectly 
+ * balanced tree without any rotations.
+ * 
+ * @author Rodion "rodde" Efremov
+ * @version 1.7.0 (Nov 23, 2024)
+ * @since 1.7.0 (Nov 23, 2024)
+ * @param <E> the element type.
+ */
+public final class PersistentIndexedList<E> extends AbstractList<E> {
+    
+    /**
+     * The empty list.
+     */
+    private static final PersistentIndexedList<?> EMPTY = 
+            new PersistentIndexedList<>(null);
+    
+    /**
+     * The root node of the tree, or {@code null} if this list is empty.
+     */
+    private final Node<E> root;
+    
+    /**
+     * Constructs a version of the list with the given tree.
+     * 
+     * @param root the root of the tree.
+     */
+    private PersistentIndexedList(Node<E> root) {
+        this.root = root;
+    }
+    
+    /**
+     * Returns the empty list.
+     * 
+     * @param <E> the element type.
+     * @return the empty list.
+     */
+    @SuppressWarnings("unchecked")
+    public static <E> PersistentIndexedList<E> empty() {
+        return (PersistentIndexedList<E>) EMPTY;
+    }
+    
+    /**
+     * Returns the list holding the elements of {@code c} in the iteration 
+     * order of {@code c}. Runs in linear time.
+     * 
+     * @param <E> the element type.
+     * @param c   the collection to copy.
+     * @return the list holding the elements of {@code c}.
+     */
+    @SuppressWarnings("unchecked")
+    public static <E> PersistentIndexedList<E> of(Collection<? extends E> c) {
+        if (c instanceof PersistentIndexedList) {
+            return (PersistentIndexedList<E>) c;
+        }
+        
+        Object[] items = c.toArray();
+        
+        if (items.length == 0) {
+            return empty();
+        }
+        
+        return new PersistentIndexedList<>(build(items, 0, items.length));
+    }
+    
+    /**
+     * Returns the list that contains the elements of this list followed by the
+     * elements of {@code other}. Runs in \(\mathcal{O}(\log n)\) time.
+     * 
+     * @param other the list to append.
+     * @return the concatenated list.
+     */
+    public PersistentIndexedList<E> concat(PersistentIndexedList<E> other) {
+        Objects.requireNonNull(other, "The list to append is null.");
+        return newVersion(concat(root, other.root));
+    }
+    
+    /**
+     * Iterates over the elements in order. Runs in linear time.
+     * 
+     * @param action the action to apply to each element.
+     */
+    @Override
+    public void forEach(Consumer<? super E> action) {
+        Objects.requireNonNull(action, "The action is null.");
+        forEach(root, action);
+    }
+    
+    /**
+     * Returns {@code index}th element. Runs in \(\mathcal{O}(\log n)\) time.
+     * 
+     * @param index the index of the element.
+     * @return {@code index}th element.
+     * @throws IndexOutOfBoundsException if {@code index} is out of range.
+     */
+    @Override
+    public E get(int index) {
+        Objects.checkIndex(index, size());
+        Node<E> node = root;
+        
+        while (true) {
+            int leftSize = size(node.left);
+            
+            if (index < leftSize) {
+                node = node.left;
+            } else if (index > leftSize) {
+                index -= leftSize + 1;
+                node = node.right;
+            } else {
+                return node.item;
+            }
+        }
+    }
+    
+    /**
+     * Returns an iterator over this list. Runs in amortized constant time per
+     * element and uses \(\mathcal{O}(\log n)\) memory.
+     * 
+     * @return an iterator over this list.
+     */
+    @Override
+    public Iterator<E> iterator() {
+        return new TreeIterator<>(root);
+    }
+    
+    /**
+     * Returns the list without the element at the index {@code index}. Runs in
+     * \(\mathcal{O}(\log n)\) time.
+     * 
+     * @param index the index of the element to remove.
+     * @return the list without {@code index}th element.
+     * @throws IndexOutOfBoundsException if {@code index} is out of range.
+     */
+    public PersistentIndexedList<E> minus(int index) {
+        Objects.checkIndex(index, size());
+        return newVersion(remove(root, index));
+    }
+    
+    /**
+     * Returns the list with {@code element} appended. Runs in 
+     * \(\mathcal{O}(\log n)\) time.
+     * 
+     * @param element the element to append.
+     * @return the list with {@code element} appended.
+     */
+    public PersistentIndexedList<E> plus(E element) {
+        return plus(size(), element);
+    }
+    
+    /**
+     * Returns the list with {@code element} inserted at the index 
+     * {@code index}. Runs in \(\mathcal{O}(\log n)\) time.
+     * 
+     * @param index   the insertion index.
+     * @param element the element to insert.
+     * @return the list with {@code element} inserted.
+     * @throws IndexOutOfBoundsException if {@code index} is out of range 
+     *         {@code 0, 1, ..., size}.
+     */
+    public PersistentIndexedList<E> plus(int index, E element) {
+        Objects.checkIndex(index, size() + 1);
+        return new PersistentIndexedList<>(insert(root, index, element));
+    }
+    
+    /**
+     * Returns the number of elements in this list. Runs in constant time.
+     * 
+     * @return the number of elements in this list.
+     */
+    @Override
+    public int size() {
+        return size(root);
+    }
+    
+    /**
+     * Returns the list holding the elements with indices 
+     * {@code fromIndex, ..., toIndex - 1}. Unlike the sublists of the mutable
+     * lists, the returned list is not a view but an independent version 
+     * sharing the nodes with this list. Runs in \(\mathcal{O}(\log n)\) time.
+     * 
+     * @param fromIndex the index of the first element of the sublist.
+     * @param toIndex   one past the index of the last element of the sublist.
+     * @return the sublist.
+     * @throws IndexOutOfBoundsException if the range is invalid.
+     */
+    @Override
+    public PersistentIndexedList<E> subList(int fromIndex, int toIndex) {
+        Objects.checkFromToIndex(fromIndex, toIndex, size());
+        
+        if (fromIndex == 0 && toIndex == size()) {
+            return this;
+        }
+        
+        Node<E> prefix = split(root, toIndex).left;
+        return newVersion(split(prefix, fromIndex).right);
+    }
+    
+    /**
+     * Returns the array holding the elements of this list. Runs in linear 
+     * time.
+     * 
+     * @return the array holding the elements of this list.
+     */
+    @Override
+    public Object[] toArray() {
+        Object[] items = new Object[size()];
+        fill(root, items, 0);
+        return items;
+    }
+    
+    /**
+     * Returns an {@link IndexedLinkedList} holding the elements of this list.
+     * Runs in linear time.
+     * 
+     * @return a mutable copy of this list.
+     */
+    public IndexedLinkedList<E> toIndexedLinkedList() {
+        return new IndexedLinkedList<>(this);
+    }
+    
+    /**
+     * Returns the list in which the element at the index {@code index} is 
+     * replaced with {@code element}. Runs in \(\mathcal{O}(\log n)\) time.
+     * 
+     * @param index   the index of the element to replace.
+     * @param element the new element.
+     * @return the list with the replaced element.
+     * @throws IndexOutOfBoundsException if {@code index} is out of range.
+     */
+    public PersistentIndexedList<E> with(int index, E element) {
+        Objects.checkIndex(index, size());
+        return new PersistentIndexedList<>(set(root, index, element));
+    }
+    
+    /**
+     * Checks the AVL and size invariants of the tree. (Used for unit testing.)
+     */
+    void checkInvariant() {
+        checkInvariant(root);
+    }
+    
+    private static int checkInvariant(Node<?> node) {
+        if (node == null) {
+            return 0;
+        }
+        
+        int leftHeight = checkInvariant(node.left);
+        int rightHeight = checkInvariant(node.right);
+        
+        if (Math.abs(leftHeight - rightHeight) > 1) {
+            throw new IllegalStateException("Unbalanced node.");
+        }
+        
+        if (node.height != Math.max(leftHeight, rightHeight) + 1) {
+            throw new IllegalStateException("Invalid node height.");
+        }
+        
+        if (node.size != size(node.left) + size(node.right) + 1) {
+            throw new IllegalStateException("Invalid node size.");
+        }
+        
+        return node.height;
+    }
+    
+    private PersistentIndexedList<E> newVersion(Node<E> newRoot) {
+        return newRoot == null ? empty() : new PersistentIndexedList<>(newRoot);
+    }
+    
+    @SuppressWarnings("unchecked")
+    private static <E> Node<E> build(Object[] items, int fromIndex, int toIndex) {
+        if (fromIndex == toIndex) {
+            return null;
+        }
+        
+        int middleIndex = (fromIndex + toIndex) >>> 1;
+        
+        return new Node<>(build(items, fromIndex, middleIndex),
+                          (E) items[middleIndex],
+                          build(items, middleIndex + 1, toIndex));
+    }
+    
+    private static <E> void forEach(Node<E> node, Consumer<? super E> action) {
+        while (node != null) {
+            forEach(node.left, action);
+            action.accept(node.item);
+            node = node.right;
+        }
+    }
+    
+    private static int fill(Node<?> node, Object[] items, int index) {
+        while (node != null) {
+            index = fill(node.left, items, index);
+            items[index++] = node.item;
+            node = node.right;
+        }
+        
+        return index;
+    }
+    
+    private static int height(Node<?> node) {
+        return node == null ? 0 : node.height;
+    }
+    
+    private static int size(Node<?> node) {
+        return node == null ? 0 : node.size;
+    }
+    
+    private static <E> Node<E> set(Node<E> node, int index, E element) {
+        int leftSize = size(node.left);
+        
+        if (index < leftSize) {
+            return new Node<>(set(node.left, index, element), 
+                              node.item, 
+                              node.right);
+        }
+        
+        if (index > leftSize) {
+            return new Node<>(node.left, 
+                              node.item, 
+                              set(node.right, index - leftSize - 1, element));
+        }
+        
+        return new Node<>(node.left, element, node.right);
+    }
+    
+    private static <E> Node<E> insert(Node<E> node, int index, E element) {
+        if (node == null) {
+            return new Node<>(null, element, null);
+        }
+        
+        int leftSize = size(node.left);
+        
+        if (index <= leftSize) {
+            return balance(insert(node.left, index, element), 
+                           node.item, 
+                           node.right);
+        }
+        
+        return balance(node.left, 
+                       node.item, 
+                       insert(node.right, index - leftSize - 1, element));
+    }
+    
+    private static <E> Node<E> remove(Node<E> node, int index) {
+        int leftSize = size(node.left);
+        
+        if (index < leftSize) {
+            return balance(remove(node.left, index), node.item, node.right);
+        }
+        
+        if (index > leftSize) {
+            return balance(node.left, 
+                           node.item, 
+                           remove(node.right, index - leftSize - 1));
+        }
+        
+        if (node.left == null) {
+            return node.right;
+        }
+        
+        if (node.right == null) {
+            return node.left;
+        }
+        
+        return balance(node.left, 
+                       getFirst(node.right).item, 
+                       remove(node.right, 0));
+    }
+    
+    private static <E> Node<E> getFirst(Node<E> node) {
+        while (node.left != null) {
+            node = node.left;
+        }
+        
+        return node;
+    }
+    
+    /**
+     * Returns the tree that contains the elements of {@code left}, then 
+     * {@code item}, and then the elements of {@code right}. The heights of 
+     * {@code left} and {@code right} may differ arbitrarily. Runs in 
+     * \(\mathcal{O}(|h(L) - h(R)| + 1)\) time.
+     */
+    private static <E> Node<E> join(Node<E> left, E item, Node<E> right) {
+        if (height(left) > height(right) + 1) {
+            return balance(left.left, 
+                           left.item, 
+                           join(left.right, item, right));
+        }
+        
+        if (height(right) > height(left) + 1) {
+            return balance(join(left, item, right.left), 
+                           right.item, 
+                           right.right);
+        }
+        
+        return new Node<>(left, item, right);
+    }
+    
+    private static <E> Node<E> concat(Node<E> left, Node<E> right) {
+        if (left == null) {
+            return right;
+        }
+        
+        if (right == null) {
+            return left;
+        }
+        
+        return join(left, getFirst(right).item, remove(right, 0));
+    }
+    
+    /**
+     * Splits the tree into the first {@code index} elements and the rest. 
+     * Runs in \(\mathcal{O}(\log n)\) time, since the joins on the way up 
+     * telescope.
+     */
+    private static <E> Split<E> split(Node<E> node, int index) {
+        if (node == null) {
+            return new Split<>(null, null);
+        }
+        
+        int leftSize = size(node.left);
+        
+        if (index <= leftSize) {
+            Split<E> split = split(node.left, index);
+            split.right = join(split.right, node.item, node.right);
+            return split;
+        }
+        
+        Split<E> split = split(node.right, index - leftSize - 1);
+        split.left = join(node.left, node.item, split.left);
+        return split;
+    }
+    
+    /**
+     * Builds a node out of two subtrees whose heights differ by at most two,
+     * rotating once or twice if needed.
+     */
+    private static <E> Node<E> balance(Node<E> left, E item, Node<E> right) {
+        int leftHeight = height(left);
+        int rightHeight = height(right);
+        
+        if (leftHeight > rightHeight + 1) {
+            if (height(left.left) >= height(left.right)) {
+                return new Node<>(left.left, 
+                                  left.item, 
+                                  new Node<>(left.right, item, right));
+            }
+            
+            Node<E> pivot = left.right;
+            
+            return new Node<>(new Node<>(left.left, left.item, pivot.left), 
+                              pivot.item, 
+                              new Node<>(pivot.right, item, right));
+        }
+        
+        if (rightHeight > leftHeight + 1) {
+            if (height(right.right) >= height(right.left)) {
+                return new Node<>(new Node<>(left, item, right.left),
+                                  right.item,
+                                  right.right);
+            }
+            
+            Node<E> pivot = right.left;
+            
+            return new Node<>(new Node<>(left, item, pivot.left), 
+                              pivot.item, 
+                              new Node<>(pivot.right, right.item, right.right));
+        }
+        
+        return new Node<>(left, item, right);
+    }
+    
+    /**
+     * The immutable tree node.
+     * 
+     * @param <E> the element type.
+     */
+    private static final class Node<E> {
+        
+        final Node<E> left;
+        final Node<E> right;
+        final E item;
+        final int height;
+        final int size;
+        
+        Node(Node<E> left, E item, Node<E> right) {
+            this.left = left;
+            this.item = item;
+            this.right = right;
+            this.height = Math.max(height(left), height(right)) + 1;
+            this.size = size(left) + size(right) + 1;
+        }
+    }
+    
+    /**
+     * The result of splitting a tree.
+     * 
+     * @param <E> the element type.
+     */
+    private static final class Split<E> {
+        
+        Node<E> left;
+        Node<E> right;
+        
+        Split(Node<E> left, Node<E> right) {
+            this.left = left;
+            this.right = right;
+        }
+    }
+    
+    /**
+     * The in-order iterator keeping the path to the next node in a stack.
+     * 
+     * @param <E> the element type.
+     */
+    private static final class TreeIterator<E> implements Iterator<E> {
+        
+        private final Deque<Node<E>> stack = new ArrayDeque<>();
+        
+        TreeIterator(Node<E> root) {
+            pushLeftSpine(root);
+        }
+        
+        @Override
+        public boolean hasNext() {
+            return !stack.isEmpty();
+        }
+        
+        @Override
+        public E next() {
+            if (stack.isEmpty()) {
+                throw new NoSuchElementException("No elements left.");
+            }
+            
+            Node<E> node = stack.pop();
+            pushLeftSpine(node.right);
+            return node.item;
+        }
+        
+        private void pushLeftSpine(Node<E> node) {
+            while (node != null) {
+                stack.push(node);
+                node = node.left;
+            }
+        }
+    }
+}
@@ -0,0 +1,303 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2024 rodio.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.github.coderodde.util;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * This class implements the optional positional index of an 
+ * {@link IndexedLinkedList}. It maps each element to the nodes holding it, and
+ * resolves a node back to its index by walking to the closest finger. The 
+ * single-element insertions and removals keep the index up to date; after 
+ * any other structural modification the index is rebuilt on the next query.
+ *
+ * @param <E> the list node item type.
+ */
+final class PositionalIndex<E> {
+    
+    /**
+     * The owner indexed linked list.
+     */
+    private final IndexedLinkedList<E> list;
+    
+    /**
+     * Maps each element either to the only node holding it, or to the set of
+     * all the nodes holding it. The node sets compare the nodes by identity, 
+     * since {@link Node#equals(java.lang.Object)} compares the items.
+     */
+    private final Map<Object, Object> nodeMap = new HashMap<>();
+    
+    /**
+     * The modification count of the owner list this index agrees with. Each
+     * indexed insertion and removal increments the modification count of the
+     * owner list exactly once, and so it increments this count too. Any other
+     * structural modification makes the two counts differ.
+     */
+    private int expectedModCount;
+    
+    /**
+     * The table of the finger nodes used for computing the node indices.
+     */
+    private final FingerTable<E> fingerTable = new FingerTable<>();
+    
+    /**
+     * The modification count of the owner list at the time 
+     * {@link #fingerTable} was loaded.
+     */
+    private int fingerTableModCount;
+    
+    /**
+     * Constructs the positional index of the input list.
+     * 
+     * @param list the owner list.
+     */
+    PositionalIndex(IndexedLinkedList<E> list) {
+        this.list = list;
+        // Forces loading the finger table on the first query:
+        this.fingerTableModCount = list.modCount - 1;
+        rebuild();
+    }
+    
+    /**
+     * Returns {@code true} only if {@code o} appears in the owner list. Runs
+     * in expected constant time unless the index needs to be rebuilt.
+     * 
+     * @param o the query object.
+     * @return {@code true} only if {@code o} appears in the owner list.
+     */
+    boolean contains(Object o) {
+        synchronize();
+        return nodeMap.containsKey(o);
+    }
+    
+    /**
+     * Returns the index of the leftmost or the rightmost occurrence of 
+     * {@code o} in the owner list, or {@code -1} if there is none. Each 
+     * occurrence is located by walking to its closest finger, unless there 
+     * are at least as many occurrences as fingers, in which case the list is
+     * scanned from the matching end until the first occurrence. Runs in 
+     * \(\mathcal{O}(\min(k, \sqrt{n})\sqrt{n})\) time, where \(k\) is the 
+     * number of occurrences of {@code o}, unless the index needs to be 
+     * rebuilt.
+     * 
+     * @param o        the query object.
+     * @param leftmost the flag telling whether to look for the leftmost 
+     *                 occurrence.
+     * @return the index of the requested occurrence, or {@code -1}.
+     */
+    @SuppressWarnings("unchecked")
+    int indexOf(Object o, boolean leftmost) {
+        synchronize();
+        Object value = nodeMap.get(o);
+        
+        if (value == null) {
+            return -1;
+        }
+        
+        if (value instanceof Node) {
+            loadFingerTable();
+            return fingerTable.getNodeIndex((Node<E>) value, list.size);
+        }
+        
+        Set<Node<E>> nodeSet = (Set<Node<E>>) value;
+        
+        if (nodeSet.size() >= list.fingerList.size()) {
+            // Locating every occurrence would cost more than a linear scan 
+            // that stops at the first one:
+            return leftmost ? scanForward(nodeSet) : scanBackward(nodeSet);
+        }
+        
+        loadFingerTable();
+        int bestIndex = -1;
+        
+        for (Node<E> node : nodeSet) {
+            int index = fingerTable.getNodeIndex(node, list.size);
+            
+            if (bestIndex == -1 
+                    || (leftmost ? index < bestIndex : index > bestIndex)) {
+                bestIndex = index;
+            }
+        }
+        
+        return bestIndex;
+    }
+    
+    /**
+     * Indexes a node that was just linked into the owner list.
+     * 
+     * @param node the linked node.
+     */
+    void onLink(Node<E> node) {
+        addNode(node.item, node);
+        expectedModCount++;
+    }
+    
+    /**
+     * Updates the index after the item of {@code node} was replaced. Does not
+     * count as a structural modification.
+     * 
+     * @param node    the updated node.
+     * @param oldItem the previous item of {@code node}.
+     */
+    void onSet(Node<E> node, Object oldItem) {
+        removeNode(oldItem, node);
+        addNode(node.item, node);
+    }
+    
+    /**
+     * Removes from the index a node that was just unlinked from the owner 
+     * list.
+     * 
+     * @param node the unlinked node.
+     * @param item the item the node held while being linked.
+     */
+    void onUnlink(Node<E> node, Object item) {
+        removeNode(item, node);
+        expectedModCount++;
+    }
+    
+    /**
+     * Adds {@code node} to the nodes of {@code item}.
+     * 
+     * @param item the item.
+     * @param node the node holding {@code item}.
+     */
+    @SuppressWarnings("unchecked")
+    private void addNode(Object item, Node<E> node) {
+        Object value = nodeMap.putIfAbsent(item, node);
+        
+        if (value == null || value == node) {
+            return;
+        }
+        
+        if (value instanceof Node) {
+            Set<Node<E>> nodeSet = 
+                    Collections.newSetFromMap(new IdentityHashMap<>());
+            nodeSet.add((Node<E>) value);
+            nodeSet.add(node);
+            nodeMap.put(item, nodeSet);
+        } else {
+            ((Set<Node<E>>) value).add(node);
+        }
+    }
+    
+    /**
+     * Loads the finger table unless it was loaded after the last structural 
+     * modification of the owner list. Runs in \(\mathcal{O}(\sqrt{n})\) time
+     * when loading, and in constant time otherwise.
+     */
+    private void loadFingerTable() {
+        if (fingerTableModCount != list.modCount) {
+            fingerTable.load(list.fingerList);
+            fingerTableModCount = list.modCount;
+        }
+    }
+    
+    /**
+     * Rebuilds the index from scratch. Runs in linear time.
+     */
+    private void rebuild() {
+        nodeMap.clear();
+        
+        for (Node<E> node = list.head; node != null; node = node.next) {
+            addNode(node.item, node);
+        }
+        
+        expectedModCount = list.modCount;
+    }
+    
+    /**
+     * Removes {@code node} from the nodes of {@code item}.
+     * 
+     * @param item the item.
+     * @param node the node holding {@code item}.
+     */
+    @SuppressWarnings("unchecked")
+    private void removeNode(Object item, Node<E> node) {
+        Object value = nodeMap.get(item);
+        
+        if (value == node) {
+            nodeMap.remove(item);
+        } else if (value instanceof Set) {
+            Set<Node<E>> nodeSet = (Set<Node<E>>) value;
+            nodeSet.remove(node);
+            
+            if (nodeSet.size() == 1) {
+                nodeMap.put(item, nodeSet.iterator().next());
+            }
+        }
+    }
+    
+    /**
+     * Returns the index of the rightmost node in {@code nodeSet}. Scans the 
+     * owner list from the tail.
+     * 
+     * @param nodeSet the nonempty set of nodes to look for.
+     * @return the index of the rightmost node in {@code nodeSet}.
+     */
+    private int scanBackward(Set<Node<E>> nodeSet) {
+        int index = list.size - 1;
+        
+        for (Node<E> node = list.tail; 
+                !nodeSet.contains(node); 
+                node = node.prev) {
+            index--;
+        }
+        
+        return index;
+    }
+    
+    /**
+     * Returns the index of the leftmost node in {@code nodeSet}. Scans the 
+     * owner list from the head.
+     * 
+     * @param nodeSet the nonempty set of nodes to look for.
+     * @return the index of the leftmost node in {@code nodeSet}.
+     */
+    private int scanForward(Set<Node<E>> nodeSet) {
+        int index = 0;
+        
+        for (Node<E> node = list.head; 
+                !nodeSet.contains(node); 
+                node = node.next) {
+            index++;
+        }
+        
+        return index;
+    }
+    
+    /**
+     * Rebuilds the index if the owner list was structurally modified behind
+     * its back.
+     */
+    private void synchronize() {
+        if (expectedModCount != list.modCount) {
+            rebuild();
+        }
+    }
+}
@@ -0,0 +1,48 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2024 rodio.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.github.coderodde.util;
+
+/**
+ * This enumeration lists the algorithms {@link IndexedLinkedList#sort} may 
+ * use. Both of them are stable and run in \(\mathcal{O}(n \log n)\) time; they
+ * differ in how much memory they need.
+ */
+public enum SortStrategy {
+
+    /**
+     * Copies the elements into an array, sorts it via 
+     * {@link java.util.Arrays#sort(Object[], java.util.Comparator)} and writes 
+     * the elements back into the nodes in order. Fast, but needs 
+     * \(\mathcal{O}(n)\) extra memory for the array and for the merge buffer.
+     */
+    ARRAY,
+
+    /**
+     * Sorts by the bottom-up natural merge sort that relinks the nodes instead
+     * of moving the elements. Needs only \(\mathcal{O}(1)\) extra memory and 
+     * runs in linear time on the input that consists of a small number of 
+     * sorted runs, but chases the node pointers.
+     */
+    NATURAL_MERGE;
+}
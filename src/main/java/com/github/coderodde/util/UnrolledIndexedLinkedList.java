@@ -0,0 +1,475 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2024 rodio.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.github.coderodde.util;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.ListIterator;
+import java.util.NoSuchElementException;
+
+/**
+ * <p>
+ * This class implements the unrolled variant of {@link IndexedLinkedList}. 
+ * Instead of one node per element, the elements are stored in a doubly-linked
+ * list of <i>chunks</i>, each holding a contiguous array of up to \(C\)
+ * elements, where \(C\) is the chunk capacity given at construction time 
+ * (between {@value #MINIMUM_CHUNK_CAPACITY} and 
+ * {@value #MAXIMUM_CHUNK_CAPACITY}). The fingers point to chunks instead of 
+ * nodes: each finger stores a chunk and the index of its first element.
+ * 
+ * <p>
+ * 
+ * For \(n\) elements stored in \(m\) chunks, we maintain 
+ * \(\min(m, \lceil \sqrt{n} \rceil)\) fingers, and the leftmost finger 
+ * always points to the head chunk. Accessing the element at a given index 
+ * first finds the closest finger in \(\mathcal{O}(\log n)\) time, and then 
+ * walks the chunks from that finger towards the target. Since the walk makes
+ * one step per chunk, it touches about \(C\) times fewer objects than the 
+ * walk in {@link IndexedLinkedList}, and the memory overhead per element drops
+ * accordingly. Whenever a walk becomes much longer than the current finger 
+ * spacing, the fingers are redistributed evenly over the chunks.
+ * 
+ * <p>
+ * 
+ * A full chunk is split in halves on insertion, and a chunk whose load drops 
+ * to \(C / 4\) is merged with a neighbour whenever the merged chunk is at most
+ * three quarters full. The positional access runs in 
+ * \(\mathcal{O}(\log n + \sqrt{n} / C)\) amortized time, and the positional 
+ * insertion and removal run in \(\mathcal{O}(C + \sqrt{n})\) amortized time,
+ * where the \(\sqrt{n}\) term is a plain pass over the finger index array.
+ * 
+ * @author Rodion "rodde" Efremov
+ * @version 1.7.0 (Nov 23, 2024)
+ * @since 1.7.0 (Nov 23, 2024)
+ * @param <E> the element type.
+ */
+public class UnrolledIndexedLinkedList<E> 
+        extends AbstractChunkedIndexedList<E>
+        implements Deque<E>, Cloneable {
+    
+    /**
+     * The serial version UID.
+     */
+    @java.io.Serial
+    private static final long serialVersionUID = 7366027147151337791L;
+    
+    /**
+     * Constructs an empty list with the default chunk capacity.
+     */
+    public UnrolledIndexedLinkedList() {
+        this(DEFAULT_CHUNK_CAPACITY);
+    }
+    
+    /**
+     * Constructs an empty list with the given chunk capacity.
+     * 
+     * @param chunkCapacity the maximum number of elements in a chunk.
+     * @throws IllegalArgumentException if {@code chunkCapacity} is outside of 
+     *                                  the range 
+     *                                  [{@value #MINIMUM_CHUNK_CAPACITY},
+     *                                  {@value #MAXIMUM_CHUNK_CAPACITY}].
+     */
+    public UnrolledIndexedLinkedList(int chunkCapacity) {
+        super(chunkCapacity);
+    }
+    
+    /**
+     * Constructs a new list with the default chunk capacity and copies the 
+     * data in {@code c} to it. Runs in \(\mathcal{O}(m)\) time, where 
+     * \(m = |c|\).
+     * 
+     * @param c the collection to copy.
+     */
+    public UnrolledIndexedLinkedList(Collection<? extends E> c) {
+        this();
+        addAll(c);
+    }
+    
+    /**
+     * Inserts the element {@code e} at the beginning of this list. Runs in
+     * \(\mathcal{O}(C + \sqrt{n})\) time.
+     * 
+     * @param e the element to prepend.
+     */
+    @Override
+    public void addFirst(E e) {
+        add(0, e);
+    }
+    
+    /**
+     * Appends the element {@code e} to the end of this list. Runs in amortized
+     * constant time.
+     * 
+     * @param e the element to append.
+     */
+    @Override
+    public void addLast(E e) {
+        add(e);
+    }
+    
+    /**
+     * Returns a clone list with the same content and the same chunk capacity
+     * as this list.
+     * 
+     * @return the clone list.
+     */
+    @Override
+    public Object clone() {
+        UnrolledIndexedLinkedList<E> clone = 
+                new UnrolledIndexedLinkedList<>(chunkCapacity);
+        
+        clone.addAll(this);
+        return clone;
+    }
+    
+    /**
+     * Returns the descending iterator over this list.
+     * 
+     * @return the descending iterator.
+     */
+    @Override
+    public Iterator<E> descendingIterator() {
+        return new DescendingIterator();
+    }
+    
+    /**
+     * Returns the first element of this list. Runs in constant time.
+     * 
+     * @return the first element of this list.
+     * @throws NoSuchElementException if this list is empty.
+     */
+    @Override
+    public E element() {
+        return getFirst();
+    }
+    
+    /**
+     * Returns the first element of this list. Runs in constant time.
+     * 
+     * @return the first element of this list.
+     * @throws NoSuchElementException if this list is empty.
+     */
+    @Override
+    public E getFirst() {
+        if (head == null) {
+            throw new NoSuchElementException(
+                    "Getting the head element from an empty list.");
+        }
+        
+        return getElement(head.items, 0);
+    }
+    
+    /**
+     * Returns the last element of this list. Runs in constant time.
+     * 
+     * @return the last element of this list.
+     * @throws NoSuchElementException if this list is empty.
+     */
+    @Override
+    public E getLast() {
+        if (tail == null) {
+            throw new NoSuchElementException(
+                    "Getting the tail element from an empty list.");
+        }
+        
+        return getElement(tail.items, tail.size - 1);
+    }
+    
+    /**
+     * Appends the element {@code e} to the end of this list.
+     * 
+     * @param e the element to append.
+     * @return always {@code true}.
+     */
+    @Override
+    public boolean offer(E e) {
+        return add(e);
+    }
+    
+    /**
+     * Prepends the element {@code e} to this list.
+     * 
+     * @param e the element to prepend.
+     * @return always {@code true}.
+     */
+    @Override
+    public boolean offerFirst(E e) {
+        addFirst(e);
+        return true;
+    }
+    
+    /**
+     * Appends the element {@code e} to the end of this list.
+     * 
+     * @param e the element to append.
+     * @return always {@code true}.
+     */
+    @Override
+    public boolean offerLast(E e) {
+        addLast(e);
+        return true;
+    }
+    
+    /**
+     * Returns the first element of this list or {@code null} if this list is
+     * empty.
+     * 
+     * @return the first element or {@code null}.
+     */
+    @Override
+    public E peek() {
+        return peekFirst();
+    }
+    
+    /**
+     * Returns the first element of this list or {@code null} if this list is
+     * empty.
+     * 
+     * @return the first element or {@code null}.
+     */
+    @Override
+    public E peekFirst() {
+        return head == null ? null : getElement(head.items, 0);
+    }
+    
+    /**
+     * Returns the last element of this list or {@code null} if this list is
+     * empty.
+     * 
+     * @return the last element or {@code null}.
+     */
+    @Override
+    public E peekLast() {
+        return tail == null ? null : getElement(tail.items, tail.size - 1);
+    }
+    
+    /**
+     * Removes and returns the first element of this list or returns 
+     * {@code null} if this list is empty.
+     * 
+     * @return the first element or {@code null}.
+     */
+    @Override
+    public E poll() {
+        return pollFirst();
+    }
+    
+    /**
+     * Removes and returns the first element of this list or returns 
+     * {@code null} if this list is empty.
+     * 
+     * @return the first element or {@code null}.
+     */
+    @Override
+    public E pollFirst() {
+        return head == null ? null : removeFirst();
+    }
+    
+    /**
+     * Removes and returns the last element of this list or returns 
+     * {@code null} if this list is empty.
+     * 
+     * @return the last element or {@code null}.
+     */
+    @Override
+    public E pollLast() {
+        return tail == null ? null : removeLast();
+    }
+    
+    /**
+     * Removes and returns the first element of this list.
+     * 
+     * @return the first element of this list.
+     * @throws NoSuchElementException if this list is empty.
+     */
+    @Override
+    public E pop() {
+        return removeFirst();
+    }
+    
+    /**
+     * Prepends the element {@code e} to this list.
+     * 
+     * @param e the element to prepend.
+     */
+    @Override
+    public void push(E e) {
+        addFirst(e);
+    }
+    
+    /**
+     * Removes and returns the first element of this list.
+     * 
+     * @return the first element of this list.
+     * @throws NoSuchElementException if this list is empty.
+     */
+    @Override
+    public E remove() {
+        return removeFirst();
+    }
+    
+    /**
+     * Removes the first occurrence of {@code o} from this list.
+     * 
+     * @param o the object to remove.
+     * @return {@code true} if {@code o} was present in this list.
+     */
+    @Override
+    public boolean remove(Object o) {
+        return removeFirstOccurrence(o);
+    }
+    
+    /**
+     * Removes and returns the first element of this list.
+     * 
+     * @return the first element of this list.
+     * @throws NoSuchElementException if this list is empty.
+     */
+    @Override
+    public E removeFirst() {
+        if (head == null) {
+            throw new NoSuchElementException(
+                    "removeFirst from an empty UnrolledIndexedLinkedList");
+        }
+        
+        E element = getElement(head.items, 0);
+        closeSlot(head, 0, 0);
+        return element;
+    }
+    
+    /**
+     * Removes the first occurrence of {@code o} from this list.
+     * 
+     * @param o the object to remove.
+     * @return {@code true} if {@code o} was present in this list.
+     */
+    @Override
+    public boolean removeFirstOccurrence(Object o) {
+        int index = indexOf(o);
+        
+        if (index < 0) {
+            return false;
+        }
+        
+        removeSlot(index);
+        return true;
+    }
+    
+    /**
+     * Removes and returns the last element of this list.
+     * 
+     * @return the last element of this list.
+     * @throws NoSuchElementException if this list is empty.
+     */
+    @Override
+    public E removeLast() {
+        if (tail == null) {
+            throw new NoSuchElementException(
+                    "removeLast from an empty UnrolledIndexedLinkedList");
+        }
+        
+        E element = getElement(tail.items, tail.size - 1);
+        closeSlot(tail, size - tail.size, tail.size - 1);
+        return element;
+    }
+    
+    /**
+     * Removes the last occurrence of {@code o} from this list.
+     * 
+     * @param o the object to remove.
+     * @return {@code true} if {@code o} was present in this list.
+     */
+    @Override
+    public boolean removeLastOccurrence(Object o) {
+        int index = lastIndexOf(o);
+        
+        if (index < 0) {
+            return false;
+        }
+        
+        removeSlot(index);
+        return true;
+    }
+    
+    @Override
+    void clearSlots(Object items, int fromOffset, int toOffset) {
+        Arrays.fill((Object[]) items, fromOffset, toOffset, null);
+    }
+    
+    @Override
+    @SuppressWarnings("unchecked")
+    E getElement(Object items, int offset) {
+        return (E) ((Object[]) items)[offset];
+    }
+    
+    @Override
+    Object newChunkArray(int capacity) {
+        return new Object[capacity];
+    }
+    
+    @Override
+    void readElement(java.io.ObjectInputStream s, Object items, int offset) 
+            throws java.io.IOException, ClassNotFoundException {
+        ((Object[]) items)[offset] = s.readObject();
+    }
+    
+    @Override
+    void setElement(Object items, int offset, E e) {
+        ((Object[]) items)[offset] = e;
+    }
+    
+    @Override
+    void writeElement(java.io.ObjectOutputStream s, Object items, int offset) 
+            throws java.io.IOException {
+        s.writeObject(((Object[]) items)[offset]);
+    }
+    
+    /**
+     * This inner class implements the descending iterator over this list.
+     */
+    private final class DescendingIterator implements Iterator<E> {
+        
+        /**
+         * The underlying list iterator moving backwards.
+         */
+        private final ListIterator<E> listIterator = listIterator(size);
+        
+        @Override
+        public boolean hasNext() {
+            return listIterator.hasPrevious();
+        }
+        
+        @Override
+        public E next() {
+            return listIterator.previous();
+        }
+        
+        @Override
+        public void remove() {
+            listIterator.remove();
+        }
+    }
+}
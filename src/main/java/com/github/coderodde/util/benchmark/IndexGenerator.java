@@ -0,0 +1,272 @@
+package com.github.coderodde.util.benchmark;
+
+import java.util.Random;
+
+/**
+ * This class generates the list indices accessed by the benchmarks. Each
+ * generator models a traffic shape; {@link #create(String, long)} returns the
+ * generator with the given name from {@link #NAMES}.
+ */
+abstract class IndexGenerator {
+
+    static final String[] NAMES = {
+        "uniform",
+        "zipfian",
+        "sequential",
+        "hotSpot",
+        "deque",
+        "cursor",
+    };
+
+    final Random random;
+
+    IndexGenerator(long seed) {
+        this.random = new Random(seed);
+    }
+
+    /**
+     * Returns the next index within {@code [0, bound)}, where {@code bound} is
+     * the size of the list plus one if the index is an insertion position.
+     *
+     * @param bound the exclusive upper bound. Must be positive.
+     * @return the next index.
+     */
+    abstract int nextIndex(int bound);
+
+    static IndexGenerator create(String name, long seed) {
+        switch (name) {
+            case "uniform":
+                return new UniformIndexGenerator(seed);
+
+            case "zipfian":
+                return new ZipfianIndexGenerator(seed);
+
+            case "sequential":
+                return new SequentialIndexGenerator(seed);
+
+            case "hotSpot":
+                return new HotSpotIndexGenerator(seed);
+
+            case "deque":
+                return new DequeIndexGenerator(seed);
+
+            case "cursor":
+                return new CursorIndexGenerator(seed);
+
+            default:
+                throw new IllegalArgumentException(
+                        "Unknown index generator name: " + name);
+        }
+    }
+
+    /**
+     * Draws each index uniformly at random. This is the worst case for the
+     * finger locality.
+     */
+    private static final class UniformIndexGenerator extends IndexGenerator {
+
+        UniformIndexGenerator(long seed) {
+            super(seed);
+        }
+
+        @Override
+        int nextIndex(int bound) {
+            return random.nextInt(bound);
+        }
+    }
+
+    /**
+     * Draws the rank of an element from the Zipf distribution with the
+     * exponent {@value #EXPONENT}, as in YCSB, and maps each rank to a fixed
+     * relative position in the list, so that the hot elements are spread over
+     * the entire list and stay put while the list grows or shrinks. The ranks
+     * are sampled in constant time with the rejection-inversion method of
+     * Hörmann and Derflinger.
+     */
+    private static final class ZipfianIndexGenerator extends IndexGenerator {
+
+        private static final double EXPONENT = 0.99;
+        private static final double GOLDEN_RATIO_CONJUGATE =
+                0.6180339887498949;
+
+        private int numberOfRanks;
+        private double hIntegralX1;
+        private double hIntegralNumberOfRanks;
+        private double s;
+
+        ZipfianIndexGenerator(long seed) {
+            super(seed);
+        }
+
+        @Override
+        int nextIndex(int bound) {
+            if (numberOfRanks == 0) {
+                // The ranks are fixed by the first bound:
+                numberOfRanks = bound;
+                hIntegralX1 = hIntegral(1.5) - 1.0;
+                hIntegralNumberOfRanks = hIntegral(numberOfRanks + 0.5);
+                s = 2.0 - hIntegralInverse(hIntegral(2.5) - h(2.0));
+            }
+
+            double position = nextRank() * GOLDEN_RATIO_CONJUGATE;
+            position -= Math.floor(position);
+            return Math.min((int)(position * bound), bound - 1);
+        }
+
+        private int nextRank() {
+            while (true) {
+                double u = hIntegralNumberOfRanks
+                         + random.nextDouble()
+                         * (hIntegralX1 - hIntegralNumberOfRanks);
+
+                double x = hIntegralInverse(u);
+                int k = (int)(x + 0.5);
+
+                if (k < 1) {
+                    k = 1;
+                } else if (k > numberOfRanks) {
+                    k = numberOfRanks;
+                }
+
+                if (k - x <= s || u >= hIntegral(k + 0.5) - h(k)) {
+                    return k;
+                }
+            }
+        }
+
+        private static double h(double x) {
+            return Math.exp(-EXPONENT * Math.log(x));
+        }
+
+        private static double hIntegral(double x) {
+            double logX = Math.log(x);
+            return helper2((1.0 - EXPONENT) * logX) * logX;
+        }
+
+        private static double hIntegralInverse(double x) {
+            double t = Math.max(x * (1.0 - EXPONENT), -1.0);
+            return Math.exp(helper1(t) * x);
+        }
+
+        private static double helper1(double x) {
+            if (Math.abs(x) > 1e-8) {
+                return Math.log1p(x) / x;
+            }
+
+            return 1.0 - x * (0.5 - x * (1.0 / 3.0 - 0.25 * x));
+        }
+
+        private static double helper2(double x) {
+            if (Math.abs(x) > 1e-8) {
+                return Math.expm1(x) / x;
+            }
+
+            return 1.0 + x * 0.5 * (1.0 + x / 3.0 * (1.0 + 0.25 * x));
+        }
+    }
+
+    /**
+     * Scans the list from head to tail and wraps around.
+     */
+    private static final class SequentialIndexGenerator
+            extends IndexGenerator {
+
+        private int cursor;
+
+        SequentialIndexGenerator(long seed) {
+            super(seed);
+        }
+
+        @Override
+        int nextIndex(int bound) {
+            if (cursor >= bound) {
+                cursor = 0;
+            }
+
+            return cursor++;
+        }
+    }
+
+    /**
+     * Draws each index uniformly at random from a window of
+     * {@value #WINDOW_WIDTH} elements that slides one position to the right
+     * per call and wraps around.
+     */
+    private static final class HotSpotIndexGenerator extends IndexGenerator {
+
+        private static final int WINDOW_WIDTH = 1_000;
+
+        private int windowStart;
+
+        HotSpotIndexGenerator(long seed) {
+            super(seed);
+        }
+
+        @Override
+        int nextIndex(int bound) {
+            int windowWidth = Math.min(WINDOW_WIDTH, bound);
+
+            if (windowStart > bound - windowWidth) {
+                windowStart = 0;
+            }
+
+            return windowStart++ + random.nextInt(windowWidth);
+        }
+    }
+
+    /**
+     * Accesses either the head or the tail of the list in bursts of up to
+     * {@value #MAXIMUM_BURST_LENGTH} calls, like a deque serving bursty
+     * producers and consumers.
+     */
+    private static final class DequeIndexGenerator extends IndexGenerator {
+
+        private static final int MAXIMUM_BURST_LENGTH = 64;
+
+        private int burstLength;
+        private boolean head;
+
+        DequeIndexGenerator(long seed) {
+            super(seed);
+        }
+
+        @Override
+        int nextIndex(int bound) {
+            if (burstLength == 0) {
+                burstLength = 1 + random.nextInt(MAXIMUM_BURST_LENGTH);
+                head = random.nextBoolean();
+            }
+
+            burstLength--;
+            return head ? 0 : bound - 1;
+        }
+    }
+
+    /**
+     * Models the cursor of a text editor: mostly moves by at most one
+     * position, and jumps to a random position once in
+     * {@value #JUMP_PERIOD} calls on average.
+     */
+    private static final class CursorIndexGenerator extends IndexGenerator {
+
+        private static final int JUMP_PERIOD = 100;
+
+        private int cursor = -1;
+
+        CursorIndexGenerator(long seed) {
+            super(seed);
+        }
+
+        @Override
+        int nextIndex(int bound) {
+            if (cursor < 0 || random.nextInt(JUMP_PERIOD) == 0) {
+                cursor = random.nextInt(bound);
+            } else {
+                cursor += random.nextInt(3) - 1;
+            }
+
+            cursor = Math.max(0, Math.min(cursor, bound - 1));
+            return cursor;
+        }
+    }
+}
@@ -0,0 +1,117 @@
+package com.github.coderodde.util.benchmark;
+
+import java.util.Arrays;
+
+/**
+ * This class implements a latency histogram in the spirit of HdrHistogram. The
+ * values below 256 are counted exactly; larger values are counted in buckets
+ * that keep the 8 most significant bits of the value, so that the relative
+ * error of any reported percentile stays below 1%. Recording a value runs in
+ * constant time and does not allocate.
+ */
+final class LatencyHistogram {
+
+    private static final int SUB_BUCKET_BITS = 7;
+    private static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+    private static final int NUMBER_OF_BUCKETS =
+            (Long.SIZE - SUB_BUCKET_BITS) * SUB_BUCKET_COUNT;
+
+    private final long[] counts = new long[NUMBER_OF_BUCKETS];
+    private long totalCount;
+    private long totalValue;
+    private long maximumValue;
+
+    /**
+     * Records the non-negative {@code value}.
+     *
+     * @param value the value to record.
+     */
+    void recordValue(long value) {
+        if (value < 0L) {
+            throw new IllegalArgumentException(
+                    "Negative value: " + value);
+        }
+
+        counts[getBucketIndex(value)]++;
+        totalCount++;
+        totalValue += value;
+        maximumValue = Math.max(maximumValue, value);
+    }
+
+    /**
+     * Removes all the recorded values.
+     */
+    void reset() {
+        Arrays.fill(counts, 0L);
+        totalCount = 0L;
+        totalValue = 0L;
+        maximumValue = 0L;
+    }
+
+    long getTotalCount() {
+        return totalCount;
+    }
+
+    long getMaximumValue() {
+        return maximumValue;
+    }
+
+    double getMean() {
+        return totalCount == 0L ? 0.0 : (double) totalValue / totalCount;
+    }
+
+    /**
+     * Returns the smallest recorded value such that {@code percentile} percent
+     * of all the recorded values are at most it. As in HdrHistogram, the
+     * largest value equivalent to the bucket is returned.
+     *
+     * @param percentile the percentile within \([0, 100]\).
+     * @return the value at the given percentile.
+     */
+    long getValueAtPercentile(double percentile) {
+        if (percentile < 0.0 || percentile > 100.0) {
+            throw new IllegalArgumentException(
+                    "Percentile out of range: " + percentile);
+        }
+
+        if (totalCount == 0L) {
+            return 0L;
+        }
+
+        long targetCount =
+                Math.max(1L, (long) Math.ceil(percentile / 100.0 * totalCount));
+
+        long cumulativeCount = 0L;
+
+        for (int bucketIndex = 0; bucketIndex < counts.length; bucketIndex++) {
+            cumulativeCount += counts[bucketIndex];
+
+            if (cumulativeCount >= targetCount) {
+                return Math.min(getHighestEquivalentValue(bucketIndex),
+                                maximumValue);
+            }
+        }
+
+        return maximumValue;
+    }
+
+    private static int getBucketIndex(long value) {
+        int shift = Math.max(0,
+                             Long.SIZE
+                                     - Long.numberOfLeadingZeros(value)
+                                     - SUB_BUCKET_BITS
+                                     - 1);
+
+        return (shift << SUB_BUCKET_BITS) + (int)(value >>> shift);
+    }
+
+    private static long getHighestEquivalentValue(int bucketIndex) {
+        if (bucketIndex < 2 * SUB_BUCKET_COUNT) {
+            return bucketIndex;
+        }
+
+        int shift = (bucketIndex >>> SUB_BUCKET_BITS) - 1;
+        long mantissa = bucketIndex - (shift << SUB_BUCKET_BITS);
+        return ((mantissa + 1L) << shift) - 1L;
+    }
+}
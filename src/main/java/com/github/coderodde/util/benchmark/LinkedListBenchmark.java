@@ -1,6 +1,7 @@
 package com.github.coderodde.util.benchmark;
 
 import com.github.coderodde.util.IndexedLinkedList;
+import com.github.coderodde.util.SortStrategy;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
@@ -109,6 +110,7 @@ final class LinkedListBenchmark {
                    treeList);
     }
 
+    @SafeVarargs
     private static void listsEqual(List<Integer>... lists) {
         if (lists.length < 2) {
             throw new IllegalArgumentException("lists.length < 2");
@@ -424,12 +426,19 @@ final class LinkedListBenchmark {
         Collections.shuffle(linkedList, randomJavaUtilLinkedList);
         Collections.shuffle(treeList, randomTreeList);
         
+        IndexedLinkedList<Integer> mergeSortList = 
+                new IndexedLinkedList<>(roddeList);
+        
+        mergeSortList.setSortStrategy(SortStrategy.NATURAL_MERGE);
+        
         profileSortRoddeList();
         profileSortLinkedList();
         profileSortArrayList();
         profileSortTreeList();
+        profileSortNaturalMerge(mergeSortList);
         
         listsEqual();
+        listsEqual(mergeSortList, roddeList);
         System.out.println();
     }
     
@@ -1258,6 +1267,23 @@ final class LinkedListBenchmark {
         totalMillisTreeList += profileSort(treeList);
     }
     
+    private static void profileSortNaturalMerge(
+            IndexedLinkedList<Integer> list) {
+        long startMillis = System.currentTimeMillis();
+        
+        list.subList(10, list.size() - 10).sort(Integer::compare);
+        
+        long endMillis = System.currentTimeMillis();
+        
+        System.out.println(
+                list.getClass()
+                    .getSimpleName() 
+                        + ".subList().sort() with " 
+                        + SortStrategy.NATURAL_MERGE
+                        + " in (ms): " 
+                        + (endMillis - startMillis));
+    }
+    
     private void printTitle(BenchmarkChoice benchmarkChoice) {
         switch (benchmarkChoice) {
             case WARMUP:
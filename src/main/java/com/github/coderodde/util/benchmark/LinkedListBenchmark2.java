@@ -1,15 +1,20 @@
 package com.github.coderodde.util.benchmark;
 
+import com.github.coderodde.util.ConcurrentIndexedLinkedList;
 import com.github.coderodde.util.IndexedLinkedList;
+import com.github.coderodde.util.UnrolledIndexedLinkedList;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Deque;
 import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
 import java.util.Random;
 import java.util.TreeMap;
+import java.util.concurrent.CountDownLatch;
 import net.openhft.affinity.AffinityLock;
 import org.apache.commons.collections4.list.TreeList;
 
@@ -74,8 +79,52 @@ public class LinkedListBenchmark2 {
         "indexedLinkedList",
         "linkedList",
         "treeList",
+        "unrolledIndexedLinkedList",
     };
     
+    private static final int MEMORY_FOOTPRINT_LIST_SIZE = 1_000_000;
+    
+    private static final int READ_WRITE_MIX_LIST_SIZE = 100_000;
+    private static final int READ_WRITE_MIX_OPERATIONS_PER_THREAD = 200_000;
+    private static final int[] READ_WRITE_MIX_READ_PERCENTAGES = { 
+        50, 
+        90, 
+        99,
+    };
+    
+    private static final int[] TAIL_LATENCY_LIST_SIZES = {
+        10_000,
+        100_000,
+        1_000_000,
+    };
+    
+    private static final String[] TAIL_LATENCY_ACCESS_PATTERNS = {
+        "uniform",
+        "local",
+    };
+    
+    private static final String[] TAIL_LATENCY_OPERATION_NAMES = {
+        "get",
+        "add",
+        "remove",
+    };
+    
+    private static final double[] TAIL_LATENCY_PERCENTILES = {
+        50.0,
+        90.0,
+        99.0,
+        99.9,
+    };
+    
+    private static final int TAIL_LATENCY_OPERATIONS = 5_000;
+    private static final int TAIL_LATENCY_LOCAL_RADIUS = 64;
+    
+    /**
+     * The name of the {@link IndexGenerator} producing the indices of the 
+     * random access operations. Set by {@code --workload <name>}.
+     */
+    private static String workloadName = "uniform";
+    
     static {
         clearDurationCounterMap();
         initializeOperationNames();
@@ -157,9 +206,36 @@ public class LinkedListBenchmark2 {
 //        deleteRange();
 //        System.exit(0);
         
+        for (int i = 0; i < args.length - 1; i++) {
+            if (args[i].equals("--workload")) {
+                workloadName = args[i + 1];
+                // Fail fast on an unknown workload name:
+                IndexGenerator.create(workloadName, 0L);
+            }
+        }
+        
+        if (args.length > 0 && args[0].equals("--read-write-mix")) {
+            readWriteMix();
+            return;
+        }
+        
+        if (args.length > 0 && args[0].equals("--tail-latency")) {
+            AffinityLock affinityLock = AffinityLock.acquireLock();
+            
+            try {
+                tailLatency(args.length > 1 && args[1].equals("--json"));
+            } finally {
+                affinityLock.release();
+            }
+            
+            return;
+        }
+        
         try (AffinityLock al = AffinityLock.acquireLock()) {
             Thread.currentThread().setPriority(Thread.MAX_PRIORITY);
             clearDurationCounterMap();
+            System.out.printf("<<< Workload: %s >>>\n\n", workloadName);
+            printMemoryFootprints();
             warmup();
             benchmark();
             System.out.println("<<< Total durations >>>");
@@ -167,6 +243,290 @@ public class LinkedListBenchmark2 {
         }
     }
     
+    private static void readWriteMix() {
+        final int numberOfThreads = 
+                Math.max(2, Runtime.getRuntime().availableProcessors());
+        
+        System.out.println(
+                "<<< Read/write mix, " + numberOfThreads + " threads >>>");
+        
+        for (final int readPercentage : READ_WRITE_MIX_READ_PERCENTAGES) {
+            // The first round is the warmup:
+            for (int round = 0; round < 2; round++) {
+                final long concurrentDuration = 
+                        readWriteMix(new ConcurrentIndexedLinkedList<>(),
+                                     numberOfThreads, 
+                                     readPercentage);
+                
+                final long synchronizedDuration = 
+                        readWriteMix(
+                                Collections.synchronizedList(
+                                        new IndexedLinkedList<>()), 
+                                numberOfThreads, 
+                                readPercentage);
+                
+                if (round == 1) {
+                    System.out.println(
+                            readPercentage + "% reads: " 
+                                    + "concurrentIndexedLinkedList in " 
+                                    + concurrentDuration 
+                                    + " ms, synchronized indexedLinkedList in "
+                                    + synchronizedDuration 
+                                    + " ms.");
+                }
+            }
+        }
+    }
+    
+    /**
+     * Runs a mix of random {@code get}, {@code add} and {@code remove} calls in
+     * {@code numberOfThreads} threads, each pinned to its own CPU. Each thread
+     * removes only after an insertion of its own, so the list never shrinks 
+     * below {@link #READ_WRITE_MIX_LIST_SIZE} elements.
+     */
+    private static long readWriteMix(final List<Object> list,
+                                     final int numberOfThreads,
+                                     final int readPercentage) {
+        loadList(list, READ_WRITE_MIX_LIST_SIZE);
+        
+        final Thread[] threads = new Thread[numberOfThreads];
+        final CountDownLatch startLatch = new CountDownLatch(1);
+        
+        for (int t = 0; t < numberOfThreads; t++) {
+            final long seed = t;
+            
+            threads[t] = new Thread(() -> {
+                final AffinityLock affinityLock = AffinityLock.acquireLock();
+                
+                try {
+                    final Random random = new Random(seed);
+                    boolean insertNext = true;
+                    startLatch.await();
+                    
+                    for (int i = 0; 
+                            i < READ_WRITE_MIX_OPERATIONS_PER_THREAD; 
+                            i++) {
+                        final int index = 
+                                random.nextInt(READ_WRITE_MIX_LIST_SIZE);
+                        
+                        if (random.nextInt(100) < readPercentage) {
+                            list.get(index);
+                        } else if (insertNext) {
+                            list.add(index, ELEMENT);
+                            insertNext = false;
+                        } else {
+                            list.remove(index);
+                            insertNext = true;
+                        }
+                    }
+                } catch (InterruptedException ex) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    affinityLock.release();
+                }
+            });
+            
+            threads[t].start();
+        }
+        
+        final long start = System.currentTimeMillis();
+        startLatch.countDown();
+        
+        try {
+            for (final Thread thread : threads) {
+                thread.join();
+            }
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+        
+        return System.currentTimeMillis() - start;
+    }
+    
+    /**
+     * Records the latency of every single {@code get}, {@code add(int, E)} and
+     * {@code remove(int)} call per list type, list size and access pattern, 
+     * and prints the percentiles in nanoseconds as CSV or, if {@code json} is
+     * set, as a JSON array. Unlike the averages, the percentiles expose the
+     * occasional slow operation, such as one that redistributes the fingers.
+     */
+    private static void tailLatency(final boolean json) {
+        final LatencyHistogram[] histograms = 
+                new LatencyHistogram[TAIL_LATENCY_OPERATION_NAMES.length];
+        
+        for (int i = 0; i < histograms.length; i++) {
+            histograms[i] = new LatencyHistogram();
+        }
+        
+        final List<String> rows = new ArrayList<>();
+        
+        if (!json) {
+            final StringBuilder header = 
+                    new StringBuilder("listType,listSize,accessPattern,"
+                                    + "operation,count,mean,max");
+            
+            for (final double percentile : TAIL_LATENCY_PERCENTILES) {
+                header.append(",p").append(percentile);
+            }
+            
+            System.out.println(header);
+        }
+        
+        for (final String listTypeName : LIST_TYPE_NAMES) {
+            // Warm up on the smallest list:
+            for (final String accessPattern : TAIL_LATENCY_ACCESS_PATTERNS) {
+                tailLatency(listTypeName,
+                            TAIL_LATENCY_LIST_SIZES[0], 
+                            accessPattern, 
+                            histograms);
+            }
+            
+            for (final int listSize : TAIL_LATENCY_LIST_SIZES) {
+                for (final String accessPattern : 
+                        TAIL_LATENCY_ACCESS_PATTERNS) {
+                    for (final LatencyHistogram histogram : histograms) {
+                        histogram.reset();
+                    }
+                    
+                    System.gc();
+                    tailLatency(listTypeName,
+                                listSize,
+                                accessPattern,
+                                histograms);
+                    
+                    for (int i = 0; i < histograms.length; i++) {
+                        final String row = 
+                                tailLatencyRow(listTypeName, 
+                                               listSize,
+                                               accessPattern, 
+                                               TAIL_LATENCY_OPERATION_NAMES[i],
+                                               histograms[i],
+                                               json);
+                        
+                        if (json) {
+                            rows.add(row);
+                        } else {
+                            System.out.println(row);
+                        }
+                    }
+                }
+            }
+        }
+        
+        if (json) {
+            System.out.println("[\n" + String.join(",\n", rows) + "\n]");
+        }
+    }
+    
+    /**
+     * Runs {@link #TAIL_LATENCY_OPERATIONS} rounds of one {@code get}, one 
+     * {@code add} and one {@code remove} call, so that the list keeps its size.
+     * In the {@code "uniform"} access pattern the indices are uniformly
+     * random; in the {@code "local"} one each index is within 
+     * {@link #TAIL_LATENCY_LOCAL_RADIUS} of the previous one.
+     */
+    private static void tailLatency(final String listTypeName,
+                                    final int listSize,
+                                    final String accessPattern,
+                                    final LatencyHistogram[] histograms) {
+        final List<Object> list = getEmptyList(listTypeName);
+        loadList(list, listSize);
+        
+        final boolean local = accessPattern.equals("local");
+        final Random random = new Random(13L);
+        int index = listSize / 2;
+        
+        for (int i = 0; i < TAIL_LATENCY_OPERATIONS; i++) {
+            for (int operation = 0; 
+                    operation < histograms.length; 
+                    operation++) {
+                if (local) {
+                    index += random.nextInt(2 * TAIL_LATENCY_LOCAL_RADIUS + 1)
+                           - TAIL_LATENCY_LOCAL_RADIUS;
+                    
+                    index = Math.max(0, Math.min(index, listSize - 1));
+                } else {
+                    index = random.nextInt(listSize);
+                }
+                
+                final long startTime = System.nanoTime();
+                
+                switch (operation) {
+                    case 0:
+                        list.get(index);
+                        break;
+                        
+                    case 1:
+                        list.add(index, ELEMENT);
+                        break;
+                        
+                    default:
+                        list.remove(index);
+                        break;
+                }
+                
+                histograms[operation].recordValue(System.nanoTime() 
+                                                - startTime);
+            }
+        }
+    }
+    
+    private static String tailLatencyRow(final String listTypeName,
+                                         final int listSize,
+                                         final String accessPattern,
+                                         final String operationName,
+                                         final LatencyHistogram histogram,
+                                         final boolean json) {
+        final StringBuilder sb = new StringBuilder();
+        
+        if (json) {
+            sb.append(
+                    String.format(
+                            Locale.ROOT,
+                            "  {\"listType\": \"%s\", \"listSize\": %d, "
+                                    + "\"accessPattern\": \"%s\", "
+                                    + "\"operation\": \"%s\", "
+                                    + "\"count\": %d, \"mean\": %.1f, "
+                                    + "\"max\": %d",
+                            listTypeName,
+                            listSize,
+                            accessPattern,
+                            operationName,
+                            histogram.getTotalCount(),
+                            histogram.getMean(),
+                            histogram.getMaximumValue()));
+            
+            for (final double percentile : TAIL_LATENCY_PERCENTILES) {
+                sb.append(
+                        String.format(
+                                Locale.ROOT,
+                                ", \"p%s\": %d", 
+                                percentile,
+                                histogram.getValueAtPercentile(percentile)));
+            }
+            
+            return sb.append('}').toString();
+        }
+        
+        sb.append(
+                String.format(
+                        Locale.ROOT,
+                        "%s,%d,%s,%s,%d,%.1f,%d", 
+                        listTypeName,
+                        listSize,
+                        accessPattern,
+                        operationName,
+                        histogram.getTotalCount(),
+                        histogram.getMean(),
+                        histogram.getMaximumValue()));
+        
+        for (final double percentile : TAIL_LATENCY_PERCENTILES) {
+            sb.append(',').append(histogram.getValueAtPercentile(percentile));
+        }
+        
+        return sb.toString();
+    }
+    
     private static void deleteRange() {
         System.out.println("deleteRange():");
         final List<Object> indexedList = new IndexedLinkedList<>();
@@ -274,9 +634,41 @@ public class LinkedListBenchmark2 {
         System.out.println();
     }
     
+    private static void printMemoryFootprints() {
+        System.out.printf("<<< Memory footprints for %d elements >>>\n",
+                          MEMORY_FOOTPRINT_LIST_SIZE);
+        
+        for (final String listTypeName : LIST_TYPE_NAMES) {
+            long usedMemoryBefore = usedMemory();
+            List<Object> list = getEmptyList(listTypeName);
+            loadList(list, MEMORY_FOOTPRINT_LIST_SIZE);
+            long usedMemoryAfter = usedMemory();
+            
+            System.out.printf(
+                    "%-" + "unrolledIndexedLinkedList".length() + "s: "
+                            + "%d bytes, %.2f bytes per element\n", 
+                    listTypeName,
+                    usedMemoryAfter - usedMemoryBefore,
+                    (double)(usedMemoryAfter - usedMemoryBefore) 
+                            / list.size());
+        }
+        
+        System.out.println();
+    }
+    
+    private static long usedMemory() {
+        Runtime runtime = Runtime.getRuntime();
+        
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+    
     private static void printTotalDurations() {
         for (Map.Entry<String, Long> e : DURATION_COUNTER_MAP.entrySet()) {
-            System.out.printf("%-" + "indexedLinkedList".length() + "s: %d\n", 
+            System.out.printf("%-" + "unrolledIndexedLinkedList".length() + "s: %d\n", 
                     e.getKey(),
                     milliseconds(e.getValue()));
         }
@@ -291,6 +683,8 @@ public class LinkedListBenchmark2 {
             return new LinkedList<>();
         } else if (listTypeName.equals(LIST_TYPE_NAMES[3])) {
             return new TreeList<>();
+        } else if (listTypeName.equals(LIST_TYPE_NAMES[4])) {
+            return new UnrolledIndexedLinkedList<>();
         } else {
             throw new IllegalArgumentException(
                     "Unknown list type name: " + listTypeName);
@@ -313,6 +707,9 @@ public class LinkedListBenchmark2 {
             case "TreeList":
                 return "treeList";
                 
+            case "UnrolledIndexedLinkedList":
+                return "unrolledIndexedLinkedList";
+                
             default:
                 throw new IllegalArgumentException(
                         "Uknown List class: " + className);
@@ -338,9 +735,10 @@ public class LinkedListBenchmark2 {
                 break;
                 
             case "AddRandom":
-                duration = BenchmarkMethods.addRandom(list,
-                                                      print,
-                                                      new Random(13L));
+                duration = BenchmarkMethods.addRandom(
+                        list,
+                        print,
+                        IndexGenerator.create(workloadName, 13L));
                 break;
                 
             case "AppendCollection":
@@ -354,9 +752,10 @@ public class LinkedListBenchmark2 {
                 break;
                 
             case "GetRandom":
-                duration = BenchmarkMethods.getRandom(list, 
-                                                      new Random(26L),
-                                                      print);
+                duration = BenchmarkMethods.getRandom(
+                        list, 
+                        IndexGenerator.create(workloadName, 26L),
+                        print);
                 break;
                 
             case "InsertCollection":
@@ -364,11 +763,11 @@ public class LinkedListBenchmark2 {
                         new ArrayList<>(Bounds.INSERT_COLLECTION_SIZE);
                 
                 loadList(listToInsert, Bounds.INSERT_COLLECTION_SIZE);
-                Random random = new Random(4L);
-                duration = BenchmarkMethods.insertCollection(list, 
-                                                             listToInsert, 
-                                                             random, 
-                                                             print);
+                duration = BenchmarkMethods.insertCollection(
+                        list, 
+                        listToInsert, 
+                        IndexGenerator.create(workloadName, 4L), 
+                        print);
                 break;
                 
             case "PrependCollection":
@@ -390,15 +789,17 @@ public class LinkedListBenchmark2 {
                 break;
                         
             case "RemoveRandom":
-                duration = BenchmarkMethods.removeRandom(list, 
-                                                         print, 
-                                                         new Random(3L));
+                duration = BenchmarkMethods.removeRandom(
+                        list, 
+                        print, 
+                        IndexGenerator.create(workloadName, 3L));
                 break;
                 
             case "RemoveRange":
-                duration = BenchmarkMethods.removeRange(list, 
-                                                        print,
-                                                        new Random(4L));
+                duration = BenchmarkMethods.removeRange(
+                        list, 
+                        print,
+                        IndexGenerator.create(workloadName, 4L));
                 break;
                 
             default:
@@ -498,11 +899,13 @@ public class LinkedListBenchmark2 {
             return duration;
         }
         
-        static long addRandom(List<Object> list, boolean print, Random random) {
+        static long addRandom(List<Object> list, 
+                              boolean print, 
+                              IndexGenerator indexGenerator) {
             long startTime = microseconds();
 
             for (int i = 0; i < Bounds.NUMBER_OF_RANDOM_ADDS; i++) {
-                list.add(random.nextInt(list.size() + 1), ELEMENT);
+                list.add(indexGenerator.nextIndex(list.size() + 1), ELEMENT);
             }
 
             long endTime = microseconds();
@@ -543,11 +946,13 @@ public class LinkedListBenchmark2 {
             return duration;
         }
         
-        static long getRandom(List<Object> list, Random random, boolean print) {
+        static long getRandom(List<Object> list, 
+                              IndexGenerator indexGenerator,
+                              boolean print) {
             int[] indices = new int[Bounds.NUMBER_OF_GETS];
             
             for (int i = 0; i < indices.length; i++) {
-                indices[i] = random.nextInt(indices.length);
+                indices[i] = indexGenerator.nextIndex(list.size());
             }
             
             long startTime = microseconds();
@@ -572,12 +977,12 @@ public class LinkedListBenchmark2 {
         
         static long insertCollection(List<Object> list, 
                                      List<Object> listToInsert,
-                                     Random random, 
+                                     IndexGenerator indexGenerator, 
                                      boolean print) {
             long startTime = microseconds();
             
             for (int i = 0; i < Bounds.NUMBER_OF_COLLECTION_INSERTS; i++) {
-                int index = random.nextInt(list.size() + 1);
+                int index = indexGenerator.nextIndex(list.size() + 1);
                 list.addAll(index, listToInsert);
             }
             
@@ -701,11 +1106,11 @@ public class LinkedListBenchmark2 {
         
         static long removeRandom(List<Object> list, 
                                  boolean print, 
-                                 Random random) {
+                                 IndexGenerator indexGenerator) {
             long startTime = microseconds();
 
             for (int i = 0; i < Bounds.NUMBER_OF_RANDOM_REMOVES; i++) {
-                list.remove(random.nextInt(list.size()));
+                list.remove(indexGenerator.nextIndex(list.size()));
             }
 
             long endTime = microseconds();
@@ -724,7 +1129,7 @@ public class LinkedListBenchmark2 {
         
         static long removeRange(List<Object> list,
                                 boolean print, 
-                                Random random) {
+                                IndexGenerator indexGenerator) {
             long startTime;
             long endTime;
             
@@ -733,7 +1138,7 @@ public class LinkedListBenchmark2 {
             startTime = microseconds();
             
             while (list.size() > requestedSize) {
-                int fromIndex = random.nextInt(list.size()) - 
+                int fromIndex = indexGenerator.nextIndex(list.size()) - 
                                 Bounds.REMOVE_RANGE_SIZE;
                 
                 fromIndex = Math.max(fromIndex, 0);
@@ -0,0 +1,279 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.coderodde.util;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Random;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import org.junit.Test;
+
+public class ConcurrentIndexedLinkedListTest {
+    
+    private final ConcurrentIndexedLinkedList<Integer> list = 
+            new ConcurrentIndexedLinkedList<>();
+    
+    private final List<Integer> referenceList = new ArrayList<>();
+    
+    @Test
+    public void bruteForceOperations() {
+        final Random random = new Random(13L);
+        
+        for (int iteration = 0; iteration < 5_000; iteration++) {
+            final int size = referenceList.size();
+            final int value = random.nextInt(100);
+            
+            switch (size == 0 ? 0 : random.nextInt(6)) {
+                case 0:
+                    final int index = random.nextInt(size + 1);
+                    list.add(index, value);
+                    referenceList.add(index, value);
+                    break;
+                    
+                case 1:
+                    list.addLast(value);
+                    referenceList.add(value);
+                    break;
+                    
+                case 2:
+                    final int removeIndex = random.nextInt(size);
+                    assertEquals(referenceList.remove(removeIndex), 
+                                 list.remove(removeIndex));
+                    break;
+                    
+                case 3:
+                    assertEquals(referenceList.remove((Integer) value), 
+                                 list.remove((Integer) value));
+                    break;
+                    
+                case 4:
+                    final int setIndex = random.nextInt(size);
+                    assertEquals(referenceList.set(setIndex, value), 
+                                 list.set(setIndex, value));
+                    break;
+                    
+                case 5:
+                    final int getIndex = random.nextInt(size);
+                    assertEquals(referenceList.get(getIndex), 
+                                 list.get(getIndex));
+                    assertEquals(referenceList.contains(value), 
+                                 list.contains(value));
+                    assertEquals(referenceList.lastIndexOf(value), 
+                                 list.lastIndexOf(value));
+                    break;
+            }
+            
+            assertEquals(referenceList.size(), list.size());
+        }
+        
+        assertEquals(referenceList, list);
+        list.snapshot().checkInvarant();
+    }
+    
+    @Test
+    public void iteratorTraversesSnapshot() {
+        list.addAll(Arrays.asList(1, 2, 3));
+        final Iterator<Integer> iterator = list.iterator();
+        
+        list.clear();
+        list.add(4);
+        
+        assertEquals(Integer.valueOf(1), iterator.next());
+        assertEquals(Integer.valueOf(2), iterator.next());
+        assertEquals(Integer.valueOf(3), iterator.next());
+        assertFalse(iterator.hasNext());
+        assertEquals(Arrays.asList(4), list);
+    }
+    
+    @Test(expected = UnsupportedOperationException.class)
+    public void iteratorDoesNotRemove() {
+        list.add(1);
+        final Iterator<Integer> iterator = list.iterator();
+        iterator.next();
+        iterator.remove();
+    }
+    
+    @Test
+    public void subListClear() {
+        for (int i = 0; i < 100; i++) {
+            list.add(i);
+            referenceList.add(i);
+        }
+        
+        list.subList(10, 90).clear();
+        referenceList.subList(10, 90).clear();
+        
+        assertEquals(referenceList, list);
+        
+        list.removeAll(list);
+        
+        assertTrue(list.isEmpty());
+    }
+    
+    @Test
+    public void concurrentReadersAndWriter() throws InterruptedException {
+        final int minimumSize = 10_000;
+        
+        for (int i = 0; i < minimumSize; i++) {
+            list.add(i);
+            referenceList.add(i);
+        }
+        
+        final Thread[] readers = new Thread[3];
+        final boolean[] failed = new boolean[readers.length];
+        
+        for (int t = 0; t < readers.length; t++) {
+            final int threadIndex = t;
+            
+            readers[t] = new Thread(() -> {
+                final Random random = new Random(threadIndex);
+                
+                for (int i = 0; i < 50_000; i++) {
+                    final Integer element = 
+                            list.get(random.nextInt(minimumSize));
+                    
+                    if (element == null || element < 0) {
+                        failed[threadIndex] = true;
+                    }
+                    
+                    if (list.size() < minimumSize) {
+                        failed[threadIndex] = true;
+                    }
+                    
+                    if (i % 1_000 == 0 && 
+                            list.toArray().length < minimumSize) {
+                        failed[threadIndex] = true;
+                    }
+                }
+            });
+            
+            readers[t].start();
+        }
+        
+        final Random random = new Random(26L);
+        
+        for (int i = 0; i < 20_000; i++) {
+            final int index = random.nextInt(referenceList.size() + 1);
+            final int value = random.nextInt(minimumSize);
+            
+            list.add(index, value);
+            referenceList.add(index, value);
+            
+            final int removeIndex = random.nextInt(referenceList.size());
+            
+            assertEquals(referenceList.remove(removeIndex), 
+                         list.remove(removeIndex));
+        }
+        
+        for (final Thread reader : readers) {
+            reader.join();
+        }
+        
+        for (final boolean f : failed) {
+            assertFalse(f);
+        }
+        
+        assertEquals(referenceList, list);
+        list.snapshot().checkInvarant();
+    }
+    
+    @Test
+    public void concurrentReadersAndWriterRemovingLast() 
+            throws InterruptedException {
+        final int minimumSize = 10_000;
+        
+        for (int i = 0; i < minimumSize; i++) {
+            list.add(i);
+            referenceList.add(i);
+        }
+        
+        final Thread[] readers = new Thread[3];
+        final boolean[] failed = new boolean[readers.length];
+        
+        for (int t = 0; t < readers.length; t++) {
+            final int threadIndex = t;
+            
+            readers[t] = new Thread(() -> {
+                final Random random = new Random(threadIndex);
+                
+                for (int i = 0; i < 50_000; i++) {
+                    try {
+                        final Integer element = 
+                                list.get(random.nextInt(minimumSize));
+                        
+                        if (element == null || element < 0) {
+                            failed[threadIndex] = true;
+                        }
+                    } catch (RuntimeException ex) {
+                        failed[threadIndex] = true;
+                    }
+                }
+            });
+            
+            readers[t].start();
+        }
+        
+        final Random random = new Random(27L);
+        
+        for (int i = 0; i < 20_000; i++) {
+            // Inserting at the end may put a finger on the tail node:
+            final int index = random.nextBoolean() ? 
+                              referenceList.size() :
+                              random.nextInt(referenceList.size() + 1);
+            
+            final int value = random.nextInt(minimumSize);
+            
+            list.add(index, value);
+            referenceList.add(index, value);
+            
+            assertEquals(referenceList.remove(referenceList.size() - 1), 
+                         list.removeLast());
+            
+            // Reading near the new tail must not go through the removed 
+            // node:
+            for (int j = 1; j <= 3; j++) {
+                final int tailIndex = referenceList.size() - j;
+                
+                assertEquals(referenceList.get(tailIndex), 
+                             list.get(tailIndex));
+            }
+            
+            list.add(value);
+            referenceList.add(value);
+            
+            final int removeIndex = random.nextInt(referenceList.size());
+            
+            assertEquals(referenceList.remove(removeIndex), 
+                         list.remove(removeIndex));
+        }
+        
+        for (final Thread reader : readers) {
+            reader.join();
+        }
+        
+        for (final boolean f : failed) {
+            assertFalse(f);
+        }
+        
+        assertEquals(referenceList, list);
+        list.snapshot().checkInvarant();
+    }
+}
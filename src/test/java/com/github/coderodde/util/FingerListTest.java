@@ -40,19 +40,19 @@ public class FingerListTest {
     
 //    @Test
     public void fingerListString() {
-        fl.appendFinger(new Finger<>(new Node<>(Integer.valueOf(0)), 0));
-        fl.appendFinger(new Finger<>(new Node<>(Integer.valueOf(2)), 1));
+        fl.appendFinger(new Node<>(Integer.valueOf(0)), 0);
+        fl.appendFinger(new Node<>(Integer.valueOf(2)), 1);
         assertEquals("[FingerList, size = 2]", fl.toString());
     }
 
     @Test
     public void appendGetFinger() {
-        fl.appendFinger(new Finger<>(new Node<>(Integer.valueOf(0)), 0));
-        fl.appendFinger(new Finger<>(new Node<>(Integer.valueOf(1)), 1));
-        fl.appendFinger(new Finger<>(new Node<>(Integer.valueOf(3)), 3));
-        fl.appendFinger(new Finger<>(new Node<>(Integer.valueOf(6)), 6));
-        fl.fingerArray[4].index = 8;
-        fl.fingerArray[4].node = new Node<>(Integer.valueOf(1000));
+        fl.appendFinger(new Node<>(Integer.valueOf(0)), 0);
+        fl.appendFinger(new Node<>(Integer.valueOf(1)), 1);
+        fl.appendFinger(new Node<>(Integer.valueOf(3)), 3);
+        fl.appendFinger(new Node<>(Integer.valueOf(6)), 6);
+        fl.fingerIndexArray[4] = 8;
+        fl.fingerNodeArray[4] = new Node<>(Integer.valueOf(1000));
         
         Finger<Integer> finger = fl.get(fl.getClosestFingerIndex(0));
         assertEquals(0, finger.index);
@@ -85,10 +85,10 @@ public class FingerListTest {
     
 //    @Test
     public void insertFingerAtFront() {
-        fl.appendFinger(new Finger<>(new Node<>(Integer.valueOf(0)), 0));
-        fl.appendFinger(new Finger<>(new Node<>(Integer.valueOf(1)), 1));
-        fl.appendFinger(new Finger<>(new Node<>(Integer.valueOf(3)), 3));
-        fl.appendFinger(new Finger<>(new Node<>(Integer.valueOf(6)), 6));
+        fl.appendFinger(new Node<>(Integer.valueOf(0)), 0);
+        fl.appendFinger(new Node<>(Integer.valueOf(1)), 1);
+        fl.appendFinger(new Node<>(Integer.valueOf(3)), 3);
+        fl.appendFinger(new Node<>(Integer.valueOf(6)), 6);
         
         Finger<Integer> insertionFinger = new Finger<>(new Node<>(null), 0);
         
@@ -102,13 +102,12 @@ public class FingerListTest {
     
 //    @Test
     public void insertFingerAtTail() {
-        fl.appendFinger(new Finger<>(new Node<>(Integer.valueOf(2)), 2));
-        fl.appendFinger(new Finger<>(new Node<>(Integer.valueOf(4)), 4));
-        fl.appendFinger(new Finger<>(new Node<>(Integer.valueOf(5)), 5));
+        fl.appendFinger(new Node<>(Integer.valueOf(2)), 2);
+        fl.appendFinger(new Node<>(Integer.valueOf(4)), 4);
+        fl.appendFinger(new Node<>(Integer.valueOf(5)), 5);
         
         // Add end of finger list sentinel:
-        fl.fingerArray[3] = 
-                new Finger<>(new Node<Integer>(Integer.valueOf(100)), 10);
+        fl.setFinger(3, new Node<Integer>(Integer.valueOf(100)), 10);
         
         Finger<Integer> insertionFinger = new Finger<>(new Node<>(null), 6);
         
@@ -122,9 +121,9 @@ public class FingerListTest {
     
 //    @Test
     public void insertFingerInBetween1() {
-        fl.appendFinger(new Finger<>(new Node<>(Integer.valueOf(2)), 2));
-        fl.appendFinger(new Finger<>(new Node<>(Integer.valueOf(4)), 4));
-        fl.appendFinger(new Finger<>(new Node<>(Integer.valueOf(5)), 5));
+        fl.appendFinger(new Node<>(Integer.valueOf(2)), 2);
+        fl.appendFinger(new Node<>(Integer.valueOf(4)), 4);
+        fl.appendFinger(new Node<>(Integer.valueOf(5)), 5);
         
         Finger<Integer> insertionFinger = new Finger<>(new Node<>(null), 4);
         
@@ -135,9 +134,9 @@ public class FingerListTest {
     
 //    @Test
     public void insertFingerInBetween2() {
-        fl.appendFinger(new Finger<>(new Node<>(Integer.valueOf(2)), 2));
-        fl.appendFinger(new Finger<>(new Node<>(Integer.valueOf(4)), 4));
-        fl.appendFinger(new Finger<>(new Node<>(Integer.valueOf(5)), 5));
+        fl.appendFinger(new Node<>(Integer.valueOf(2)), 2);
+        fl.appendFinger(new Node<>(Integer.valueOf(4)), 4);
+        fl.appendFinger(new Node<>(Integer.valueOf(5)), 5);
         
         Finger<Integer> insertionFinger = new Finger<>(new Node<>(null), 3);
         
@@ -145,4 +144,18 @@ public class FingerListTest {
         
         assertEquals(insertionFinger, fl.get(1));
     }
-}
\ No newline at end of file
+    
+    @Test
+    public void getReturnsSnapshot() {
+        Node<Integer> node = new Node<>(Integer.valueOf(3));
+        fl.appendFinger(node, 3);
+        
+        Finger<Integer> finger = fl.get(0);
+        finger.index = 100;
+        finger.node = null;
+        
+        assertEquals(3, fl.getElementIndex(0));
+        assertEquals(node, fl.getFingerNode(0));
+        assertEquals(new Finger<>(node, 3), fl.get(0));
+    }
+}
@@ -24,6 +24,9 @@ import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.ObjectInputStream;
 import java.io.ObjectOutputStream;
+import java.lang.management.ManagementFactory;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
@@ -43,6 +46,11 @@ import java.util.Set;
 import java.util.Spliterator;
 import java.util.function.Consumer;
 import java.util.stream.Collectors;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
 import org.junit.Assert;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
@@ -309,8 +317,8 @@ public class IndexedLinkedListTest {
         list.add(12);
         list.add(13);
         
-        list.fingerList.fingerArray[0].index = 1;
-        list.fingerList.fingerArray[1].index = 0;
+        list.fingerList.fingerIndexArray[0] = 1;
+        list.fingerList.fingerIndexArray[1] = 0;
         
         list.checkInvarant();
     }
@@ -321,7 +329,7 @@ public class IndexedLinkedListTest {
         list.add(12);
         list.add(13);
         
-        list.fingerList.fingerArray[list.fingerList.size()].index = 
+        list.fingerList.fingerIndexArray[list.fingerList.size()] = 
                 list.fingerList.size() + 10;
         
         list.checkInvarant();
@@ -333,7 +341,7 @@ public class IndexedLinkedListTest {
         list.add(12);
         list.add(13);
         
-        list.fingerList.fingerArray[list.fingerList.size()].node = 
+        list.fingerList.fingerNodeArray[list.fingerList.size()] = 
                 new Node<>(null);
         
         list.checkInvarant();
@@ -355,8 +363,8 @@ public class IndexedLinkedListTest {
         list.add(12);
         list.add(13);
         
-        list.fingerList.fingerArray[2] = new Finger<>(new Node<>(100), 2);
-        list.fingerList.fingerArray[3] = new Finger<>(null, 3);
+        list.fingerList.setFinger(2, new Node<>(100), 2);
+        list.fingerList.setFinger(3, null, 3);
         list.fingerList.size = 3;
         
         list.checkInvarant();
@@ -371,14 +379,14 @@ public class IndexedLinkedListTest {
     ////@Test // Passes.
     public void debugAdjustOnRemoveFirst() {
         list.addAll(Arrays.asList(0, 1, 2, 3, 4));
-        list.fingerList.fingerArray[0].index = 0;
-        list.fingerList.fingerArray[1].index = 1;
-        list.fingerList.fingerArray[2].index = 3;
-        list.fingerList.fingerArray[3].index = 5;
+        list.fingerList.fingerIndexArray[0] = 0;
+        list.fingerList.fingerIndexArray[1] = 1;
+        list.fingerList.fingerIndexArray[2] = 3;
+        list.fingerList.fingerIndexArray[3] = 5;
         
-        list.fingerList.fingerArray[0].node = list.head;
-        list.fingerList.fingerArray[1].node = list.head.next;
-        list.fingerList.fingerArray[2].node = list.head.next.next.next;
+        list.fingerList.fingerNodeArray[0] = list.head;
+        list.fingerList.fingerNodeArray[1] = list.head.next;
+        list.fingerList.fingerNodeArray[2] = list.head.next.next.next;
         
         list.removeFirst();
         list.checkInvarant();
@@ -538,18 +546,17 @@ public class IndexedLinkedListTest {
     ////@Test // Passes.
     public void moveFingerOutOfRemovalLocation() {
         list.addAll(getIntegerList(16));
-        list.fingerList.fingerArray[0] =
-                new Finger<>(list.tail.prev.prev.prev, 12);
+        list.fingerList.setFinger(0, list.tail.prev.prev.prev, 12);
         
-        list.fingerList.fingerArray[1] = new Finger<>(list.tail.prev.prev, 13);
-        list.fingerList.fingerArray[2] = new Finger<>(list.tail.prev, 14);
-        list.fingerList.fingerArray[3] = new Finger<>(list.tail, 15);
+        list.fingerList.setFinger(1, list.tail.prev.prev, 13);
+        list.fingerList.setFinger(2, list.tail.prev, 14);
+        list.fingerList.setFinger(3, list.tail, 15);
         
         list.checkInvarant();
         list.remove(12);
         list.checkInvarant();
         
-        Finger<Integer> finger = list.fingerList.fingerArray[0];
+        Finger<Integer> finger = list.fingerList.get(0);
         
         assertEquals(Integer.valueOf(11), finger.node.item);
         assertEquals(11, finger.index);
@@ -794,7 +801,7 @@ public class IndexedLinkedListTest {
         
         list.clear();
         list.addAll(getIntegerList(12));
-        list.fingerList.fingerArray[1] = new Finger(list.fingerList.getNode(6), 6);
+        list.fingerList.setFinger(1, list.fingerList.getNode(6), 6);
         
         list.subList(1, 6).clear();
         list.checkInvarant();
@@ -867,6 +874,81 @@ public class IndexedLinkedListTest {
         }
     }
     
+    @Test
+    public void removeRangeInsideShortList() {
+        list.addAll(Arrays.asList(0, 1, 2, 3));
+        list.subList(1, 3).clear();
+        list.checkInvarant();
+        assertEquals(Arrays.asList(0, 3), list);
+    }
+    
+    @Test
+    public void removeRangeAllRangesOfSmallLists() {
+        // Covers, among others, clearing [0, 2) of a four-element list, 
+        // which crashed, and clearing [1, 5) of a six-element list, which 
+        // corrupted the finger count:
+        for (int listSize = 1; listSize <= 12; listSize++) {
+            for (int fromIndex = 0; fromIndex < listSize; fromIndex++) {
+                for (int toIndex = fromIndex + 1; 
+                        toIndex <= listSize; 
+                        toIndex++) {
+                    list.clear();
+                    list.addAll(getIntegerList(listSize));
+                    
+                    final List<Integer> expectedList = 
+                            getIntegerList(listSize);
+                    
+                    list.subList(fromIndex, toIndex).clear();
+                    expectedList.subList(fromIndex, toIndex).clear();
+                    
+                    list.checkInvarant();
+                    assertEquals(expectedList, list);
+                }
+            }
+        }
+    }
+    
+    @Test
+    public void removeRangeRandomized() {
+        Random random = new Random(1023L);
+        
+        for (boolean lazy : new boolean[]{ false, true }) {
+            for (int iteration = 0; iteration < 300; iteration++) {
+                list.clear();
+                referenceList.clear();
+                list.setLazyFingerIndices(lazy);
+                
+                int listSize = 2 + random.nextInt(2_000);
+                list.addAll(getIntegerList(listSize));
+                referenceList.addAll(list);
+                
+                while (!list.isEmpty()) {
+                    int fromIndex = random.nextInt(list.size());
+                    int toIndex = 
+                            fromIndex 
+                            + random.nextInt(
+                                    Math.min(list.size() - fromIndex, 100)) 
+                            + 1;
+                    
+                    list.subList(fromIndex, toIndex).clear();
+                    referenceList.subList(fromIndex, toIndex).clear();
+                    list.checkInvarant();
+                    
+                    // Interleave the lookups that move the fingers:
+                    if (!list.isEmpty()) {
+                        int index = random.nextInt(list.size());
+                        assertEquals(referenceList.get(index), 
+                                     list.get(index));
+                    }
+                }
+                
+                assertEquals(referenceList, list);
+            }
+        }
+        
+        list.setLazyFingerIndices(false);
+    }
+    
     //@Test
     public void removeRangeSmall1() {
         list.addAll(getIntegerList(9));
@@ -3674,9 +3756,12 @@ public class IndexedLinkedListTest {
         Spliterator<Integer> spliterator2 = spliterator1.trySplit();
 
         //// spliterator 2 : spliterator 1
+        
+        // The split point is aligned to the finger closest to the middle:
+        long spliterator1Size = spliterator1.getExactSizeIfKnown();
 
-        assertEquals(5000, spliterator1.getExactSizeIfKnown());
-        assertEquals(5000, spliterator2.getExactSizeIfKnown());
+        assertEquals(10_000, spliterator1Size 
+                           + spliterator2.getExactSizeIfKnown());
 
 
         assertTrue(spliterator2.tryAdvance(
@@ -3703,7 +3788,7 @@ public class IndexedLinkedListTest {
 
         Spliterator<Integer> spliterator3 = spliterator2.trySplit();
 
-        assertEquals(4997, spliterator1.getExactSizeIfKnown());
+        assertEquals(spliterator1Size - 3, spliterator1.getExactSizeIfKnown());
 
         assertTrue(spliterator3.tryAdvance(
                 i -> assertEquals(list.get(3), Integer.valueOf(3))));
@@ -3722,7 +3807,7 @@ public class IndexedLinkedListTest {
 
         for (int i = 0; i < consumer.ints.size(); i++) {
             Integer actualInteger = consumer.ints.get(i);
-            Integer expectedInteger = 5003 + i;
+            Integer expectedInteger = 10_000 - (int) spliterator1Size + 3 + i;
             assertEquals(expectedInteger, actualInteger);
         }
     }
@@ -3749,15 +3834,19 @@ public class IndexedLinkedListTest {
         MyIntegerConsumer consumerRight = new MyIntegerConsumer();
         MyIntegerConsumer consumerLeft = new MyIntegerConsumer();
 
+        // The split point is aligned to the finger closest to the middle:
+        int splitIndex = (int) splitLeft.getExactSizeIfKnown();
+        
         splitRight.forEachRemaining(consumerRight);
         splitLeft.forEachRemaining(consumerLeft);
 
-        for (int i = 0; i < 5_000; i++) {
+        for (int i = 0; i < splitIndex; i++) {
             assertEquals(Integer.valueOf(i), consumerLeft.ints.get(i));
         }
 
-        for (int i = 5_000; i < 10_000; i++) {
-            assertEquals(Integer.valueOf(i), consumerRight.ints.get(i - 5_000));
+        for (int i = splitIndex; i < 10_000; i++) {
+            assertEquals(Integer.valueOf(i), 
+                         consumerRight.ints.get(i - splitIndex));
         }
     }
 
@@ -3771,9 +3860,12 @@ public class IndexedLinkedListTest {
                         i -> assertEquals(Integer.valueOf(0), i)));
 
         Spliterator<Integer> leftSpliterator = rightSpliterator.trySplit();
+        
+        // The split point is aligned to the finger closest to the middle:
+        int splitIndex = 1 + (int) leftSpliterator.getExactSizeIfKnown();
 
-        assertEquals(4_999, rightSpliterator.getExactSizeIfKnown());
-        assertEquals(5_000, leftSpliterator.getExactSizeIfKnown());
+        assertEquals(9_999, rightSpliterator.getExactSizeIfKnown() 
+                          + leftSpliterator.getExactSizeIfKnown());
 
         // Check two leftmost elements of the left spliterator:
         assertTrue(leftSpliterator.tryAdvance(
@@ -3784,10 +3876,10 @@ public class IndexedLinkedListTest {
 
         // Check two leftmost elements of the right splliterator:
         assertTrue(rightSpliterator.tryAdvance(
-                i -> assertEquals(Integer.valueOf(5_000), i)));
+                i -> assertEquals(Integer.valueOf(splitIndex), i)));
 
         assertTrue(rightSpliterator.tryAdvance(
-                i -> assertEquals(Integer.valueOf(5_001), i)));
+                i -> assertEquals(Integer.valueOf(splitIndex + 1), i)));
     }
 
     ////@Test
@@ -3803,27 +3895,32 @@ public class IndexedLinkedListTest {
 
         assertEquals(5998, split.getExactSizeIfKnown());
 
-        // 5998 elements left / 2 = 2999 per spliterator:
+        // 5998 elements left / 2 = 2999 per spliterator, give or take the 
+        // distance to the closest finger:
         Spliterator leftSpliterator = split.trySplit();
 
         assertNotNull(leftSpliterator);
-        assertEquals(2999, split.getExactSizeIfKnown());
-        assertEquals(2999, leftSpliterator.getExactSizeIfKnown());
+        assertEquals(5998, split.getExactSizeIfKnown() 
+                         + leftSpliterator.getExactSizeIfKnown());
+        
+        int splitIndex = 2 + (int) leftSpliterator.getExactSizeIfKnown();
 
-        //// leftSpliterator = [1, 2999]
+        //// leftSpliterator = [2, splitIndex - 1]
 
-        for (int i = 2; i < 3000; i++) {
+        for (int i = 2; i < splitIndex; i++) {
             Integer integer = list.get(i);
             assertTrue(
                     leftSpliterator.tryAdvance(
                             (j) -> assertEquals(integer, j)));
         }
+        
+        assertFalse(leftSpliterator.tryAdvance(i -> {}));
 
-        //// split = [3001, 5999]
+        //// split = [splitIndex, 5999]
 
-        assertTrue(split.tryAdvance(i -> assertEquals(2999, i)));
-        assertTrue(split.tryAdvance(i -> assertEquals(3000, i)));
-        assertTrue(split.tryAdvance(i -> assertEquals(3001, i)));
+        assertTrue(split.tryAdvance(i -> assertEquals(splitIndex, i)));
+        assertTrue(split.tryAdvance(i -> assertEquals(splitIndex + 1, i)));
+        assertTrue(split.tryAdvance(i -> assertEquals(splitIndex + 2, i)));
 
         while (split.getExactSizeIfKnown() > 0) {
             split.tryAdvance(i -> {});
@@ -4270,4 +4367,1785 @@ public class IndexedLinkedListTest {
             }
         }
     }
+    
+    @Test
+    public void lazyFingerIndicesRandomized() {
+        final Random random = new Random(1001L);
+        list.setLazyFingerIndices(true);
+        assertTrue(list.isLazyFingerIndices());
+        
+        for (int iteration = 0; iteration < 5_000; iteration++) {
+            final int coin = random.nextInt(6);
+            
+            switch (coin) {
+                case 0:
+                case 1: {
+                    final int index = random.nextInt(list.size() + 1);
+                    final Integer datum = random.nextInt(1000);
+                    list.add(index, datum);
+                    referenceList.add(index, datum);
+                    break;
+                }
+                    
+                case 2:
+                    list.addLast(iteration);
+                    referenceList.add(iteration);
+                    break;
+                    
+                case 3:
+                    if (!list.isEmpty()) {
+                        final int index = random.nextInt(list.size());
+                        assertEquals(referenceList.remove(index), 
+                                     list.remove(index));
+                    }
+                    
+                    break;
+                    
+                case 4:
+                    if (!list.isEmpty()) {
+                        assertEquals(referenceList.remove(0), 
+                                     list.removeFirst());
+                    }
+                    
+                    break;
+                    
+                case 5:
+                    if (!list.isEmpty()) {
+                        final int index = random.nextInt(list.size());
+                        assertEquals(referenceList.get(index), 
+                                     list.get(index));
+                    }
+                    
+                    break;
+            }
+            
+            list.checkInvarant();
+        }
+        
+        assertEquals(referenceList, list);
+    }
+    
+    @Test
+    public void lazyFingerIndicesToggle() {
+        list.addAll(getIntegerList(100));
+        referenceList.addAll(list);
+        list.setLazyFingerIndices(true);
+        
+        for (int i = 0; i < 30; i++) {
+            list.remove(3 * i);
+            referenceList.remove(3 * i);
+            list.add(2 * i, -i);
+            referenceList.add(2 * i, -i);
+        }
+        
+        list.setLazyFingerIndices(false);
+        assertFalse(list.isLazyFingerIndices());
+        list.checkInvarant();
+        assertEquals(referenceList, list);
+    }
+    
+    @Test
+    public void lazyFingerIndicesClearDropsPendingShifts() {
+        list.setLazyFingerIndices(true);
+        list.addAll(getIntegerList(100));
+        
+        for (int i = 0; i < 10; i++) {
+            list.add(5, -i);
+        }
+        
+        assertTrue(list.fingerList.hasPendingShifts());
+        
+        list.clear();
+        assertFalse(list.fingerList.hasPendingShifts());
+        
+        list.addAll(getIntegerList(50));
+        referenceList.addAll(getIntegerList(50));
+        list.add(3, -1);
+        referenceList.add(3, -1);
+        list.checkInvarant();
+        assertEquals(referenceList, list);
+    }
+    
+    @Test
+    public void fingerSearchStrategiesAgree() {
+        final Random random = new Random(1003L);
+        list.addAll(getIntegerList(2_000));
+        referenceList.addAll(list);
+        
+        for (final FingerSearchStrategy strategy 
+                : FingerSearchStrategy.values()) {
+            
+            list.setFingerSearchStrategy(strategy);
+            assertEquals(strategy, list.getFingerSearchStrategy());
+            
+            for (int iteration = 0; iteration < 1_000; iteration++) {
+                final int index = random.nextInt(list.size());
+                
+                switch (random.nextInt(3)) {
+                    case 0:
+                        list.add(index, -iteration);
+                        referenceList.add(index, -iteration);
+                        break;
+                        
+                    case 1:
+                        assertEquals(referenceList.remove(index), 
+                                     list.remove(index));
+                        break;
+                        
+                    case 2:
+                        assertEquals(referenceList.get(index), 
+                                     list.get(index));
+                        break;
+                }
+            }
+            
+            list.checkInvarant();
+            assertEquals(referenceList, list);
+        }
+        
+        final int[] expected = new int[list.size() + 1];
+        list.setFingerSearchStrategy(FingerSearchStrategy.BINARY);
+        
+        for (int i = 0; i <= list.size(); i++) {
+            expected[i] = list.fingerList.getFingerIndexImpl(i);
+        }
+        
+        for (final FingerSearchStrategy strategy 
+                : FingerSearchStrategy.values()) {
+            
+            list.setFingerSearchStrategy(strategy);
+            
+            for (int i = 0; i <= list.size(); i++) {
+                assertEquals(expected[i], 
+                             list.fingerList.getFingerIndexImpl(i));
+            }
+        }
+    }
+    
+    @Test
+    public void nodePoolQueueChurn() {
+        list.setNodePoolCapacity(16);
+        assertEquals(16, list.getNodePoolCapacity());
+        
+        for (int i = 0; i < 10; i++) {
+            list.addLast(i);
+            referenceList.add(i);
+        }
+        
+        assertEquals(0L, list.getNodePoolHits());
+        assertEquals(10L, list.getNodePoolMisses());
+        
+        for (int i = 10; i < 1_010; i++) {
+            assertEquals(referenceList.remove(0), list.removeFirst());
+            list.addLast(i);
+            referenceList.add(i);
+            list.checkInvarant();
+        }
+        
+        assertEquals(1_000L, list.getNodePoolHits());
+        assertEquals(10L, list.getNodePoolMisses());
+        assertEquals(0, list.getNodePoolSize());
+        assertEquals(referenceList, list);
+    }
+    
+    @Test
+    public void nodePoolCapacityIsRespected() {
+        list.setNodePoolCapacity(5);
+        list.addAll(getIntegerList(20));
+        referenceList.addAll(list);
+        
+        for (int i = 0; i < 12; i++) {
+            if (i % 2 == 0) {
+                assertEquals(referenceList.remove(0), list.removeFirst());
+            } else {
+                assertEquals(referenceList.remove(referenceList.size() - 1), 
+                             list.removeLast());
+            }
+        }
+        
+        assertEquals(5, list.getNodePoolSize());
+        
+        list.add(3, 100);
+        referenceList.add(3, 100);
+        list.addFirst(-1);
+        referenceList.add(0, -1);
+        
+        assertEquals(2L, list.getNodePoolHits());
+        assertEquals(3, list.getNodePoolSize());
+        
+        list.setNodePoolCapacity(1);
+        assertEquals(1, list.getNodePoolSize());
+        
+        list.setNodePoolCapacity(0);
+        assertEquals(0, list.getNodePoolSize());
+        
+        list.remove(2);
+        referenceList.remove(2);
+        assertEquals(0, list.getNodePoolSize());
+        
+        list.checkInvarant();
+        assertEquals(referenceList, list);
+    }
+    
+    @Test
+    public void nodePoolRemoveLastWithFingersOnTail() {
+        list.setNodePoolCapacity(16);
+        list.addAll(getIntegerList(100));
+        referenceList.addAll(list);
+        
+        // Pack all the fingers against the tail:
+        int numberOfFingers = list.getFingerListSize();
+        int[] fingerIndices = new int[numberOfFingers];
+        
+        for (int i = 0; i < numberOfFingers; i++) {
+            fingerIndices[i] = 100 - numberOfFingers + i;
+        }
+        
+        list.fingerList.setFingerIndices(fingerIndices);
+        
+        for (int i = 0; i < 5; i++) {
+            assertEquals(referenceList.remove(referenceList.size() - 1), 
+                         list.removeLast());
+            
+            // Reuses the node just removed:
+            list.addFirst(777 + i);
+            referenceList.add(0, 777 + i);
+            list.checkInvarant();
+        }
+        
+        for (int i = 0; i < referenceList.size(); i++) {
+            assertEquals(referenceList.get(i), list.get(i));
+        }
+        
+        assertEquals(referenceList, list);
+    }
+    
+    @Test(expected = IllegalArgumentException.class)
+    public void nodePoolThrowsOnNegativeCapacity() {
+        list.setNodePoolCapacity(-1);
+    }
+    
+    @Test
+    public void fingerMetricsDisabledByDefault() {
+        list.addAll(getIntegerList(100));
+        list.get(50);
+        list.remove(30);
+        
+        assertFalse(list.isFingerMetrics());
+        
+        FingerMetrics metrics = list.getFingerMetrics();
+        
+        assertEquals(0L, metrics.getNodeLookups());
+        assertEquals(0L, metrics.getFingerSearches());
+        assertEquals(0L, metrics.getRemovalShifts());
+        assertEquals(99, metrics.getListSize());
+        assertEquals(list.fingerList.size(), metrics.getNumberOfFingers());
+    }
+    
+    @Test
+    public void fingerMetricsCountLookups() {
+        list.setFingerMetrics(true);
+        assertTrue(list.isFingerMetrics());
+        
+        list.add(1);
+        list.add(2);
+        list.get(1);
+        
+        FingerMetrics metrics = list.getFingerMetrics();
+        
+        assertEquals(1L, metrics.getNodeLookups());
+        assertEquals(1L, metrics.getNodeHops());
+        assertEquals(0L, metrics.getFingerRewindHops());
+        assertEquals(1L, metrics.getHopHistogram()[1]);
+        
+        list.addAll(getIntegerList(1_000));
+        list.resetFingerMetrics();
+        
+        Random random = new Random(1024L);
+        
+        for (int i = 0; i < 100; i++) {
+            list.get(random.nextInt(list.size()));
+        }
+        
+        metrics = list.getFingerMetrics();
+        
+        assertEquals(100L, metrics.getNodeLookups());
+        assertEquals(100L, metrics.getFingerSearches());
+        assertTrue(metrics.getFingerSearchProbes() >= 100L);
+        assertEquals(100L, 
+                     Arrays.stream(metrics.getHopHistogram()).sum());
+        
+        assertEquals((double)(metrics.getNodeHops() 
+                            + metrics.getFingerRewindHops()) / 100.0,
+                     metrics.getAverageHopsPerLookup(),
+                     1e-9);
+        
+        list.setFingerMetrics(false);
+        assertEquals(0L, list.getFingerMetrics().getNodeLookups());
+    }
+    
+    @Test
+    public void mxBeanPublishesListHealth() throws Exception {
+        list.addAll(getIntegerList(1_000));
+        
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        ObjectName name = list.registerMXBean("mxBeanPublishesListHealth");
+        
+        try {
+            assertTrue(server.isRegistered(name));
+            assertEquals(1_000, server.getAttribute(name, "Size"));
+            assertEquals(list.getFingerListSize(), 
+                         server.getAttribute(name, "NumberOfFingers"));
+            
+            assertEquals(list.fingerList.fingerIndexArray.length,
+                         server.getAttribute(name, "FingerArrayCapacity"));
+            
+            assertEquals(list.getEntropy(), 
+                         (double) server.getAttribute(name, "Entropy"), 
+                         1e-9);
+            
+            assertEquals(list.modCount, 
+                         server.getAttribute(name, "ModificationCount"));
+            
+            try {
+                list.registerMXBean("mxBeanPublishesListHealth");
+                fail("Registering twice must fail.");
+            } catch (IllegalStateException ex) {
+                
+            }
+        } finally {
+            list.unregisterMXBean();
+        }
+        
+        assertFalse(server.isRegistered(name));
+        list.unregisterMXBean();
+    }
+    
+    @Test
+    public void flightRecorderEventsOnExpensiveOperations() throws Exception {
+        list.addAll(getIntegerList(1_000));
+        Collections.shuffle(list, new Random(1L));
+        Path path = Files.createTempFile("IndexedLinkedListTest", ".jfr");
+        
+        try (Recording recording = new Recording()) {
+            recording.enable("com.github.coderodde.util.ListOperation")
+                     .withoutThreshold();
+            
+            recording.start();
+            list.sort(Integer::compare);
+            list.optimize();
+            list.subList(100, 300).clear();
+            recording.stop();
+            recording.dump(path);
+        }
+        
+        Set<String> operations = new HashSet<>();
+        
+        for (RecordedEvent event : RecordingFile.readAllEvents(path)) {
+            operations.add(event.getString("operation"));
+            assertTrue(event.getInt("listSize") >= 800);
+        }
+        
+        Files.delete(path);
+        
+        assertTrue(operations.contains("sort"));
+        assertTrue(operations.contains("optimize"));
+        assertTrue(operations.contains("distributeFingers"));
+        assertTrue(operations.contains("removeRange"));
+    }
+    
+    @Test
+    public void fingerMetricsCountShifts() {
+        list.addAll(getIntegerList(1_000));
+        
+        for (FingerSearchStrategy strategy : FingerSearchStrategy.values()) {
+            list.setFingerSearchStrategy(strategy);
+            list.setFingerMetrics(true);
+            
+            list.add(500, -1);
+            list.remove(500);
+            list.subList(100, 200).clear();
+            list.addAll(100, getIntegerList(100));
+            
+            FingerMetrics metrics = list.getFingerMetrics();
+            
+            assertEquals(2L, metrics.getInsertionShifts());
+            assertEquals(2L, metrics.getRemovalShifts());
+            assertTrue(metrics.getShiftedFingers() > 0L);
+            assertTrue(metrics.getFingerSearchProbes() 
+                    >= metrics.getFingerSearches());
+            
+            list.setFingerMetrics(false);
+        }
+        
+        list.checkInvarant();
+    }
+    
+    @Test
+    public void bulkRemovalRandomized() {
+        final Random random = new Random(1005L);
+        
+        for (int iteration = 0; iteration < 200; iteration++) {
+            list.clear();
+            referenceList.clear();
+            
+            final int listSize = random.nextInt(300);
+            
+            for (int i = 0; i < listSize; i++) {
+                final Integer datum = random.nextInt(20);
+                list.add(datum);
+                referenceList.add(datum);
+            }
+            
+            final int fromIndex = random.nextInt(listSize + 1);
+            final int toIndex = 
+                    fromIndex + random.nextInt(listSize - fromIndex + 1);
+            
+            final Set<Integer> set = new HashSet<>();
+            
+            for (int i = random.nextInt(10); i > 0; i--) {
+                set.add(random.nextInt(20));
+            }
+            
+            switch (random.nextInt(3)) {
+                case 0:
+                    assertEquals(
+                            referenceList.subList(fromIndex, toIndex)
+                                         .removeAll(set),
+                            list.subList(fromIndex, toIndex).removeAll(set));
+                    break;
+                    
+                case 1:
+                    assertEquals(
+                            referenceList.subList(fromIndex, toIndex)
+                                         .retainAll(set),
+                            list.subList(fromIndex, toIndex).retainAll(set));
+                    break;
+                    
+                case 2:
+                    assertEquals(referenceList.removeIf(set::contains),
+                                 list.removeIf(set::contains));
+                    break;
+            }
+            
+            list.checkInvarant();
+            assertEquals(referenceList, list);
+            
+            for (int i = 0; i < list.size(); i++) {
+                assertEquals(referenceList.get(i), list.get(i));
+            }
+        }
+    }
+    
+    @Test
+    public void removeIfKeepsListConsistentWhenFilterThrows() {
+        list.addAll(getIntegerList(100));
+        referenceList.addAll(list);
+        
+        try {
+            list.removeIf((i) -> {
+                if (i == 60) {
+                    throw new IllegalStateException();
+                }
+                
+                return i % 3 == 0;
+            });
+            
+            fail("The filter should have thrown.");
+        } catch (IllegalStateException ex) {
+            
+        }
+        
+        referenceList.removeIf((i) -> i < 60 && i % 3 == 0);
+        list.checkInvarant();
+        assertEquals(referenceList, list);
+        
+        for (int i = 0; i < list.size(); i++) {
+            assertEquals(referenceList.get(i), list.get(i));
+        }
+    }
+    
+    @Test
+    public void naturalMergeSortIsStable() {
+        final Random random = new Random(1007L);
+        final IndexedLinkedList<int[]> pairs = new IndexedLinkedList<>();
+        final List<int[]> referencePairs = new ArrayList<>();
+        
+        pairs.setSortStrategy(SortStrategy.NATURAL_MERGE);
+        assertEquals(SortStrategy.NATURAL_MERGE, pairs.getSortStrategy());
+        
+        for (int i = 0; i < 1_000; i++) {
+            final int[] pair = { random.nextInt(30), i };
+            pairs.add(pair);
+            referencePairs.add(pair);
+        }
+        
+        final Comparator<int[]> cmp = (p1, p2) -> Integer.compare(p1[0], 
+                                                                  p2[0]);
+        pairs.sort(cmp);
+        referencePairs.sort(cmp);
+        
+        pairs.checkInvarant();
+        
+        for (int i = 0; i < pairs.size(); i++) {
+            assertTrue(referencePairs.get(i) == pairs.get(i));
+        }
+    }
+    
+    @Test
+    public void naturalMergeSortSubLists() {
+        final Random random = new Random(1009L);
+        list.setSortStrategy(SortStrategy.NATURAL_MERGE);
+        
+        for (int iteration = 0; iteration < 100; iteration++) {
+            list.clear();
+            referenceList.clear();
+            
+            final int listSize = random.nextInt(200);
+            
+            for (int i = 0; i < listSize; i++) {
+                final Integer datum = random.nextInt(50);
+                list.add(datum);
+                referenceList.add(datum);
+            }
+            
+            final int fromIndex = random.nextInt(listSize + 1);
+            final int toIndex = 
+                    fromIndex + random.nextInt(listSize - fromIndex + 1);
+            
+            final List<Integer> subList = list.subList(fromIndex, toIndex);
+            
+            subList.sort(null);
+            referenceList.subList(fromIndex, toIndex).sort(null);
+            
+            assertEquals(toIndex - fromIndex, subList.size());
+            list.checkInvarant();
+            assertEquals(referenceList, list);
+            
+            // Checks the prev links as well:
+            final Iterator<Integer> iterator = list.descendingIterator();
+            
+            for (int i = list.size() - 1; i >= 0; i--) {
+                assertEquals(referenceList.get(i), iterator.next());
+                assertEquals(referenceList.get(i), list.get(i));
+            }
+            
+            assertFalse(iterator.hasNext());
+        }
+        
+        list.sort(Comparator.reverseOrder());
+        referenceList.sort(Comparator.reverseOrder());
+        assertEquals(referenceList, list);
+    }
+    
+    @Test
+    public void naturalMergeSortKeepsListConsistentWhenComparatorThrows() {
+        list.setSortStrategy(SortStrategy.NATURAL_MERGE);
+        list.addAll(getIntegerList(100));
+        Collections.shuffle(list, new Random(1011L));
+        
+        try {
+            list.sort((i1, i2) -> {
+                if (i1 == 50 || i2 == 50) {
+                    throw new IllegalStateException();
+                }
+                
+                return Integer.compare(i1, i2);
+            });
+            
+            fail("The comparator should have thrown.");
+        } catch (IllegalStateException ex) {
+            
+        }
+        
+        list.checkInvarant();
+        assertEquals(100, list.size());
+        assertEquals(new HashSet<>(getIntegerList(100)), new HashSet<>(list));
+        
+        list.sort(null);
+        assertEquals(getIntegerList(100), list);
+    }
+    
+    @Test
+    public void parallelSortIsStable() {
+        final Random random = new Random(1013L);
+        final IndexedLinkedList<int[]> pairs = new IndexedLinkedList<>();
+        final List<int[]> referencePairs = new ArrayList<>();
+        
+        for (int i = 0; i < 100_000; i++) {
+            final int[] pair = { random.nextInt(100), i };
+            pairs.add(pair);
+            referencePairs.add(pair);
+        }
+        
+        final Comparator<int[]> cmp = (p1, p2) -> Integer.compare(p1[0], 
+                                                                  p2[0]);
+        pairs.parallelSort(cmp);
+        referencePairs.sort(cmp);
+        
+        pairs.checkInvarant();
+        
+        for (int i = 0; i < pairs.size(); i++) {
+            assertTrue(referencePairs.get(i) == pairs.get(i));
+        }
+    }
+    
+    @Test
+    public void parallelSortSubList() {
+        final Random random = new Random(1015L);
+        list.setLazyFingerIndices(true);
+        
+        for (int i = 0; i < 60_000; i++) {
+            final Integer datum = random.nextInt(1_000);
+            list.add(random.nextInt(list.size() + 1), datum);
+        }
+        
+        referenceList.addAll(list);
+        
+        final IndexedLinkedList<Integer>.EnhancedSubList subList = 
+                (IndexedLinkedList<Integer>.EnhancedSubList) 
+                list.subList(1_000, 55_000);
+        
+        subList.parallelSort(null);
+        referenceList.subList(1_000, 55_000).sort(null);
+        
+        assertEquals(54_000, subList.size());
+        list.checkInvarant();
+        assertEquals(referenceList, list);
+        
+        for (int i = 0; i < list.size(); i += 7) {
+            assertEquals(referenceList.get(i), list.get(i));
+        }
+        
+        list.parallelSort(Comparator.reverseOrder());
+        referenceList.sort(Comparator.reverseOrder());
+        assertEquals(referenceList, list);
+    }
+    
+    @Test
+    public void parallelSortKeepsAllElementsWhenComparatorThrows() {
+        final Random random = new Random(1019L);
+        
+        for (int i = 0; i < 50_000; i++) {
+            list.add(random.nextInt());
+        }
+        
+        referenceList.addAll(list);
+        
+        final int[] numberOfComparisons = { 0 };
+        
+        try {
+            list.parallelSort((i1, i2) -> {
+                if (++numberOfComparisons[0] == 400_000) {
+                    throw new IllegalArgumentException();
+                }
+                
+                return Integer.compare(i1, i2);
+            });
+            
+            fail("Should have thrown.");
+        } catch (IllegalArgumentException ex) {
+            
+        }
+        
+        list.checkInvarant();
+        assertEquals(50_000, list.size());
+        
+        final List<Integer> sortedList = new ArrayList<>(list);
+        sortedList.sort(null);
+        referenceList.sort(null);
+        assertEquals(referenceList, sortedList);
+    }
+    
+    @Test
+    public void spliteratorSplitsAtFingersWithoutMovingThem() {
+        list.addAll(getIntegerList(100_000));
+        list.randomizeFingers(1017L);
+        
+        final int numberOfFingers = list.fingerList.size();
+        final int[] fingerIndices = new int[numberOfFingers];
+        final Node<Integer>[] fingerNodes = new Node[numberOfFingers];
+        
+        for (int i = 0; i < numberOfFingers; i++) {
+            fingerIndices[i] = list.fingerList.getElementIndex(i);
+            fingerNodes[i] = list.fingerList.getFingerNode(i);
+        }
+        
+        final Spliterator<Integer> spliterator = list.spliterator();
+        final Spliterator<Integer> prefix = spliterator.trySplit();
+        final long prefixSize = prefix.estimateSize();
+        
+        assertTrue(prefix.hasCharacteristics(Spliterator.SUBSIZED));
+        assertEquals(100_000L, prefixSize + spliterator.estimateSize());
+        assertTrue(Arrays.binarySearch(fingerIndices, (int) prefixSize) >= 0);
+        
+        final int[] nextElement = new int[1];
+        spliterator.tryAdvance((i) -> nextElement[0] = i);
+        assertEquals(prefixSize, nextElement[0]);
+        
+        final long sum = list.parallelStream()
+                             .mapToLong(Integer::longValue)
+                             .sum();
+        
+        assertEquals(100_000L * 99_999L / 2L, sum);
+        assertEquals(numberOfFingers, list.fingerList.size());
+        
+        for (int i = 0; i < numberOfFingers; i++) {
+            assertEquals(fingerIndices[i], 
+                         list.fingerList.getElementIndex(i));
+            
+            assertTrue(fingerNodes[i] == list.fingerList.getFingerNode(i));
+        }
+    }
+    
+    @Test
+    public void spliteratorBatchSize() {
+        list.setSpliteratorBatchSize(100);
+        assertEquals(100, list.getSpliteratorBatchSize());
+        list.addAll(getIntegerList(199));
+        
+        assertNull(list.spliterator().trySplit());
+        
+        list.add(199);
+        
+        final Spliterator<Integer> spliterator = list.spliterator();
+        final Spliterator<Integer> prefix = spliterator.trySplit();
+        
+        assertEquals(100L, prefix.estimateSize());
+        assertEquals(100L, spliterator.estimateSize());
+        assertNull(prefix.trySplit());
+        
+        final List<Integer> collected = new ArrayList<>();
+        prefix.forEachRemaining(collected::add);
+        spliterator.forEachRemaining(collected::add);
+        assertEquals(list, collected);
+        
+        list.addAll(getIntegerList(1_000));
+        referenceList.addAll(list);
+        
+        assertEquals(referenceList, 
+                     list.subList(0, list.size())
+                         .parallelStream()
+                         .collect(Collectors.toList()));
+    }
+    
+    @Test(expected = IllegalArgumentException.class)
+    public void spliteratorBatchSizeThrowsOnNonPositiveSize() {
+        list.setSpliteratorBatchSize(0);
+    }
+    
+    @Test
+    public void frozenFingersDoNotMoveOnGet() {
+        list.addAll(getIntegerList(10_000));
+        list.randomizeFingers(1019L);
+        list.setFrozenFingers(true);
+        assertTrue(list.isFrozenFingers());
+        
+        final int numberOfFingers = list.fingerList.size();
+        final int[] fingerIndices = new int[numberOfFingers];
+        final Node<Integer>[] fingerNodes = new Node[numberOfFingers];
+        
+        for (int i = 0; i < numberOfFingers; i++) {
+            fingerIndices[i] = list.fingerList.getElementIndex(i);
+            fingerNodes[i] = list.fingerList.getFingerNode(i);
+        }
+        
+        final Random random = new Random(1021L);
+        
+        for (int i = 0; i < 5_000; i++) {
+            final int index = random.nextInt(list.size());
+            assertEquals(Integer.valueOf(index), list.get(index));
+        }
+        
+        for (int i = 0; i < numberOfFingers; i++) {
+            assertEquals(fingerIndices[i], 
+                         list.fingerList.getElementIndex(i));
+            
+            assertTrue(fingerNodes[i] == list.fingerList.getFingerNode(i));
+        }
+        
+        list.add(5_000, -1);
+        list.remove(3);
+        list.checkInvarant();
+        assertEquals(Integer.valueOf(-1), list.get(4_999));
+        
+        list.setFrozenFingers(false);
+        assertFalse(list.isFrozenFingers());
+        assertEquals(Integer.valueOf(-1), list.get(4_999));
+        list.checkInvarant();
+    }
+    
+    @Test
+    public void frozenFingersConcurrentGets() throws InterruptedException {
+        list.addAll(getIntegerList(50_000));
+        list.setFrozenFingers(true);
+        
+        final Thread[] threads = new Thread[4];
+        final boolean[] failed = new boolean[threads.length];
+        
+        for (int t = 0; t < threads.length; t++) {
+            final int threadIndex = t;
+            
+            threads[t] = new Thread(() -> {
+                final Random random = new Random(threadIndex);
+                
+                for (int i = 0; i < 20_000; i++) {
+                    final int index = random.nextInt(50_000);
+                    
+                    if (list.get(index) != index) {
+                        failed[threadIndex] = true;
+                    }
+                }
+            });
+            
+            threads[t].start();
+        }
+        
+        for (final Thread thread : threads) {
+            thread.join();
+        }
+        
+        for (final boolean f : failed) {
+            assertFalse(f);
+        }
+        
+        list.checkInvarant();
+    }
+    
+    @Test
+    public void snapshotIteratorsUnderModifications() {
+        final Random random = new Random(26L);
+        final List<IndexedLinkedList<Integer>.SnapshotIterator> snapshots = 
+                new ArrayList<>();
+        
+        final List<Iterator<Integer>> expectedIterators = new ArrayList<>();
+        
+        list.setNodePoolCapacity(16);
+        list.addAll(getIntegerList(200));
+        referenceList.addAll(list);
+        
+        for (int iteration = 0; iteration < 3_000; iteration++) {
+            if (random.nextInt(10) == 0) {
+                snapshots.add(list.snapshotIterator());
+                expectedIterators.add(
+                        new ArrayList<>(referenceList).iterator());
+            }
+            
+            final int size = referenceList.size();
+            final int value = random.nextInt(1_000);
+            
+            switch (size == 0 ? 0 : random.nextInt(9)) {
+                case 0:
+                    final int index = random.nextInt(size + 1);
+                    list.add(index, value);
+                    referenceList.add(index, value);
+                    break;
+                    
+                case 1:
+                    final int removeIndex = random.nextInt(size);
+                    list.remove(removeIndex);
+                    referenceList.remove(removeIndex);
+                    break;
+                    
+                case 2:
+                    final int setIndex = random.nextInt(size);
+                    list.set(setIndex, value);
+                    referenceList.set(setIndex, value);
+                    break;
+                    
+                case 3:
+                    list.removeFirst();
+                    referenceList.remove(0);
+                    
+                    if (size > 1) {
+                        list.remove(size - 2);
+                        referenceList.remove(size - 2);
+                    }
+                    
+                    break;
+                    
+                case 4:
+                    final int lastIndex = referenceList.lastIndexOf(value % 10);
+                    
+                    if (lastIndex >= 0) {
+                        assertEquals(lastIndex, list.lastIndexOf(value % 10));
+                        list.removeLastOccurrence(value % 10);
+                        referenceList.remove(lastIndex);
+                    }
+                    
+                    break;
+                    
+                case 5:
+                    final List<Integer> collection = getIntegerList(5);
+                    final int insertIndex = random.nextInt(size + 1);
+                    list.addAll(insertIndex, collection);
+                    referenceList.addAll(insertIndex, collection);
+                    break;
+                    
+                case 6:
+                    list.removeIf(x -> x % 7 == value % 7);
+                    referenceList.removeIf(x -> x % 7 == value % 7);
+                    break;
+                    
+                case 7:
+                    list.setSortStrategy(random.nextBoolean() ? 
+                                         SortStrategy.ARRAY : 
+                                         SortStrategy.NATURAL_MERGE);
+                    
+                    final int sortFrom = random.nextInt(size);
+                    list.subList(sortFrom, size).sort(null);
+                    referenceList.subList(sortFrom, size).sort(null);
+                    break;
+                    
+                case 8:
+                    list.replaceAll(x -> x + 1);
+                    referenceList.replaceAll(x -> x + 1);
+                    
+                    if (random.nextInt(20) == 0) {
+                        list.clear();
+                        referenceList.clear();
+                    }
+                    
+                    break;
+            }
+            
+            // Advance the snapshots a little:
+            for (int i = 0; i < snapshots.size(); i++) {
+                final Iterator<Integer> snapshot = snapshots.get(i);
+                final Iterator<Integer> expected = expectedIterators.get(i);
+                
+                for (int steps = random.nextInt(4); steps > 0; steps--) {
+                    assertEquals(expected.hasNext(), snapshot.hasNext());
+                    
+                    if (!expected.hasNext()) {
+                        break;
+                    }
+                    
+                    assertEquals(expected.next(), snapshot.next());
+                }
+                
+                if (random.nextInt(50) == 0) {
+                    snapshots.get(i).close();
+                    assertFalse(snapshot.hasNext());
+                    snapshots.remove(i);
+                    expectedIterators.remove(i--);
+                }
+            }
+            
+            assertEquals(referenceList, list);
+        }
+        
+        for (int i = 0; i < snapshots.size(); i++) {
+            final Iterator<Integer> snapshot = snapshots.get(i);
+            final Iterator<Integer> expected = expectedIterators.get(i);
+            
+            while (expected.hasNext()) {
+                assertEquals(expected.next(), snapshot.next());
+            }
+            
+            assertFalse(snapshot.hasNext());
+        }
+        
+        list.checkInvarant();
+    }
+    
+    @Test
+    public void snapshotIteratorDoesNotThrowOnComodification() {
+        list.addAll(getIntegerList(10));
+        
+        final Iterator<Integer> snapshot = list.snapshotIterator();
+        
+        for (int i = 0; i < 10; i++) {
+            assertEquals(Integer.valueOf(i), snapshot.next());
+            list.remove(0);
+            list.add(-1);
+        }
+        
+        assertFalse(snapshot.hasNext());
+        assertEquals(Collections.nCopies(10, -1), list);
+        
+        list.clear();
+        list.addAll(getIntegerList(100));
+        
+        final Iterator<Integer> rangeSnapshot = list.snapshotIterator();
+        
+        list.subList(10, 90).clear();
+        list.clear();
+        
+        for (int i = 0; i < 100; i++) {
+            assertEquals(Integer.valueOf(i), rangeSnapshot.next());
+        }
+        
+        assertFalse(rangeSnapshot.hasNext());
+    }
+    
+    @Test
+    public void abandonedSnapshotIteratorIsReleased() 
+            throws InterruptedException {
+        list.addAll(getIntegerList(10));
+        
+        // Start a snapshot and abandon it without closing it:
+        assertEquals(Integer.valueOf(0), list.snapshotIterator().next());
+        
+        list.set(1, -1);
+        assertNotNull(list.nodeHistories.get(list.head.next).versions);
+        
+        for (int i = 0; i < 100 && list.nodeHistories != null; i++) {
+            System.gc();
+            Thread.sleep(10L);
+            // Once the snapshot is released, the write drops the versions:
+            list.set(1, i);
+        }
+        
+        assertNull(list.nodeHistories);
+        list.checkInvarant();
+    }
+    
+    @Test
+    public void getAllAndSetAll() {
+        final Random random = new Random(13L);
+        
+        for (int iteration = 0; iteration < 200; iteration++) {
+            list.clear();
+            referenceList.clear();
+            
+            final int size = 1 + random.nextInt(500);
+            list.setLazyFingerIndices(random.nextBoolean());
+            list.addAll(getIntegerList(size));
+            referenceList.addAll(list);
+            
+            // Leave some pending shifts and uneven fingers around:
+            for (int i = 0; i < 10; i++) {
+                final int index = random.nextInt(list.size() + 1);
+                list.add(index, -i);
+                referenceList.add(index, -i);
+            }
+            
+            final int[] indices = new int[random.nextInt(50)];
+            final Integer[] values = new Integer[indices.length];
+            
+            for (int i = 0; i < indices.length; i++) {
+                indices[i] = random.nextInt(referenceList.size());
+                values[i] = 1_000 + i;
+            }
+            
+            final List<Integer> expected = new ArrayList<>();
+            
+            for (final int index : indices) {
+                expected.add(referenceList.get(index));
+            }
+            
+            assertEquals(expected, list.getAll(indices));
+            
+            list.setAll(indices, values);
+            
+            for (int i = 0; i < indices.length; i++) {
+                referenceList.set(indices[i], values[i]);
+            }
+            
+            assertEquals(referenceList, list);
+            list.checkInvarant();
+        }
+    }
+    
+    @Test
+    public void setAllLeavesListIntactOnBadIndex() {
+        list.addAll(getIntegerList(10));
+        
+        try {
+            list.setAll(new int[]{ 1, 10 }, new Integer[]{ -1, -1 });
+            fail("Should have thrown.");
+        } catch (IndexOutOfBoundsException ex) {
+            
+        }
+        
+        assertEquals(getIntegerList(10), list);
+    }
+    
+    @Test
+    public void transferTo() {
+        final Random random = new Random(17L);
+        final IndexedLinkedList<Integer> target = new IndexedLinkedList<>();
+        final List<Integer> referenceTarget = new ArrayList<>();
+        
+        for (int iteration = 0; iteration < 300; iteration++) {
+            if (list.size() < 50) {
+                final int size = random.nextInt(400);
+                list.addAll(getIntegerList(size));
+                referenceList.addAll(getIntegerList(size));
+            }
+            
+            list.setLazyFingerIndices(random.nextBoolean());
+            target.setLazyFingerIndices(random.nextBoolean());
+            
+            final int fromIndex = random.nextInt(list.size() + 1);
+            final int toIndex = 
+                    fromIndex + random.nextInt(list.size() - fromIndex + 1);
+            
+            final int targetIndex = random.nextInt(target.size() + 1);
+            final List<Integer> range = 
+                    referenceList.subList(fromIndex, toIndex);
+            
+            referenceTarget.addAll(targetIndex, range);
+            range.clear();
+            
+            list.transferTo(fromIndex, toIndex, target, targetIndex);
+            
+            assertEquals(referenceList, list);
+            assertEquals(referenceTarget, target);
+            list.checkInvarant();
+            target.checkInvarant();
+            
+            if (target.size() > 2_000) {
+                target.clear();
+                referenceTarget.clear();
+            }
+        }
+    }
+    
+    @Test
+    public void transferToKeepsSnapshotsIntact() {
+        final IndexedLinkedList<Integer> target = new IndexedLinkedList<>();
+        list.addAll(getIntegerList(100));
+        target.addAll(getIntegerList(10));
+        
+        try (IndexedLinkedList<Integer>.SnapshotIterator iterator = 
+                list.snapshotIterator()) {
+            list.transferTo(20, 70, target, 5);
+            
+            final List<Integer> snapshot = new ArrayList<>();
+            iterator.forEachRemaining(snapshot::add);
+            assertEquals(getIntegerList(100), snapshot);
+        }
+        
+        final List<Integer> expectedList = getIntegerList(100);
+        final List<Integer> expectedTarget = getIntegerList(10);
+        expectedTarget.addAll(5, expectedList.subList(20, 70));
+        expectedList.subList(20, 70).clear();
+        
+        assertEquals(expectedList, list);
+        assertEquals(expectedTarget, target);
+        list.checkInvarant();
+        target.checkInvarant();
+    }
+    
+    @Test
+    public void transferToCopiesWhileSnapshotsAreLive() {
+        final IndexedLinkedList<Integer> target = new IndexedLinkedList<>();
+        list.addAll(getIntegerList(100));
+        
+        final Node<Integer> oldHead = list.head;
+        
+        try (IndexedLinkedList<Integer>.SnapshotIterator iterator = 
+                list.snapshotIterator()) {
+            final IndexedLinkedList<Integer> suffix = list.splitAt(60);
+            
+            // The nodes stay with the snapshot, and copies are moved:
+            list.transferTo(0, 10, target, 0);
+            assertTrue(target.head != oldHead);
+            
+            target.append(suffix);
+            
+            final List<Integer> snapshot = new ArrayList<>();
+            iterator.forEachRemaining(snapshot::add);
+            assertEquals(getIntegerList(100), snapshot);
+            assertTrue(suffix.isEmpty());
+            suffix.checkInvarant();
+        }
+        
+        final List<Integer> expectedTarget = 
+                new ArrayList<>(getIntegerList(10));
+        expectedTarget.addAll(getIntegerList(100).subList(60, 100));
+        
+        assertEquals(getIntegerList(100).subList(10, 60), list);
+        assertEquals(expectedTarget, target);
+        list.checkInvarant();
+        target.checkInvarant();
+        
+        // With the snapshot closed, the nodes themselves are spliced:
+        final Node<Integer> head = list.head;
+        list.transferTo(0, 10, target, 0);
+        assertTrue(target.head == head);
+        list.checkInvarant();
+        target.checkInvarant();
+    }
+    
+    @Test(expected = IllegalArgumentException.class)
+    public void transferToThrowsOnSameList() {
+        list.addAll(getIntegerList(10));
+        list.transferTo(1, 3, list, 0);
+    }
+    
+    @Test
+    public void appendAndSplitAt() {
+        final Random random = new Random(19L);
+        list.addAll(getIntegerList(1_000));
+        referenceList.addAll(list);
+        
+        for (int iteration = 0; iteration < 200; iteration++) {
+            list.setLazyFingerIndices(random.nextBoolean());
+            
+            final int index = random.nextInt(list.size() + 1);
+            final IndexedLinkedList<Integer> suffix = list.splitAt(index);
+            final List<Integer> referenceSuffixView = 
+                    referenceList.subList(index, referenceList.size());
+            
+            final List<Integer> referenceSuffix = 
+                    new ArrayList<>(referenceSuffixView);
+            
+            referenceSuffixView.clear();
+            
+            assertEquals(referenceList, list);
+            assertEquals(referenceSuffix, suffix);
+            list.checkInvarant();
+            suffix.checkInvarant();
+            
+            // Glue the pieces back in the other order now and then:
+            if (random.nextBoolean()) {
+                list.append(suffix);
+                referenceList.addAll(referenceSuffix);
+            } else {
+                suffix.append(list);
+                list.append(suffix);
+                referenceSuffix.addAll(referenceList);
+                referenceList.clear();
+                referenceList.addAll(referenceSuffix);
+            }
+            
+            assertTrue(suffix.isEmpty());
+            assertEquals(referenceList, list);
+            list.checkInvarant();
+            suffix.checkInvarant();
+        }
+    }
+    
+    @Test
+    public void positionalIndex() {
+        final Random random = new Random(23L);
+        list.setPositionalIndex(true);
+        
+        for (int iteration = 0; iteration < 5_000; iteration++) {
+            final int value = random.nextInt(40);
+            final int size = referenceList.size();
+            
+            switch (random.nextInt(12)) {
+                case 0:
+                case 1:
+                    list.add(value);
+                    referenceList.add(value);
+                    break;
+                    
+                case 2: {
+                    final int index = random.nextInt(size + 1);
+                    list.add(index, value);
+                    referenceList.add(index, value);
+                    break;
+                }
+                
+                case 3:
+                    list.addFirst(value);
+                    referenceList.add(0, value);
+                    break;
+                    
+                case 4:
+                    if (size > 0) {
+                        final int index = random.nextInt(size);
+                        assertEquals(referenceList.remove(index), 
+                                     list.remove(index));
+                    }
+                    
+                    break;
+                    
+                case 5:
+                    assertEquals(referenceList.remove((Integer) value), 
+                                 list.remove((Integer) value));
+                    break;
+                    
+                case 6: {
+                    final int index = referenceList.lastIndexOf(value);
+                    
+                    if (index >= 0) {
+                        referenceList.remove(index);
+                    }
+                    
+                    assertEquals(index >= 0, 
+                                 list.removeLastOccurrence(value));
+                    break;
+                }
+                
+                case 7:
+                    if (size > 0) {
+                        final int index = random.nextInt(size);
+                        assertEquals(referenceList.set(index, value), 
+                                     list.set(index, value));
+                    }
+                    
+                    break;
+                    
+                case 8:
+                    if (size > 1) {
+                        list.removeFirst();
+                        list.removeLast();
+                        referenceList.remove(0);
+                        referenceList.remove(referenceList.size() - 1);
+                    }
+                    
+                    break;
+                    
+                case 9: {
+                    final ListIterator<Integer> iterator = list.listIterator();
+                    
+                    while (iterator.hasNext()) {
+                        if (iterator.next() == value) {
+                            iterator.set(-value);
+                        }
+                    }
+                    
+                    referenceList.replaceAll(x -> x == value ? -value : x);
+                    break;
+                }
+                
+                case 10:
+                    // Bulk operations leave the index to a lazy rebuild:
+                    if (random.nextBoolean()) {
+                        list.removeIf(x -> x == value);
+                        referenceList.removeIf(x -> x == value);
+                    } else {
+                        list.sort(null);
+                        referenceList.sort(null);
+                    }
+                    
+                    break;
+                    
+                case 11: {
+                    final int index = random.nextInt(size + 1);
+                    final List<Integer> collection = 
+                            Arrays.asList(value, value + 1, value);
+                    
+                    list.addAll(index, collection);
+                    referenceList.addAll(index, collection);
+                    break;
+                }
+            }
+            
+            final int query = random.nextInt(45) - 5;
+            
+            assertEquals(referenceList.contains(query), list.contains(query));
+            assertEquals(referenceList.indexOf(query), list.indexOf(query));
+            assertEquals(referenceList.lastIndexOf(query), 
+                         list.lastIndexOf(query));
+        }
+        
+        assertEquals(referenceList, list);
+        list.checkInvarant();
+        
+        list.setPositionalIndex(false);
+        assertFalse(list.isPositionalIndex());
+        assertEquals(referenceList.indexOf(7), list.indexOf(7));
+    }
+    
+    @Test
+    public void positionalIndexAfterSubListReplaceAll() {
+        list.addAll(Arrays.asList(1, 2, 3, 4, 5));
+        list.setPositionalIndex(true);
+        
+        list.subList(0, 3).replaceAll(x -> x + 10);
+        
+        assertEquals(Arrays.asList(11, 12, 13, 4, 5), list);
+        assertFalse(list.contains(1));
+        assertEquals(-1, list.indexOf(1));
+        assertTrue(list.contains(11));
+        assertEquals(1, list.indexOf(12));
+        assertEquals(2, list.lastIndexOf(13));
+        
+        assertFalse(list.remove((Integer) 2));
+        assertTrue(list.remove((Integer) 12));
+        assertEquals(Arrays.asList(11, 13, 4, 5), list);
+        
+        list.replaceAll(x -> x % 2);
+        
+        assertEquals(Arrays.asList(1, 1, 0, 1), list);
+        assertEquals(2, list.indexOf(0));
+        assertEquals(3, list.lastIndexOf(1));
+        list.checkInvarant();
+    }
+    
+    @Test
+    public void positionalIndexBetweenFingerMoves() {
+        final Random random = new Random(37L);
+        
+        for (int i = 0; i < 1_000; i++) {
+            final int value = random.nextInt(100);
+            list.add(value);
+            referenceList.add(value);
+        }
+        
+        list.setPositionalIndex(true);
+        
+        for (int iteration = 0; iteration < 2_000; iteration++) {
+            // The reads move the fingers but not the nodes:
+            final int index = random.nextInt(referenceList.size());
+            assertEquals(referenceList.get(index), list.get(index));
+            
+            final int value = random.nextInt(100);
+            assertEquals(referenceList.indexOf(value), list.indexOf(value));
+            assertEquals(referenceList.lastIndexOf(value), 
+                         list.lastIndexOf(value));
+            
+            if (iteration % 100 == 0) {
+                list.add(index, value);
+                referenceList.add(index, value);
+            }
+        }
+        
+        list.checkInvarant();
+    }
+    
+    @Test
+    public void positionalIndexWithManyDuplicates() {
+        final Random random = new Random(31L);
+        
+        for (int i = 0; i < 2_000; i++) {
+            final int value = random.nextInt(3);
+            list.add(value);
+            referenceList.add(value);
+        }
+        
+        list.setPositionalIndex(true);
+        
+        // Each value occurs more often than there are fingers, so the 
+        // occurrences are located by scanning:
+        for (int iteration = 0; iteration < 1_000; iteration++) {
+            final int value = random.nextInt(4);
+            
+            switch (random.nextInt(3)) {
+                case 0: {
+                    final int index = random.nextInt(referenceList.size() + 1);
+                    list.add(index, value);
+                    referenceList.add(index, value);
+                    break;
+                }
+                
+                case 1:
+                    assertEquals(referenceList.remove((Integer) value), 
+                                 list.remove((Integer) value));
+                    break;
+                    
+                case 2: {
+                    final int index = referenceList.lastIndexOf(value);
+                    
+                    if (index >= 0) {
+                        referenceList.remove(index);
+                    }
+                    
+                    assertEquals(index >= 0, 
+                                 list.removeLastOccurrence(value));
+                    break;
+                }
+            }
+            
+            assertEquals(referenceList.indexOf(value), list.indexOf(value));
+            assertEquals(referenceList.lastIndexOf(value), 
+                         list.lastIndexOf(value));
+        }
+        
+        assertEquals(referenceList, list);
+        list.checkInvarant();
+    }
+    
+    @Test
+    public void handles() {
+        final Random random = new Random(29L);
+        final List<IndexedLinkedList.Handle<Integer>> handles = 
+                new ArrayList<>();
+        
+        for (int value = 0; value < 3_000; value++) {
+            final int size = referenceList.size();
+            
+            switch (random.nextInt(6)) {
+                case 0:
+                    handles.add(list.addLastAndGetHandle(value));
+                    referenceList.add(value);
+                    break;
+                    
+                case 1:
+                    handles.add(list.addFirstAndGetHandle(value));
+                    referenceList.add(0, value);
+                    break;
+                    
+                case 2: {
+                    final int index = random.nextInt(size + 1);
+                    handles.add(list.addAndGetHandle(index, value));
+                    referenceList.add(index, value);
+                    break;
+                }
+                
+                default: {
+                    if (handles.isEmpty()) {
+                        break;
+                    }
+                    
+                    final int handleIndex = random.nextInt(handles.size());
+                    final IndexedLinkedList.Handle<Integer> handle = 
+                            handles.get(handleIndex);
+                    
+                    final Integer element = handle.get();
+                    
+                    assertEquals(referenceList.indexOf(element), 
+                                 list.indexOfHandle(handle));
+                    
+                    referenceList.remove(element);
+                    
+                    if (random.nextBoolean()) {
+                        list.moveToFront(handle);
+                        referenceList.add(0, element);
+                    } else if (random.nextBoolean()) {
+                        list.moveToBack(handle);
+                        referenceList.add(element);
+                    } else {
+                        assertEquals(element, list.removeHandle(handle));
+                        handles.remove(handleIndex);
+                        
+                        try {
+                            list.indexOfHandle(handle);
+                            fail("Should have thrown.");
+                        } catch (IllegalStateException ex) {
+                            
+                        }
+                    }
+                }
+            }
+        }
+        
+        assertEquals(referenceList, list);
+        list.checkInvarant();
+        
+        for (final IndexedLinkedList.Handle<Integer> handle : handles) {
+            assertEquals(referenceList.indexOf(handle.get()), 
+                         list.indexOfHandle(handle));
+        }
+    }
+    
+    @Test(expected = IllegalArgumentException.class)
+    public void handleOfAnotherList() {
+        final IndexedLinkedList<Integer> other = new IndexedLinkedList<>();
+        list.indexOfHandle(other.addLastAndGetHandle(1));
+    }
+    
+    @Test
+    public void handleInvalidatedByTransferTo() {
+        IndexedLinkedList.Handle<Integer> handle = null;
+        
+        for (int i = 0; i < 1_000; i++) {
+            if (i == 500) {
+                handle = list.addLastAndGetHandle(i);
+            } else {
+                list.add(i);
+            }
+        }
+        
+        final IndexedLinkedList<Integer> other = new IndexedLinkedList<>();
+        list.transferTo(400, 600, other, 0);
+        
+        assertInvalidHandle(list, handle);
+        
+        final List<Integer> expectedList = getIntegerList(1_000);
+        expectedList.subList(400, 600).clear();
+        
+        assertEquals(expectedList, list);
+        assertEquals(getIntegerList(1_000).subList(400, 600), other);
+        list.checkInvarant();
+    }
+    
+    @Test
+    public void handleInvalidatedByNodeReuse() {
+        list.setNodePoolCapacity(16);
+        
+        final IndexedLinkedList.Handle<Integer> handle = 
+                list.addFirstAndGetHandle(1);
+        
+        list.addLast(2);
+        list.removeFirst();
+        // Reuses the node of the removed element:
+        list.addFirst(777);
+        
+        assertInvalidHandle(list, handle);
+        assertEquals(Arrays.asList(777, 2), list);
+        list.checkInvarant();
+    }
+    
+    @Test
+    public void handleInvalidatedBySplitAtAndAppend() {
+        final List<IndexedLinkedList.Handle<Integer>> handles = 
+                new ArrayList<>();
+        
+        for (int i = 0; i < 100; i++) {
+            handles.add(list.addLastAndGetHandle(i));
+        }
+        
+        final IndexedLinkedList<Integer> suffix = list.splitAt(50);
+        
+        assertEquals(30, list.indexOfHandle(handles.get(30)));
+        assertInvalidHandle(list, handles.get(70));
+        
+        final IndexedLinkedList.Handle<Integer> listHandle = 
+                list.addFirstAndGetHandle(-1);
+        final IndexedLinkedList.Handle<Integer> suffixHandle = 
+                suffix.addFirstAndGetHandle(-2);
+        
+        list.append(suffix);
+        
+        assertInvalidHandle(suffix, suffixHandle);
+        
+        // The handles of the target list stay valid:
+        assertEquals(0, list.indexOfHandle(listHandle));
+        assertEquals(Integer.valueOf(-1), list.removeHandle(listHandle));
+        assertEquals(Integer.valueOf(30), list.removeHandle(handles.get(30)));
+        assertInvalidHandle(list, handles.get(30));
+        
+        final List<Integer> expectedList = getIntegerList(100);
+        expectedList.add(50, -2);
+        expectedList.remove(Integer.valueOf(30));
+        
+        assertEquals(expectedList, list);
+        assertTrue(suffix.isEmpty());
+        list.checkInvarant();
+    }
+    
+    @Test
+    public void handlesOfElementsLeftBehindSurviveTransferTo() {
+        final IndexedLinkedList.Handle<Integer> handle1 = 
+                list.addLastAndGetHandle(1);
+        final IndexedLinkedList.Handle<Integer> handle2 = 
+                list.addLastAndGetHandle(2);
+        final IndexedLinkedList.Handle<Integer> handle3 = 
+                list.addLastAndGetHandle(3);
+        
+        final IndexedLinkedList<Integer> suffix = list.splitAt(2);
+        
+        assertInvalidHandle(list, handle3);
+        assertEquals(1, list.indexOfHandle(handle2));
+        assertEquals(Integer.valueOf(1), list.removeHandle(handle1));
+        assertEquals(Arrays.asList(2), list);
+        assertEquals(Arrays.asList(3), suffix);
+        
+        // The copying fallback under a live snapshot keeps them valid too:
+        final IndexedLinkedList.Handle<Integer> handle4 = 
+                list.addLastAndGetHandle(4);
+        final Iterator<Integer> snapshot = list.snapshotIterator();
+        
+        list.transferTo(1, 2, suffix, 0);
+        
+        assertInvalidHandle(list, handle4);
+        assertEquals(Integer.valueOf(2), handle2.get());
+        assertEquals(Integer.valueOf(2), snapshot.next());
+        assertEquals(Integer.valueOf(4), snapshot.next());
+        assertEquals(Arrays.asList(2), list);
+        assertEquals(Arrays.asList(4, 3), suffix);
+        list.checkInvarant();
+        suffix.checkInvarant();
+    }
+    
+    @Test
+    public void handleInvalidatedBySort() {
+        final IndexedLinkedList.Handle<Integer> handle = 
+                list.addLastAndGetHandle(3);
+        
+        list.add(1);
+        list.add(2);
+        list.sort(null);
+        
+        assertInvalidHandle(list, handle);
+        assertEquals(Arrays.asList(1, 2, 3), list);
+        list.checkInvarant();
+    }
+    
+    @Test
+    public void handleSurvivesNaturalMergeSort() {
+        list.setSortStrategy(SortStrategy.NATURAL_MERGE);
+        
+        final IndexedLinkedList.Handle<Integer> handle = 
+                list.addLastAndGetHandle(3);
+        
+        list.add(1);
+        list.add(2);
+        list.sort(null);
+        
+        assertEquals(2, list.indexOfHandle(handle));
+        
+        list.subList(0, 3).sort(Comparator.reverseOrder());
+        
+        assertEquals(0, list.indexOfHandle(handle));
+        assertEquals(Integer.valueOf(3), list.removeHandle(handle));
+        assertEquals(Arrays.asList(2, 1), list);
+        list.checkInvarant();
+    }
+    
+    @Test
+    public void handleInvalidatedByParallelSort() {
+        final IndexedLinkedList.Handle<Integer> handle = 
+                list.addLastAndGetHandle(3);
+        
+        list.add(1);
+        list.add(2);
+        list.parallelSort(null);
+        
+        assertInvalidHandle(list, handle);
+        assertEquals(Arrays.asList(1, 2, 3), list);
+        list.checkInvarant();
+    }
+    
+    @Test
+    public void handleInvalidatedBySubListSort() {
+        final List<IndexedLinkedList.Handle<Integer>> handles = 
+                new ArrayList<>();
+        
+        for (int i = 0; i < 10; i++) {
+            handles.add(list.addLastAndGetHandle(9 - i));
+        }
+        
+        list.subList(2, 5).sort(null);
+        
+        for (int i = 2; i < 5; i++) {
+            assertInvalidHandle(list, handles.get(i));
+        }
+        
+        ((IndexedLinkedList<Integer>.EnhancedSubList) list.subList(6, 9))
+                .parallelSort(null);
+        
+        for (int i = 6; i < 9; i++) {
+            assertInvalidHandle(list, handles.get(i));
+        }
+        
+        // The handles outside of the sorted ranges stay valid:
+        for (final int i : new int[]{ 0, 1, 5, 9 }) {
+            assertEquals(i, list.indexOfHandle(handles.get(i)));
+            assertEquals(Integer.valueOf(9 - i), handles.get(i).get());
+        }
+        
+        assertEquals(Arrays.asList(9, 8, 5, 6, 7, 4, 1, 2, 3, 0), list);
+        list.checkInvarant();
+    }
+    
+    private static <E> void assertInvalidHandle(
+            IndexedLinkedList<E> list,
+            IndexedLinkedList.Handle<E> handle) {
+        final int size = list.size();
+        
+        try {
+            list.indexOfHandle(handle);
+            fail("Should have thrown.");
+        } catch (IllegalStateException ex) {
+            
+        }
+        
+        try {
+            list.removeHandle(handle);
+            fail("Should have thrown.");
+        } catch (IllegalStateException ex) {
+            
+        }
+        
+        assertEquals(size, list.size());
+    }
 }
@@ -0,0 +1,161 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.coderodde.util;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.PrimitiveIterator;
+import java.util.Random;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import org.junit.After;
+import org.junit.Test;
+
+public class OffHeapLongIndexedLinkedListTest {
+    
+    private final OffHeapLongIndexedLinkedList list = 
+            new OffHeapLongIndexedLinkedList();
+    
+    @After
+    public void tearDown() {
+        list.close();
+    }
+    
+    @Test
+    public void bruteForceAgainstArrayList() {
+        List<Long> referenceList = new ArrayList<>();
+        Random random = new Random(13L);
+        
+        for (int iteration = 0; iteration < 30_000; iteration++) {
+            int size = referenceList.size();
+            int choice = random.nextInt(10);
+            
+            if (choice < 4 || size < 10) {
+                int index = random.nextInt(size + 1);
+                long value = random.nextLong();
+                list.addLong(index, value);
+                referenceList.add(index, value);
+            } else if (choice < 5) {
+                long value = random.nextLong();
+                list.addLong(value);
+                referenceList.add(value);
+            } else if (choice < 8) {
+                int index = random.nextInt(size);
+                assertEquals((long) referenceList.remove(index), 
+                             list.removeLongAt(index));
+            } else {
+                int index = random.nextInt(size);
+                long value = random.nextLong();
+                assertEquals((long) referenceList.get(index), 
+                             list.getLong(index));
+                assertEquals((long) referenceList.set(index, value),
+                             list.setLong(index, value));
+            }
+            
+            if (iteration % 1000 == 0) {
+                checkFingers();
+            }
+        }
+        
+        assertEquals(referenceList.size(), list.size());
+        
+        PrimitiveIterator.OfLong iterator = list.longIterator();
+        
+        for (Long value : referenceList) {
+            assertEquals((long) value, iterator.nextLong());
+        }
+        
+        assertFalse(iterator.hasNext());
+        checkFingers();
+    }
+    
+    @Test
+    public void reusesFreedSlots() {
+        for (int i = 0; i < OffHeapNodeArena.SLOTS_PER_SEGMENT; i++) {
+            list.addLong(i);
+        }
+        
+        long capacity = list.offHeapCapacity();
+        
+        for (int round = 0; round < 3; round++) {
+            for (int i = 0; i < 1000; i++) {
+                list.removeLongAt(list.size() / 2);
+            }
+            
+            for (int i = 0; i < 1000; i++) {
+                list.addLong(list.size() / 3, i);
+            }
+        }
+        
+        assertEquals(capacity, list.offHeapCapacity());
+    }
+    
+    @Test
+    public void iteratorRemove() {
+        for (int i = 0; i < 100; i++) {
+            list.addLong(i);
+        }
+        
+        PrimitiveIterator.OfLong iterator = list.longIterator();
+        
+        while (iterator.hasNext()) {
+            if (iterator.nextLong() % 3 != 0) {
+                iterator.remove();
+            }
+        }
+        
+        assertEquals(34, list.size());
+        assertEquals(99L, list.getLong(33));
+        assertTrue(list.containsLong(33L));
+        assertFalse(list.containsLong(34L));
+    }
+    
+    @Test
+    public void clearKeepsArena() {
+        for (int i = 0; i < 100; i++) {
+            list.addLong(i);
+        }
+        
+        list.clear();
+        assertTrue(list.isEmpty());
+        list.addLong(7L);
+        assertEquals(7L, list.getLong(0));
+    }
+    
+    @Test(expected = IllegalStateException.class)
+    public void throwsAfterClose() {
+        list.addLong(1L);
+        list.close();
+        assertEquals(0, list.size());
+        list.getLong(0);
+    }
+    
+    private void checkFingers() {
+        long[] values = list.toLongArray();
+        
+        for (int i = 0; i < list.fingerCount; i++) {
+            if (i > 0) {
+                assertTrue(list.fingerIndexArray[i - 1] 
+                         < list.fingerIndexArray[i]);
+            }
+            
+            assertEquals(values[list.fingerIndexArray[i]], 
+                         list.arena.getValue(list.fingerSlotArray[i]));
+        }
+    }
+}
@@ -0,0 +1,157 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.coderodde.util;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import org.junit.Test;
+
+public class PersistentIndexedListTest {
+    
+    @Test
+    public void bruteForceVersions() {
+        final Random random = new Random(13L);
+        final List<PersistentIndexedList<Integer>> versions = new ArrayList<>();
+        final List<List<Integer>> referenceVersions = new ArrayList<>();
+        
+        PersistentIndexedList<Integer> list = PersistentIndexedList.empty();
+        List<Integer> referenceList = new ArrayList<>();
+        
+        for (int iteration = 0; iteration < 3_000; iteration++) {
+            final int size = referenceList.size();
+            final int value = random.nextInt(1_000);
+            referenceList = new ArrayList<>(referenceList);
+            
+            switch (size == 0 ? 0 : random.nextInt(6)) {
+                case 0:
+                    final int index = random.nextInt(size + 1);
+                    list = list.plus(index, value);
+                    referenceList.add(index, value);
+                    break;
+                    
+                case 1:
+                    list = list.plus(value);
+                    referenceList.add(value);
+                    break;
+                    
+                case 2:
+                    final int removeIndex = random.nextInt(size);
+                    list = list.minus(removeIndex);
+                    referenceList.remove(removeIndex);
+                    break;
+                    
+                case 3:
+                    final int setIndex = random.nextInt(size);
+                    list = list.with(setIndex, value);
+                    referenceList.set(setIndex, value);
+                    break;
+                    
+                case 4:
+                    final int fromIndex = random.nextInt(size + 1);
+                    final int toIndex = 
+                            fromIndex + random.nextInt(size - fromIndex + 1);
+                    
+                    if (toIndex - fromIndex > size / 2) {
+                        list = list.subList(fromIndex, toIndex);
+                        referenceList = new ArrayList<>(
+                                referenceList.subList(fromIndex, toIndex));
+                    }
+                    
+                    break;
+                    
+                case 5:
+                    final int splitIndex = random.nextInt(size + 1);
+                    list = list.subList(splitIndex, size)
+                               .concat(list.subList(0, splitIndex));
+                    
+                    final List<Integer> rotated = new ArrayList<>(
+                            referenceList.subList(splitIndex, size));
+                    
+                    rotated.addAll(referenceList.subList(0, splitIndex));
+                    referenceList = rotated;
+                    break;
+            }
+            
+            list.checkInvariant();
+            versions.add(list);
+            referenceVersions.add(referenceList);
+        }
+        
+        // All the old versions must stay intact:
+        for (int i = 0; i < versions.size(); i++) {
+            assertEquals(referenceVersions.get(i), versions.get(i));
+        }
+    }
+    
+    @Test
+    public void conversions() {
+        final IndexedLinkedList<Integer> indexedList = new IndexedLinkedList<>();
+        
+        for (int i = 0; i < 1_000; i++) {
+            indexedList.add(i);
+        }
+        
+        final PersistentIndexedList<Integer> list = 
+                PersistentIndexedList.of(indexedList);
+        
+        list.checkInvariant();
+        assertEquals(indexedList, list);
+        assertEquals(indexedList, list.toIndexedLinkedList());
+        assertEquals(Integer.valueOf(567), list.get(567));
+        assertSame(list, PersistentIndexedList.of(list));
+        assertTrue(PersistentIndexedList.of(new ArrayList<>()).isEmpty());
+        assertEquals(Arrays.asList(indexedList.toArray()), 
+                     Arrays.asList(list.toArray()));
+    }
+    
+    @Test
+    public void concatSkewedHeights() {
+        PersistentIndexedList<Integer> list = PersistentIndexedList.empty();
+        final List<Integer> referenceList = new ArrayList<>();
+        
+        for (int i = 0; i < 500; i++) {
+            final List<Integer> chunk = new ArrayList<>();
+            
+            for (int j = 0; j < i % 37; j++) {
+                chunk.add(i * 100 + j);
+            }
+            
+            list = i % 2 == 0 ? list.concat(PersistentIndexedList.of(chunk)) :
+                                PersistentIndexedList.of(chunk).concat(list);
+            
+            if (i % 2 == 0) {
+                referenceList.addAll(chunk);
+            } else {
+                referenceList.addAll(0, chunk);
+            }
+            
+            list.checkInvariant();
+        }
+        
+        assertEquals(referenceList, list);
+    }
+    
+    @Test(expected = UnsupportedOperationException.class)
+    public void isImmutable() {
+        PersistentIndexedList.<Integer>empty().plus(1).add(2);
+    }
+}
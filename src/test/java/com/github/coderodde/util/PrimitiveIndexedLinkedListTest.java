@@ -0,0 +1,188 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.coderodde.util;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.PrimitiveIterator;
+import java.util.Random;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import org.junit.Test;
+
+public class PrimitiveIndexedLinkedListTest {
+    
+    @Test
+    public void bruteForceIntAgainstArrayList() {
+        IntIndexedLinkedList list = new IntIndexedLinkedList(16);
+        List<Integer> referenceList = new ArrayList<>();
+        Random random = new Random(13L);
+        
+        for (int iteration = 0; iteration < 20_000; iteration++) {
+            int size = referenceList.size();
+            int choice = random.nextInt(10);
+            
+            if (choice < 4 || size < 10) {
+                int index = random.nextInt(size + 1);
+                int value = random.nextInt();
+                list.addInt(index, value);
+                referenceList.add(index, value);
+            } else if (choice < 5) {
+                int value = random.nextInt();
+                list.addInt(value);
+                referenceList.add(value);
+            } else if (choice < 8) {
+                int index = random.nextInt(size);
+                assertEquals((int) referenceList.remove(index), 
+                             list.removeIntAt(index));
+            } else {
+                int index = random.nextInt(size);
+                int value = random.nextInt();
+                assertEquals((int) referenceList.get(index), 
+                             list.getInt(index));
+                assertEquals((int) referenceList.set(index, value),
+                             list.setInt(index, value));
+            }
+        }
+        
+        assertEquals(referenceList, list);
+        
+        PrimitiveIterator.OfInt iterator = list.intIterator();
+        
+        for (Integer value : referenceList) {
+            assertEquals((int) value, iterator.nextInt());
+        }
+        
+        assertFalse(iterator.hasNext());
+    }
+    
+    @Test
+    public void intIteratorRemove() {
+        IntIndexedLinkedList list = new IntIndexedLinkedList();
+        
+        for (int i = 0; i < 1000; i++) {
+            list.addInt(i);
+        }
+        
+        PrimitiveIterator.OfInt iterator = list.intIterator();
+        
+        while (iterator.hasNext()) {
+            if (iterator.nextInt() % 2 == 0) {
+                iterator.remove();
+            }
+        }
+        
+        assertEquals(500, list.size());
+        
+        for (int i = 0; i < 500; i++) {
+            assertEquals(2 * i + 1, list.getInt(i));
+        }
+    }
+    
+    @Test
+    public void intSearch() {
+        IntIndexedLinkedList list = new IntIndexedLinkedList();
+        
+        for (int i = 0; i < 100; i++) {
+            list.addInt(i % 10);
+        }
+        
+        assertEquals(3, list.indexOfInt(3));
+        assertEquals(93, list.lastIndexOfInt(3));
+        assertEquals(93, list.lastIndexOf(Integer.valueOf(3)));
+        assertEquals(-1, list.indexOf(3L));
+        assertTrue(list.containsInt(9));
+        assertFalse(list.containsInt(10));
+    }
+    
+    @Test(expected = NullPointerException.class)
+    public void intRejectsNull() {
+        new IntIndexedLinkedList().add(null);
+    }
+    
+    @Test
+    public void longListOperations() {
+        LongIndexedLinkedList list = new LongIndexedLinkedList();
+        
+        for (long i = 0; i < 1000; i++) {
+            list.addLong(i * 1_000_000_000_000L);
+        }
+        
+        list.addLong(0, -1L);
+        assertEquals(-1L, list.removeLongAt(0));
+        assertEquals(999_000_000_000_000L, list.getLong(999));
+        assertEquals(999, list.indexOfLong(999_000_000_000_000L));
+        
+        long[] array = list.toLongArray();
+        PrimitiveIterator.OfLong iterator = list.longIterator();
+        
+        for (long value : array) {
+            assertEquals(value, iterator.nextLong());
+        }
+        
+        assertFalse(iterator.hasNext());
+    }
+    
+    @Test
+    public void doubleSearchUsesEqualsSemantics() {
+        DoubleIndexedLinkedList list = new DoubleIndexedLinkedList();
+        list.addDouble(0.0);
+        list.addDouble(Double.NaN);
+        list.addDouble(-0.0);
+        
+        assertEquals(1, list.indexOfDouble(Double.NaN));
+        assertEquals(2, list.indexOfDouble(-0.0));
+        assertEquals(0, list.lastIndexOfDouble(0.0));
+        assertEquals(1, list.indexOf(Double.NaN));
+        assertArrayEquals(new double[]{ 0.0, Double.NaN, -0.0 }, 
+                          list.toDoubleArray(), 
+                          0.0);
+    }
+    
+    @Test
+    public void serialize() throws IOException, ClassNotFoundException {
+        DoubleIndexedLinkedList list = new DoubleIndexedLinkedList(64);
+        
+        for (int i = 0; i < 1000; i++) {
+            list.addDouble(i / 3.0);
+        }
+        
+        ByteArrayOutputStream bos = new ByteArrayOutputStream();
+        
+        try (ObjectOutputStream oos = new ObjectOutputStream(bos)) {
+            oos.writeObject(list);
+        }
+        
+        ObjectInputStream ois = 
+                new ObjectInputStream(
+                        new ByteArrayInputStream(bos.toByteArray()));
+        
+        DoubleIndexedLinkedList other = 
+                (DoubleIndexedLinkedList) ois.readObject();
+        
+        assertEquals(list, other);
+        assertEquals(64, other.chunkCapacity());
+        assertEquals(list, other.clone());
+    }
+}
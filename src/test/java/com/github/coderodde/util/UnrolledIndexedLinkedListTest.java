@@ -0,0 +1,320 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.coderodde.util;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.ListIterator;
+import java.util.NoSuchElementException;
+import java.util.Random;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import org.junit.Test;
+
+public class UnrolledIndexedLinkedListTest {
+    
+    private final UnrolledIndexedLinkedList<Integer> list = 
+            new UnrolledIndexedLinkedList<>(
+                    UnrolledIndexedLinkedList.MINIMUM_CHUNK_CAPACITY);
+    
+    private final List<Integer> referenceList = new ArrayList<>();
+    
+    @Test(expected = IllegalArgumentException.class)
+    public void throwsOnTooSmallChunkCapacity() {
+        new UnrolledIndexedLinkedList<>(
+                UnrolledIndexedLinkedList.MINIMUM_CHUNK_CAPACITY - 1);
+    }
+    
+    @Test(expected = IllegalArgumentException.class)
+    public void throwsOnTooLargeChunkCapacity() {
+        new UnrolledIndexedLinkedList<>(
+                UnrolledIndexedLinkedList.MAXIMUM_CHUNK_CAPACITY + 1);
+    }
+    
+    @Test
+    public void dequeOperations() {
+        assertNull(list.peekFirst());
+        assertNull(list.pollLast());
+        
+        for (int i = 0; i < 100; i++) {
+            list.addFirst(-i);
+            list.addLast(i);
+        }
+        
+        assertEquals(Integer.valueOf(-99), list.getFirst());
+        assertEquals(Integer.valueOf(99), list.getLast());
+        assertEquals(200, list.size());
+        
+        for (int i = 99; i >= 0; i--) {
+            assertEquals(Integer.valueOf(-i), list.removeFirst());
+            assertEquals(Integer.valueOf(i), list.pollLast());
+        }
+        
+        assertTrue(list.isEmpty());
+        assertNull(list.head);
+        assertNull(list.tail);
+        assertEquals(0, list.fingerCount);
+    }
+    
+    @Test(expected = NoSuchElementException.class)
+    public void removeFirstThrowsOnEmptyList() {
+        list.removeFirst();
+    }
+    
+    @Test
+    public void descendingIterator() {
+        for (int i = 0; i < 50; i++) {
+            list.add(i);
+        }
+        
+        Iterator<Integer> iterator = list.descendingIterator();
+        
+        for (int i = 49; i >= 0; i--) {
+            assertEquals(Integer.valueOf(i), iterator.next());
+        }
+        
+        assertFalse(iterator.hasNext());
+    }
+    
+    @Test
+    public void serialize() throws IOException, ClassNotFoundException {
+        for (int i = 0; i < 1000; i++) {
+            list.add(i);
+        }
+        
+        ByteArrayOutputStream bos = new ByteArrayOutputStream();
+        
+        try (ObjectOutputStream oos = new ObjectOutputStream(bos)) {
+            oos.writeObject(list);
+        }
+        
+        ObjectInputStream ois = 
+                new ObjectInputStream(
+                        new ByteArrayInputStream(bos.toByteArray()));
+        
+        UnrolledIndexedLinkedList<Integer> other = 
+                (UnrolledIndexedLinkedList<Integer>) ois.readObject();
+        
+        assertEquals(list, other);
+        assertEquals(list.chunkCapacity(), other.chunkCapacity());
+        checkInvariant(other);
+    }
+    
+    @Test
+    public void cloneKeepsChunkCapacity() {
+        list.addAll(Arrays.asList(1, 2, 3));
+        
+        UnrolledIndexedLinkedList<Integer> clone = 
+                (UnrolledIndexedLinkedList<Integer>) list.clone();
+        
+        assertEquals(list, clone);
+        assertEquals(list.chunkCapacity(), clone.chunkCapacity());
+    }
+    
+    @Test
+    public void bruteForceAgainstArrayList() {
+        Random random = new Random(13L);
+        
+        for (int iteration = 0; iteration < 20_000; iteration++) {
+            int size = referenceList.size();
+            int choice = random.nextInt(100);
+            
+            if (choice < 30 || size < 10) {
+                int index = random.nextInt(size + 1);
+                Integer value = random.nextInt();
+                list.add(index, value);
+                referenceList.add(index, value);
+            } else if (choice < 40) {
+                Integer value = random.nextInt();
+                list.addFirst(value);
+                referenceList.add(0, value);
+            } else if (choice < 50) {
+                Integer value = random.nextInt();
+                list.add(value);
+                referenceList.add(value);
+            } else if (choice < 75) {
+                int index = random.nextInt(size);
+                assertEquals(referenceList.remove(index), list.remove(index));
+            } else if (choice < 80) {
+                assertEquals(referenceList.remove(0), list.removeFirst());
+            } else if (choice < 85) {
+                assertEquals(referenceList.remove(size - 1), 
+                             list.removeLast());
+            } else if (choice < 95) {
+                int index = random.nextInt(size);
+                assertEquals(referenceList.get(index), list.get(index));
+                Integer value = random.nextInt();
+                assertEquals(referenceList.set(index, value),
+                             list.set(index, value));
+            } else {
+                int fromIndex = random.nextInt(size);
+                int toIndex = 
+                        Math.min(size, fromIndex + random.nextInt(40));
+                
+                list.subList(fromIndex, toIndex).clear();
+                referenceList.subList(fromIndex, toIndex).clear();
+            }
+            
+            if (iteration % 100 == 0) {
+                assertEquals(referenceList, list);
+                checkInvariant(list);
+            }
+        }
+        
+        assertEquals(referenceList, list);
+        checkInvariant(list);
+    }
+    
+    @Test
+    public void bruteForceListIterator() {
+        Random random = new Random(26L);
+        
+        for (int i = 0; i < 500; i++) {
+            list.add(i);
+            referenceList.add(i);
+        }
+        
+        ListIterator<Integer> iterator1 = list.listIterator(250);
+        ListIterator<Integer> iterator2 = referenceList.listIterator(250);
+        
+        for (int iteration = 0; iteration < 10_000; iteration++) {
+            int choice = random.nextInt(6);
+            
+            switch (choice) {
+                case 0:
+                    if (iterator2.hasNext()) {
+                        assertEquals(iterator2.next(), iterator1.next());
+                    }
+                    
+                    break;
+                    
+                case 1:
+                    if (iterator2.hasPrevious()) {
+                        assertEquals(iterator2.previous(), 
+                                     iterator1.previous());
+                    }
+                    
+                    break;
+                    
+                case 2:
+                    iterator1.add(iteration);
+                    iterator2.add(iteration);
+                    break;
+                    
+                case 3:
+                    if (iterator2.hasNext()) {
+                        iterator1.next();
+                        iterator2.next();
+                        iterator1.remove();
+                        iterator2.remove();
+                    }
+                    
+                    break;
+                    
+                case 4:
+                    if (iterator2.hasPrevious()) {
+                        iterator1.previous();
+                        iterator2.previous();
+                        iterator1.set(-iteration);
+                        iterator2.set(-iteration);
+                    }
+                    
+                    break;
+                    
+                case 5:
+                    assertEquals(iterator2.nextIndex(), iterator1.nextIndex());
+                    break;
+            }
+        }
+        
+        assertEquals(referenceList, list);
+        checkInvariant(list);
+    }
+    
+    @Test
+    public void subListClearEmptiesHeadChunk() {
+        for (int i = 0; i < 2_000; i++) {
+            list.add(i);
+            referenceList.add(i);
+        }
+        
+        // Walk far enough to spread the fingers:
+        list.subList(1_000, 1_100).clear();
+        referenceList.subList(1_000, 1_100).clear();
+        
+        // Empty the head chunk and a few of its successors:
+        list.subList(0, 100).clear();
+        referenceList.subList(0, 100).clear();
+        
+        assertEquals(referenceList, list);
+        checkInvariant(list);
+    }
+    
+    @Test
+    public void indexOfAndLastIndexOf() {
+        for (int i = 0; i < 100; i++) {
+            list.add(i % 10);
+        }
+        
+        assertEquals(3, list.indexOf(3));
+        assertEquals(93, list.lastIndexOf(3));
+        assertEquals(-1, list.indexOf(10));
+        assertTrue(list.removeLastOccurrence(3));
+        assertEquals(83, list.lastIndexOf(3));
+    }
+    
+    private static void checkInvariant(UnrolledIndexedLinkedList<?> list) {
+        int numberOfChunks = 0;
+        int chunkStart = 0;
+        int fingerIndex = 0;
+        Chunk previous = null;
+        
+        for (Chunk chunk = list.head; chunk != null; chunk = chunk.next) {
+            assertSame(previous, chunk.prev);
+            assertTrue(chunk.size > 0);
+            
+            if (fingerIndex < list.fingerCount 
+                    && list.fingerChunkArray[fingerIndex] == chunk) {
+                assertEquals(chunkStart, list.fingerIndexArray[fingerIndex]);
+                fingerIndex++;
+            }
+            
+            chunkStart += chunk.size;
+            previous = chunk;
+            numberOfChunks++;
+        }
+        
+        assertSame(previous, list.tail);
+        assertEquals(list.size(), chunkStart);
+        assertEquals(numberOfChunks, list.numberOfChunks);
+        assertEquals(list.fingerCount, fingerIndex);
+        
+        if (list.head != null) {
+            assertSame(list.head, list.fingerChunkArray[0]);
+        }
+    }
+}